@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.base.api.common;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonParsableCommand;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+
+/**
+ * Command to retrieve the policies which were most expensive to evaluate on a node in the last statistics window.
+ */
+@Immutable
+@JsonParsableCommand(typePrefix = CommonCommand.TYPE_PREFIX, name = RetrieveExpensivePolicies.NAME)
+public final class RetrieveExpensivePolicies extends CommonCommand<RetrieveExpensivePolicies> {
+
+    /**
+     * The name of the command.
+     */
+    static final String NAME = "retrieveExpensivePolicies";
+
+    /**
+     * The type of the command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    /**
+     * The number of policies to retrieve if no limit is given.
+     */
+    public static final int DEFAULT_LIMIT = 10;
+
+    private static final JsonFieldDefinition<Integer> JSON_LIMIT = JsonFactory.newIntFieldDefinition("limit");
+
+    private final int limit;
+
+    private RetrieveExpensivePolicies(final int limit, final DittoHeaders dittoHeaders) {
+        super(TYPE, Category.QUERY, dittoHeaders);
+        this.limit = limit;
+    }
+
+    /**
+     * Create a RetrieveExpensivePolicies command with the default limit and empty headers.
+     *
+     * @return the command.
+     */
+    public static RetrieveExpensivePolicies of() {
+        return of(DEFAULT_LIMIT, DittoHeaders.empty());
+    }
+
+    /**
+     * Create a RetrieveExpensivePolicies command.
+     *
+     * @param limit how many policies to retrieve at most.
+     * @param dittoHeaders the Ditto headers.
+     * @return the command.
+     */
+    public static RetrieveExpensivePolicies of(final int limit, final DittoHeaders dittoHeaders) {
+        return new RetrieveExpensivePolicies(limit, dittoHeaders);
+    }
+
+    /**
+     * Return how many policies to retrieve at most.
+     *
+     * @return the limit.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> predicate) {
+
+        jsonObjectBuilder.set(JSON_LIMIT, limit);
+    }
+
+    @Override
+    public RetrieveExpensivePolicies setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new RetrieveExpensivePolicies(limit, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code RetrieveExpensivePolicies} from the given JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    public static RetrieveExpensivePolicies fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        final int limit = jsonObject.getValue(JSON_LIMIT).orElse(DEFAULT_LIMIT);
+        return new RetrieveExpensivePolicies(limit, dittoHeaders);
+    }
+
+    @Override
+    public boolean equals(final Object that) {
+        if (super.equals(that) && that instanceof RetrieveExpensivePolicies) {
+            return limit == ((RetrieveExpensivePolicies) that).limit;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), limit);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() +
+                ", limit=" + limit +
+                "]";
+    }
+}
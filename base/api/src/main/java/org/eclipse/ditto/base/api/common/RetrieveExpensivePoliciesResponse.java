@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.base.api.common;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+
+/**
+ * Response to {@code RetrieveExpensivePolicies} containing the evaluation statistics of the most expensive policies,
+ * the most expensive first.
+ */
+@Immutable
+@JsonParsableCommandResponse(type = RetrieveExpensivePoliciesResponse.TYPE)
+public final class RetrieveExpensivePoliciesResponse
+        extends CommonCommandResponse<RetrieveExpensivePoliciesResponse> {
+
+    /**
+     * Type of this command response.
+     */
+    public static final String TYPE = TYPE_PREFIX + RetrieveExpensivePolicies.NAME;
+
+    private static final JsonFieldDefinition<JsonArray> JSON_POLICIES =
+            JsonFactory.newJsonArrayFieldDefinition("policies");
+
+    private final JsonArray policies;
+
+    private RetrieveExpensivePoliciesResponse(final JsonArray policies, final DittoHeaders dittoHeaders) {
+        super(TYPE, HttpStatus.OK, dittoHeaders);
+        this.policies = policies;
+    }
+
+    /**
+     * Create a {@code RetrieveExpensivePoliciesResponse}.
+     *
+     * @param policies the evaluation statistics of the most expensive policies.
+     * @param headers Ditto headers.
+     * @return the {@code RetrieveExpensivePoliciesResponse}.
+     */
+    public static RetrieveExpensivePoliciesResponse of(final JsonArray policies, final DittoHeaders headers) {
+        return new RetrieveExpensivePoliciesResponse(policies, headers);
+    }
+
+    /**
+     * Creates a new {@code RetrieveExpensivePoliciesResponse} from the given JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the JSON object does not contain the field
+     * "policies".
+     */
+    public static RetrieveExpensivePoliciesResponse fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+
+        return new RetrieveExpensivePoliciesResponse(jsonObject.getValueOrThrow(JSON_POLICIES), dittoHeaders);
+    }
+
+    /**
+     * Returns the evaluation statistics of the most expensive policies.
+     *
+     * @return the statistics, the most expensive policy first.
+     */
+    public JsonArray getPolicies() {
+        return policies;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> predicate) {
+
+        jsonObjectBuilder.set(JSON_POLICIES, policies);
+    }
+
+    @Override
+    public RetrieveExpensivePoliciesResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new RetrieveExpensivePoliciesResponse(policies, dittoHeaders);
+    }
+
+    @Override
+    public boolean equals(final Object that) {
+        if (super.equals(that) && that instanceof RetrieveExpensivePoliciesResponse) {
+            return Objects.equals(policies, ((RetrieveExpensivePoliciesResponse) that).policies);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), policies);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() +
+                ", policies=" + policies +
+                "]";
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.base.api.common;
+
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link RetrieveExpensivePoliciesResponse}.
+ */
+public final class RetrieveExpensivePoliciesResponseTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(RetrieveExpensivePoliciesResponse.class, areImmutable(),
+                provided(JsonArray.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(RetrieveExpensivePoliciesResponse.class)
+                .usingGetClass()
+                .verify();
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.base.api.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link RetrieveExpensivePolicies}.
+ */
+public final class RetrieveExpensivePoliciesTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(RetrieveExpensivePolicies.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(RetrieveExpensivePolicies.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void toJsonAndBack() {
+        final RetrieveExpensivePolicies underTest = RetrieveExpensivePolicies.of(3, DittoHeaders.empty());
+
+        assertThat(RetrieveExpensivePolicies.fromJson(underTest.toJson(), DittoHeaders.empty()))
+                .isEqualTo(underTest);
+    }
+
+    @Test
+    public void fromJsonWithoutLimit() {
+        assertThat(RetrieveExpensivePolicies.fromJson(JsonObject.empty(), DittoHeaders.empty()).getLimit())
+                .isEqualTo(RetrieveExpensivePolicies.DEFAULT_LIMIT);
+    }
+
+}
@@ -38,6 +38,8 @@ public final class ContentType {
 
     private static final Pattern JSON_PATTERN = Pattern.compile("(application/((vnd\\.)?.+\\+)?json)");
 
+    private static final Pattern CBOR_PATTERN = Pattern.compile("(application/((vnd\\.)?.+\\+)?cbor)");
+
     // application content type for JSON Merge Patch
     private static final String JSON_MERGE_PATCH = "application/merge-patch+json";
 
@@ -63,6 +65,12 @@ public final class ContentType {
      */
     public static final ContentType APPLICATION_MERGE_PATCH_JSON = ContentType.of(JSON_MERGE_PATCH);
 
+    /**
+     * The well known content-type "application/cbor".
+     * @since 3.6.0
+     */
+    public static final ContentType APPLICATION_CBOR = ContentType.of("application/cbor");
+
     private final String value;
     private final String mediaType;
     private final ParsingStrategy parsingStrategy;
@@ -139,6 +147,15 @@ public final class ContentType {
         return JSON_MERGE_PATCH.equals(mediaType);
     }
 
+    /**
+     * @return whether this content-type denotes CBOR, e.g. "application/cbor" or "application/vnd.eclipse.ditto+cbor".
+     * CBOR payloads are always parsed as binary.
+     * @since 3.6.0
+     */
+    public boolean isCbor() {
+        return CBOR_PATTERN.matcher(mediaType).matches();
+    }
+
     /**
      * @return whether this content-type is to be parsed as binary.
      */
@@ -23,6 +23,7 @@ import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.json.Jsonifiable;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
 
 /**
  * Abstract base command size validator class responsible for checking whether size limitation of entities were
@@ -85,6 +86,21 @@ public abstract class AbstractCommandSizeValidator<T extends DittoRuntimeExcepti
         }
     }
 
+    /**
+     * Guard function that throws when a size limit is specified, and the length of the JSON string of the given
+     * {@code jsonValue} in chars is greater than the limit.
+     * The size is only determined if the upper bound of the string size of the value exceeds the limit; as JSON
+     * objects and arrays remember their string representation, creating it again when the value is sent is cheap.
+     *
+     * @param jsonValue the value to check the size of.
+     * @param headersSupplier the headersSupplier for the exception
+     * @throws T if size limit is set and exceeded
+     * @since 3.6.0
+     */
+    public void ensureValidSize(final JsonValue jsonValue, final Supplier<DittoHeaders> headersSupplier) {
+        ensureValidSize(jsonValue::getUpperBoundForStringSize, () -> jsonValue.toString().length(), headersSupplier);
+    }
+
     /**
      * Guard function that throws when a size limit is specified, and the given {@code jsonifiable} modified with the
      * given {@code jsonField} is greater than the limit.
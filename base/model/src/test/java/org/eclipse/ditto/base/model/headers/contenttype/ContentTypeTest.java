@@ -62,4 +62,17 @@ public final class ContentTypeTest {
         final ContentType applicationMergePatchJson = ContentType.of("application/merge-patch+json");
         assertThat(applicationMergePatchJson.getParsingStrategy()).isEqualTo(ContentType.ParsingStrategy.JSON_MERGE_PATCH);
     }
+
+    @Test
+    public void applicationCborIsBinaryCbor() {
+        final ContentType applicationCbor = ContentType.of("application/cbor");
+        assertThat(applicationCbor.getParsingStrategy()).isEqualTo(ContentType.ParsingStrategy.BINARY);
+        assertThat(applicationCbor.isCbor()).isTrue();
+    }
+
+    @Test
+    public void vendorSpecificApplicationCborIsCbor() {
+        assertThat(ContentType.of("application/vnd.eclipse.ditto+cbor").isCbor()).isTrue();
+        assertThat(ContentType.of("application/vnd.eclipse.ditto+json").isCbor()).isFalse();
+    }
 }
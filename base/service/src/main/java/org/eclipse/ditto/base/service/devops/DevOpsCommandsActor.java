@@ -24,6 +24,8 @@ import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.base.api.common.RetrieveExpensivePolicies;
+import org.eclipse.ditto.base.api.common.RetrieveExpensivePoliciesResponse;
 import org.eclipse.ditto.base.api.devops.LoggerConfig;
 import org.eclipse.ditto.base.api.devops.LoggingFacade;
 import org.eclipse.ditto.base.api.devops.signals.commands.AggregatedDevOpsCommandResponse;
@@ -141,11 +143,18 @@ public final class DevOpsCommandsActor extends AbstractActor implements Retrieve
         return ReceiveBuilder.create()
                 .match(DevOpsCommand.class, this::handleInitialDevOpsCommand)
                 .match(DevOpsCommandViaPubSub.class, this::handleDevOpsCommandViaPubSub)
+                .match(RetrieveExpensivePolicies.class, this::retrieveExpensivePolicies)
                 .build()
                 .orElse(retrieveConfigBehavior())
                 .orElse(matchAnyUnhandled());
     }
 
+    private void retrieveExpensivePolicies(final RetrieveExpensivePolicies command) {
+        final var statistics = PolicyEvaluationStatistics.get(getContext().getSystem());
+        getSender().tell(RetrieveExpensivePoliciesResponse.of(
+                statistics.getMostExpensivePolicies(command.getLimit()), command.getDittoHeaders()), getSelf());
+    }
+
     private Receive matchAnyUnhandled() {
         return ReceiveBuilder.create()
                 .matchAny(m -> {
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.base.service.devops;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.pekko.actor.AbstractExtensionId;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Extension;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonObject;
+
+import com.typesafe.config.Config;
+
+/**
+ * Node-local statistics about the evaluation of policies, used to find the policies which are the most expensive to
+ * evaluate on a node (see {@link org.eclipse.ditto.base.api.common.RetrieveExpensivePolicies}).
+ * <p>
+ * The evaluations are accumulated per policy in fixed time windows. Only the current and the last completed window
+ * are kept, and each window tracks at most a configured number of policies in order to bound the memory.
+ * When a window is full, the cheapest quarter of its policies is evicted to make room for new ones (a variant of the
+ * space-saving algorithm): a new policy starts with the highest total duration of any policy evicted before as its
+ * possible overestimation, so that expensive policies evaluated late in a window are still reported.
+ * </p>
+ */
+@ThreadSafe
+public final class PolicyEvaluationStatistics implements Extension {
+
+    private static final String CONFIG_KEY = "ditto.policy-evaluation-statistics";
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxPolicies;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<Windows> windows;
+
+    PolicyEvaluationStatistics(final boolean enabled, final Duration window, final int maxPolicies,
+            final LongSupplier nanoClock) {
+
+        this.enabled = enabled;
+        windowNanos = window.toNanos();
+        this.maxPolicies = maxPolicies;
+        this.nanoClock = nanoClock;
+        final Window current = new Window(nanoClock.getAsLong());
+        windows = new AtomicReference<>(new Windows(current, Window.EMPTY));
+    }
+
+    /**
+     * Get the policy evaluation statistics of an actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the statistics.
+     */
+    public static PolicyEvaluationStatistics get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * @return whether policy evaluations should be recorded.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Record one evaluation of a policy.
+     *
+     * @param policyId the ID of the evaluated policy.
+     * @param entries the number of entries of the evaluated policy.
+     * @param nanos how long the evaluation took in nanoseconds.
+     * @param resourcesVisited how many resources of the policy were evaluated.
+     * @param resultSize the number of fields of the built JSON view, 0 for permission checks.
+     */
+    public void record(final String policyId, final int entries, final long nanos, final int resourcesVisited,
+            final int resultSize) {
+
+        if (enabled) {
+            final Window window = getWindows(nanoClock.getAsLong()).current;
+            final PolicyStatistics statistics = window.get(policyId, maxPolicies);
+            if (null != statistics) {
+                statistics.record(entries, nanos, resourcesVisited, resultSize);
+            }
+        }
+    }
+
+    /**
+     * Get the statistics of the policies which took the most time to evaluate in the last completed window, or in the
+     * current window if no window was completed yet.
+     *
+     * @param limit how many policies to return at most.
+     * @return the statistics of the policies, the most expensive first.
+     */
+    public JsonArray getMostExpensivePolicies(final int limit) {
+        final Windows currentWindows = getWindows(nanoClock.getAsLong());
+        final Window window = currentWindows.previous == Window.EMPTY ? currentWindows.current :
+                currentWindows.previous;
+        return window.statistics.entrySet()
+                .stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, PolicyStatistics> entry) -> entry.getValue().getEstimatedNanos()).reversed())
+                .limit(Math.max(0, limit))
+                .map(entry -> entry.getValue().toJson(entry.getKey()))
+                .collect(JsonCollectors.valuesToArray());
+    }
+
+    private Windows getWindows(final long now) {
+        final Windows currentWindows = windows.get();
+        final long elapsed = now - currentWindows.current.startNanos;
+        if (elapsed < windowNanos) {
+            return currentWindows;
+        }
+        // a window which ended before the last window is outdated
+        final Window previous = elapsed < 2 * windowNanos ? currentWindows.current : Window.EMPTY;
+        final Windows nextWindows = new Windows(new Window(now), previous);
+        return windows.compareAndSet(currentWindows, nextWindows) ? nextWindows : windows.get();
+    }
+
+    private record Windows(Window current, Window previous) {}
+
+    private static final class Window {
+
+        private static final Window EMPTY = new Window(0L);
+        private static final int EVICTED_FRACTION = 4;
+
+        private final long startNanos;
+        private final Map<String, PolicyStatistics> statistics;
+        private volatile long maxEvictedNanos;
+
+        private Window(final long startNanos) {
+            this.startNanos = startNanos;
+            statistics = new ConcurrentHashMap<>();
+            maxEvictedNanos = 0L;
+        }
+
+        private PolicyStatistics get(final String policyId, final int maxPolicies) {
+            final PolicyStatistics existing = statistics.get(policyId);
+            if (null != existing) {
+                return existing;
+            }
+            if (statistics.size() >= maxPolicies) {
+                evictCheapest(maxPolicies);
+            }
+            return statistics.computeIfAbsent(policyId, id -> new PolicyStatistics(maxEvictedNanos));
+        }
+
+        /**
+         * Evicts the cheapest policies at once, so that the sorting is amortized over the policies admitted after it.
+         */
+        private synchronized void evictCheapest(final int maxPolicies) {
+            if (statistics.size() < maxPolicies) {
+                return;
+            }
+            final List<Map.Entry<String, PolicyStatistics>> entries = new ArrayList<>(statistics.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().getEstimatedNanos()));
+            final int evicted = Math.max(1, entries.size() / EVICTED_FRACTION);
+            long maxNanos = maxEvictedNanos;
+            for (final Map.Entry<String, PolicyStatistics> entry : entries.subList(0, evicted)) {
+                statistics.remove(entry.getKey(), entry.getValue());
+                maxNanos = Math.max(maxNanos, entry.getValue().getEstimatedNanos());
+            }
+            maxEvictedNanos = maxNanos;
+        }
+    }
+
+    private static final class PolicyStatistics {
+
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+        private final LongAdder resourcesVisited = new LongAdder();
+        private final LongAdder resultSize = new LongAdder();
+        private final long overestimationNanos;
+        private volatile int entries;
+
+        private PolicyStatistics(final long overestimationNanos) {
+            this.overestimationNanos = overestimationNanos;
+        }
+
+        private long getEstimatedNanos() {
+            return overestimationNanos + totalNanos.sum();
+        }
+
+        private void record(final int entries, final long nanos, final int resourcesVisited, final int resultSize) {
+            this.entries = entries;
+            evaluations.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            this.resourcesVisited.add(resourcesVisited);
+            this.resultSize.add(resultSize);
+        }
+
+        private JsonObject toJson(final String policyId) {
+            final long count = evaluations.sum();
+            final long total = totalNanos.sum();
+            return JsonObject.newBuilder()
+                    .set("policyId", policyId)
+                    .set("entries", entries)
+                    .set("evaluations", count)
+                    .set("totalNanos", total)
+                    .set("meanNanos", count == 0 ? 0L : total / count)
+                    .set("maxNanos", maxNanos.get())
+                    .set("overestimationNanos", overestimationNanos)
+                    .set("resourcesVisited", resourcesVisited.sum())
+                    .set("resultSize", resultSize.sum())
+                    .build();
+        }
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<PolicyEvaluationStatistics> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public PolicyEvaluationStatistics createExtension(final ExtendedActorSystem system) {
+            final Config config = system.settings().config().getConfig(CONFIG_KEY);
+            return new PolicyEvaluationStatistics(config.getBoolean("enabled"), config.getDuration("window"),
+                    config.getInt("max-policies"), System::nanoTime);
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.base.service.devops;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Tests {@link PolicyEvaluationStatistics}.
+ */
+public final class PolicyEvaluationStatisticsTest {
+
+    private static final long WINDOW_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    public void mostExpensivePoliciesOfCurrentWindowAreReportedFirst() {
+        final PolicyEvaluationStatistics underTest = newStatistics(10);
+        underTest.record("ns:cheap", 1, 10L, 1, 0);
+        underTest.record("ns:expensive", 20, 500L, 12, 7);
+        underTest.record("ns:expensive", 20, 300L, 8, 3);
+
+        final JsonArray result = underTest.getMostExpensivePolicies(10);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).map(JsonValue::asObject)).hasValueSatisfying(expensive -> {
+            assertThat(expensive.getValue("policyId")).contains(JsonValue.of("ns:expensive"));
+            assertThat(expensive.getValue("entries").map(JsonValue::asLong)).contains(20L);
+            assertThat(expensive.getValue("evaluations").map(JsonValue::asLong)).contains(2L);
+            assertThat(expensive.getValue("totalNanos").map(JsonValue::asLong)).contains(800L);
+            assertThat(expensive.getValue("meanNanos").map(JsonValue::asLong)).contains(400L);
+            assertThat(expensive.getValue("maxNanos").map(JsonValue::asLong)).contains(500L);
+            assertThat(expensive.getValue("resourcesVisited").map(JsonValue::asLong)).contains(20L);
+            assertThat(expensive.getValue("resultSize").map(JsonValue::asLong)).contains(10L);
+        });
+        assertThat(underTest.getMostExpensivePolicies(1)).hasSize(1);
+    }
+
+    @Test
+    public void lastCompletedWindowIsReported() {
+        final PolicyEvaluationStatistics underTest = newStatistics(10);
+        underTest.record("ns:previous", 1, 10L, 1, 0);
+        now.addAndGet(WINDOW_NANOS);
+        underTest.record("ns:current", 1, 10L, 1, 0);
+
+        assertThat(underTest.getMostExpensivePolicies(10)).hasSize(1);
+        assertThat(underTest.getMostExpensivePolicies(10).get(0).map(JsonValue::asObject)
+                .flatMap(policy -> policy.getValue("policyId")))
+                .contains(JsonValue.of("ns:previous"));
+    }
+
+    @Test
+    public void outdatedWindowIsNotReported() {
+        final PolicyEvaluationStatistics underTest = newStatistics(10);
+        underTest.record("ns:outdated", 1, 10L, 1, 0);
+        now.addAndGet(2 * WINDOW_NANOS);
+
+        assertThat(underTest.getMostExpensivePolicies(10)).isEmpty();
+    }
+
+    @Test
+    public void numberOfPoliciesPerWindowIsBounded() {
+        final PolicyEvaluationStatistics underTest = newStatistics(2);
+        underTest.record("ns:1", 1, 10L, 1, 0);
+        underTest.record("ns:2", 1, 10L, 1, 0);
+        underTest.record("ns:3", 1, 10L, 1, 0);
+        underTest.record("ns:1", 1, 10L, 1, 0);
+
+        assertThat(underTest.getMostExpensivePolicies(10)).hasSize(2);
+    }
+
+    @Test
+    public void expensivePolicyIsRecordedInFullWindow() {
+        final PolicyEvaluationStatistics underTest = newStatistics(4);
+        underTest.record("ns:1", 1, 10L, 1, 0);
+        underTest.record("ns:2", 1, 20L, 1, 0);
+        underTest.record("ns:3", 1, 30L, 1, 0);
+        underTest.record("ns:4", 1, 40L, 1, 0);
+        underTest.record("ns:expensive", 1, 1000L, 1, 0);
+
+        final JsonArray result = underTest.getMostExpensivePolicies(10);
+
+        assertThat(result).hasSize(4);
+        assertThat(result.get(0).map(JsonValue::asObject)).hasValueSatisfying(expensive -> {
+            assertThat(expensive.getValue("policyId")).contains(JsonValue.of("ns:expensive"));
+            assertThat(expensive.getValue("totalNanos").map(JsonValue::asLong)).contains(1000L);
+            assertThat(expensive.getValue("overestimationNanos").map(JsonValue::asLong)).contains(10L);
+        });
+        assertThat(result.stream().map(policy -> policy.asObject().getValue("policyId")))
+                .doesNotContain(Optional.of(JsonValue.of("ns:1")));
+    }
+
+    @Test
+    public void nothingIsRecordedIfDisabled() {
+        final PolicyEvaluationStatistics underTest =
+                new PolicyEvaluationStatistics(false, Duration.ofMinutes(1), 10, now::get);
+        underTest.record("ns:policy", 1, 10L, 1, 0);
+
+        assertThat(underTest.getMostExpensivePolicies(10)).isEmpty();
+    }
+
+    private PolicyEvaluationStatistics newStatistics(final int maxPolicies) {
+        return new PolicyEvaluationStatistics(true, Duration.ofMinutes(1), maxPolicies, now::get);
+    }
+
+}
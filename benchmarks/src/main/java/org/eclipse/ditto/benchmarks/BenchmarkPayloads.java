@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.contenttype.ContentType;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+
+/**
+ * Deterministic payloads shaped like the Things, headers and messages of a typical IoT deployment.
+ * All benchmarks use these payloads so their results are comparable between revisions.
+ */
+public final class BenchmarkPayloads {
+
+    /**
+     * The ID of all benchmarked Things.
+     */
+    public static final ThingId THING_ID = ThingId.of("org.eclipse.ditto.benchmark", "device-4711");
+
+    private BenchmarkPayloads() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the JSON of a Thing with the given number of features.
+     * Each feature has a definition, nested properties of mixed types and desired properties like a sensor or
+     * actuator reporting its state.
+     *
+     * @param numberOfFeatures the number of features of the Thing.
+     * @return the JSON object of the Thing.
+     */
+    public static JsonObject thingJson(final int numberOfFeatures) {
+        final JsonObjectBuilder featuresBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < numberOfFeatures; i++) {
+            featuresBuilder.set(featureId(i), featureJson(i));
+        }
+        return JsonObject.newBuilder()
+                .set(Thing.JsonFields.ID, THING_ID.toString())
+                .set(Thing.JsonFields.POLICY_ID, THING_ID.toString())
+                .set(Thing.JsonFields.DEFINITION, JsonValue.of("org.eclipse.ditto.benchmark:device:2.1.0"))
+                .set(Thing.JsonFields.ATTRIBUTES, JsonObject.newBuilder()
+                        .set("manufacturer", "ACME Corporation")
+                        .set("model", "Sensor Hub X-42")
+                        .set("serialNumber", "SN-2026-000004711")
+                        .set("installedAt", "2026-01-15T08:30:00Z")
+                        .set("location", JsonObject.newBuilder()
+                                .set("building", "B7")
+                                .set("floor", 3)
+                                .set("latitude", 47.6779496)
+                                .set("longitude", 9.1732384)
+                                .build())
+                        .set("tags", JsonArray.of("[\"production\",\"hall-3\",\"monitored\"]"))
+                        .build())
+                .set(Thing.JsonFields.FEATURES, featuresBuilder.build())
+                .build();
+    }
+
+    /**
+     * Returns a Thing with the given number of features.
+     *
+     * @param numberOfFeatures the number of features of the Thing.
+     * @return the Thing.
+     * @see #thingJson(int)
+     */
+    public static Thing thing(final int numberOfFeatures) {
+        return ThingsModelFactory.newThing(thingJson(numberOfFeatures));
+    }
+
+    /**
+     * Returns the ID of the feature with the given index.
+     *
+     * @param index the index of the feature.
+     * @return the feature ID.
+     */
+    public static String featureId(final int index) {
+        return "sensor-" + index;
+    }
+
+    /**
+     * Returns headers like the ones of a command received via the WebSocket or a connection.
+     *
+     * @return the headers.
+     */
+    public static DittoHeaders dittoHeaders() {
+        return DittoHeaders.newBuilder()
+                .correlationId("a3b7c2e1-6f4d-4c1b-9e8a-2d5f7b9c0e13")
+                .contentType(ContentType.APPLICATION_JSON)
+                .responseRequired(true)
+                .timeout(Duration.ofSeconds(10))
+                .acknowledgementRequests(Collections.singletonList(
+                        AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED)))
+                .authorizationContext(AuthorizationContext.newInstance(
+                        DittoAuthorizationContextType.PRE_AUTHENTICATED_HTTP,
+                        AuthorizationSubject.newInstance("integration:benchmark:device-gateway"),
+                        AuthorizationSubject.newInstance("nginx:benchmark-user")))
+                .putHeader("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01")
+                .build();
+    }
+
+    private static JsonObject featureJson(final int index) {
+        return JsonObject.newBuilder()
+                .set("definition", JsonArray.of("[\"org.eclipse.ditto.benchmark:temperature-sensor:1.4.0\"]"))
+                .set("properties", JsonObject.newBuilder()
+                        .set("status", JsonObject.newBuilder()
+                                .set("value", 20.0 + index % 10)
+                                .set("unit", "°C")
+                                .set("lastUpdated", "2026-10-17T12:00:00.000Z")
+                                .set("quality", "GOOD")
+                                .build())
+                        .set("configuration", JsonObject.newBuilder()
+                                .set("samplingIntervalMs", 1000)
+                                .set("thresholds", JsonObject.newBuilder()
+                                        .set("min", -20)
+                                        .set("max", 85)
+                                        .build())
+                                .set("enabled", true)
+                                .build())
+                        .set("statistics", JsonObject.newBuilder()
+                                .set("count", 1000L + index)
+                                .set("mean", 21.37)
+                                .set("history", JsonArray.of("[20.5,21.0,21.5,22.0,21.75]"))
+                                .build())
+                        .build())
+                .set("desiredProperties", JsonObject.newBuilder()
+                        .set("configuration", JsonObject.newBuilder()
+                                .set("samplingIntervalMs", 500)
+                                .build())
+                        .build())
+                .build();
+    }
+
+}
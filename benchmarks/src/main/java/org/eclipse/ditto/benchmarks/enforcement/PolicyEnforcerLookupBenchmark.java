@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks.enforcement;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.AbstractActor;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.pattern.Patterns;
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Measures the latency percentiles of looking up cached policy enforcers by many concurrent enforcements.
+ * {@code askActor} asks a single actor which reads the cache like the policy enforcer provider did before lookups
+ * were served from the calling thread, {@code readCache} reads the cache directly like it does now.
+ * <p>
+ * Run with e.g. {@code -t 32} to change the number of concurrent threads.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Threads(16)
+@Fork(1)
+public class PolicyEnforcerLookupBenchmark {
+
+    private static final int NUMBER_OF_POLICIES = 10_000;
+    private static final Duration ASK_TIMEOUT = Duration.ofSeconds(60);
+
+    private ActorSystem actorSystem;
+    private Cache<String, String> cache;
+    private ActorRef cacheReadingActor;
+    private String[] policyIds;
+
+    @Setup
+    public void setup() {
+        actorSystem = ActorSystem.create(getClass().getSimpleName());
+        cache = CacheFactory.createCache(
+                (policyId, executor) -> CompletableFuture.completedFuture("enforcer-of-" + policyId),
+                DefaultCacheConfig.of(ConfigFactory.empty(), "policy-enforcer-cache"),
+                "policy_enforcer_lookup_benchmark",
+                actorSystem.dispatcher());
+        policyIds = new String[NUMBER_OF_POLICIES];
+        for (int i = 0; i < NUMBER_OF_POLICIES; i++) {
+            policyIds[i] = "org.eclipse.ditto.benchmark:policy-" + i;
+            cache.get(policyIds[i]).join();
+        }
+        cacheReadingActor = actorSystem.actorOf(CacheReadingActor.props(cache));
+    }
+
+    @TearDown
+    public void tearDown() {
+        actorSystem.terminate();
+        actorSystem.getWhenTerminated().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Object askActor() {
+        return Patterns.ask(cacheReadingActor, nextPolicyId(), ASK_TIMEOUT).toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Optional<String> readCache() {
+        return cache.get(nextPolicyId()).join();
+    }
+
+    private String nextPolicyId() {
+        return policyIds[ThreadLocalRandom.current().nextInt(NUMBER_OF_POLICIES)];
+    }
+
+    private static final class CacheReadingActor extends AbstractActor {
+
+        private final Cache<String, String> cache;
+
+        @SuppressWarnings("unused")
+        private CacheReadingActor(final Cache<String, String> cache) {
+            this.cache = cache;
+        }
+
+        private static Props props(final Cache<String, String> cache) {
+            return Props.create(CacheReadingActor.class, cache);
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(String.class, policyId ->
+                            Patterns.pipe(cache.get(policyId), getContext().dispatcher()).to(getSender()))
+                    .build();
+        }
+
+    }
+
+}
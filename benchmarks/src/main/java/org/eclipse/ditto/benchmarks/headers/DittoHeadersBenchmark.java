@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks.headers;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.translator.HeaderTranslator;
+import org.eclipse.ditto.benchmarks.BenchmarkPayloads;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building, copying and translating {@link DittoHeaders} which happens several times for each message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DittoHeadersBenchmark {
+
+    private HeaderTranslator headerTranslator;
+    private DittoHeaders dittoHeaders;
+    private Map<String, String> externalHeaders;
+    private JsonObject headersJson;
+
+    @Setup
+    public void setup() {
+        headerTranslator = DittoProtocolAdapter.getHeaderTranslator();
+        dittoHeaders = BenchmarkPayloads.dittoHeaders();
+        externalHeaders = headerTranslator.toExternalHeaders(dittoHeaders);
+        headersJson = dittoHeaders.toJson();
+    }
+
+    @Benchmark
+    public DittoHeaders build() {
+        return BenchmarkPayloads.dittoHeaders();
+    }
+
+    @Benchmark
+    public DittoHeaders copyAndModify() {
+        return dittoHeaders.toBuilder().responseRequired(false).putHeader("ditto-origin", "gateway-1").build();
+    }
+
+    @Benchmark
+    public DittoHeaders fromJson() {
+        return DittoHeaders.newBuilder(headersJson).build();
+    }
+
+    @Benchmark
+    public JsonObject toJson() {
+        return dittoHeaders.toJson();
+    }
+
+    @Benchmark
+    public DittoHeaders fromExternalHeaders() {
+        return DittoHeaders.of(headerTranslator.fromExternalHeaders(externalHeaders));
+    }
+
+    @Benchmark
+    public Map<String, String> toExternalHeaders() {
+        return headerTranslator.toExternalHeaders(dittoHeaders);
+    }
+
+}
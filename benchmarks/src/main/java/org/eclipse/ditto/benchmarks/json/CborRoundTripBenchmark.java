@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.benchmarks.BenchmarkPayloads;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the CBOR serialization used between the cluster nodes via {@link JacksonCborFactory}.
+ * The fresh variants serialize a newly parsed Thing which has no cached CBOR representation yet, like a
+ * Thing received from a device; the cached variants serialize the same instance again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CborRoundTripBenchmark {
+
+    private static final JacksonCborFactory CBOR_FACTORY = new JacksonCborFactory();
+
+    @Param({"1", "10", "100"})
+    public int numberOfFeatures;
+
+    private String thingString;
+    private JsonObject thing;
+    private byte[] thingCbor;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() throws IOException {
+        thing = BenchmarkPayloads.thingJson(numberOfFeatures);
+        thingString = thing.toString();
+        thingCbor = CBOR_FACTORY.toByteArray(thing);
+        buffer = ByteBuffer.allocate(thingCbor.length * 2);
+    }
+
+    @Benchmark
+    public byte[] serializeFresh() throws IOException {
+        return CBOR_FACTORY.toByteArray(JsonFactory.readFrom(thingString));
+    }
+
+    @Benchmark
+    public byte[] serializeCached() throws IOException {
+        return CBOR_FACTORY.toByteArray(thing);
+    }
+
+    @Benchmark
+    public ByteBuffer serializeCachedIntoBuffer() throws IOException {
+        buffer.clear();
+        CBOR_FACTORY.writeToByteBuffer(thing, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public JsonValue deserialize() {
+        return CBOR_FACTORY.readFrom(thingCbor);
+    }
+
+    @Benchmark
+    public byte[] roundTrip() throws IOException {
+        return CBOR_FACTORY.toByteArray(CBOR_FACTORY.readFrom(thingCbor));
+    }
+
+    @Benchmark
+    public String deserializeAndWriteString() {
+        return CBOR_FACTORY.readFrom(thingCbor).toString();
+    }
+
+}
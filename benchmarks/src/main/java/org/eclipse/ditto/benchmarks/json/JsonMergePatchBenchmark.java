@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks.json;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.benchmarks.BenchmarkPayloads;
+import org.eclipse.ditto.json.JsonMergePatch;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures applying RFC 7396 merge patches to a Thing JSON like {@code MergeThing} commands do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JsonMergePatchBenchmark {
+
+    private static final JsonPointer PROPERTY_POINTER = JsonPointer.of("features/sensor-0/properties/status/value");
+
+    @Param({"1", "10", "100"})
+    public int numberOfFeatures;
+
+    private JsonObject thing;
+    private JsonObject patchedThing;
+    private JsonObject multiFeaturePatch;
+    private JsonObject deletingPatch;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        thing = BenchmarkPayloads.thingJson(numberOfFeatures);
+        patchedThing = thing;
+        multiFeaturePatch = JsonObject.of("{\"attributes\":{\"location\":{\"floor\":4}}," +
+                "\"features\":{\"sensor-0\":{\"properties\":{\"status\":{\"value\":23.5,\"quality\":\"UNCERTAIN\"}," +
+                "\"configuration\":{\"enabled\":false}}},\"added-sensor\":{\"properties\":{\"value\":1}}}}");
+        deletingPatch = JsonObject.of("{\"attributes\":{\"tags\":null}," +
+                "\"features\":{\"sensor-0\":{\"desiredProperties\":null}}}");
+        counter = 0;
+    }
+
+    @Benchmark
+    public JsonValue applySinglePropertyPatch() {
+        final JsonMergePatch mergePatch = JsonMergePatch.of(PROPERTY_POINTER, JsonValue.of(counter++));
+        patchedThing = mergePatch.applyOn(patchedThing).asObject();
+        return patchedThing;
+    }
+
+    @Benchmark
+    public JsonValue applyMultiFeaturePatch() {
+        return JsonMergePatch.of(multiFeaturePatch).applyOn(thing);
+    }
+
+    @Benchmark
+    public JsonValue applyDeletingPatch() {
+        return JsonMergePatch.of(deletingPatch).applyOn(thing);
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks.json;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.benchmarks.BenchmarkPayloads;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading and modifying single values of a Thing JSON like the strategies of the Thing persistence do.
+ * The modifying benchmarks apply each modification to the result of the previous one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JsonObjectAccessBenchmark {
+
+    private static final JsonPointer ATTRIBUTE_POINTER = JsonPointer.of("attributes/location/floor");
+    private static final JsonPointer PROPERTY_POINTER = JsonPointer.of("features/sensor-0/properties/status/value");
+
+    @Param({"1", "10", "100"})
+    public int numberOfFeatures;
+
+    private JsonObject thing;
+    private JsonObject modifiedThing;
+    private JsonPointer lastFeaturePropertyPointer;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        thing = BenchmarkPayloads.thingJson(numberOfFeatures);
+        modifiedThing = thing;
+        lastFeaturePropertyPointer = JsonPointer.of("features")
+                .append(JsonPointer.of(BenchmarkPayloads.featureId(numberOfFeatures - 1)))
+                .append(JsonPointer.of("properties/status/value"));
+        counter = 0;
+    }
+
+    @Benchmark
+    public Optional<JsonValue> getAttribute() {
+        return thing.getValue(ATTRIBUTE_POINTER);
+    }
+
+    @Benchmark
+    public Optional<JsonValue> getPropertyOfLastFeature() {
+        return thing.getValue(lastFeaturePropertyPointer);
+    }
+
+    @Benchmark
+    public JsonObject setAttribute() {
+        modifiedThing = modifiedThing.setValue(ATTRIBUTE_POINTER, JsonValue.of(counter++));
+        return modifiedThing;
+    }
+
+    @Benchmark
+    public JsonObject setFeatureProperty() {
+        modifiedThing = modifiedThing.setValue(PROPERTY_POINTER, JsonValue.of(counter++));
+        return modifiedThing;
+    }
+
+    @Benchmark
+    public JsonObject removeAndSetFeatureProperty() {
+        modifiedThing = modifiedThing.remove(PROPERTY_POINTER).setValue(PROPERTY_POINTER, JsonValue.of(counter++));
+        return modifiedThing;
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.benchmarks.BenchmarkPayloads;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing the JSON of a Thing as it is received over HTTP, WebSocket or a connection.
+ * The accessing variants additionally read a single property like routing and enforcement do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JsonReadBenchmark {
+
+    private static final JsonPointer PROPERTY_POINTER = JsonPointer.of("features/sensor-0/properties/status/value");
+
+    @Param({"1", "10", "100"})
+    public int numberOfFeatures;
+
+    private String thingString;
+    private byte[] thingBytes;
+
+    @Setup
+    public void setup() {
+        thingString = BenchmarkPayloads.thingJson(numberOfFeatures).toString();
+        thingBytes = thingString.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public JsonValue readFromString() {
+        return JsonFactory.readFrom(thingString);
+    }
+
+    @Benchmark
+    public JsonValue readFromBytes() {
+        return JsonFactory.readFrom(thingBytes);
+    }
+
+    @Benchmark
+    public JsonValue readFromStringAndGetValue() {
+        final JsonObject thing = JsonFactory.readFrom(thingString).asObject();
+        return thing.getValue(PROPERTY_POINTER).orElseThrow(IllegalStateException::new);
+    }
+
+    @Benchmark
+    public int readFromStringAndIterateFeatures() {
+        final JsonObject thing = JsonFactory.readFrom(thingString).asObject();
+        int size = 0;
+        final JsonObject features =
+                thing.getValue("features").map(JsonValue::asObject).orElseThrow(IllegalStateException::new);
+        for (final JsonField feature : features) {
+            size += feature.getValue().asObject().getSize();
+        }
+        return size;
+    }
+
+}
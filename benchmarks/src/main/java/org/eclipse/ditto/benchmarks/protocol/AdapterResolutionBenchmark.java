@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks.protocol;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.benchmarks.BenchmarkPayloads;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.eclipse.ditto.things.model.signals.commands.modify.DeleteAttribute;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeatureProperty;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveAttribute;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures converting small Ditto Protocol messages to signals, for which the resolution of the adapter and of the
+ * mapping strategy is a considerable part of the per-message cost.
+ * The messages carry no headers and no or a scalar value so that the conversion of headers and payload does not
+ * dominate the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class AdapterResolutionBenchmark {
+
+    private static final JsonPointer ATTRIBUTE_POINTER = JsonPointer.of("location/floor");
+    private static final JsonPointer PROPERTY_POINTER = JsonPointer.of("status/value");
+
+    @Param({"retrieveAttribute", "deleteAttribute", "modifyFeatureProperty", "featurePropertyModified"})
+    public String signalType;
+
+    private DittoProtocolAdapter protocolAdapter;
+    private Adaptable adaptable;
+
+    @Setup
+    public void setup() {
+        protocolAdapter = DittoProtocolAdapter.newInstance();
+        adaptable = protocolAdapter.toAdaptable(createSignal(signalType));
+    }
+
+    @Benchmark
+    public Signal<?> fromAdaptable() {
+        return protocolAdapter.fromAdaptable(adaptable);
+    }
+
+    private static Signal<?> createSignal(final String signalType) {
+        final DittoHeaders dittoHeaders = DittoHeaders.empty();
+        switch (signalType) {
+            case "retrieveAttribute":
+                return RetrieveAttribute.of(BenchmarkPayloads.THING_ID, ATTRIBUTE_POINTER, dittoHeaders);
+            case "deleteAttribute":
+                return DeleteAttribute.of(BenchmarkPayloads.THING_ID, ATTRIBUTE_POINTER, dittoHeaders);
+            case "modifyFeatureProperty":
+                return ModifyFeatureProperty.of(BenchmarkPayloads.THING_ID, BenchmarkPayloads.featureId(0),
+                        PROPERTY_POINTER, JsonValue.of(21.5), dittoHeaders);
+            case "featurePropertyModified":
+                return FeaturePropertyModified.of(BenchmarkPayloads.THING_ID, BenchmarkPayloads.featureId(0),
+                        PROPERTY_POINTER, JsonValue.of(21.5), 42L, null, dittoHeaders, null);
+            default:
+                throw new IllegalArgumentException("Unknown signal type: " + signalType);
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks.protocol;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.benchmarks.BenchmarkPayloads;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.JsonifiableAdaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeatureProperty;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.eclipse.ditto.things.model.signals.events.ThingModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the conversion between signals and Ditto Protocol messages which the gateway and the connectivity
+ * service perform for each message.
+ * The {@code inbound} benchmark covers the complete path from the received string to the signal, the
+ * {@code outbound} benchmark the complete path from the signal to the sent string.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DittoProtocolAdapterBenchmark {
+
+    private static final int NUMBER_OF_FEATURES = 10;
+
+    @Param({"modifyFeatureProperty", "modifyThing", "thingModified", "retrieveThingResponse"})
+    public String signalType;
+
+    private DittoProtocolAdapter protocolAdapter;
+    private Signal<?> signal;
+    private Adaptable adaptable;
+    private JsonObject adaptableJson;
+    private String adaptableString;
+
+    @Setup
+    public void setup() {
+        protocolAdapter = DittoProtocolAdapter.newInstance();
+        signal = createSignal(signalType, BenchmarkPayloads.dittoHeaders());
+        adaptable = protocolAdapter.toAdaptable(signal);
+        adaptableJson = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable).toJson();
+        adaptableString = adaptableJson.toString();
+    }
+
+    @Benchmark
+    public Adaptable toAdaptable() {
+        return protocolAdapter.toAdaptable(signal);
+    }
+
+    @Benchmark
+    public Signal<?> fromAdaptable() {
+        return protocolAdapter.fromAdaptable(adaptable);
+    }
+
+    @Benchmark
+    public JsonifiableAdaptable jsonifiableAdaptableFromJson() {
+        return ProtocolFactory.jsonifiableAdaptableFromJson(adaptableJson);
+    }
+
+    @Benchmark
+    public Signal<?> inbound() {
+        final JsonObject jsonObject = JsonFactory.readFrom(adaptableString).asObject();
+        return protocolAdapter.fromAdaptable(ProtocolFactory.jsonifiableAdaptableFromJson(jsonObject));
+    }
+
+    @Benchmark
+    public String outbound() {
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(protocolAdapter.toAdaptable(signal)).toJsonString();
+    }
+
+    private static Signal<?> createSignal(final String signalType, final DittoHeaders dittoHeaders) {
+        final Thing thing = BenchmarkPayloads.thing(NUMBER_OF_FEATURES);
+        switch (signalType) {
+            case "modifyFeatureProperty":
+                return ModifyFeatureProperty.of(BenchmarkPayloads.THING_ID, BenchmarkPayloads.featureId(0),
+                        JsonPointer.of("status/value"), JsonValue.of(23.5), dittoHeaders);
+            case "modifyThing":
+                return ModifyThing.of(BenchmarkPayloads.THING_ID, thing, null, dittoHeaders);
+            case "thingModified":
+                return ThingModified.of(thing, 42L, Instant.parse("2026-10-17T12:00:00Z"), dittoHeaders, null);
+            case "retrieveThingResponse":
+                return RetrieveThingResponse.of(BenchmarkPayloads.THING_ID, thing.toJson(), dittoHeaders);
+            default:
+                throw new IllegalArgumentException("Unknown signal type: " + signalType);
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks.protocol;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.protocol.TopicPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing the topic of inbound Ditto Protocol messages.
+ * The topics of many devices only differ in the entity name, which is rotated through like the topics of
+ * messages of a fleet of devices.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class TopicPathBenchmark {
+
+    private static final int NUMBER_OF_DEVICES = 4096;
+
+    private String[] commandTopics;
+    private String[] messageTopics;
+    private int index;
+
+    @Setup
+    public void setup() {
+        commandTopics = new String[NUMBER_OF_DEVICES];
+        messageTopics = new String[NUMBER_OF_DEVICES];
+        for (int i = 0; i < NUMBER_OF_DEVICES; i++) {
+            commandTopics[i] = "org.eclipse.ditto.benchmark/device-" + i + "/things/twin/commands/modify";
+            messageTopics[i] = "org.eclipse.ditto.benchmark/device-" + i + "/things/live/messages/reportStatus";
+        }
+        index = 0;
+    }
+
+    @Benchmark
+    public TopicPath parseCommandTopic() {
+        return ProtocolFactory.newTopicPath(commandTopics[nextIndex()]);
+    }
+
+    @Benchmark
+    public TopicPath parseMessageTopic() {
+        return ProtocolFactory.newTopicPath(messageTopics[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        index = (index + 1) % NUMBER_OF_DEVICES;
+        return index;
+    }
+
+}
@@ -14,16 +14,25 @@ package org.eclipse.ditto.connectivity.service.mapping;
 
 import static java.util.Collections.singletonList;
 
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
 
 import org.apache.pekko.actor.ActorSystem;
 import org.eclipse.ditto.base.model.common.DittoConstants;
 import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.contenttype.ContentType;
 import org.eclipse.ditto.connectivity.api.ExternalMessage;
+import org.eclipse.ditto.connectivity.api.ExternalMessageBuilder;
 import org.eclipse.ditto.connectivity.api.ExternalMessageFactory;
+import org.eclipse.ditto.connectivity.model.Connection;
 import org.eclipse.ditto.connectivity.model.ConnectivityModelFactory;
 import org.eclipse.ditto.connectivity.model.MappingContext;
+import org.eclipse.ditto.connectivity.service.config.mapping.MappingConfig;
+import org.eclipse.ditto.internal.utils.protocol.CborAdaptables;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.protocol.Adaptable;
@@ -35,6 +44,9 @@ import com.typesafe.config.Config;
 /**
  * A message mapper implementation for the Ditto Protocol.
  * Expect messages to contain a JSON serialized Ditto Protocol message.
+ * Messages with a CBOR content-type like {@code application/cbor} are expected to contain the CBOR representation
+ * of a Ditto Protocol message instead.
+ * Outgoing messages are serialized as CBOR if the option {@value #CONTENT_TYPE} is set to a CBOR content-type.
  */
 public final class DittoMessageMapper extends AbstractMessageMapper {
 
@@ -43,6 +55,15 @@ public final class DittoMessageMapper extends AbstractMessageMapper {
      */
     public static final String ALIAS = "Ditto";
 
+    /**
+     * The option defining the content-type of outgoing messages.
+     * If it is a CBOR content-type like {@code application/cbor}, outgoing messages contain the CBOR representation
+     * of the Ditto Protocol message, else its JSON representation.
+     *
+     * @since 3.6.0
+     */
+    public static final String CONTENT_TYPE = "contentType";
+
     static final JsonObject DEFAULT_OPTIONS = JsonObject.newBuilder()
             .set(MessageMapperConfiguration.CONTENT_TYPE_BLOCKLIST,
                     String.join(",", "application/vnd.eclipse-hono-empty-notification",
@@ -60,6 +81,8 @@ public final class DittoMessageMapper extends AbstractMessageMapper {
                     DEFAULT_OPTIONS)
             .build();
 
+    @Nullable private ContentType outgoingCborContentType;
+
     /**
      * Constructs a new instance of DittoMessageMapper extension.
      *
@@ -72,6 +95,7 @@ public final class DittoMessageMapper extends AbstractMessageMapper {
 
     private DittoMessageMapper(final DittoMessageMapper copyFromMapper) {
         super(copyFromMapper);
+        outgoingCborContentType = copyFromMapper.outgoingCborContentType;
     }
 
     @Override
@@ -89,13 +113,25 @@ public final class DittoMessageMapper extends AbstractMessageMapper {
         return new DittoMessageMapper(this);
     }
 
+    @Override
+    protected void doConfigure(final Connection connection, final MappingConfig mappingConfig,
+            final MessageMapperConfiguration configuration) {
+
+        outgoingCborContentType = configuration.findProperty(CONTENT_TYPE)
+                .map(ContentType::of)
+                .filter(ContentType::isCbor)
+                .orElse(null);
+    }
+
     @Override
     public List<Adaptable> map(final ExternalMessage message) {
-        final String payload = extractPayloadAsString(message);
-        final JsonifiableAdaptable jsonifiableAdaptable = DittoJsonException.wrapJsonRuntimeException(payload,
-                message.getInternalHeaders(), (thePayload, headers) ->
-                        ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(thePayload))
-        );
+        final JsonifiableAdaptable jsonifiableAdaptable = findCborPayload(message)
+                .map(cborPayload -> DittoJsonException.wrapJsonRuntimeException(cborPayload,
+                        message.getInternalHeaders(), (thePayload, headers) -> CborAdaptables.fromCbor(thePayload)))
+                .orElseGet(() -> DittoJsonException.wrapJsonRuntimeException(extractPayloadAsString(message),
+                        message.getInternalHeaders(), (thePayload, headers) ->
+                                ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(thePayload))
+                ));
 
         final DittoHeaders mergedHeaders = jsonifiableAdaptable.getDittoHeaders();
         return singletonList(
@@ -107,19 +143,36 @@ public final class DittoMessageMapper extends AbstractMessageMapper {
         return DittoHeaders.empty();
     }
 
+    private static Optional<ByteBuffer> findCborPayload(final ExternalMessage message) {
+        if (message.isBytesMessage() && message.findContentType().map(ContentType::of).filter(ContentType::isCbor)
+                .isPresent()) {
+            return message.getBytePayload().filter(ByteBuffer::hasRemaining).map(ByteBuffer::asReadOnlyBuffer);
+        }
+        return Optional.empty();
+    }
+
     @Override
     public List<ExternalMessage> map(final Adaptable adaptable) {
-        return List.of(ExternalMessageFactory.newExternalMessageBuilder(getExternalDittoHeaders(adaptable))
+        final ExternalMessageBuilder builder;
+        if (null != outgoingCborContentType) {
+            builder = ExternalMessageFactory.newExternalMessageBuilder(
+                            getExternalDittoHeaders(adaptable, outgoingCborContentType.getValue()))
+                    .withBytes(CborAdaptables.toCbor(adaptable));
+        } else {
+            builder = ExternalMessageFactory.newExternalMessageBuilder(
+                            getExternalDittoHeaders(adaptable, DittoConstants.DITTO_PROTOCOL_CONTENT_TYPE))
+                    .withText(getJsonString(adaptable));
+        }
+        return List.of(builder
                 .withTopicPath(adaptable.getTopicPath())
-                .withText(getJsonString(adaptable))
                 .asResponse(isResponse(adaptable))
                 .asError(isError(adaptable))
                 .build());
     }
 
-    private static DittoHeaders getExternalDittoHeaders(final Adaptable adaptable) {
+    private static DittoHeaders getExternalDittoHeaders(final Adaptable adaptable, final String contentType) {
         return DittoHeaders.newBuilder()
-                .contentType(DittoConstants.DITTO_PROTOCOL_CONTENT_TYPE)
+                .contentType(contentType)
                 .correlationId(adaptable.getDittoHeaders().getCorrelationId().orElse(null))
                 .build();
     }
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.connectivity.service.mapping;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.HashMap;
@@ -25,10 +27,15 @@ import org.eclipse.ditto.json.JsonMissingFieldException;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.base.model.common.DittoConstants;
 import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.contenttype.ContentType;
+import org.eclipse.ditto.connectivity.model.Connection;
 import org.eclipse.ditto.connectivity.model.MessageMappingFailedException;
+import org.eclipse.ditto.connectivity.service.config.mapping.MappingConfig;
+import org.eclipse.ditto.internal.utils.protocol.CborAdaptables;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.protocol.Adaptable;
 import org.eclipse.ditto.protocol.JsonifiableAdaptable;
@@ -78,6 +85,52 @@ public final class DittoMessageMapperTest {
         validOutgoingMappings.forEach((in, out) -> softly.assertThat(underTest.map(in)).isEqualTo(out));
     }
 
+    @Test
+    public void mapCborMessage() {
+        final JsonifiableAdaptable adaptable = valid1Adaptable();
+        final ExternalMessage message = ExternalMessageFactory.newExternalMessageBuilder(
+                        Map.of(ExternalMessage.CONTENT_TYPE_HEADER, ContentType.APPLICATION_CBOR.getValue()))
+                .withTopicPath(adaptable.getTopicPath())
+                .withBytes(CborAdaptables.toCbor(adaptable))
+                .build();
+
+        softly.assertThat(underTest.map(message))
+                .isEqualTo(Collections.singletonList(ProtocolFactory.newAdaptableBuilder(adaptable).build()));
+    }
+
+    @Test
+    public void mapInvalidCborMessageFails() {
+        final ExternalMessage message = ExternalMessageFactory.newExternalMessageBuilder(
+                        Map.of(ExternalMessage.CONTENT_TYPE_HEADER, ContentType.APPLICATION_CBOR.getValue()))
+                .withBytes("{\"no\":\"cbor\"}".getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        softly.assertThatThrownBy(() -> underTest.map(message)).isInstanceOf(DittoJsonException.class);
+    }
+
+    @Test
+    public void mapAdaptableToCborIfConfigured() {
+        underTest.doConfigure(Mockito.mock(Connection.class), Mockito.mock(MappingConfig.class),
+                DefaultMessageMapperConfiguration.of("ditto",
+                        Map.of(DittoMessageMapper.CONTENT_TYPE, JsonValue.of("application/vnd.eclipse.ditto+cbor")),
+                        Map.of(), Map.of()));
+        final JsonifiableAdaptable adaptable = valid1Adaptable();
+
+        final List<ExternalMessage> externalMessages = underTest.map(adaptable);
+
+        softly.assertThat(externalMessages).hasSize(1);
+        final ExternalMessage externalMessage = externalMessages.get(0);
+        softly.assertThat(externalMessage.findContentType()).contains("application/vnd.eclipse.ditto+cbor");
+        softly.assertThat(externalMessage.isBytesMessage()).isTrue();
+        softly.assertThat(externalMessage.getBytePayload()
+                        .map(ByteBuffer::asReadOnlyBuffer)
+                        .map(CborAdaptables::fromCbor)
+                        .map(JsonifiableAdaptable::toJson))
+                .contains(adaptable.toJson());
+        softly.assertThat(underTest.map(externalMessage))
+                .isEqualTo(Collections.singletonList(ProtocolFactory.newAdaptableBuilder(adaptable).build()));
+    }
+
     @Test
     public void mapAdaptableFails() {
         final var invalidOutgoingMappings = createInvalidOutgoingMappings();
@@ -85,19 +138,22 @@ public final class DittoMessageMapperTest {
                 (in, e) -> softly.assertThatThrownBy(() -> underTest.map(in)).hasSameClassAs(e));
     }
 
-    private static Map.Entry<ExternalMessage, List<Adaptable>> valid1() {
+    private static JsonifiableAdaptable valid1Adaptable() {
         final Map<String, String> headers = new HashMap<>();
         headers.put("header-key", "header-value");
         final ThingId thingId = ThingId.of("org.eclipse.ditto:thing1");
-        final JsonifiableAdaptable adaptable =
-                ProtocolFactory.wrapAsJsonifiableAdaptable(ProtocolFactory.newAdaptableBuilder
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(ProtocolFactory.newAdaptableBuilder
                         (ProtocolFactory.newTopicPathBuilder(thingId).things().twin().commands().modify().build())
-                        .withHeaders(DittoHeaders.of(headers))
-                        .withPayload(ProtocolFactory
-                                .newPayloadBuilder(JsonPointer.of("/features"))
-                                .withValue(JsonFactory.nullLiteral())
-                                .build())
-                        .build());
+                .withHeaders(DittoHeaders.of(headers))
+                .withPayload(ProtocolFactory
+                        .newPayloadBuilder(JsonPointer.of("/features"))
+                        .withValue(JsonFactory.nullLiteral())
+                        .build())
+                .build());
+    }
+
+    private static Map.Entry<ExternalMessage, List<Adaptable>> valid1() {
+        final JsonifiableAdaptable adaptable = valid1Adaptable();
 
         // by default, the DittoMessageMapper should not automatically use all headers from the ExternalMessage
         //  those would have to be mapped by an explicit header mapping
@@ -93,6 +93,7 @@ import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdap
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.messages.model.Message;
 import org.eclipse.ditto.messages.model.signals.commands.MessageCommandResponse;
 
@@ -461,7 +462,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
         final var response = withEntity.getEntityPlainString()
                 .map(s -> addEntityAccordingToContentType(responseWithoutBody, s, contentType))
                 .orElseGet(() -> addEntityAccordingToContentType(responseWithoutBody,
-                        withEntity.getEntity(commandResponse.getImplementedSchemaVersion()).toString(),
+                        withEntity.getEntity(commandResponse.getImplementedSchemaVersion()),
                         contentType));
         completeWithResult(response);
     }
@@ -648,6 +649,17 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
         return response.withEntity(ContentTypes.parse(contentType.getValue()), byteString);
     }
 
+    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final JsonValue entity,
+            final ContentType contentType) {
+
+        if (contentType.isBinary()) {
+            return addEntityAccordingToContentType(response, entity.toString(), contentType);
+        }
+        // the UTF-8 encoded form is remembered by JSON objects and arrays, e.g. from validating their size
+        return response.withEntity(ContentTypes.parse(contentType.getValue()),
+                ByteString.fromByteBuffer(entity.toUtf8ByteBuffer()));
+    }
+
     private static ContentType getContentType(final DittoHeaders dittoHeaders) {
         return dittoHeaders.getDittoContentType().orElse(ContentType.APPLICATION_JSON);
     }
@@ -676,7 +688,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
                     .orElse(dittoHeaders.getImplementedSchemaVersion());
 
             return withOptionalEntity.getEntity(schemaVersion)
-                    .map(entity -> addEntityAccordingToContentType(response, entity.toString(),
+                    .map(entity -> addEntityAccordingToContentType(response, entity,
                             getContentType(dittoHeaders)))
                     .orElse(response);
         };
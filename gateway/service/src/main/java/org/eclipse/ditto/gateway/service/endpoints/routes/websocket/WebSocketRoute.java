@@ -38,6 +38,7 @@ import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.event.Logging;
 import org.apache.pekko.http.javadsl.model.HttpRequest;
 import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.http.javadsl.model.ws.BinaryMessage;
 import org.apache.pekko.http.javadsl.model.ws.Message;
 import org.apache.pekko.http.javadsl.model.ws.TextMessage;
 import org.apache.pekko.http.javadsl.model.ws.WebSocketUpgrade;
@@ -49,19 +50,27 @@ import org.apache.pekko.japi.function.Function;
 import org.apache.pekko.japi.pf.PFBuilder;
 import org.apache.pekko.pattern.Patterns;
 import org.apache.pekko.stream.Attributes;
+import org.apache.pekko.stream.FanInShape2;
 import org.apache.pekko.stream.FanOutShape2;
 import org.apache.pekko.stream.FlowShape;
 import org.apache.pekko.stream.Graph;
 import org.apache.pekko.stream.KillSwitches;
 import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.OverflowStrategy;
 import org.apache.pekko.stream.SharedKillSwitch;
 import org.apache.pekko.stream.SinkShape;
 import org.apache.pekko.stream.UniformFanInShape;
+import org.apache.pekko.stream.UniformFanOutShape;
 import org.apache.pekko.stream.javadsl.Flow;
 import org.apache.pekko.stream.javadsl.GraphDSL;
 import org.apache.pekko.stream.javadsl.Merge;
+import org.apache.pekko.stream.javadsl.MergeSequence;
+import org.apache.pekko.stream.javadsl.Partition;
 import org.apache.pekko.stream.javadsl.Sink;
 import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.stream.javadsl.Unzip;
+import org.apache.pekko.stream.javadsl.Zip;
+import org.apache.pekko.util.ByteString;
 import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
 import org.eclipse.ditto.base.model.auth.AuthorizationContext;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
@@ -104,6 +113,7 @@ import org.eclipse.ditto.internal.utils.pekko.controlflow.Filter;
 import org.eclipse.ditto.internal.utils.pekko.controlflow.LimitRateByRejection;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.internal.utils.protocol.CborAdaptables;
 import org.eclipse.ditto.internal.utils.pubsub.StreamingType;
 import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
 import org.eclipse.ditto.internal.utils.tracing.span.SpanOperationName;
@@ -139,6 +149,15 @@ import scala.util.Right;
 @NotThreadSafe
 public final class WebSocketRoute implements WebSocketRouteBuilder {
 
+    /**
+     * The WebSocket subprotocol a client requests for exchanging Ditto Protocol messages in their binary CBOR
+     * representation.
+     * Ditto Protocol messages are then sent as binary messages while stream control messages remain text messages.
+     *
+     * @since 3.6.0
+     */
+    public static final String CBOR_SUBPROTOCOL = "ditto-protocol+cbor";
+
     /**
      * The backend sends the protocol message above suffixed by ":ACK" when the subscription was created. E.g.: {@code
      * START-SEND-EVENTS:ACK}
@@ -156,6 +175,8 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
      */
     private static final Duration LOCAL_ASK_TIMEOUT = Duration.ofSeconds(5L);
 
+    private static final int SNIFFED_TEXTS_BUFFER_SIZE = 16;
+
     private static final String STREAMING_MESSAGES = "streaming_messages";
     private static final String WS = "ws";
     private static final String DIRECTION = "direction";
@@ -307,26 +328,39 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 : signalEnrichmentProvider.getFacade(request);
 
         final AuthorizationContext authContext = dittoHeaders.getAuthorizationContext();
+        final boolean cbor = isCborSubprotocolRequested(upgradeToWebSocket);
         final ThreadSafeDittoLogger logger = LOGGER.withMdcEntry(MDC_CONNECTION_CORRELATION_ID,
                 connectionCorrelationId);
-        logger.info("Creating WebSocket for connection authContext: <{}>", authContext);
+        logger.info("Creating WebSocket for connection authContext: <{}>, CBOR: <{}>", authContext, cbor);
 
         return signalEnrichmentFacadeStage.thenCompose(signalEnrichmentFacade -> retrieveWebsocketConfig()
                 .thenApply(overwriteWebSocketConfig(dittoHeaders))
                 .thenApply(websocketConfig -> {
                     final Pair<Connect, Flow<DittoRuntimeException, Message, NotUsed>> outgoing =
                             createOutgoing(version, connectionCorrelationId, authContext, dittoHeaders, adapter,
-                                    request, websocketConfig, signalEnrichmentFacade, logger);
+                                    request, websocketConfig, signalEnrichmentFacade, cbor, logger);
 
                     final Flow<Message, DittoRuntimeException, NotUsed> incoming =
                             createIncoming(version, connectionCorrelationId, authContext, dittoHeaders, adapter,
-                                    request, websocketConfig, outgoing.first(), logger);
+                                    request, websocketConfig, outgoing.first(), cbor, logger);
 
-                    return upgradeToWebSocket.handleMessagesWith(
-                            incoming.via(wsKillSwitch.flow()).via(outgoing.second()));
+                    final Flow<Message, Message, NotUsed> handler =
+                            incoming.via(wsKillSwitch.flow()).via(outgoing.second());
+                    return cbor
+                            ? upgradeToWebSocket.handleMessagesWith(handler, CBOR_SUBPROTOCOL)
+                            : upgradeToWebSocket.handleMessagesWith(handler);
                 }));
     }
 
+    private static boolean isCborSubprotocolRequested(final WebSocketUpgrade upgradeToWebSocket) {
+        for (final String requestedProtocol : upgradeToWebSocket.getRequestedProtocols()) {
+            if (CBOR_SUBPROTOCOL.equals(requestedProtocol)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private java.util.function.Function<WebsocketConfig, WebsocketConfig> overwriteWebSocketConfig(
             final DittoHeaders dittoHeaders) {
         return wsConfig -> webSocketConfigProvider.apply(dittoHeaders, wsConfig);
@@ -338,7 +372,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
      *                  +
      *                  | strictify+sniffer
      *                  v
-     *                String
+     *     Either<String, ByteString (CBOR)>
      *                  +
      *                  |
      *                  v                   bad cast/bad signal
@@ -365,15 +399,17 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final HttpRequest request,
             final WebsocketConfig websocketConfig,
             final Connect connect,
+            final boolean cbor,
             final ThreadSafeDittoLogger logger) {
 
         return Flow.fromGraph(GraphDSL.create(builder -> {
 
-            final FlowShape<Message, String> strictify =
-                    builder.add(getStrictifyFlow(request, logger)
+            final FlowShape<Message, Either<String, ByteString>> strictify =
+                    builder.add(getStrictifyFlow(request, cbor, logger)
                             .via(AbstractRoute.throttleByConfig(websocketConfig.getThrottlingConfig())));
 
-            final FanOutShape2<String, Either<StreamControlMessage, Signal<?>>, DittoRuntimeException> select =
+            final FanOutShape2<Either<String, ByteString>, Either<StreamControlMessage, Signal<?>>,
+                    DittoRuntimeException> select =
                     builder.add(selectStreamControlOrSignal(version, connectionCorrelationId, connectionAuthContext,
                             dittoHeaders, adapter, logger));
 
@@ -427,33 +463,104 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 }));
     }
 
-    private Flow<Message, String, NotUsed> getStrictifyFlow(final HttpRequest request, final Logger logger) {
-        return Flow.<Message>create()
-                .via(Flow.fromFunction(msg -> {
-                    IN_COUNTER.increment();
-                    return msg;
-                }))
-                .filter(Message::isText)
-                .map(Message::asTextMessage)
-                .map(textMsg -> {
-                    if (textMsg.isStrict()) {
-                        return Source.single(textMsg.getStrictText());
-                    } else {
-                        return textMsg.getStreamedText();
-                    }
-                })
-                .flatMapConcat(textMsg -> textMsg.fold("", (str1, str2) -> str1 + str2))
-                .via(incomingMessageSniffer.toAsyncFlow(request))
+    private Flow<Message, Either<String, ByteString>, NotUsed> getStrictifyFlow(final HttpRequest request,
+            final boolean cbor,
+            final Logger logger) {
+
+        final Flow<Message, Message, NotUsed> countIncoming = Flow.fromFunction(msg -> {
+            IN_COUNTER.increment();
+            return msg;
+        });
+        final Flow<Message, Either<String, ByteString>, NotUsed> strictify;
+        if (cbor) {
+            strictify = countIncoming.flatMapConcat(msg -> msg.isText()
+                            ? strictifyText(msg).map(Left::<String, ByteString>apply)
+                            : strictifyBinary(msg).map(Right::<String, ByteString>apply))
+                    .via(sniffTexts(incomingMessageSniffer.toAsyncFlow(request)));
+        } else {
+            strictify = countIncoming.filter(Message::isText)
+                    .flatMapConcat(WebSocketRoute::strictifyText)
+                    .via(incomingMessageSniffer.toAsyncFlow(request))
+                    .map(Left::<String, ByteString>apply);
+        }
+        return strictify
                 .via(Flow.fromFunction(result -> {
-                    logger.debug("Received incoming WebSocket message: {}", result);
+                    logger.debug("Received incoming WebSocket message: {}", describe(result));
                     return result;
                 }))
                 .withAttributes(Attributes.createLogLevels(Logging.DebugLevel(), Logging.DebugLevel(),
                         Logging.WarningLevel()));
     }
 
-    private Graph<FanOutShape2<String, Either<StreamControlMessage, Signal<?>>, DittoRuntimeException>, NotUsed>
-    selectStreamControlOrSignal(
+    /**
+     * Passes the texts of a stream of texts and binary data through a sniffer which is materialized once per stream,
+     * as binary data cannot be passed through the text based sniffers. The sniffers pass each text through, thus the
+     * order of the stream is restored by the index of each element after sniffing.
+     */
+    private static <B> Flow<Either<String, B>, Either<String, B>, NotUsed> sniffTexts(
+            final Flow<String, String, NotUsed> sniffer) {
+
+        final Graph<FlowShape<Pair<Either<String, B>, Long>, Pair<Either<String, B>, Long>>, NotUsed> graph =
+                GraphDSL.create(builder -> {
+                    final UniformFanOutShape<Pair<Either<String, B>, Long>, Pair<Either<String, B>, Long>> partition =
+                            builder.add(Partition.create(2, pair -> pair.first().isLeft() ? 0 : 1));
+                    final FanOutShape2<Pair<Either<String, B>, Long>, Either<String, B>, Long> unzip =
+                            builder.add(Unzip.create());
+                    final FlowShape<Either<String, B>, Either<String, B>> sniff =
+                            builder.add(Flow.<Either<String, B>>create()
+                                    .map(text -> text.left().get())
+                                    .via(sniffer)
+                                    .map(Left::<String, B>apply));
+                    final FlowShape<Long, Long> indexBuffer = builder.add(Flow.<Long>create()
+                            .buffer(SNIFFED_TEXTS_BUFFER_SIZE, OverflowStrategy.backpressure()));
+                    final FanInShape2<Either<String, B>, Long, Pair<Either<String, B>, Long>> zip =
+                            builder.add(Zip.create());
+                    final UniformFanInShape<Pair<Either<String, B>, Long>, Pair<Either<String, B>, Long>> merge =
+                            builder.add(MergeSequence.create(2, Pair::second));
+
+                    builder.from(partition.out(0)).toInlet(unzip.in());
+                    builder.from(unzip.out0()).via(sniff).toInlet(zip.in0());
+                    builder.from(unzip.out1()).via(indexBuffer).toInlet(zip.in1());
+                    builder.from(zip.out()).toFanIn(merge);
+                    builder.from(partition.out(1)).toFanIn(merge);
+
+                    return FlowShape.of(partition.in(), merge.out());
+                });
+
+        return Flow.<Either<String, B>>create()
+                .zipWithIndex()
+                .via(graph)
+                .map(Pair::first);
+    }
+
+    private static Source<String, NotUsed> strictifyText(final Message message) {
+        final TextMessage textMsg = message.asTextMessage();
+        if (textMsg.isStrict()) {
+            return Source.single(textMsg.getStrictText());
+        } else {
+            return textMsg.getStreamedText()
+                    .fold("", (str1, str2) -> str1 + str2)
+                    .mapMaterializedValue(mat -> NotUsed.getInstance());
+        }
+    }
+
+    private static Source<ByteString, NotUsed> strictifyBinary(final Message message) {
+        final BinaryMessage binaryMsg = message.asBinaryMessage();
+        if (binaryMsg.isStrict()) {
+            return Source.single(binaryMsg.getStrictData());
+        } else {
+            return binaryMsg.getStreamedData()
+                    .fold(ByteString.emptyByteString(), ByteString::concat)
+                    .mapMaterializedValue(mat -> NotUsed.getInstance());
+        }
+    }
+
+    private static String describe(final Either<String, ByteString> textOrCbor) {
+        return textOrCbor.isLeft() ? textOrCbor.left().get() : textOrCbor.right().get().size() + " bytes of CBOR";
+    }
+
+    private Graph<FanOutShape2<Either<String, ByteString>, Either<StreamControlMessage, Signal<?>>,
+            DittoRuntimeException>, NotUsed> selectStreamControlOrSignal(
             final JsonSchemaVersion version,
             final CharSequence connectionCorrelationId,
             final AuthorizationContext connectionAuthContext,
@@ -464,75 +571,99 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         final var protocolMsgExtractor = new ProtocolMessageExtractor(connectionAuthContext, connectionCorrelationId);
 
         return Filter.multiplexByEither(
-                cmdString -> {
+                textOrCbor -> {
+                    if (textOrCbor.isRight()) {
+                        // stream control messages are always text messages
+                        final ByteString cbor = textOrCbor.right().get();
+                        return buildSignalOrFailure(version, connectionCorrelationId, connectionAuthContext,
+                                additionalHeaders, adapter, logger,
+                                headers -> getJsonifiableAdaptableFromCborOrThrow(cbor, headers),
+                                describe(textOrCbor));
+                    }
+                    final String cmdString = textOrCbor.left().get();
                     final Optional<StreamControlMessage> streamControlMessage;
                     try {
                         streamControlMessage = protocolMsgExtractor.apply(cmdString);
                     } catch (final DittoRuntimeException dre) {
                         return Left.apply(dre);
                     }
-                    Either<DittoRuntimeException, Either<StreamControlMessage, Signal<?>>> result;
                     if (streamControlMessage.isPresent()) {
-                        result = Right.apply(Left.apply(streamControlMessage.get()));
-                    } else {
-                        final var initialInternalHeaders =
-                                getInitialInternalHeaders(version, connectionAuthContext, connectionCorrelationId);
-                        try {
-                            final var signal = buildSignal(connectionCorrelationId,
-                                    initialInternalHeaders,
-                                    getJsonifiableAdaptableOrThrow(cmdString, initialInternalHeaders),
-                                    additionalHeaders,
-                                    adapter,
-                                    headerTranslator,
-                                    logger);
-                            final var startedSpan = DittoTracing.newPreparedSpan(
-                                            signal.getDittoHeaders(),
-                                            SpanOperationName.of("gw_streaming_in_signal")
-                                    )
-                                    .tag(SpanTagKey.SIGNAL_TYPE.getTagForValue(signal.getType()))
-                                    .start();
-                            result = Right.apply(
-                                    Right.apply(
-                                            signal.setDittoHeaders(DittoHeaders.of(
-                                                    startedSpan.propagateContext(signal.getDittoHeaders())
-                                            ))
-                                    )
-                            );
-                            startedSpan.finish();
-                        } catch (final IllegalAdaptableException e) {
-                            logSignalBuildingFailure(logger.withCorrelationId(e)::info, e, cmdString);
-                            final var failure = e.setDittoHeaders(DittoHeaders.newBuilder(e.getDittoHeaders())
-                                    .origin(connectionCorrelationId)
-                                    .build());
-                            final var tracedFailure = traceSignalBuildingFailure(failure);
-                            if (isResponseRequired(e)) {
-                                result = Left.apply(tracedFailure);
-                            } else {
-                                result = Right.apply(Left.apply(NoOp.getInstance()));
-                            }
-                        } catch (final DittoRuntimeException e) {
-
-                            // This is a client error usually; log at level DEBUG without stack trace.
-                            logSignalBuildingFailure(logger.withCorrelationId(e)::debug, e, cmdString);
-                            result = Left.apply(traceSignalBuildingFailure(e));
-                        } catch (final Exception e) {
-                            logSignalBuildingFailure(logger::warn, e, cmdString);
-                            result = Left.apply(traceSignalBuildingFailure(GatewayInternalErrorException.newBuilder()
-                                    .message(e.getMessage())
-                                    .cause(e)
-                                    .build()));
-                        }
+                        return Right.apply(Left.apply(streamControlMessage.get()));
                     }
-                    return result;
+                    return buildSignalOrFailure(version, connectionCorrelationId, connectionAuthContext,
+                            additionalHeaders, adapter, logger,
+                            headers -> getJsonifiableAdaptableOrThrow(cmdString, headers),
+                            cmdString);
                 });
     }
 
+    private Either<DittoRuntimeException, Either<StreamControlMessage, Signal<?>>> buildSignalOrFailure(
+            final JsonSchemaVersion version,
+            final CharSequence connectionCorrelationId,
+            final AuthorizationContext connectionAuthContext,
+            final DittoHeaders additionalHeaders,
+            final ProtocolAdapter adapter,
+            final ThreadSafeDittoLogger logger,
+            final java.util.function.Function<DittoHeaders, JsonifiableAdaptable> readJsonifiableAdaptable,
+            final String messageDescription) {
+
+        final var initialInternalHeaders =
+                getInitialInternalHeaders(version, connectionAuthContext, connectionCorrelationId);
+        Either<DittoRuntimeException, Either<StreamControlMessage, Signal<?>>> result;
+        try {
+            final var signal = buildSignal(connectionCorrelationId,
+                    initialInternalHeaders,
+                    readJsonifiableAdaptable.apply(initialInternalHeaders),
+                    additionalHeaders,
+                    adapter,
+                    headerTranslator,
+                    logger);
+            final var startedSpan = DittoTracing.newPreparedSpan(
+                            signal.getDittoHeaders(),
+                            SpanOperationName.of("gw_streaming_in_signal")
+                    )
+                    .tag(SpanTagKey.SIGNAL_TYPE.getTagForValue(signal.getType()))
+                    .start();
+            result = Right.apply(
+                    Right.apply(
+                            signal.setDittoHeaders(DittoHeaders.of(
+                                    startedSpan.propagateContext(signal.getDittoHeaders())
+                            ))
+                    )
+            );
+            startedSpan.finish();
+        } catch (final IllegalAdaptableException e) {
+            logSignalBuildingFailure(logger.withCorrelationId(e)::info, e, messageDescription);
+            final var failure = e.setDittoHeaders(DittoHeaders.newBuilder(e.getDittoHeaders())
+                    .origin(connectionCorrelationId)
+                    .build());
+            final var tracedFailure = traceSignalBuildingFailure(failure);
+            if (isResponseRequired(e)) {
+                result = Left.apply(tracedFailure);
+            } else {
+                result = Right.apply(Left.apply(NoOp.getInstance()));
+            }
+        } catch (final DittoRuntimeException e) {
+
+            // This is a client error usually; log at level DEBUG without stack trace.
+            logSignalBuildingFailure(logger.withCorrelationId(e)::debug, e, messageDescription);
+            result = Left.apply(traceSignalBuildingFailure(e));
+        } catch (final Exception e) {
+            logSignalBuildingFailure(logger::warn, e, messageDescription);
+            result = Left.apply(traceSignalBuildingFailure(GatewayInternalErrorException.newBuilder()
+                    .message(e.getMessage())
+                    .cause(e)
+                    .build()));
+        }
+        return result;
+    }
+
     private static void logSignalBuildingFailure(final BiConsumer<String, Object[]> logStatement,
             final Exception failure,
-            final String signalJsonString) {
+            final String signalMessage) {
 
         logStatement.accept("Failed to build a Signal from <{}>; {}: {}", new Object[]{
-                signalJsonString,
+                signalMessage,
                 failure.getClass().getSimpleName(),
                 failure.getMessage()
         });
@@ -562,6 +693,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final HttpRequest request,
             final WebsocketConfig websocketConfig,
             @Nullable final SignalEnrichmentFacade signalEnrichmentFacade,
+            final boolean cbor,
             final ThreadSafeDittoLogger logger) {
 
         final Optional<JsonWebToken> optJsonWebToken = extractJwtFromRequestIfPresent(request);
@@ -612,11 +744,11 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                         .mapAsync(signalEnrichmentParallelism, postprocess(adapter, signalEnrichmentFacade, logger))
                         .mapConcat(x -> x)
                         .via(Flow.fromFunction(result -> {
-                            logger.debug("Sending outgoing WebSocket message: {}", result);
+                            logger.debug("Sending outgoing WebSocket message: {}",
+                                    result.isLeft() ? result.left().get() : result.right().get());
                             return result;
                         }))
-                        .via(outgoingMessageSniffer.toAsyncFlow(request))
-                        .<Message>map(TextMessage::create)
+                        .via(cbor ? toCborOrTextMessages(request) : toTextMessages(request))
                         .via(Flow.fromFunction(msg -> {
                             OUT_COUNTER.increment();
                             return msg;
@@ -625,6 +757,24 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return Pair.create(connect, joinOutgoingFlows(eventAndResponseSource, errorFlow, messageFlow));
     }
 
+    private Flow<Either<String, Adaptable>, Message, NotUsed> toTextMessages(final HttpRequest request) {
+        return Flow.<Either<String, Adaptable>>create()
+                .map(textOrAdaptable -> textOrAdaptable.isLeft()
+                        ? textOrAdaptable.left().get()
+                        : ProtocolFactory.wrapAsJsonifiableAdaptable(textOrAdaptable.right().get()).toJsonString())
+                .via(outgoingMessageSniffer.toAsyncFlow(request))
+                .map(TextMessage::create);
+    }
+
+    private Flow<Either<String, Adaptable>, Message, NotUsed> toCborOrTextMessages(final HttpRequest request) {
+        return Flow.<Either<String, Adaptable>>create()
+                .via(sniffTexts(outgoingMessageSniffer.toAsyncFlow(request)))
+                .map(textOrAdaptable -> textOrAdaptable.isLeft()
+                        ? TextMessage.create(textOrAdaptable.left().get())
+                        : BinaryMessage.create(
+                                ByteString.fromArrayUnsafe(CborAdaptables.toCbor(textOrAdaptable.right().get()))));
+    }
+
     private static Set<AcknowledgementLabel> readDeclaredAcknowledgementLabels(final DittoHeaders dittoHeaders) {
         return Optional.ofNullable(dittoHeaders.get(DittoHeaderDefinition.DECLARED_ACKS.getKey()))
                 .map(JsonFactory::readFrom)
@@ -702,6 +852,19 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 (s, unused) -> ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(s)));
     }
 
+    private static JsonifiableAdaptable getJsonifiableAdaptableFromCborOrThrow(final ByteString cbor,
+            final DittoHeaders initialInternalHeaders) {
+
+        if (cbor.isEmpty()) {
+            final RuntimeException cause = new IllegalArgumentException("Empty CBOR.");
+            throw new DittoJsonException(cause, initialInternalHeaders);
+        }
+
+        return wrapJsonRuntimeException(cbor.asByteBuffer(),
+                DittoHeaders.empty(), // unused
+                (byteBuffer, unused) -> CborAdaptables.fromCbor(byteBuffer));
+    }
+
     private static Signal<?> buildSignal(final CharSequence connectionCorrelationId,
             final DittoHeaders initialInternalHeaders,
             final Adaptable adaptable,
@@ -750,7 +913,10 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return dittoHeaders.isResponseRequired();
     }
 
-    private Function<SessionedJsonifiable, CompletionStage<Collection<String>>> postprocess(
+    /*
+     * Yields the text of stream control messages as left and Ditto Protocol messages as right.
+     */
+    private Function<SessionedJsonifiable, CompletionStage<Collection<Either<String, Adaptable>>>> postprocess(
             final ProtocolAdapter adapter, @Nullable final SignalEnrichmentFacade facade,
             final ThreadSafeDittoLogger logger) {
 
@@ -758,15 +924,15 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable = sessionedJsonifiable.getJsonifiable();
             if (jsonifiable instanceof StreamingAck) {
                 return CompletableFuture.completedFuture(
-                        Collections.singletonList(streamingAckToString((StreamingAck) jsonifiable))
+                        Collections.singletonList(Left.apply(streamingAckToString((StreamingAck) jsonifiable)))
                 );
             }
 
             final Adaptable adaptable = jsonifiableToAdaptable(jsonifiable, adapter);
             final CompletionStage<JsonObject> extraFuture = sessionedJsonifiable.retrieveExtraFields(facade);
-            return extraFuture.<Collection<String>>thenApply(extra -> {
+            return extraFuture.<Collection<Either<String, Adaptable>>>thenApply(extra -> {
                 if (matchesFilter(sessionedJsonifiable, extra)) {
-                    return Collections.singletonList(toJsonStringWithExtra(adaptable, extra));
+                    return Collections.singletonList(Right.apply(withExtra(adaptable, extra)));
                 }
                 issuePotentialWeakAcknowledgements(sessionedJsonifiable);
                 sessionedJsonifiable.finishSpan();
@@ -804,7 +970,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return Acknowledgement.weak(label, entityId, dittoHeaders, payload);
     }
 
-    private static Collection<String> reportEnrichmentError(final Throwable error,
+    private static Collection<Either<String, Adaptable>> reportEnrichmentError(final Throwable error,
             final ProtocolAdapter adapter,
             final Adaptable adaptable,
             final ThreadSafeDittoLogger logger) {
@@ -817,18 +983,16 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         logger.withCorrelationId(adaptable.getDittoHeaders())
                 .error("Signal enrichment failed due to: {}", error.getMessage(), errorToReport);
 
-        final JsonifiableAdaptable errorAdaptable =
-                ProtocolFactory.wrapAsJsonifiableAdaptable(adapter.toAdaptable(ThingErrorResponse.of(
-                        ThingId.of(adaptable.getTopicPath().getNamespace(), adaptable.getTopicPath().getEntityName()),
-                        errorToReport,
-                        adaptable.getDittoHeaders()
-                )));
-        return Collections.singletonList(errorAdaptable.toJsonString());
+        final Adaptable errorAdaptable = adapter.toAdaptable(ThingErrorResponse.of(
+                ThingId.of(adaptable.getTopicPath().getNamespace(), adaptable.getTopicPath().getEntityName()),
+                errorToReport,
+                adaptable.getDittoHeaders()
+        ));
+        return Collections.singletonList(Right.apply(errorAdaptable));
     }
 
-    private static String toJsonStringWithExtra(final Adaptable adaptable, final JsonObject extra) {
-        final Adaptable enrichedAdaptable = extra.isEmpty() ? adaptable : ProtocolFactory.setExtra(adaptable, extra);
-        return ProtocolFactory.wrapAsJsonifiableAdaptable(enrichedAdaptable).toJsonString();
+    private static Adaptable withExtra(final Adaptable adaptable, final JsonObject extra) {
+        return extra.isEmpty() ? adaptable : ProtocolFactory.setExtra(adaptable, extra);
     }
 
     /**
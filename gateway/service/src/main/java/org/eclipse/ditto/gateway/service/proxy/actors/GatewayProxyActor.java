@@ -27,6 +27,7 @@ import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 import org.eclipse.ditto.internal.utils.pubsub.StreamingType;
 import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.thingsearch.api.ThingsSearchConstants;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 
 import com.typesafe.config.Config;
@@ -131,7 +132,12 @@ public final class GatewayProxyActor extends AbstractActor {
                                     command.getType());
                     devOpsCommandsActor.forward(command, getContext());
                 })
-                .match(QueryThings.class, qt -> {
+                .match(QueryThings.class, queryThings -> {
+                    // only the search service may tell that results are complete and need no lookup
+                    final QueryThings qt = queryThings.setDittoHeaders(queryThings.getDittoHeaders()
+                            .toBuilder()
+                            .removeHeader(ThingsSearchConstants.INDEX_REVISIONS_HEADER)
+                            .build());
                     final ActorRef responseActor = getContext().actorOf(
                             QueryThingsPerRequestActor.props(qt, edgeCommandForwarder, getSender(), pubSubMediator,
                                     httpConfig)
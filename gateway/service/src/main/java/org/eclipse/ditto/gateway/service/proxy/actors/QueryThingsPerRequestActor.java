@@ -20,6 +20,7 @@ import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.internal.utils.pekko.actors.AbstractActorWithShutdownBehavior;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
@@ -32,8 +33,10 @@ import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingsResponse;
+import org.eclipse.ditto.thingsearch.api.ThingsSearchConstants;
 import org.eclipse.ditto.thingsearch.api.events.ThingsOutOfSync;
 import org.eclipse.ditto.thingsearch.model.SearchModelFactory;
 import org.eclipse.ditto.thingsearch.model.SearchResult;
@@ -144,10 +147,12 @@ final class QueryThingsPerRequestActor extends AbstractActorWithShutdownBehavior
                             .map(ThingId::of)
                             .toList();
 
-                    if (queryThingsResponseThingIds.isEmpty() || queryThingsOnlyContainsThingIdSelector()) {
+                    if (queryThingsResponseThingIds.isEmpty() || queryThingsOnlyContainsThingIdSelector() ||
+                            isServedFromSearchIndex(qtr)) {
                         // shortcuts: we don't have to look up the things
                         // - for no search results
                         // - if only the "thingId" was selected in the QueryThings commands
+                        // - if the search service already answered with the things stored in the search index
                         originatingSender.tell(qtr, getSelf());
                         stopMyself();
                     } else {
@@ -210,6 +215,17 @@ final class QueryThingsPerRequestActor extends AbstractActorWithShutdownBehavior
                 .equals(Set.of(JsonPointer.of(Thing.JsonFields.ID.getPointer())));
     }
 
+    /**
+     * Only trusts the revisions header of the response if the query requested to be served from the search index and
+     * did not already contain the header itself, as headers of the query are passed back in the response.
+     */
+    private boolean isServedFromSearchIndex(final QueryThingsResponse qtr) {
+        final DittoHeaders queryHeaders = queryThings.getDittoHeaders();
+        return Boolean.parseBoolean(queryHeaders.get(ThingsSearchConstants.INDEX_SERVED_HEADER)) &&
+                !queryHeaders.containsKey(ThingsSearchConstants.INDEX_REVISIONS_HEADER) &&
+                qtr.getDittoHeaders().containsKey(ThingsSearchConstants.INDEX_REVISIONS_HEADER);
+    }
+
     /**
      * Extracts selected fields from {@link #queryThings} and ensures that the Thing ID is one of those fields.
      * If no fields are selected, this means that all fields should be returned.
@@ -234,8 +250,9 @@ final class QueryThingsPerRequestActor extends AbstractActorWithShutdownBehavior
     private JsonArray getEntitiesWithSelectedFields(final JsonArray retrievedEntities) {
         return queryThings.getFields()
                 .filter(fields -> !fields.getPointers().contains(Thing.JsonFields.ID.getPointer()))
-                .map(fields -> retrievedEntities.stream()
-                        .map(jsonValue -> jsonValue.asObject().get(fields))
+                .map(ThingsModelFactory::getFeatureIdWildcardProjection)
+                .map(projection -> retrievedEntities.stream()
+                        .map(jsonValue -> projection.apply(jsonValue.asObject()))
                         .collect(JsonCollectors.valuesToArray())
                 )
                 .orElse(retrievedEntities);
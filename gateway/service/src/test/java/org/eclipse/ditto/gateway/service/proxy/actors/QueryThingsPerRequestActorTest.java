@@ -30,6 +30,7 @@ import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingsResponse;
+import org.eclipse.ditto.thingsearch.api.ThingsSearchConstants;
 import org.eclipse.ditto.thingsearch.api.events.ThingsOutOfSync;
 import org.eclipse.ditto.thingsearch.model.SearchResult;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
@@ -133,6 +134,43 @@ public final class QueryThingsPerRequestActorTest {
         originalSenderProbe.expectMsg(queryThingsResponse);
     }
 
+    @Test
+    public void sendNoRetrieveThingsForResultsServedFromSearchIndex() {
+        final ActorRef underTest = createQueryThingsPerRequestActor(QueryThings.of(dittoHeaders.toBuilder()
+                .putHeader(ThingsSearchConstants.INDEX_SERVED_HEADER, "true")
+                .build()));
+        final ThingId thingId1 = ThingId.of("thing:1");
+        final ThingId thingId2 = ThingId.of("thing:2");
+        final SearchResult searchResult = forIdItems(thingId1, thingId2);
+        final QueryThingsResponse queryThingsResponse = QueryThingsResponse.of(searchResult,
+                responseHeaders.toBuilder().putHeader(ThingsSearchConstants.INDEX_REVISIONS_HEADER, "[3,4]").build());
+
+        // WHEN: QueryThingsResponse contains the things stored in the search index
+        underTest.tell(queryThingsResponse, ActorRef.noSender());
+
+        // THEN: aggregator is NOT asked to retrieve things
+        aggregatorProbe.expectNoMessage();
+        originalSenderProbe.expectMsg(queryThingsResponse);
+    }
+
+    @Test
+    public void sendRetrieveThingsForRevisionsHeaderOfQueryNotServedFromSearchIndex() {
+        final ActorRef underTest = createQueryThingsPerRequestActor(QueryThings.of(dittoHeaders));
+        final ThingId thingId1 = ThingId.of("thing:1");
+        final ThingId thingId2 = ThingId.of("thing:2");
+        final SearchResult searchResult = forIdItems(thingId1, thingId2);
+        final QueryThingsResponse queryThingsResponse = QueryThingsResponse.of(searchResult,
+                responseHeaders.toBuilder().putHeader(ThingsSearchConstants.INDEX_REVISIONS_HEADER, "[3,4]").build());
+
+        // WHEN: QueryThingsResponse passes back a revisions header although the query was not served from the index
+        underTest.tell(queryThingsResponse, ActorRef.noSender());
+
+        // THEN: aggregator is asked to retrieve things
+        aggregatorProbe.expectMsg(RetrieveThings.getBuilder(thingId1, thingId2)
+                .dittoHeaders(dittoHeaders)
+                .build());
+    }
+
     @Test
     public void alwaysIncludeThingIdsInInternalRoundTripOnly() {
         // GIVEN: QueryThings selected a field other than thingId
@@ -12,18 +12,13 @@
  */
 package org.eclipse.ditto.internal.models.signalenrichment;
 
-import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonFieldSelector;
-import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.json.JsonValue;
-import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.ThingsModelFactory;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
@@ -51,14 +46,7 @@ public interface CachingSignalEnrichmentFacade extends SignalEnrichmentFacade {
         if (fieldSelector == null) {
             result = jsonObject;
         } else {
-            final Collection<JsonKey> featureIds = jsonObject.getValue(Thing.JsonFields.FEATURES.getPointer())
-                    .filter(JsonValue::isObject)
-                    .map(JsonValue::asObject)
-                    .map(JsonObject::getKeys)
-                    .orElse(Collections.emptyList());
-            final JsonFieldSelector expandedSelector =
-                    ThingsModelFactory.expandFeatureIdWildcards(featureIds, fieldSelector);
-            result = jsonObject.get(expandedSelector);
+            result = ThingsModelFactory.getFeatureIdWildcardProjection(fieldSelector).apply(jsonObject);
         }
 
         return result;
@@ -24,6 +24,8 @@ import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Weigher;
 
 /**
  * Creates a cache configured by a {@link org.eclipse.ditto.internal.utils.cache.config.CacheConfig}.
@@ -97,12 +99,56 @@ public final class CacheFactory {
         return CaffeineCache.of(caffeine(cacheConfig, executor, expiry), cacheLoader, cacheName);
     }
 
+    /**
+     * Creates a cache which is bounded by the total weight of its entries instead of by their number.
+     * The maximum size of the cache config is ignored; the estimated size reported by the cache's metrics is its
+     * total weight.
+     *
+     * @param cacheLoader the cache loader.
+     * @param weigher determines the weight of each entry.
+     * @param maximumWeight the maximum total weight of all entries of the cache.
+     * @param evictionListener is notified about each entry which was evicted due to the size or the expiration
+     * policy of the cache, but not about explicitly invalidated or replaced entries.
+     * @param cacheConfig the cache's configuration.
+     * @param cacheName the name of the cache or {@code null} if metrics should be disabled. Used as metric label.
+     * @param executor the executor to use in the cache.
+     * @param <K> the type of the cache keys.
+     * @param <V> the type of the cache values.
+     * @return the created cache.
+     * @throws NullPointerException if any argument but {@code cacheName} is {@code null}.
+     * @since 3.6.0
+     */
+    public static <K, V> Cache<K, V> createCache(final AsyncCacheLoader<K, V> cacheLoader,
+            final Weigher<? super K, ? super V> weigher,
+            final long maximumWeight,
+            final RemovalListener<? super K, ? super V> evictionListener,
+            final CacheConfig cacheConfig,
+            @Nullable final String cacheName,
+            final Executor executor) {
+
+        checkNotNull(cacheLoader, "cacheLoader");
+        checkNotNull(weigher, "weigher");
+        checkNotNull(evictionListener, "evictionListener");
+        final Caffeine<K, V> caffeine = unboundedCaffeine(cacheConfig, executor)
+                .maximumWeight(maximumWeight)
+                .weigher(weigher)
+                .evictionListener(evictionListener);
+        return CaffeineCache.of(caffeine, cacheLoader, cacheName);
+    }
+
     private static Caffeine<Object, Object> caffeine(final CacheConfig cacheConfig, final Executor executor) {
+        final Caffeine<Object, Object> caffeine = unboundedCaffeine(cacheConfig, executor);
+        caffeine.maximumSize(cacheConfig.getMaximumSize());
+        return caffeine;
+    }
+
+    private static Caffeine<Object, Object> unboundedCaffeine(final CacheConfig cacheConfig,
+            final Executor executor) {
+
         checkNotNull(cacheConfig, "CacheConfig");
         checkNotNull(executor, "Executor");
 
         final Caffeine<Object, Object> caffeine = Caffeine.newBuilder();
-        caffeine.maximumSize(cacheConfig.getMaximumSize());
 
         if (!cacheConfig.getExpireAfterCreate().isZero()) {
             // special case "expire-after-create" needs the following API invocation of Caffeine:
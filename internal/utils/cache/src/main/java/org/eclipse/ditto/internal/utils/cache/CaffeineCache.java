@@ -82,7 +82,10 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
             return 0L;
         }
 
-        return synchronousCacheView.estimatedSize();
+        return synchronousCacheView.policy().eviction()
+                .filter(Policy.Eviction::isWeighted)
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElseGet(synchronousCacheView::estimatedSize);
     }
 
     @SuppressWarnings({"squid:S2583", "ConstantConditions"})
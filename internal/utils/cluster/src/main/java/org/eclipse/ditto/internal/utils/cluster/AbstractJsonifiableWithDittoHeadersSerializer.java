@@ -21,6 +21,7 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -44,6 +45,7 @@ import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
 import org.eclipse.ditto.internal.utils.tracing.span.SpanOperationName;
 import org.eclipse.ditto.internal.utils.tracing.span.StartedSpan;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
@@ -148,18 +150,21 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         if (object instanceof Jsonifiable<? extends JsonValue> jsonifiable) {
             final var dittoHeaders = getDittoHeadersOrEmpty(object);
             final var startedSpan = startTracingSpanForSerialization(dittoHeaders, object.getClass());
-            final var jsonObject = JsonObject.newBuilder()
-                    .set(JSON_DITTO_HEADERS, getDittoHeadersWithSpanContextAsJson(dittoHeaders, startedSpan))
-                    .set(JSON_PAYLOAD, getAsJsonPayload(jsonifiable, dittoHeaders))
-                    .build();
+            final List<JsonField> envelopeFields = List.of(
+                    newEnvelopeField(JSON_DITTO_HEADERS,
+                            getDittoHeadersWithSpanContextAsJson(dittoHeaders, startedSpan)),
+                    newEnvelopeField(JSON_PAYLOAD, getAsJsonPayload(jsonifiable, dittoHeaders))
+            );
             try {
-                serializeIntoByteBuffer(jsonObject, buf);
-                LOG.trace("toBinary jsonStr about to send 'out': {}", jsonObject);
+                serializeIntoByteBuffer(envelopeFields, buf);
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("toBinary jsonStr about to send 'out': {}", JsonFactory.newObject(envelopeFields));
+                }
                 outCounter.increment();
             } catch (final BufferOverflowException e) {
                 final var errorMessage = MessageFormat.format(
                         "Could not put bytes of JSON string <{0}> into ByteBuffer due to BufferOverflow",
-                        jsonObject
+                        JsonFactory.newObject(envelopeFields)
                 );
                 LOG.error(errorMessage, e);
                 startedSpan.tagAsFailed(e);
@@ -168,7 +173,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                 final var errorMessage = MessageFormat.format(
                         "Serialization failed with {} on Jsonifiable with string representation <{}>",
                         e.getClass().getName(),
-                        jsonObject
+                        JsonFactory.newObject(envelopeFields)
                 );
                 LOG.warn(errorMessage, e);
                 startedSpan.tagAsFailed(e);
@@ -185,6 +190,11 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         }
     }
 
+    private static JsonField newEnvelopeField(final JsonFieldDefinition<?> fieldDefinition, final JsonValue value) {
+        final var key = fieldDefinition.getPointer().getRoot().orElseThrow();
+        return JsonFactory.newField(key, value, fieldDefinition);
+    }
+
     private static StartedSpan startTracingSpanForSerialization(
             final DittoHeaders dittoHeaders,
             final Class<?> typeToSerialize
@@ -232,6 +242,22 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
      */
     protected abstract void serializeIntoByteBuffer(JsonObject jsonObject, ByteBuffer byteBuffer) throws IOException;
 
+    /**
+     * Serializes the JSON object consisting of the passed {@code envelopeFields} into the passed {@code byteBuffer}.
+     * Creates the JsonObject and delegates to {@link #serializeIntoByteBuffer(JsonObject, ByteBuffer)} by default;
+     * serializers which are able to write the fields without creating the JsonObject should override this method.
+     *
+     * @param envelopeFields the fields of the JSON object to serialize, i.e. the DittoHeaders and the payload.
+     * @param byteBuffer the ByteBuffer to serialize into.
+     * @throws IOException in case writing to the ByteBuffer fails.
+     * @since 3.6.0
+     */
+    protected void serializeIntoByteBuffer(final List<JsonField> envelopeFields, final ByteBuffer byteBuffer)
+            throws IOException {
+
+        serializeIntoByteBuffer(JsonFactory.newObject(envelopeFields), byteBuffer);
+    }
+
     @Override
     public byte[] toBinary(final Object object) {
         final var byteBuffer = byteBufferPool.acquire();
@@ -14,8 +14,11 @@ package org.eclipse.ditto.internal.utils.cluster;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.List;
 
 import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 
@@ -27,6 +30,7 @@ import org.apache.pekko.actor.ExtendedActorSystem;
 public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDittoHeadersSerializer {
 
     private static final int UNIQUE_IDENTIFIER = 656329405;
+    private static final int CBOR_MAJOR_TYPE_MAP = 5;
 
 
     private final CborFactory cborFactory;
@@ -47,9 +51,29 @@ public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDitt
         cborFactory.writeToByteBuffer(jsonObject, byteBuffer);
     }
 
+    @Override
+    protected void serializeIntoByteBuffer(final List<JsonField> envelopeFields, final ByteBuffer byteBuffer)
+            throws IOException {
+
+        // the envelope is written as CBOR map directly into the buffer, thus the CBOR representations of DittoHeaders
+        // and payload are copied into the buffer once instead of into the representation of an envelope JsonObject
+        cborFactory.writeFieldsToByteBuffer(envelopeFields, byteBuffer);
+    }
+
     @Override
     protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
+        if (isCborMap(byteBuffer)) {
+            // the fields are only decoded as far as they are accessed; payload which is only passed through is
+            // serialized again from its CBOR representation without being decoded at all
+            final byte[] bytes = new byte[byteBuffer.remaining()];
+            byteBuffer.duplicate().get(bytes);
+            return JsonFactory.createLazyJsonObject(bytes);
+        }
         return cborFactory.readFrom(byteBuffer);
     }
 
+    private static boolean isCborMap(final ByteBuffer byteBuffer) {
+        return byteBuffer.hasRemaining() && (byteBuffer.get(byteBuffer.position()) & 0xFF) >>> 5 == CBOR_MAJOR_TYPE_MAP;
+    }
+
 }
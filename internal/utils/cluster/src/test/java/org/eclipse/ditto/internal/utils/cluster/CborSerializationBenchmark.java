@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cluster;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the former way of {@link CborJsonifiableSerializer} of writing the serialization envelope of DittoHeaders
+ * and payload to a direct remoting buffer with writing its fields directly into the buffer, as well as reading the
+ * envelope eagerly through an InputStream with reading it lazily.
+ * <p>
+ * Both ways of writing produce the same bytes.
+ * Build with {@code mvn clean package -Pbuild-benchmark-assembly} and run with
+ * {@code java -jar target/ditto-internal-utils-cluster-*-benchmark.jar CborSerializationBenchmark -prof gc};
+ * {@code gc.alloc.rate.norm} is the number of allocated bytes per operation.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CborSerializationBenchmark {
+
+    @Param({"modifyAttribute", "thingWith100Features"})
+    public String payload;
+
+    private CborFactory cborFactory;
+    private JsonObject dittoHeadersJson;
+    private JsonObject payloadJson;
+    private ByteBuffer remotingBuffer;
+    private ByteBuffer serializedEnvelope;
+
+    @Setup
+    public void setup() throws IOException {
+        cborFactory = CborFactoryLoader.getInstance().getCborFactoryOrThrow();
+        dittoHeadersJson = DittoHeaders.newBuilder()
+                .randomCorrelationId()
+                .putHeader("ditto-originator", "integration:ditto")
+                .responseRequired(true)
+                .build()
+                .toJson();
+        payloadJson = "modifyAttribute".equals(payload) ? createModifyAttribute() : createThing(100);
+        remotingBuffer = ByteBuffer.allocateDirect(256 * 1024);
+
+        cborFactory.writeFieldsToByteBuffer(getEnvelopeFields(), remotingBuffer);
+        remotingBuffer.flip();
+        serializedEnvelope = ByteBuffer.allocateDirect(remotingBuffer.remaining());
+        serializedEnvelope.put(remotingBuffer).flip();
+        remotingBuffer.clear();
+    }
+
+    @Benchmark
+    public ByteBuffer writeEnvelopeObject() throws IOException {
+        // the way of serializing before writing the envelope fields directly was introduced
+        final JsonObject envelope = JsonObject.newBuilder()
+                .set("dittoHeaders", dittoHeadersJson)
+                .set("payload", payloadJson)
+                .build();
+        remotingBuffer.clear();
+        cborFactory.writeToByteBuffer(envelope, remotingBuffer);
+        return remotingBuffer;
+    }
+
+    @Benchmark
+    public ByteBuffer writeEnvelopeFields() throws IOException {
+        remotingBuffer.clear();
+        cborFactory.writeFieldsToByteBuffer(getEnvelopeFields(), remotingBuffer);
+        return remotingBuffer;
+    }
+
+    @Benchmark
+    public JsonValue readEnvelopeEagerly() {
+        final JsonObject envelope = cborFactory.readFrom(serializedEnvelope.duplicate()).asObject();
+        envelope.getValue("dittoHeaders");
+        return envelope.getValue("payload").orElseThrow();
+    }
+
+    @Benchmark
+    public JsonValue readEnvelopeLazily() {
+        final ByteBuffer byteBuffer = serializedEnvelope.duplicate();
+        final byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.get(bytes);
+        final JsonObject envelope = JsonFactory.createLazyJsonObject(bytes);
+        envelope.getValue("dittoHeaders");
+        return envelope.getValue("payload").orElseThrow();
+    }
+
+    private List<JsonField> getEnvelopeFields() {
+        return List.of(JsonField.newInstance("dittoHeaders", dittoHeadersJson),
+                JsonField.newInstance("payload", payloadJson));
+    }
+
+    private static JsonObject createModifyAttribute() {
+        return JsonObject.newBuilder()
+                .set("type", "things.commands:modifyAttribute")
+                .set("thingId", "org.eclipse.ditto:thing-1")
+                .set("attributePointer", "/location")
+                .set("attributeValue", JsonObject.newBuilder()
+                        .set("latitude", 47.68)
+                        .set("longitude", 9.38)
+                        .build())
+                .build();
+    }
+
+    private static JsonObject createThing(final int numberOfFeatures) {
+        final JsonObjectBuilder featuresBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < numberOfFeatures; i++) {
+            featuresBuilder.set("feature-" + i, JsonObject.newBuilder()
+                    .set("definition", JsonFactory.newArrayBuilder().add("org.eclipse.ditto:sensor:1.0.0").build())
+                    .set("properties", JsonObject.newBuilder()
+                            .set("value", i * 1.5)
+                            .set("unit", "°C")
+                            .set("active", i % 2 == 0)
+                            .build())
+                    .build());
+        }
+        return JsonObject.newBuilder()
+                .set("type", "things.responses:retrieveThing")
+                .set("status", 200)
+                .set("thing", JsonObject.newBuilder()
+                        .set("thingId", "org.eclipse.ditto:thing-1")
+                        .set("policyId", "org.eclipse.ditto:policy-1")
+                        .set("attributes", JsonObject.newBuilder().set("manufacturer", "ACME").build())
+                        .set("features", featuresBuilder.build())
+                        .build())
+                .build();
+    }
+
+}
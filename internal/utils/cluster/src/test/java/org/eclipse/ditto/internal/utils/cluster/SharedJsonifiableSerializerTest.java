@@ -14,6 +14,8 @@ package org.eclipse.ditto.internal.utils.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.NotSerializableException;
+import java.util.Arrays;
 import java.util.Map;
 
 import org.assertj.core.api.AutoCloseableSoftAssertions;
@@ -135,6 +137,17 @@ public final class SharedJsonifiableSerializerTest {
             assertThat(deserialized).isEqualTo(createThing);
         }
 
+        @Test
+        public void truncatedThingCommandFailsToDeserialize() {
+            final CreateThing createThing = CreateThing.of(thing, null, DITTO_HEADERS);
+            final byte[] serialized = underTest.toBinary(createThing);
+
+            final Object deserialized = underTest.fromBinary(Arrays.copyOf(serialized, serialized.length - 1),
+                    underTest.manifest(createThing));
+
+            assertThat(deserialized).isInstanceOf(NotSerializableException.class);
+        }
+
         @Test
         public void thingCommandResponseSerializationWorksAsExpected() {
             final CreateThingResponse createThingResponse = CreateThingResponse.of(thing, DITTO_HEADERS);
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.protocol;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.JsonifiableAdaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+
+/**
+ * Reads and writes Ditto Protocol messages in their binary CBOR representation.
+ * <p>
+ * The CBOR representation has exactly the structure of the JSON representation of a {@link JsonifiableAdaptable}.
+ * Messages are converted from and to CBOR bytes directly without rendering or parsing a JSON string in between.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+@Immutable
+public final class CborAdaptables {
+
+    private static final CborFactory CBOR_FACTORY = new JacksonCborFactory();
+
+    private CborAdaptables() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Reads a Ditto Protocol message from the given CBOR bytes.
+     *
+     * @param bytes the CBOR representation of the message.
+     * @return the message.
+     * @throws NullPointerException if {@code bytes} is {@code null}.
+     * @throws JsonParseException if {@code bytes} are no CBOR representation of a JSON object.
+     * @throws org.eclipse.ditto.json.JsonRuntimeException if the read JSON object is no Ditto Protocol message.
+     */
+    public static JsonifiableAdaptable fromCbor(final byte[] bytes) {
+        checkNotNull(bytes, "bytes");
+        return toJsonifiableAdaptable(CBOR_FACTORY.readFrom(bytes));
+    }
+
+    /**
+     * Reads a Ditto Protocol message from the remaining CBOR bytes of the given buffer.
+     *
+     * @param byteBuffer the CBOR representation of the message.
+     * @return the message.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws JsonParseException if {@code byteBuffer} contains no CBOR representation of a JSON object.
+     * @throws org.eclipse.ditto.json.JsonRuntimeException if the read JSON object is no Ditto Protocol message.
+     */
+    public static JsonifiableAdaptable fromCbor(final ByteBuffer byteBuffer) {
+        checkNotNull(byteBuffer, "byteBuffer");
+        return toJsonifiableAdaptable(CBOR_FACTORY.readFrom(byteBuffer));
+    }
+
+    /**
+     * Writes the given Ditto Protocol message as CBOR bytes.
+     *
+     * @param adaptable the message to write.
+     * @return the CBOR representation of the message.
+     * @throws NullPointerException if {@code adaptable} is {@code null}.
+     */
+    public static byte[] toCbor(final Adaptable adaptable) {
+        checkNotNull(adaptable, "adaptable");
+        final JsonifiableAdaptable jsonifiableAdaptable = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable);
+        try {
+            return CBOR_FACTORY.toByteArray(jsonifiableAdaptable.toJson());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write Ditto Protocol message as CBOR.", e);
+        }
+    }
+
+    private static JsonifiableAdaptable toJsonifiableAdaptable(final JsonValue jsonValue) {
+        if (!jsonValue.isObject()) {
+            throw JsonParseException.newBuilder()
+                    .message("The CBOR of a Ditto Protocol message must represent a JSON object.")
+                    .build();
+        }
+        return ProtocolFactory.jsonifiableAdaptableFromJson(jsonValue.asObject());
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.eclipse.ditto.protocol.JsonifiableAdaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CborAdaptables}.
+ */
+public final class CborAdaptablesTest {
+
+    private static final JsonifiableAdaptable ADAPTABLE = ProtocolFactory.wrapAsJsonifiableAdaptable(
+            ProtocolFactory.newAdaptableBuilder(ProtocolFactory.newTopicPathBuilder(ThingId.of("org.eclipse.ditto:thing"))
+                            .things()
+                            .twin()
+                            .commands()
+                            .modify()
+                            .build())
+                    .withHeaders(DittoHeaders.newBuilder()
+                            .correlationId("cbor-correlation-id")
+                            .responseRequired(false)
+                            .build())
+                    .withPayload(ProtocolFactory.newPayloadBuilder(JsonPointer.of("/features/lamp/properties"))
+                            .withValue(JsonObject.newBuilder()
+                                    .set("on", true)
+                                    .set("brightness", 0.75)
+                                    .set("color", JsonObject.newBuilder().set("r", 255).set("g", 0).build())
+                                    .set("history", JsonArray.of(1, 2, 3))
+                                    .build())
+                            .build())
+                    .build());
+
+    @Test
+    public void writtenMessageIsReadAsEqualMessage() {
+        final byte[] cbor = CborAdaptables.toCbor(ADAPTABLE);
+
+        assertThat(CborAdaptables.fromCbor(cbor).toJson()).isEqualTo(ADAPTABLE.toJson());
+        assertThat(CborAdaptables.fromCbor(ByteBuffer.wrap(cbor)).toJson()).isEqualTo(ADAPTABLE.toJson());
+    }
+
+    @Test
+    public void writtenMessageIsCborOfJsonRepresentation() throws IOException {
+        assertThat(CborAdaptables.toCbor(ADAPTABLE))
+                .isEqualTo(new JacksonCborFactory().toByteArray(ADAPTABLE.toJson()));
+    }
+
+    @Test
+    public void readCborOfNonObjectFails() throws IOException {
+        final byte[] cbor = new JacksonCborFactory().toByteArray(JsonValue.of("no object"));
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> CborAdaptables.fromCbor(cbor));
+    }
+
+    @Test
+    public void readInvalidCborFails() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> CborAdaptables.fromCbor(new byte[]{(byte) 0xbf, 0x61}));
+    }
+
+}
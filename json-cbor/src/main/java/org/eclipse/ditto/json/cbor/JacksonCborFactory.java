@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.text.MessageFormat;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -74,19 +75,24 @@ public final class JacksonCborFactory implements CborFactory {
 
     @Override
     public JsonValue readFrom(final byte[] bytes, final int offset, final int length) {
-        // ensure that buffers position is zero so that offsets determined by CBORParser map directly to positions in
-        // this buffer.
-        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, offset, length).slice();
+        // offsets determined by CBORParser are indices of the whole array and not relative to the passed offset, thus
+        // they map directly to positions in a buffer wrapping the whole array.
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
         try {
             final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(bytes, offset, length);
             return parseValue(parser, byteBuffer);
         } catch (final IOException | IllegalArgumentException e) {
-            throw createJsonParseException(byteBuffer, e);
+            throw createJsonParseException(ByteBuffer.wrap(bytes, offset, length).slice(), e);
         }
     }
 
     @Override
     public JsonValue readFrom(final ByteBuffer byteBuffer) {
+        if (byteBuffer.hasArray()) {
+            // parse the backing array in place instead of streaming it through the parser's input buffer
+            return readFrom(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(),
+                    byteBuffer.remaining());
+        }
         // ensure that buffers position is zero so that offsets determined by CBORParser map directly to positions in
         // this buffer.
         final ByteBuffer slicedByteBuffer = byteBuffer.slice();
@@ -116,6 +122,20 @@ public final class JacksonCborFactory implements CborFactory {
         writeToOutputStream(jsonValue, byteBufferOutputStream);
     }
 
+    @Override
+    public void writeFieldsToByteBuffer(final Collection<JsonField> jsonFields, final ByteBuffer byteBuffer)
+            throws IOException {
+
+        try (final JacksonSerializationContext serializationContext = new JacksonSerializationContext(
+                JACKSON_CBOR_FACTORY, byteBuffer)) {
+            writeStartObjectWithLength(serializationContext, jsonFields.size());
+            for (final JsonField jsonField : jsonFields) {
+                jsonField.writeKeyAndValue(serializationContext);
+            }
+            serializationContext.getJacksonGenerator().writeEndObject();
+        }
+    }
+
     @Override
     public byte[] createCborRepresentation(final Map<String, JsonField> jsonFieldMap, final int guessedSerializedSize)
             throws IOException {
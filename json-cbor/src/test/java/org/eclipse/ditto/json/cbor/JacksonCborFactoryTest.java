@@ -18,9 +18,11 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.assertj.core.api.Assertions;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.junit.Before;
 import org.junit.Test;
@@ -113,4 +115,32 @@ public final class JacksonCborFactoryTest {
         allocate.flip();
         assertThat(BinaryToHexConverter.toHexString(allocate)).isEqualTo(CborTestUtils.serializeToHexString(testValue));
     }
+
+    @Test
+    public void readFromSlicedHeapByteBuffer() {
+        final int paddingFront = 20;
+        final byte[] paddedBytes = new byte[paddingFront + testBytes.length + 7];
+        System.arraycopy(testBytes, 0, paddedBytes, paddingFront, testBytes.length);
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(paddedBytes, paddingFront - 5, testBytes.length + 5).slice();
+        byteBuffer.position(5);
+
+        final JsonValue result = cborFactory.readFrom(byteBuffer);
+
+        assertThat(result).isEqualTo(testValue);
+        assertThat(byteBuffer.position()).isEqualTo(5);
+    }
+
+    @Test
+    public void writeFieldsToByteBufferWritesSameBytesAsObject() throws IOException {
+        final JsonObject jsonObject = JsonObject.newBuilder()
+                .set("dittoHeaders", JsonObject.newBuilder().set("correlation-id", "foo").build())
+                .set("payload", testValue)
+                .build();
+        final ByteBuffer allocate = ByteBuffer.allocate(1024);
+
+        cborFactory.writeFieldsToByteBuffer(jsonObject.stream().collect(Collectors.toList()), allocate);
+        allocate.flip();
+
+        assertThat(BinaryToHexConverter.toHexString(allocate)).isEqualTo(CborTestUtils.serializeToHexString(jsonObject));
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.cbor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Tests JSON objects which are created with {@link JsonFactory#createLazyJsonObject(byte[])} from their CBOR
+ * representation.
+ */
+public final class LazyCborJsonObjectTest {
+
+    private static final JsonObject THING = JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"attributes\":{\"location\":{\"latitude\":47.68,\"longitude\":9.38},\"serial\":2147483648}," +
+            "\"features\":{\"temp\":{\"properties\":{\"value\":-12,\"unit\":\"\\u00b0C\"}}," +
+            "\"tags\":[\"a\",true,null,{\"nested\":1}]}," +
+            "\"_revision\":42}");
+
+    private final JacksonCborFactory cborFactory = new JacksonCborFactory();
+
+    @Test
+    public void lazyObjectEqualsEagerlyDecodedObject() throws IOException {
+        final JsonObject underTest = JsonFactory.createLazyJsonObject(cborFactory.toByteArray(THING));
+
+        assertThat(underTest).isEqualTo(THING);
+        assertThat(THING).isEqualTo(underTest);
+        assertThat(underTest.hashCode()).isEqualTo(THING.hashCode());
+        assertThat(underTest.toString()).isEqualTo(THING.toString());
+    }
+
+    @Test
+    public void accessesSingleFieldsWithoutDecodingAll() throws IOException {
+        final JsonObject underTest = JsonFactory.createLazyJsonObject(cborFactory.toByteArray(THING));
+
+        assertThat(underTest.getSize()).isEqualTo(THING.getSize());
+        assertThat(underTest.getKeys()).containsExactlyElementsOf(THING.getKeys());
+        assertThat(underTest.contains("features")).isTrue();
+        assertThat(underTest.contains("policyId")).isFalse();
+        assertThat(underTest.getValue("_revision")).contains(JsonValue.of(42));
+        assertThat(underTest.getValue(JsonPointer.of("/attributes/serial"))).contains(JsonValue.of(2147483648L));
+        assertThat(underTest.getValue(JsonPointer.of("/features/temp/properties/unit")))
+                .contains(JsonValue.of("\u00b0C"));
+        assertThat(underTest.getValue("features/tags")).isEqualTo(THING.getValue("features/tags"));
+        assertThat(underTest.getValue("unknown")).isEmpty();
+    }
+
+    @Test
+    public void modificationsOfLazyObjectWork() throws IOException {
+        final JsonObject underTest = JsonFactory.createLazyJsonObject(cborFactory.toByteArray(THING));
+
+        final JsonObject modified = underTest.setValue(JsonPointer.of("/features/temp/properties/value"), 13)
+                .remove(JsonKey.of("_revision"));
+
+        assertThat(modified).isEqualTo(THING.setValue(JsonPointer.of("/features/temp/properties/value"), 13)
+                .remove(JsonKey.of("_revision")));
+    }
+
+    @Test
+    public void serializesLazyObjectFromItsCborRepresentation() throws IOException {
+        final byte[] cborBytes = cborFactory.toByteArray(THING);
+        final JsonObject underTest = JsonFactory.createLazyJsonObject(cborBytes);
+
+        assertThat(cborFactory.toByteArray(underTest)).isEqualTo(cborBytes);
+        assertThat(cborFactory.readFrom(cborFactory.toByteArray(underTest.getValue("attributes").orElseThrow())))
+                .isEqualTo(THING.getValue("attributes").orElseThrow());
+    }
+
+    @Test
+    public void readsIndefiniteLengthMaps() throws IOException {
+        final byte[] cborBytes = CborTestUtils.serializeWithJackson(JsonFactory.readFrom(THING.toString()));
+
+        final JsonObject underTest = JsonFactory.createLazyJsonObject(cborBytes);
+
+        assertThat(underTest).isEqualTo(THING);
+        assertThat(underTest.getValue("attributes/location/latitude")).contains(JsonValue.of(47.68));
+    }
+
+    @Test
+    public void invalidCborFailsOnAccess() {
+        final JsonObject underTest = JsonFactory.createLazyJsonObject(new byte[]{(byte) 0xA2, 0x61, 0x61});
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> underTest.getValue("a"));
+    }
+
+}
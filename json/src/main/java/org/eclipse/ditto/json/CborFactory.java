@@ -14,6 +14,7 @@ package org.eclipse.ditto.json;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -97,6 +98,24 @@ public interface CborFactory {
      */
     void writeToByteBuffer(JsonValue jsonValue, ByteBuffer byteBuffer) throws IOException;
 
+    /**
+     * Serializes the passed {@code jsonFields} as one CBOR map into the passed {@code byteBuffer} without creating a
+     * {@code JsonObject} of them first.
+     * The written bytes are the same as the ones of {@link #writeToByteBuffer(JsonValue, ByteBuffer)} for a JsonObject
+     * containing the fields; values which already have a CBOR representation are copied into the ByteBuffer as they
+     * are.
+     *
+     * @param jsonFields the fields of the CBOR map to write in their iteration order.
+     * @param byteBuffer the ByteBuffer to serialize into.
+     * @throws IOException in case writing the value to the backing OutputStream causes an IOException.
+     * @since 3.6.0
+     */
+    default void writeFieldsToByteBuffer(final Collection<JsonField> jsonFields, final ByteBuffer byteBuffer)
+            throws IOException {
+
+        writeToByteBuffer(JsonFactory.newObject(jsonFields), byteBuffer);
+    }
+
     /**
      * Creates the CBOR representation of the passed JSON fieldMap and the estimated required serialized size of it.
      *
@@ -16,6 +16,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -122,6 +124,21 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         return new ImmutableJsonArray(SoftReferencedValueList.of(values, stringRepresentation, cborRepresentation));
     }
 
+    /**
+     * Returns a new JSON array which takes ownership of the given values list instead of copying it.
+     * The caller must not modify or expose {@code values} afterwards.
+     *
+     * @param values the values of the new JSON array.
+     * @param stringRepresentation the already known string representation of the returned array or {@code null}.
+     * @return a new JSON array.
+     * @throws NullPointerException if {@code values} is {@code null}.
+     * @since 3.6.0
+     */
+    static ImmutableJsonArray ofOwnedValues(final List<JsonValue> values, @Nullable final String stringRepresentation) {
+        requireNonNull(values, ASSERTION_VALUES_OF_JSON_ARRAY);
+        return new ImmutableJsonArray(SoftReferencedValueList.ofOwned(values, stringRepresentation));
+    }
+
     private static void checkValue(final Object value) {
         requireNonNull(value, "The value to add must not be null!");
     }
@@ -282,6 +299,16 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         return valueList.upperBoundForStringSize();
     }
 
+    @Override
+    public long getUtf8Length() {
+        return valueList.getUtf8Length();
+    }
+
+    @Override
+    public ByteBuffer toUtf8ByteBuffer() {
+        return valueList.asUtf8ByteBuffer();
+    }
+
     @Immutable
     static final class SoftReferencedValueList {
 
@@ -298,12 +325,22 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         private String jsonArrayStringRepresentation;
         private byte[] cborArrayRepresentation;
         private int hashCode;
+        private volatile long utf8Length = -1L;
+        @Nullable private SoftReference<byte[]> utf8RepresentationReference;
         private SoftReference<List<JsonValue>> valuesReference;
 
         private SoftReferencedValueList(final List<JsonValue> jsonValueList,
                 @Nullable final String stringRepresentation,
                 @Nullable final byte[] cborArrayRepresentation) {
-            valuesReference = new SoftReference<>(Collections.unmodifiableList(new ArrayList<>(jsonValueList)));
+            this(jsonValueList, stringRepresentation, cborArrayRepresentation, true);
+        }
+
+        private SoftReferencedValueList(final List<JsonValue> jsonValueList,
+                @Nullable final String stringRepresentation,
+                @Nullable final byte[] cborArrayRepresentation,
+                final boolean copyValues) {
+            final List<JsonValue> values = copyValues ? new ArrayList<>(jsonValueList) : jsonValueList;
+            valuesReference = new SoftReference<>(Collections.unmodifiableList(values));
             jsonArrayStringRepresentation = stringRepresentation;
             this.cborArrayRepresentation = cborArrayRepresentation;
             if (jsonArrayStringRepresentation == null && cborArrayRepresentation == null) {
@@ -335,6 +372,11 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
             return new SoftReferencedValueList(jsonValueList, stringRepresentation, null);
         }
 
+        static SoftReferencedValueList ofOwned(final List<JsonValue> jsonValueList,
+                @Nullable final String stringRepresentation) {
+            return new SoftReferencedValueList(jsonValueList, stringRepresentation, null, false);
+        }
+
         static SoftReferencedValueList of(final List<JsonValue> jsonValueList,
                 @Nullable final byte[] cborRepresentation) {
             return new SoftReferencedValueList(jsonValueList, null, cborRepresentation);
@@ -473,6 +515,34 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
             return jsonArrayStringRepresentation;
         }
 
+        long getUtf8Length() {
+            long result = utf8Length;
+            if (result < 0) {
+                @Nullable final byte[] utf8Representation = getUtf8RepresentationOrNull();
+                result = null != utf8Representation
+                        ? utf8Representation.length
+                        : Utf8Encoding.getEncodedLength(asJsonArrayString());
+                utf8Length = result;
+            }
+            return result;
+        }
+
+        ByteBuffer asUtf8ByteBuffer() {
+            byte[] utf8Representation = getUtf8RepresentationOrNull();
+            if (null == utf8Representation) {
+                utf8Representation = asJsonArrayString().getBytes(StandardCharsets.UTF_8);
+                utf8RepresentationReference = new SoftReference<>(utf8Representation);
+                utf8Length = utf8Representation.length;
+            }
+            return Utf8Encoding.asReadOnlyByteBuffer(utf8Representation);
+        }
+
+        @Nullable
+        private byte[] getUtf8RepresentationOrNull() {
+            final SoftReference<byte[]> reference = utf8RepresentationReference;
+            return null != reference ? reference.get() : null;
+        }
+
         void writeValue(final SerializationContext serializationContext) throws IOException {
             if (CBOR_FACTORY.isCborAvailable() && cborArrayRepresentation == null) {
                 cborArrayRepresentation = CBOR_FACTORY.createCborRepresentation(this.values(), guessSerializedSize());
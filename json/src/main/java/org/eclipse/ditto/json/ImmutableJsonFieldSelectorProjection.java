@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An immutable implementation of {@link JsonFieldSelectorProjection}.
+ * <p>
+ * The pointers of the field selector are compiled into a tree of nodes once.
+ * Each node knows the keys to select in their order and the node to apply to the value of each key; a node without
+ * keys selects the complete value.
+ * A field whose value is an object or an array is only selected if at least one pointer leads to an existing value
+ * in it, which is the same as only using the pointers which are contained in the JSON object.
+ * </p>
+ */
+@Immutable
+final class ImmutableJsonFieldSelectorProjection implements JsonFieldSelectorProjection {
+
+    /**
+     * Maximum number of cached projections; the cache is cleared when it is exceeded.
+     */
+    static final int MAX_CACHED_PROJECTIONS = 1024;
+
+    private static final Map<CacheKey, ImmutableJsonFieldSelectorProjection> CACHE = new ConcurrentHashMap<>();
+
+    private final JsonFieldSelector fieldSelector;
+    private final Node root;
+
+    private ImmutableJsonFieldSelectorProjection(final JsonFieldSelector fieldSelector, final Node root) {
+        this.fieldSelector = fieldSelector;
+        this.root = root;
+    }
+
+    /**
+     * Returns the projection of the given field selector from the cache or compiles and caches it.
+     *
+     * @param fieldSelector the field selector.
+     * @param wildcardLocations the locations where the key {@code *} matches all keys, may be empty.
+     * @return the projection.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static ImmutableJsonFieldSelectorProjection of(final JsonFieldSelector fieldSelector,
+            final Collection<JsonPointer> wildcardLocations) {
+
+        requireNonNull(fieldSelector, "The JSON field selector must not be null!");
+        requireNonNull(wildcardLocations, "The wildcard locations must not be null!");
+
+        final CacheKey cacheKey = new CacheKey(fieldSelector.toString(), wildcardLocations);
+        ImmutableJsonFieldSelectorProjection result = CACHE.get(cacheKey);
+        if (null == result || !haveEqualPointers(result.fieldSelector, fieldSelector)) {
+            result = compile(fieldSelector, wildcardLocations);
+            if (CACHE.size() >= MAX_CACHED_PROJECTIONS) {
+                CACHE.clear();
+            }
+            CACHE.put(new CacheKey(cacheKey.fieldSelectorString,
+                    Collections.unmodifiableList(new ArrayList<>(wildcardLocations))), result);
+        }
+        return result;
+    }
+
+    /**
+     * Compiles the projection of the given field selector without caching it.
+     *
+     * @param fieldSelector the field selector.
+     * @param wildcardLocations the locations where the key {@code *} matches all keys, may be empty.
+     * @return the projection.
+     */
+    static ImmutableJsonFieldSelectorProjection compile(final JsonFieldSelector fieldSelector,
+            final Collection<JsonPointer> wildcardLocations) {
+
+        final List<JsonPointer> pointers = new ArrayList<>(fieldSelector.getSize());
+        for (final JsonPointer pointer : fieldSelector.getPointers()) {
+            // the empty pointer is never contained in an object, thus it does not select the complete object
+            if (!pointer.isEmpty()) {
+                pointers.add(pointer);
+            }
+        }
+        final Node root = pointers.isEmpty()
+                ? Node.NOTHING
+                : Node.compile(pointers, JsonPointer.empty(), new HashSet<>(wildcardLocations));
+        return new ImmutableJsonFieldSelectorProjection(fieldSelector, root);
+    }
+
+    private static boolean haveEqualPointers(final JsonFieldSelector cached, final JsonFieldSelector requested) {
+        if (cached == requested) {
+            return true;
+        }
+        // the same string could have been parsed with different options, the order determines the order of fields
+        final Iterator<JsonPointer> cachedPointers = cached.getPointers().iterator();
+        final Iterator<JsonPointer> requestedPointers = requested.getPointers().iterator();
+        while (cachedPointers.hasNext() && requestedPointers.hasNext()) {
+            if (!cachedPointers.next().equals(requestedPointers.next())) {
+                return false;
+            }
+        }
+        return !cachedPointers.hasNext() && !requestedPointers.hasNext();
+    }
+
+    @Override
+    public JsonFieldSelector getFieldSelector() {
+        return fieldSelector;
+    }
+
+    @Override
+    public JsonObject apply(final JsonObject jsonObject) {
+        requireNonNull(jsonObject, "The JSON object to select the fields from must not be null!");
+
+        if (jsonObject.isNull() || jsonObject.isEmpty()) {
+            return jsonObject;
+        }
+        // like a built object the result is serialized once, its selected values only as part of it
+        final Map<String, JsonField> selectedFields = root.selectFields(jsonObject);
+        return selectedFields.isEmpty() ? JsonFactory.newObject() : ImmutableJsonObject.of(selectedFields);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ImmutableJsonFieldSelectorProjection that = (ImmutableJsonFieldSelectorProjection) o;
+        return Objects.equals(fieldSelector, that.fieldSelector) && Objects.equals(root, that.root);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fieldSelector, root);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "fieldSelector=" + fieldSelector +
+                ", root=" + root +
+                "]";
+    }
+
+    /**
+     * A node of the compiled field selector.
+     */
+    @Immutable
+    private static final class Node {
+
+        /**
+         * Selects the complete value.
+         */
+        private static final Node ALL = new Node(new JsonKey[0], new Node[0], -1, null, Collections.emptyMap());
+
+        /**
+         * Selects nothing, only used for empty field selectors.
+         */
+        private static final Node NOTHING = new Node(new JsonKey[0], new Node[0], -1, null, Collections.emptyMap());
+
+        private final JsonKey[] keys;
+        private final Node[] children;
+        private final int wildcardPosition;
+        @Nullable private final Node wildcardChild;
+        private final Map<String, Node> childrenAfterWildcard;
+
+        private Node(final JsonKey[] keys, final Node[] children, final int wildcardPosition,
+                @Nullable final Node wildcardChild, final Map<String, Node> childrenAfterWildcard) {
+
+            this.keys = keys;
+            this.children = children;
+            this.wildcardPosition = wildcardPosition;
+            this.wildcardChild = wildcardChild;
+            this.childrenAfterWildcard = childrenAfterWildcard;
+        }
+
+        /**
+         * Compiles the node at the given location for the given pointers which are relative to it.
+         * The children of keys at a wildcard location are compiled of the pointers of the key together with the
+         * pointers of the wildcard in their original order like after replacing the wildcard by the key.
+         */
+        private static Node compile(final List<JsonPointer> pointers, final JsonPointer location,
+                final Set<JsonPointer> wildcardLocations) {
+
+            final Map<JsonKey, List<JsonPointer>> pointersByRootKey = new LinkedHashMap<>();
+            for (final JsonPointer pointer : pointers) {
+                final Optional<JsonKey> rootKey = pointer.getRoot();
+                if (!rootKey.isPresent()) {
+                    // a pointer ending here selects the complete value regardless of other pointers
+                    return ALL;
+                }
+                pointersByRootKey.computeIfAbsent(rootKey.get(), key -> new ArrayList<>()).add(pointer);
+            }
+
+            final boolean hasWildcard = wildcardLocations.contains(location) &&
+                    pointersByRootKey.containsKey(WILDCARD);
+
+            final List<JsonKey> keys = new ArrayList<>(pointersByRootKey.size());
+            final List<Node> children = new ArrayList<>(pointersByRootKey.size());
+            final Map<String, Node> childrenAfterWildcard = new HashMap<>();
+            int wildcardPosition = -1;
+            Node wildcardChild = null;
+            for (final Map.Entry<JsonKey, List<JsonPointer>> entry : pointersByRootKey.entrySet()) {
+                final JsonKey key = entry.getKey();
+                final JsonPointer childLocation = location.addLeaf(key);
+                if (hasWildcard && WILDCARD.equals(key)) {
+                    wildcardPosition = keys.size();
+                    wildcardChild = compile(nextLevels(entry.getValue()), childLocation, wildcardLocations);
+                } else {
+                    final List<JsonPointer> childPointers = hasWildcard
+                            ? nextLevels(getPointersOfKeyOrWildcard(pointers, key))
+                            : nextLevels(entry.getValue());
+                    final Node child = compile(childPointers, childLocation, wildcardLocations);
+                    if (0 <= wildcardPosition) {
+                        childrenAfterWildcard.put(key.toString(), child);
+                    } else {
+                        keys.add(key);
+                        children.add(child);
+                    }
+                }
+            }
+            return new Node(keys.toArray(new JsonKey[0]), children.toArray(new Node[0]), wildcardPosition,
+                    wildcardChild, childrenAfterWildcard);
+        }
+
+        private static List<JsonPointer> getPointersOfKeyOrWildcard(final List<JsonPointer> pointers,
+                final JsonKey key) {
+
+            final List<JsonPointer> result = new ArrayList<>();
+            for (final JsonPointer pointer : pointers) {
+                final JsonKey rootKey = pointer.getRoot().orElse(null);
+                if (key.equals(rootKey) || WILDCARD.equals(rootKey)) {
+                    result.add(pointer);
+                }
+            }
+            return result;
+        }
+
+        private static List<JsonPointer> nextLevels(final List<JsonPointer> pointers) {
+            final List<JsonPointer> result = new ArrayList<>(pointers.size());
+            for (final JsonPointer pointer : pointers) {
+                result.add(pointer.nextLevel());
+            }
+            return result;
+        }
+
+        /**
+         * Selects the fields of this node from the given object.
+         *
+         * @return the selected fields, an empty object if none of the pointers leads to an existing value.
+         */
+        private JsonObject apply(final JsonObject jsonObject) {
+            if (this == ALL) {
+                return jsonObject;
+            }
+            final PersistentJsonFieldMap selectedFields = selectFields(jsonObject);
+            return selectedFields.isEmpty()
+                    ? JsonFactory.newObject()
+                    : ImmutableJsonObject.ofPersistentFields(selectedFields);
+        }
+
+        private PersistentJsonFieldMap selectFields(final JsonObject jsonObject) {
+            PersistentJsonFieldMap selectedFields = PersistentJsonFieldMap.empty();
+            for (int i = 0; i < keys.length; i++) {
+                final Optional<JsonField> field = jsonObject.getField(keys[i]);
+                if (field.isPresent()) {
+                    selectedFields = children[i].select(field.get(), selectedFields);
+                }
+            }
+            if (null != wildcardChild) {
+                for (final JsonField field : jsonObject) {
+                    if (!isKeyBeforeWildcard(field.getKey())) {
+                        final Node child = childrenAfterWildcard.get(field.getKeyName());
+                        selectedFields = (null != child ? child : wildcardChild).select(field, selectedFields);
+                    }
+                }
+            }
+            return selectedFields;
+        }
+
+        private boolean isKeyBeforeWildcard(final JsonKey key) {
+            for (int i = 0; i < wildcardPosition; i++) {
+                if (keys[i].equals(key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private PersistentJsonFieldMap select(final JsonField field, final PersistentJsonFieldMap selectedFields) {
+            final JsonValue value = field.getValue();
+            @Nullable final JsonValue selectedValue = selectFrom(value);
+            if (null == selectedValue) {
+                return selectedFields;
+            }
+            final JsonField selectedField = selectedValue == value
+                    ? field
+                    : JsonFactory.newField(field.getKey(), selectedValue, field.getDefinition().orElse(null));
+            return selectedFields.with(field.getKeyName(), selectedField);
+        }
+
+        @Nullable
+        private JsonValue selectFrom(final JsonValue value) {
+            if (this == ALL) {
+                return value;
+            }
+            if (value.isObject()) {
+                final JsonObject selectedObject = apply(value.asObject());
+                return selectedObject.isEmpty() ? null : selectedObject;
+            }
+            if (value.isArray()) {
+                return selectFromArray(value.asArray());
+            }
+            return null;
+        }
+
+        @Nullable
+        private JsonArray selectFromArray(final JsonArray jsonArray) {
+            // like for JsonObject#containsFlatteningArrays one matching object in the array suffices
+            boolean anySelected = false;
+            final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+            for (final JsonValue element : jsonArray) {
+                if (element.isObject()) {
+                    final JsonObject selectedObject = apply(element.asObject());
+                    anySelected |= !selectedObject.isEmpty();
+                    builder.add(selectedObject);
+                } else {
+                    builder.add(element);
+                }
+            }
+            return anySelected ? builder.build() : null;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Node that = (Node) o;
+            return wildcardPosition == that.wildcardPosition &&
+                    Arrays.equals(keys, that.keys) &&
+                    Arrays.equals(children, that.children) &&
+                    Objects.equals(wildcardChild, that.wildcardChild) &&
+                    Objects.equals(childrenAfterWildcard, that.childrenAfterWildcard);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hash(wildcardPosition, wildcardChild, childrenAfterWildcard);
+            result = 31 * result + Arrays.hashCode(keys);
+            result = 31 * result + Arrays.hashCode(children);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            if (this == ALL) {
+                return "*all*";
+            }
+            final StringBuilder stringBuilder = new StringBuilder("{");
+            for (int i = 0; i < keys.length; i++) {
+                stringBuilder.append(keys[i]).append('=').append(children[i]).append(',');
+            }
+            if (null != wildcardChild) {
+                stringBuilder.append(WILDCARD).append('=').append(wildcardChild).append(',');
+                childrenAfterWildcard.forEach((key, child) ->
+                        stringBuilder.append(key).append('=').append(child).append(','));
+            }
+            return stringBuilder.append('}').toString();
+        }
+
+    }
+
+    /**
+     * Key of the cache of projections.
+     */
+    @Immutable
+    private static final class CacheKey {
+
+        private final String fieldSelectorString;
+        private final Collection<JsonPointer> wildcardLocations;
+
+        private CacheKey(final String fieldSelectorString, final Collection<JsonPointer> wildcardLocations) {
+            this.fieldSelectorString = fieldSelectorString;
+            this.wildcardLocations = wildcardLocations;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CacheKey that = (CacheKey) o;
+            return fieldSelectorString.equals(that.fieldSelectorString) &&
+                    (wildcardLocations == that.wildcardLocations || wildcardLocations.equals(that.wildcardLocations));
+        }
+
+        @Override
+        public int hashCode() {
+            return fieldSelectorString.hashCode();
+        }
+
+    }
+
+}
@@ -16,6 +16,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -116,6 +118,85 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         ));
     }
 
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which takes ownership of the given fields map instead of
+     * copying it.
+     * The caller must not modify or expose {@code fields} afterwards.
+     *
+     * @param fields the fields of the new JSON object.
+     * @param stringRepresentation the already known string representation of the returned object or {@code null}.
+     * @return a new JSON object containing the {@code fields}.
+     * @throws NullPointerException if {@code fields} is {@code null}.
+     * @since 3.6.0
+     */
+    static ImmutableJsonObject ofOwnedFields(final Map<String, JsonField> fields,
+            @Nullable final String stringRepresentation) {
+
+        return new ImmutableJsonObject(SoftReferencedFieldMap.ofOwned(fields, stringRepresentation));
+    }
+
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which is backed by the given persistent fields.
+     * Like for objects derived by modification its representations are only created when it is serialized.
+     *
+     * @param fields the fields of the new JSON object.
+     * @return a new JSON object containing the {@code fields}.
+     * @throws NullPointerException if {@code fields} is {@code null}.
+     * @since 3.6.0
+     */
+    static ImmutableJsonObject ofPersistentFields(final PersistentJsonFieldMap fields) {
+        requireNonNull(fields, "The fields of JSON object must not be null!");
+        return new ImmutableJsonObject(SoftReferencedFieldMap.ofPersistent(fields));
+    }
+
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which is backed by the given normalized string
+     * representation, i. e. a string as it is returned by {@code toString()}.
+     * The fields are only indexed when they are accessed for the first time and each value is only decoded on
+     * demand.
+     *
+     * @param stringRepresentation the normalized string representation of the returned object.
+     * @return the new JSON object.
+     * @throws NullPointerException if {@code stringRepresentation} is {@code null}.
+     * @since 3.6.0
+     */
+    static ImmutableJsonObject lazyOf(final String stringRepresentation) {
+        return lazyOf(stringRepresentation, null);
+    }
+
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which is backed by the given normalized string
+     * representation and the given index of its fields.
+     *
+     * @param stringRepresentation the normalized string representation of the returned object.
+     * @param fieldIndex the already known index of the fields of {@code stringRepresentation} or {@code null}.
+     * @return the new JSON object.
+     * @throws NullPointerException if {@code stringRepresentation} is {@code null}.
+     * @since 3.6.0
+     */
+    static ImmutableJsonObject lazyOf(final String stringRepresentation,
+            @Nullable final JsonObjectFieldIndex fieldIndex) {
+
+        requireNonNull(stringRepresentation, "The string representation must not be null!");
+        return new ImmutableJsonObject(SoftReferencedFieldMap.lazyOf(stringRepresentation, null, fieldIndex));
+    }
+
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which is backed by the given CBOR representation.
+     * The structure of the representation is validated by indexing its fields right away, each value is only decoded
+     * on demand.
+     *
+     * @param cborRepresentation the CBOR representation of the returned object.
+     * @return the new JSON object.
+     * @throws NullPointerException if {@code cborRepresentation} is {@code null}.
+     * @throws JsonParseException if {@code cborRepresentation} is no valid CBOR map.
+     * @since 3.6.0
+     */
+    static ImmutableJsonObject lazyOf(final byte[] cborRepresentation) {
+        requireNonNull(cborRepresentation, "The CBOR representation must not be null!");
+        return new ImmutableJsonObject(SoftReferencedFieldMap.lazyOfCbor(cborRepresentation));
+    }
+
     @Override
     public JsonObject setValue(final CharSequence key, final int value) {
         return setValue(key, JsonValue.of(value));
@@ -404,50 +485,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return this;
         }
 
-        final List<JsonPointer> pointersContainedInThis = fieldSelector.getPointers()
-                .stream()
-                .filter(this::containsFlatteningArrays)
-                .collect(Collectors.toList());
-
-        if (pointersContainedInThis.isEmpty()) {
-            return empty();
-        } else {
-            return filterByTrie(this, JsonFieldSelectorTrie.of(pointersContainedInThis));
-        }
-    }
-
-    @SuppressWarnings({"rawtypes", "java:S3740"})
-    private static JsonObject filterByTrie(final JsonObject self, final JsonFieldSelectorTrie trie) {
-        if (trie.isEmpty()) {
-            return self;
-        }
-
-        final JsonObjectBuilder builder = JsonObject.newBuilder();
-
-        for (final JsonKey key : trie.getKeys()) {
-            self.getField(key).ifPresent(child -> {
-                final JsonValue childValue = child.getValue();
-                final JsonValue filteredChildValue;
-                if (childValue.isObject()) {
-                    filteredChildValue = filterByTrie(childValue.asObject(), trie.descend(key)); // recurse!
-                } else if (childValue.isArray()) {
-                    filteredChildValue = childValue.asArray().stream()
-                            .map(value -> value.isObject() ? filterByTrie(value.asObject(), trie.descend(key)) // recurse!
-                                    : value)
-                            .collect(JsonCollectors.valuesToArray());
-                } else {
-                    filteredChildValue = childValue;
-                }
-                final Optional<JsonFieldDefinition> childFieldDefinition = child.getDefinition();
-                if (childFieldDefinition.isPresent()) {
-                    builder.set(childFieldDefinition.get(), filteredChildValue);
-                } else {
-                    builder.set(key, filteredChildValue);
-                }
-            });
-        }
-
-        return builder.build();
+        return ImmutableJsonFieldSelectorProjection.of(fieldSelector, Collections.emptyList()).apply(this);
     }
 
     @Override
@@ -497,11 +535,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
     @Override
     public List<JsonKey> getKeys() {
-        final List<JsonKey> keys = fieldMap.getStream()
-                .map(JsonField::getKey)
-                .collect(Collectors.toList());
-
-        return Collections.unmodifiableList(keys);
+        return Collections.unmodifiableList(fieldMap.getKeys());
     }
 
     @Override
@@ -594,10 +628,23 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return fieldMap.upperBoundForStringSize();
     }
 
+    @Override
+    public long getUtf8Length() {
+        return fieldMap.getUtf8Length();
+    }
+
+    @Override
+    public ByteBuffer toUtf8ByteBuffer() {
+        return fieldMap.asUtf8ByteBuffer();
+    }
+
     @Immutable
     static final class SoftReferencedFieldMap {
 
         private static final long CBOR_MAX_COMPRESSION_RATIO = 5; // "false" compressed to one byte
+        private static final long MAX_CHAR_ESCAPE_SEQUENCE_LENGTH = 6; // "\u1234"
+        private static final long FIELD_SYNTAX_LENGTH = 4; // enclosing quotes of the key, colon and comma
+        private static final long NUM_ENCLOSING_BRACES = 2;
         private static final CborFactory CBOR_FACTORY;
 
         static {
@@ -610,13 +657,27 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         private String jsonObjectStringRepresentation;
         private byte[] cborObjectRepresentation;
         private int hashCode;
+        private volatile long utf8Length = -1L;
+        @Nullable private SoftReference<byte[]> utf8RepresentationReference;
         private SoftReference<Map<String, JsonField>> fieldsReference;
+        @Nullable private final PersistentJsonFieldMap persistentFields;
+        @Nullable private SoftReference<JsonObjectFieldIndex> fieldIndexReference;
+        private boolean fieldIndexUnavailable;
 
         private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
 
+            this(jsonFieldMap, stringRepresentation, cborObjectRepresentation, true);
+        }
+
+        private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
+                @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation,
+                final boolean copyFields) {
+
             requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+            final Map<String, JsonField> fields = copyFields ? new LinkedHashMap<>(jsonFieldMap) : jsonFieldMap;
+            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(fields));
+            persistentFields = null;
             jsonObjectStringRepresentation = stringRepresentation;
             this.cborObjectRepresentation = cborObjectRepresentation;
             if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
@@ -635,6 +696,28 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             hashCode = 0;
         }
 
+        private SoftReferencedFieldMap(@Nullable final String stringRepresentation,
+                @Nullable final byte[] cborObjectRepresentation, @Nullable final JsonObjectFieldIndex fieldIndex) {
+
+            // no fields yet, they are indexed from one of the representations on first access
+            fieldsReference = new SoftReference<>(null);
+            persistentFields = null;
+            fieldIndexReference = null != fieldIndex ? new SoftReference<>(fieldIndex) : null;
+            jsonObjectStringRepresentation = stringRepresentation;
+            this.cborObjectRepresentation = cborObjectRepresentation;
+            hashCode = 0;
+        }
+
+        private SoftReferencedFieldMap(final PersistentJsonFieldMap persistentFields) {
+
+            // the representations are only created on demand, thus the fields are strongly referenced
+            this.persistentFields = persistentFields;
+            fieldsReference = new SoftReference<>(persistentFields);
+            jsonObjectStringRepresentation = null;
+            cborObjectRepresentation = null;
+            hashCode = 0;
+        }
+
         static SoftReferencedFieldMap empty() {
             return of(Collections.emptyMap(), "{}", new byte[]{(byte) 0xA0});
         }
@@ -648,6 +731,29 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, null);
         }
 
+        static SoftReferencedFieldMap lazyOf(@Nullable final String stringRepresentation,
+                @Nullable final byte[] cborObjectRepresentation, @Nullable final JsonObjectFieldIndex fieldIndex) {
+            return new SoftReferencedFieldMap(stringRepresentation, cborObjectRepresentation, fieldIndex);
+        }
+
+        static SoftReferencedFieldMap lazyOfCbor(final byte[] cborObjectRepresentation) {
+            final JsonObjectFieldIndex fieldIndex = JsonObjectFieldIndex.ofCbor(cborObjectRepresentation, CBOR_FACTORY);
+            if (null == fieldIndex) {
+                // e.g. duplicate keys or malformed data: decode right away in order to fail now if it is malformed
+                return of(parseToMap(cborObjectRepresentation), cborObjectRepresentation);
+            }
+            return lazyOf(null, cborObjectRepresentation, fieldIndex);
+        }
+
+        static SoftReferencedFieldMap ofPersistent(final PersistentJsonFieldMap persistentFields) {
+            return new SoftReferencedFieldMap(persistentFields);
+        }
+
+        static SoftReferencedFieldMap ofOwned(final Map<String, JsonField> jsonFieldMap,
+                @Nullable final String stringRepresentation) {
+            return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, null, false);
+        }
+
         static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final byte[] cborObjectRepresentation) {
             return new SoftReferencedFieldMap(jsonFieldMap, null, cborObjectRepresentation);
@@ -674,42 +780,106 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         int getSize() {
+            final Map<String, JsonField> fields = fieldsReference.get();
+            if (null == fields) {
+                final JsonObjectFieldIndex index = getFieldIndex();
+                if (null != index) {
+                    return index.getSize();
+                }
+            }
             return fields().size();
         }
 
         boolean isEmpty() {
-            return fields().isEmpty();
+            return 0 == getSize();
         }
 
         boolean containsKey(final String key) {
+            final Map<String, JsonField> fields = fieldsReference.get();
+            if (null == fields) {
+                final JsonObjectFieldIndex index = getFieldIndex();
+                if (null != index) {
+                    return index.containsKey(key);
+                }
+            }
             return fields().containsKey(key);
         }
 
         @Nullable
         JsonField getOrNull(final String key) {
+            final Map<String, JsonField> fields = fieldsReference.get();
+            if (null == fields) {
+                final JsonObjectFieldIndex index = getFieldIndex();
+                if (null != index) {
+                    return index.getOrNull(key);
+                }
+            }
             return fields().get(key);
         }
 
+        List<JsonKey> getKeys() {
+            final Map<String, JsonField> fields = fieldsReference.get();
+            if (null == fields) {
+                final JsonObjectFieldIndex index = getFieldIndex();
+                if (null != index) {
+                    return index.getKeys();
+                }
+            }
+            return fields().values().stream()
+                    .map(JsonField::getKey)
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * Returns the index of the fields of the cached representation which is used instead of decoding all fields
+         * when the fields are not available, i. e. before the first full access of a lazily created object or after
+         * the soft reference to the fields was cleared.
+         *
+         * @return the index or {@code null} if no representation can be indexed.
+         */
+        @Nullable
+        private JsonObjectFieldIndex getFieldIndex() {
+            JsonObjectFieldIndex result = null != fieldIndexReference ? fieldIndexReference.get() : null;
+            if (null == result && !fieldIndexUnavailable) {
+                if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation != null) {
+                    result = JsonObjectFieldIndex.ofCbor(cborObjectRepresentation, CBOR_FACTORY);
+                } else if (jsonObjectStringRepresentation != null) {
+                    result = JsonObjectFieldIndex.ofJsonString(jsonObjectStringRepresentation);
+                }
+                fieldIndexReference = new SoftReference<>(result);
+                fieldIndexUnavailable = null == result;
+            }
+            return result;
+        }
+
         SoftReferencedFieldMap put(final String key, final JsonField value) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.put(key, value);
-            return of(fieldsCopy);
+            return new SoftReferencedFieldMap(getPersistentFields().with(key, value));
         }
 
-        private Map<String, JsonField> copyFields() {
-            return new LinkedHashMap<>(fields());
+        /**
+         * Returns the fields as persistent map which shares all unchanged parts with the maps derived from it.
+         * Only the first modification of an object which was not derived from another one converts its fields.
+         *
+         * @return the persistent map of the fields.
+         */
+        private PersistentJsonFieldMap getPersistentFields() {
+            final PersistentJsonFieldMap result = persistentFields;
+            if (null != result) {
+                return result;
+            }
+            return PersistentJsonFieldMap.copyOf(fields());
         }
 
         SoftReferencedFieldMap putAll(final Iterable<JsonField> jsonFields) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
-            return of(fieldsCopy);
+            PersistentJsonFieldMap fieldsCopy = getPersistentFields();
+            for (final JsonField jsonField : jsonFields) {
+                fieldsCopy = fieldsCopy.with(jsonField.getKeyName(), jsonField);
+            }
+            return new SoftReferencedFieldMap(fieldsCopy);
         }
 
         SoftReferencedFieldMap remove(final String key) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.remove(key);
-            return of(fieldsCopy);
+            return new SoftReferencedFieldMap(getPersistentFields().without(key));
         }
 
         Stream<JsonField> getStream() {
@@ -721,6 +891,10 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private Map<String, JsonField> fields() {
+            final PersistentJsonFieldMap strongFields = persistentFields;
+            if (null != strongFields) {
+                return strongFields;
+            }
             Map<String, JsonField> result = fieldsReference.get();
             if (null == result) {
                 result = recoverFields();
@@ -730,6 +904,11 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private Map<String, JsonField> recoverFields() {
+            final JsonObjectFieldIndex index = getFieldIndex();
+            if (null != index) {
+                // already decoded values are reused
+                return index.toFieldMap();
+            }
             if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation != null) {
                 return parseToMap(cborObjectRepresentation);
             }
@@ -796,6 +975,34 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return jsonObjectStringRepresentation;
         }
 
+        long getUtf8Length() {
+            long result = utf8Length;
+            if (result < 0) {
+                @Nullable final byte[] utf8Representation = getUtf8RepresentationOrNull();
+                result = null != utf8Representation
+                        ? utf8Representation.length
+                        : Utf8Encoding.getEncodedLength(asJsonObjectString());
+                utf8Length = result;
+            }
+            return result;
+        }
+
+        ByteBuffer asUtf8ByteBuffer() {
+            byte[] utf8Representation = getUtf8RepresentationOrNull();
+            if (null == utf8Representation) {
+                utf8Representation = asJsonObjectString().getBytes(StandardCharsets.UTF_8);
+                utf8RepresentationReference = new SoftReference<>(utf8Representation);
+                utf8Length = utf8Representation.length;
+            }
+            return Utf8Encoding.asReadOnlyByteBuffer(utf8Representation);
+        }
+
+        @Nullable
+        private byte[] getUtf8RepresentationOrNull() {
+            final SoftReference<byte[]> reference = utf8RepresentationReference;
+            return null != reference ? reference.get() : null;
+        }
+
         void writeValue(final SerializationContext serializationContext) throws IOException {
             if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation == null) {
                 cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(this.fields(), guessSerializedSize());
@@ -821,8 +1028,22 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             if (cborObjectRepresentation != null) {
                 return cborObjectRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
             }
-            assert false; // this should never happen
-            return Long.MAX_VALUE;
+            // a derived object whose representations were not yet needed: sum up the bounds of its fields
+            long result = NUM_ENCLOSING_BRACES;
+            for (final JsonField field : fields().values()) {
+                result = addSaturated(result,
+                        field.getKeyName().length() * MAX_CHAR_ESCAPE_SEQUENCE_LENGTH + FIELD_SYNTAX_LENGTH);
+                result = addSaturated(result, field.getValue().getUpperBoundForStringSize());
+                if (result == Long.MAX_VALUE) {
+                    break;
+                }
+            }
+            return result;
+        }
+
+        private static long addSaturated(final long a, final long b) {
+            final long sum = a + b;
+            return sum < 0 ? Long.MAX_VALUE : sum;
         }
 
     }
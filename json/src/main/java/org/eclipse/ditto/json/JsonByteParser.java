@@ -0,0 +1,556 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A recursive descent parser which reads UTF-8 encoded JSON directly from a byte array without decoding the whole
+ * input to a {@code String} first.
+ * <p>
+ * In contrast to {@link DefaultDittoJsonHandler} the parser creates the fields map of each JSON object only once and
+ * hands it over to {@link ImmutableJsonObject} without a further copy.
+ * The string representation of a JSON object or array is taken directly from the input if the input of that value is
+ * already in the normalized form which {@code toString()} would produce, i. e. without insignificant whitespace and
+ * without escape sequences which would be written differently.
+ * Keys which occur in almost every Ditto Protocol message or Thing are interned.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+@NotThreadSafe
+final class JsonByteParser {
+
+    /**
+     * Up to this amount of digits an integer number can be accumulated in a {@code long} without overflow.
+     */
+    private static final int MAX_DIRECT_LONG_DIGITS = 18;
+
+    private final byte[] data;
+    private final int offset;
+    private final int end;
+    private int pos;
+    private int nonCanonicalMarks;
+    @Nullable private StringBuilder stringBuilder;
+
+    private JsonByteParser(final byte[] data, final int offset, final int length) {
+        this.data = data;
+        this.offset = offset;
+        end = offset + length;
+        pos = offset;
+        nonCanonicalMarks = 0;
+        stringBuilder = null;
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON value contained in the given range of the given byte array.
+     *
+     * @param data the data to be parsed.
+     * @param offset the index of the first byte to be parsed.
+     * @param length the number of bytes to be parsed.
+     * @return the parsed JSON value.
+     * @throws NullPointerException if {@code data} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length} do not denote a range of {@code data}.
+     * @throws JsonParseException if the data is no valid JSON.
+     */
+    static JsonValue parse(final byte[] data, final int offset, final int length) {
+        requireNonNull(data, "The JSON data to be parsed must not be null!");
+        if (offset < 0 || length < 0 || offset > data.length - length) {
+            throw new IndexOutOfBoundsException(MessageFormat.format("Range [{0}, {0} + {1}) out of bounds for " +
+                    "length {2}!", offset, length, data.length));
+        }
+        final JsonByteParser parser = new JsonByteParser(data, offset, length);
+        parser.skipWhitespace();
+        final JsonValue result = parser.readValue();
+        parser.skipWhitespace();
+        if (parser.pos < parser.end) {
+            throw parser.unexpectedCharacter();
+        }
+        return result;
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON value contained in the remaining bytes of the given buffer.
+     * The position of the buffer is not changed.
+     * Heap buffers are read directly from their backing array, the content of other buffers is copied once.
+     *
+     * @param buffer the buffer to be parsed.
+     * @return the parsed JSON value.
+     * @throws NullPointerException if {@code buffer} is {@code null}.
+     * @throws JsonParseException if the data is no valid JSON.
+     */
+    static JsonValue parse(final ByteBuffer buffer) {
+        requireNonNull(buffer, "The JSON data to be parsed must not be null!");
+        if (buffer.hasArray()) {
+            return parse(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return parse(bytes, 0, bytes.length);
+    }
+
+    private JsonValue readValue() {
+        if (pos >= end) {
+            throw unexpectedEnd();
+        }
+        final byte b = data[pos];
+        switch (b) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                pos++;
+                return ImmutableJsonString.of(readString());
+            case 't':
+                readLiteral("true");
+                return ImmutableJsonBoolean.TRUE;
+            case 'f':
+                readLiteral("false");
+                return ImmutableJsonBoolean.FALSE;
+            case 'n':
+                readLiteral("null");
+                return ImmutableJsonNull.getInstance();
+            default:
+                if ('-' == b || isDigit(b)) {
+                    return readNumber();
+                }
+                throw unexpectedCharacter();
+        }
+    }
+
+    private JsonObject readObject() {
+        final int start = pos;
+        final int marksAtStart = nonCanonicalMarks;
+        pos++;
+        skipWhitespace();
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        if (!consume('}')) {
+            do {
+                skipWhitespace();
+                expect('"');
+                final JsonKey key = readKey();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                final JsonValue value = readValue();
+                fields.put(key.toString(), JsonFactory.newField(key, value));
+                skipWhitespace();
+            } while (consume(','));
+            expect('}');
+        }
+        return ImmutableJsonObject.ofOwnedFields(fields, getCanonicalRepresentation(start, marksAtStart));
+    }
+
+    private JsonArray readArray() {
+        final int start = pos;
+        final int marksAtStart = nonCanonicalMarks;
+        pos++;
+        skipWhitespace();
+        final List<JsonValue> values = new ArrayList<>();
+        if (!consume(']')) {
+            do {
+                skipWhitespace();
+                values.add(readValue());
+                skipWhitespace();
+            } while (consume(','));
+            expect(']');
+        }
+        return ImmutableJsonArray.ofOwnedValues(values, getCanonicalRepresentation(start, marksAtStart));
+    }
+
+    @Nullable
+    private String getCanonicalRepresentation(final int start, final int marksAtStart) {
+        if (nonCanonicalMarks == marksAtStart) {
+            return new String(data, start, pos - start, StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+
+    /**
+     * Reads a key whose opening quote was already consumed.
+     * Keys without escape sequences are looked up in the table of well-known keys while scanning.
+     */
+    private JsonKey readKey() {
+        final int start = pos;
+        int hash = 0;
+        while (pos < end) {
+            final byte b = data[pos];
+            if ('"' == b) {
+                final JsonKey wellKnownKey = WellKnownKeys.lookUp(hash, data, start, pos - start);
+                final JsonKey result;
+                if (null != wellKnownKey) {
+                    result = wellKnownKey;
+                } else {
+                    result = JsonFactory.newKey(new String(data, start, pos - start, StandardCharsets.UTF_8));
+                }
+                pos++;
+                return result;
+            } else if ('\\' == b) {
+                pos = start;
+                return JsonFactory.newKey(readString());
+            } else if (b >= 0 && b < 0x20) {
+                throw unexpectedCharacter();
+            }
+            hash = 31 * hash + b;
+            pos++;
+        }
+        throw unexpectedEnd();
+    }
+
+    /**
+     * Reads a string whose opening quote was already consumed.
+     */
+    private String readString() {
+        final int start = pos;
+        boolean ascii = true;
+        while (pos < end) {
+            final byte b = data[pos];
+            if ('"' == b) {
+                final String result =
+                        new String(data, start, pos - start, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+                pos++;
+                return result;
+            } else if ('\\' == b) {
+                return readEscapedString(start);
+            } else if (b >= 0 && b < 0x20) {
+                throw unexpectedCharacter();
+            } else if (b < 0) {
+                ascii = false;
+            }
+            pos++;
+        }
+        throw unexpectedEnd();
+    }
+
+    private String readEscapedString(final int start) {
+        final StringBuilder sb = getStringBuilder();
+        int segmentStart = start;
+        while (pos < end) {
+            final byte b = data[pos];
+            if ('"' == b) {
+                appendSegment(sb, segmentStart);
+                pos++;
+                return sb.toString();
+            } else if ('\\' == b) {
+                appendSegment(sb, segmentStart);
+                pos++;
+                readEscapeSequence(sb);
+                segmentStart = pos;
+            } else if (b >= 0 && b < 0x20) {
+                throw unexpectedCharacter();
+            } else {
+                pos++;
+            }
+        }
+        throw unexpectedEnd();
+    }
+
+    private void appendSegment(final StringBuilder sb, final int segmentStart) {
+        if (pos > segmentStart) {
+            // escape sequences are ASCII, thus a segment never splits a multi-byte UTF-8 sequence
+            sb.append(new String(data, segmentStart, pos - segmentStart, StandardCharsets.UTF_8));
+        }
+    }
+
+    private void readEscapeSequence(final StringBuilder sb) {
+        if (pos >= end) {
+            throw unexpectedEnd();
+        }
+        final byte b = data[pos];
+        switch (b) {
+            case '"':
+            case '\\':
+                sb.append((char) b);
+                break;
+            case '/':
+                // '/' is never escaped by JsonCharEscaper
+                nonCanonicalMarks++;
+                sb.append('/');
+                break;
+            case 'b':
+                sb.append('\b');
+                break;
+            case 'f':
+                sb.append('\f');
+                break;
+            case 'n':
+                sb.append('\n');
+                break;
+            case 'r':
+                sb.append('\r');
+                break;
+            case 't':
+                sb.append('\t');
+                break;
+            case 'u':
+                nonCanonicalMarks++;
+                sb.append(readUnicodeEscape());
+                return;
+            default:
+                throw unexpectedCharacter();
+        }
+        pos++;
+    }
+
+    private char readUnicodeEscape() {
+        pos++;
+        if (pos + 4 > end) {
+            pos = end;
+            throw unexpectedEnd();
+        }
+        int result = 0;
+        for (int i = 0; i < 4; i++) {
+            final int digit = Character.digit(data[pos], 16);
+            if (digit < 0) {
+                throw unexpectedCharacter();
+            }
+            result = (result << 4) | digit;
+            pos++;
+        }
+        return (char) result;
+    }
+
+    private StringBuilder getStringBuilder() {
+        StringBuilder result = stringBuilder;
+        if (null == result) {
+            result = new StringBuilder();
+            stringBuilder = result;
+        } else {
+            result.setLength(0);
+        }
+        return result;
+    }
+
+    private JsonNumber readNumber() {
+        final int start = pos;
+        final boolean negative = '-' == data[pos];
+        if (negative) {
+            pos++;
+        }
+        final int integerPartStart = pos;
+        if (consume('0')) {
+            // a leading zero must not be followed by further integer digits
+        } else {
+            readDigits();
+        }
+        final int integerPartLength = pos - integerPartStart;
+        boolean decimal = false;
+        if (consume('.')) {
+            decimal = true;
+            readDigits();
+        }
+        if (consume('e') || consume('E')) {
+            decimal = true;
+            if (!consume('+')) {
+                consume('-');
+            }
+            readDigits();
+        }
+
+        if (decimal) {
+            return ImmutableJsonDouble.of(Double.parseDouble(getAsciiString(start)));
+        } else if (integerPartLength <= MAX_DIRECT_LONG_DIGITS) {
+            long value = 0;
+            for (int i = integerPartStart; i < pos; i++) {
+                value = value * 10 + (data[i] - '0');
+            }
+            if (negative) {
+                value = -value;
+            }
+            if (Integer.MIN_VALUE <= value && value <= Integer.MAX_VALUE) {
+                return ImmutableJsonInt.of((int) value);
+            }
+            return ImmutableJsonLong.of(value);
+        }
+        // might exceed the range of long which is reported as NumberFormatException like for the String parser
+        return ImmutableJsonLong.of(Long.parseLong(getAsciiString(start)));
+    }
+
+    private void readDigits() {
+        if (pos >= end) {
+            throw unexpectedEnd();
+        }
+        if (!isDigit(data[pos])) {
+            throw unexpectedCharacter();
+        }
+        do {
+            pos++;
+        } while (pos < end && isDigit(data[pos]));
+    }
+
+    private String getAsciiString(final int start) {
+        return new String(data, start, pos - start, StandardCharsets.ISO_8859_1);
+    }
+
+    private static boolean isDigit(final byte b) {
+        return '0' <= b && b <= '9';
+    }
+
+    private void readLiteral(final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (pos >= end) {
+                throw unexpectedEnd();
+            }
+            if (data[pos] != literal.charAt(i)) {
+                throw unexpectedCharacter();
+            }
+            pos++;
+        }
+    }
+
+    private void skipWhitespace() {
+        final int start = pos;
+        while (pos < end) {
+            final byte b = data[pos];
+            if (' ' == b || '\n' == b || '\r' == b || '\t' == b) {
+                pos++;
+            } else {
+                break;
+            }
+        }
+        if (pos > start) {
+            nonCanonicalMarks++;
+        }
+    }
+
+    private boolean consume(final char c) {
+        if (pos < end && data[pos] == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(final char c) {
+        if (pos >= end) {
+            throw unexpectedEnd();
+        }
+        if (data[pos] != c) {
+            throw unexpectedCharacter();
+        }
+        pos++;
+    }
+
+    private JsonParseException unexpectedCharacter() {
+        final int b = data[pos] & 0xFF;
+        final String character = b < 0x20 || b > 0x7E ? String.format("0x%02X", b) : String.valueOf((char) b);
+        return new JsonParseException(MessageFormat.format("Unexpected character <{0}> at offset <{1}>!",
+                character, pos - offset));
+    }
+
+    private JsonParseException unexpectedEnd() {
+        return new JsonParseException(MessageFormat.format("Unexpected end of input at offset <{0}>!",
+                pos - offset));
+    }
+
+    /**
+     * Open addressing hash table of keys which are part of almost every Ditto Protocol message or Thing.
+     * The table is filled once and only read afterwards.
+     */
+    @Immutable
+    static final class WellKnownKeys {
+
+        private static final String[] KEYS = {
+                // Ditto Protocol envelope
+                "topic", "path", "headers", "value", "status", "extra", "fields", "revision", "timestamp",
+                "metadata",
+                // frequently used headers
+                "correlation-id", "content-type", "version", "response-required", "requested-acks",
+                "ditto-originator", "timeout", "if-match", "if-none-match", "etag", "channel",
+                // Thing, Feature and Policy structure
+                "thingId", "policyId", "definition", "attributes", "features", "properties",
+                "desiredProperties", "_revision", "_modified", "_created", "_metadata", "_policy", "entries",
+                "subjects", "resources", "grant", "revoke", "type", "imports"
+        };
+
+        private static final int TABLE_SIZE = 128;
+        private static final int MASK = TABLE_SIZE - 1;
+        private static final byte[][] KEY_BYTES = new byte[TABLE_SIZE][];
+        private static final JsonKey[] JSON_KEYS = new JsonKey[TABLE_SIZE];
+
+        static {
+            for (final String key : KEYS) {
+                final byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+                int index = hash(bytes) & MASK;
+                while (null != KEY_BYTES[index]) {
+                    index = (index + 1) & MASK;
+                }
+                KEY_BYTES[index] = bytes;
+                JSON_KEYS[index] = JsonFactory.newKey(key);
+            }
+        }
+
+        private WellKnownKeys() {
+            throw new AssertionError();
+        }
+
+        private static int hash(final byte[] bytes) {
+            int result = 0;
+            for (final byte b : bytes) {
+                result = 31 * result + b;
+            }
+            return result;
+        }
+
+        /**
+         * Returns the interned key for the given bytes.
+         *
+         * @param hash the hash of the bytes computed like {@code 31 * hash + b} for each byte.
+         * @param data the bytes containing the key.
+         * @param start the index of the first byte of the key.
+         * @param length the number of bytes of the key.
+         * @return the interned key or {@code null} if the key is not well-known.
+         */
+        @Nullable
+        static JsonKey lookUp(final int hash, final byte[] data, final int start, final int length) {
+            int index = hash & MASK;
+            byte[] candidate;
+            while (null != (candidate = KEY_BYTES[index])) {
+                if (regionEquals(candidate, data, start, length)) {
+                    return JSON_KEYS[index];
+                }
+                index = (index + 1) & MASK;
+            }
+            return null;
+        }
+
+        private static boolean regionEquals(final byte[] candidate, final byte[] data, final int start,
+                final int length) {
+
+            if (candidate.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (candidate[i] != data[start + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+}
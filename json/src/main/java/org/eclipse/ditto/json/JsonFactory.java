@@ -14,9 +14,8 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.Arrays;
@@ -186,6 +185,44 @@ public final class JsonFactory {
         return JsonValueParser.fromString().apply(jsonString);
     }
 
+    /**
+     * Reads the given UTF-8 encoded data and creates a JSON value based on the read data. The data is parsed directly
+     * from the byte array without decoding it to a String first.
+     *
+     * @param jsonData the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document. This value can be a JSON literal, a JSON object and so on.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} is empty or if it is no valid JSON.
+     * @since 3.6.0
+     */
+    public static JsonValue readFrom(final byte[] jsonData) {
+        requireNonNull(jsonData, "The JSON data to read from must not be null!");
+        if (0 == jsonData.length) {
+            throw new JsonParseException("The JSON data to read from must not be empty!");
+        }
+
+        return JsonValueParser.fromBytes().apply(jsonData);
+    }
+
+    /**
+     * Reads the remaining UTF-8 encoded data of the given buffer and creates a JSON value based on the read data. The
+     * position of the buffer is not changed.
+     *
+     * @param jsonData the buffer containing the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document. This value can be a JSON literal, a JSON object and so on.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} has no remaining bytes or if it is no valid JSON.
+     * @since 3.6.0
+     */
+    public static JsonValue readFrom(final ByteBuffer jsonData) {
+        requireNonNull(jsonData, "The JSON data to read from must not be null!");
+        if (!jsonData.hasRemaining()) {
+            throw new JsonParseException("The JSON data to read from must not be empty!");
+        }
+
+        return JsonValueParser.fromByteBuffer().apply(jsonData);
+    }
+
     /**
      * Reads the entire input stream from the specified reader and parses it as JSON value. The input stream is expected
      * to contain a valid JSON value with optional whitespace padding.
@@ -289,8 +326,7 @@ public final class JsonFactory {
         if (isJsonNullLiteralData(jsonData)) {
             return nullObject();
         } else {
-            final Reader reader = new InputStreamReader(new ByteArrayInputStream(jsonData));
-            final JsonValue jsonValue = JsonValueParser.fromReader().apply(reader);
+            final JsonValue jsonValue = JsonValueParser.fromBytes().apply(jsonData);
             if (!jsonValue.isObject()) {
                 final String msgPattern = "<{0}> is not a valid JSON object!";
                 throw JsonParseException.newBuilder()
@@ -300,6 +336,33 @@ public final class JsonFactory {
         }
     }
 
+    /**
+     * Creates a JSON object from the given string whose fields are decoded on demand.
+     * The string is only scanned for the offsets of the top level fields; each value is parsed when it is accessed for
+     * the first time. Nested JSON objects are decoded on demand as well.
+     * This is beneficial if only a few fields of a large JSON object are accessed.
+     * <p>
+     * If {@code jsonString} is not in the normalized form which {@code toString()} returns, e. g. because it contains
+     * whitespace, the JSON object is created like with {@link #newObject(String)}.
+     * Syntax errors within the values of the top level fields are only reported when the value is accessed.
+     * </p>
+     *
+     * @param jsonString the string that represents the JSON object.
+     * @return the JSON object that has been created from the string.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws JsonParseException if {@code jsonString} does not contain a valid JSON object.
+     * @since 3.6.0
+     */
+    public static JsonObject newObjectWithLazyFields(final String jsonString) {
+        requireNonNull(jsonString, "The JSON string to create a JSON object from must not be null!");
+        final JsonObjectFieldIndex fieldIndex = JsonObjectFieldIndex.ofJsonString(jsonString);
+        if (null == fieldIndex) {
+            return newObject(jsonString);
+        }
+        return ImmutableJsonObject.lazyOf(jsonString, fieldIndex);
+    }
+
     private static boolean isJsonNullLiteralString(final String s) {
         return NULL_STRING.equals(s);
     }
@@ -770,6 +833,39 @@ public final class JsonFactory {
         return ImmutableJsonFieldSelectorBuilder.newInstance();
     }
 
+    /**
+     * Returns the compiled projection of the given JSON field selector.
+     * Projections are cached by the string representation of the field selector, thus repeatedly applying the same
+     * field selector to JSON objects does not require to compile it again.
+     *
+     * @param fieldSelector the field selector to get the projection for.
+     * @return the projection.
+     * @throws NullPointerException if {@code fieldSelector} is {@code null}.
+     * @since 3.6.0
+     */
+    public static JsonFieldSelectorProjection getFieldSelectorProjection(final JsonFieldSelector fieldSelector) {
+        return ImmutableJsonFieldSelectorProjection.of(fieldSelector, Collections.emptyList());
+    }
+
+    /**
+     * Returns the compiled projection of the given JSON field selector which interprets the key
+     * {@link JsonFieldSelectorProjection#WILDCARD} at the given locations as wildcard matching all keys of the object
+     * at that location.
+     * Projections are cached by the string representation of the field selector and the wildcard locations.
+     *
+     * @param fieldSelector the field selector to get the projection for.
+     * @param wildcardLocations the pointers to the objects whose keys are matched by a wildcard, e. g.
+     * {@code /features}; the empty pointer stands for the keys of the root object.
+     * @return the projection.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 3.6.0
+     */
+    public static JsonFieldSelectorProjection getFieldSelectorProjection(final JsonFieldSelector fieldSelector,
+            final Collection<JsonPointer> wildcardLocations) {
+
+        return ImmutableJsonFieldSelectorProjection.of(fieldSelector, wildcardLocations);
+    }
+
     /**
      * Returns a new definition of a JSON field which contains a String value.
      *
@@ -942,6 +1038,26 @@ public final class JsonFactory {
                 ImmutableJsonObject.SoftReferencedFieldMap.of(jsonFieldMap, null, cborObjectRepresentation));
     }
 
+    /**
+     * Creates a {@link JsonObject} backed only by the passed CBOR representation.
+     * The fields are indexed right away, which validates the structure of the representation; each value is only
+     * decoded on demand.
+     * <p>
+     * <b>This is a Ditto internal API is not intended for re-use.</b>
+     * It therefore is not treated as API which is held binary compatible to previous versions.
+     * </p>
+     *
+     * @param cborObjectRepresentation the CBOR serialized representation of the JsonObject which must not be
+     * modified afterwards.
+     * @return the created JsonObject.
+     * @throws NullPointerException if {@code cborObjectRepresentation} is {@code null}.
+     * @throws JsonParseException if {@code cborObjectRepresentation} is no valid CBOR map.
+     * @since 3.6.0
+     */
+    public static JsonObject createLazyJsonObject(final byte[] cborObjectRepresentation) {
+        return ImmutableJsonObject.lazyOf(cborObjectRepresentation);
+    }
+
     /**
      * Converts the specified char sequence to a {@link JsonPointer} which is guaranteed to be not empty.
      *
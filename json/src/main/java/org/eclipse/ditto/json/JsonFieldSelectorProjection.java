@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+/**
+ * A {@link JsonFieldSelector} compiled for selecting its fields from many JSON objects.
+ * <p>
+ * Applying the projection to a JSON object yields the same result as {@link JsonObject#get(JsonFieldSelector)}
+ * without determining again which pointers of the field selector are contained in the object and without building a
+ * trie of them.
+ * Projections can optionally interpret the key {@code *} at defined locations as wildcard which matches all keys of
+ * the object at that location, e. g. the feature IDs of {@code features/*&#47;properties}.
+ * This yields the same result as replacing the wildcard with each key of the object before applying the field
+ * selector.
+ * </p>
+ * <p>
+ * Projections are obtained via {@link JsonFactory#getFieldSelectorProjection(JsonFieldSelector)} which caches them
+ * by the string representation of the field selector.
+ * </p>
+ * <p>
+ * <em>Implementations of this interface are required to be immutable and thread-safe!</em>
+ * </p>
+ *
+ * @since 3.6.0
+ */
+public interface JsonFieldSelectorProjection {
+
+    /**
+     * The key which is interpreted as wildcard at the wildcard locations of a projection.
+     */
+    JsonKey WILDCARD = JsonKey.of("*");
+
+    /**
+     * Returns the field selector this projection was compiled from.
+     *
+     * @return the field selector.
+     */
+    JsonFieldSelector getFieldSelector();
+
+    /**
+     * Selects the fields of the field selector of this projection from the given JSON object.
+     *
+     * @param jsonObject the JSON object to select the fields from.
+     * @return a new JSON object containing the selected fields, the given JSON object if it is empty or the JSON
+     * {@code null} object.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    JsonObject apply(JsonObject jsonObject);
+
+}
@@ -170,36 +170,46 @@ public final class JsonMergePatch {
             return JsonFactory.nullObject();
         }
 
-        final JsonObjectBuilder builder = jsonObject2.toBuilder();
+        // modify jsonObject2 itself instead of a copy of all its fields, so that unchanged subtrees are shared
+        JsonObject result = getModifiableBase(jsonObject2);
         // add fields of jsonObject1
-        jsonObject1.forEach(jsonField -> {
+        for (final JsonField jsonField : jsonObject1) {
             final JsonKey key = jsonField.getKey();
             final JsonValue value1 = jsonField.getValue();
             final Optional<JsonValue> maybeValue2 = jsonObject2.getValue(key);
 
             if (value1.isNull()) {
-                builder.remove(key);
+                result = result.remove(key);
             } else if (maybeValue2.isPresent()) {
-                builder.set(key, mergeJsonValues(value1, maybeValue2.get()));
+                result = result.setValue(key, mergeJsonValues(value1, maybeValue2.get()));
             } else {
                 if (value1.isObject()) {
-                    builder.set(key, value1.asObject().filter(field -> !field.getValue().isNull()));
+                    result = result.setValue(key, value1.asObject().filter(field -> !field.getValue().isNull()));
                 } else {
-                    builder.set(jsonField);
+                    result = result.set(jsonField);
                 }
             }
-        });
+        }
 
         final List<JsonKey> toBeNulledKeysByRegex = determineToBeNulledKeysByRegex(jsonObject1, jsonObject2);
 
-        // add fields of jsonObject2 not present in jsonObject1
-        jsonObject2.forEach(jsonField -> {
-            if (!jsonObject1.contains(jsonField.getKey()) && toBeNulledKeysByRegex.contains(jsonField.getKey())) {
-                builder.remove(jsonField.getKey());
+        // remove fields of jsonObject2 not present in jsonObject1 which are matched by a regex key of jsonObject1
+        for (final JsonKey toBeNulledKey : toBeNulledKeysByRegex) {
+            if (!jsonObject1.contains(toBeNulledKey)) {
+                result = result.remove(toBeNulledKey);
             }
-        });
+        }
+
+        return result;
+    }
+
+    private static JsonObject getModifiableBase(final JsonObject jsonObject) {
+        if (jsonObject instanceof ImmutableJsonObject) {
+            return jsonObject;
+        }
 
-        return builder.build();
+        // e. g. the JSON null object or specialized objects of other modules which must not leak into the result
+        return jsonObject.toBuilder().build();
     }
 
     private static List<JsonKey> determineToBeNulledKeysByRegex(
@@ -0,0 +1,527 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Index of the top level fields of a serialized JSON object.
+ * The index only knows the keys and the offsets of the serialized values; a value is decoded when it is accessed for
+ * the first time.
+ * Values which are JSON objects themselves are decoded to lazily indexed JSON objects again, so accessing a single
+ * leaf of a large object only decodes the objects along the path to that leaf.
+ * <p>
+ * The decoded fields are cached. Like the representations cached by {@link ImmutableJsonObject}, the cache is
+ * filled without synchronization as all cached values are immutable and computing them again is harmless.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+@Immutable
+abstract class JsonObjectFieldIndex {
+
+    private static final int MAX_LINEAR_LOOKUP_SIZE = 8;
+
+    private final String[] keys;
+    private final int[] valueStarts;
+    private final int[] valueEnds;
+    private final JsonField[] decodedFields;
+    @Nullable private final Map<String, Integer> positionsByKey;
+
+    private JsonObjectFieldIndex(final List<String> keys, final int[] valueStarts, final int[] valueEnds) {
+        this.keys = keys.toArray(new String[0]);
+        this.valueStarts = valueStarts;
+        this.valueEnds = valueEnds;
+        decodedFields = new JsonField[this.keys.length];
+        if (this.keys.length > MAX_LINEAR_LOOKUP_SIZE) {
+            positionsByKey = new HashMap<>(this.keys.length * 4 / 3 + 1);
+            for (int i = 0; i < this.keys.length; i++) {
+                positionsByKey.put(this.keys[i], i);
+            }
+        } else {
+            positionsByKey = null;
+        }
+    }
+
+    /**
+     * Indexes the given normalized JSON object string, i. e. a string as it is returned by
+     * {@code JsonObject.toString()}.
+     *
+     * @param jsonObjectString the string to be indexed.
+     * @return the index or {@code null} if the string could not be indexed, for example because it contains duplicate
+     * keys or is not normalized.
+     */
+    @Nullable
+    static JsonObjectFieldIndex ofJsonString(final String jsonObjectString) {
+        return new JsonStringScanner(jsonObjectString).scan();
+    }
+
+    /**
+     * Indexes the given CBOR representation of a JSON object.
+     *
+     * @param cborObjectRepresentation the CBOR bytes to be indexed.
+     * @param cborFactory the factory to decode the values with.
+     * @return the index or {@code null} if the bytes could not be indexed, for example because they contain duplicate
+     * keys or keys which are no text strings.
+     */
+    @Nullable
+    static JsonObjectFieldIndex ofCbor(final byte[] cborObjectRepresentation, final CborFactory cborFactory) {
+        return new CborScanner(cborObjectRepresentation, cborFactory).scan();
+    }
+
+    /**
+     * Decodes the serialized value in the given range.
+     *
+     * @param start the index of the first character resp. byte of the value.
+     * @param end the index after the last character resp. byte of the value.
+     * @return the decoded value.
+     */
+    protected abstract JsonValue decodeValue(int start, int end);
+
+    int getSize() {
+        return keys.length;
+    }
+
+    boolean containsKey(final String key) {
+        return 0 <= indexOf(key);
+    }
+
+    @Nullable
+    JsonField getOrNull(final String key) {
+        final int index = indexOf(key);
+        return 0 <= index ? getField(index) : null;
+    }
+
+    List<JsonKey> getKeys() {
+        final List<JsonKey> result = new ArrayList<>(keys.length);
+        for (final String key : keys) {
+            result.add(JsonKey.of(key));
+        }
+        return result;
+    }
+
+    /**
+     * Decodes all fields which were not decoded yet.
+     *
+     * @return an unmodifiable map containing all fields in their original order.
+     */
+    Map<String, JsonField> toFieldMap() {
+        final Map<String, JsonField> result = new LinkedHashMap<>(keys.length * 4 / 3 + 1);
+        for (int i = 0; i < keys.length; i++) {
+            result.put(keys[i], getField(i));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private int indexOf(final String key) {
+        if (null != positionsByKey) {
+            final Integer result = positionsByKey.get(key);
+            return null != result ? result : -1;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private JsonField getField(final int index) {
+        JsonField result = decodedFields[index];
+        if (null == result) {
+            result = JsonField.newInstance(keys[index], decodeValue(valueStarts[index], valueEnds[index]));
+            decodedFields[index] = result;
+        }
+        return result;
+    }
+
+    private static boolean containsDuplicates(final List<String> keys) {
+        if (keys.size() <= MAX_LINEAR_LOOKUP_SIZE) {
+            for (int i = 0; i < keys.size(); i++) {
+                for (int j = i + 1; j < keys.size(); j++) {
+                    if (keys.get(i).equals(keys.get(j))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+        return new HashSet<>(keys).size() != keys.size();
+    }
+
+    private static int[] toArray(final List<Integer> integers) {
+        final int[] result = new int[integers.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = integers.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Index of a normalized JSON object string.
+     */
+    @Immutable
+    private static final class JsonStringIndex extends JsonObjectFieldIndex {
+
+        private final String jsonObjectString;
+
+        private JsonStringIndex(final String jsonObjectString, final List<String> keys, final int[] valueStarts,
+                final int[] valueEnds) {
+
+            super(keys, valueStarts, valueEnds);
+            this.jsonObjectString = jsonObjectString;
+        }
+
+        @Override
+        protected JsonValue decodeValue(final int start, final int end) {
+            final String valueString = jsonObjectString.substring(start, end);
+            if ('{' == valueString.charAt(0)) {
+                return ImmutableJsonObject.lazyOf(valueString);
+            }
+            return JsonValueParser.fromString().apply(valueString);
+        }
+
+    }
+
+    /**
+     * Index of the CBOR representation of a JSON object.
+     */
+    @Immutable
+    private static final class CborIndex extends JsonObjectFieldIndex {
+
+        private final byte[] cborObjectRepresentation;
+        private final CborFactory cborFactory;
+
+        private CborIndex(final byte[] cborObjectRepresentation, final CborFactory cborFactory,
+                final List<String> keys, final int[] valueStarts, final int[] valueEnds) {
+
+            super(keys, valueStarts, valueEnds);
+            this.cborObjectRepresentation = cborObjectRepresentation;
+            this.cborFactory = cborFactory;
+        }
+
+        @Override
+        protected JsonValue decodeValue(final int start, final int end) {
+            if (CborScanner.MAJOR_TYPE_MAP == CborScanner.getMajorType(cborObjectRepresentation[start])) {
+                return ImmutableJsonObject.lazyOf(Arrays.copyOfRange(cborObjectRepresentation, start, end));
+            }
+            return cborFactory.readFrom(cborObjectRepresentation, start, end - start);
+        }
+
+    }
+
+    /**
+     * Finds the keys and value offsets of a JSON object string without decoding the values.
+     * Whitespace and escape sequences which are not produced by {@link JsonCharEscaper} are rejected as the string
+     * would not be normalized then.
+     */
+    private static final class JsonStringScanner {
+
+        private final String json;
+        private int pos;
+
+        private JsonStringScanner(final String json) {
+            this.json = json;
+            pos = 0;
+        }
+
+        @Nullable
+        JsonObjectFieldIndex scan() {
+            final List<String> keys = new ArrayList<>();
+            final List<Integer> valueStarts = new ArrayList<>();
+            final List<Integer> valueEnds = new ArrayList<>();
+            if (!consume('{')) {
+                return null;
+            }
+            if (!consume('}')) {
+                do {
+                    final int keyStart = pos;
+                    if (!skipString()) {
+                        return null;
+                    }
+                    keys.add(decodeKey(keyStart, pos));
+                    if (!consume(':')) {
+                        return null;
+                    }
+                    valueStarts.add(pos);
+                    if (!skipValue()) {
+                        return null;
+                    }
+                    valueEnds.add(pos);
+                } while (consume(','));
+                if (!consume('}')) {
+                    return null;
+                }
+            }
+            if (pos != json.length() || containsDuplicates(keys)) {
+                return null;
+            }
+            return new JsonStringIndex(json, keys, toArray(valueStarts), toArray(valueEnds));
+        }
+
+        private String decodeKey(final int start, final int end) {
+            final String key = json.substring(start + 1, end - 1);
+            if (0 <= key.indexOf('\\')) {
+                return JsonValueParser.fromString().apply(json.substring(start, end)).asString();
+            }
+            return key;
+        }
+
+        private boolean skipValue() {
+            if (pos >= json.length()) {
+                return false;
+            }
+            final char c = json.charAt(pos);
+            if ('"' == c) {
+                return skipString();
+            } else if ('{' == c || '[' == c) {
+                return skipContainer();
+            }
+            final int start = pos;
+            while (pos < json.length() && isScalarChar(json.charAt(pos))) {
+                pos++;
+            }
+            return pos > start;
+        }
+
+        private boolean skipContainer() {
+            int depth = 0;
+            do {
+                if (pos >= json.length()) {
+                    return false;
+                }
+                final char c = json.charAt(pos);
+                if ('"' == c) {
+                    if (!skipString()) {
+                        return false;
+                    }
+                    continue;
+                } else if ('{' == c || '[' == c) {
+                    depth++;
+                } else if ('}' == c || ']' == c) {
+                    depth--;
+                } else if (',' != c && ':' != c && !isScalarChar(c)) {
+                    return false;
+                }
+                pos++;
+            } while (depth > 0);
+            return true;
+        }
+
+        private static boolean isScalarChar(final char c) {
+            return ('a' <= c && c <= 'z') || ('0' <= c && c <= '9') || '-' == c || '+' == c || '.' == c ||
+                    'E' == c;
+        }
+
+        private boolean skipString() {
+            if (!consume('"')) {
+                return false;
+            }
+            while (pos < json.length()) {
+                final char c = json.charAt(pos);
+                if ('"' == c) {
+                    pos++;
+                    return true;
+                } else if ('\\' == c) {
+                    pos++;
+                    if (pos >= json.length() || '/' == json.charAt(pos) || 'u' == json.charAt(pos)) {
+                        // not normalized
+                        return false;
+                    }
+                } else if (c < 0x20) {
+                    return false;
+                }
+                pos++;
+            }
+            return false;
+        }
+
+        private boolean consume(final char c) {
+            if (pos < json.length() && json.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+    }
+
+    /**
+     * Finds the keys and value offsets of a CBOR map by only reading the initial bytes of the data items.
+     *
+     * @see "https://www.rfc-editor.org/rfc/rfc8949#section-3"
+     */
+    private static final class CborScanner {
+
+        static final int MAJOR_TYPE_MAP = 5;
+
+        private static final int MAJOR_TYPE_BYTE_STRING = 2;
+        private static final int MAJOR_TYPE_TEXT_STRING = 3;
+        private static final int MAJOR_TYPE_ARRAY = 4;
+        private static final int MAJOR_TYPE_TAG = 6;
+        private static final int MAJOR_TYPE_SIMPLE_AND_FLOAT = 7;
+        private static final int INDEFINITE_LENGTH = 31;
+        private static final int BREAK = 0xFF;
+
+        private final byte[] data;
+        private final CborFactory cborFactory;
+        private int pos;
+
+        private CborScanner(final byte[] data, final CborFactory cborFactory) {
+            this.data = data;
+            this.cborFactory = cborFactory;
+            pos = 0;
+        }
+
+        static int getMajorType(final byte initialByte) {
+            return (initialByte & 0xFF) >>> 5;
+        }
+
+        @Nullable
+        JsonObjectFieldIndex scan() {
+            try {
+                return tryToScan();
+            } catch (final IndexOutOfBoundsException | IllegalStateException e) {
+                return null;
+            }
+        }
+
+        @Nullable
+        private JsonObjectFieldIndex tryToScan() {
+            if (0 == data.length || MAJOR_TYPE_MAP != getMajorType(data[pos])) {
+                return null;
+            }
+            final long size = readArgument();
+            final List<String> keys = new ArrayList<>();
+            final List<Integer> valueStarts = new ArrayList<>();
+            final List<Integer> valueEnds = new ArrayList<>();
+            for (long i = 0; size < 0 ? !consumeBreak() : i < size; i++) {
+                if (MAJOR_TYPE_TEXT_STRING != getMajorType(data[pos])) {
+                    return null;
+                }
+                final long keyLength = readArgument();
+                if (keyLength < 0) {
+                    return null;
+                }
+                keys.add(new String(data, pos, toIntLength(keyLength), StandardCharsets.UTF_8));
+                pos += (int) keyLength;
+                valueStarts.add(pos);
+                skipItem();
+                valueEnds.add(pos);
+            }
+            if (pos != data.length || containsDuplicates(keys)) {
+                return null;
+            }
+            return new CborIndex(data, cborFactory, keys, toArray(valueStarts), toArray(valueEnds));
+        }
+
+        private void skipItem() {
+            final int majorType = getMajorType(data[pos]);
+            final long argument = readArgument();
+            switch (majorType) {
+                case MAJOR_TYPE_BYTE_STRING:
+                case MAJOR_TYPE_TEXT_STRING:
+                    if (argument < 0) {
+                        while (!consumeBreak()) {
+                            skipItem();
+                        }
+                    } else {
+                        pos += toIntLength(argument);
+                    }
+                    break;
+                case MAJOR_TYPE_ARRAY:
+                    skipItems(argument, 1);
+                    break;
+                case MAJOR_TYPE_MAP:
+                    skipItems(argument, 2);
+                    break;
+                case MAJOR_TYPE_TAG:
+                    skipItem();
+                    break;
+                default:
+                    // unsigned and negative integers, simple values and floats consist of their header only
+                    break;
+            }
+            if (pos > data.length) {
+                throw new IllegalStateException("Truncated CBOR data item.");
+            }
+        }
+
+        private void skipItems(final long count, final int itemsPerEntry) {
+            if (count < 0) {
+                while (!consumeBreak()) {
+                    skipItem();
+                }
+            } else {
+                for (long i = 0; i < count * itemsPerEntry; i++) {
+                    skipItem();
+                }
+            }
+        }
+
+        /**
+         * Reads the header of the data item at the current position.
+         *
+         * @return the argument of the header, i. e. the value, length or count; {@code -1} for indefinite length.
+         */
+        private long readArgument() {
+            final int initialByte = data[pos] & 0xFF;
+            final int additionalInformation = initialByte & 0x1F;
+            pos++;
+            if (additionalInformation < 24) {
+                return additionalInformation;
+            } else if (additionalInformation <= 27) {
+                final int byteCount = 1 << (additionalInformation - 24);
+                long result = 0;
+                for (int i = 0; i < byteCount; i++) {
+                    result = (result << 8) | (data[pos++] & 0xFF);
+                }
+                // floats of major type 7 are read as their bits which are only skipped
+                return MAJOR_TYPE_SIMPLE_AND_FLOAT == initialByte >>> 5 ? 0 : result;
+            } else if (INDEFINITE_LENGTH == additionalInformation && initialByte != BREAK) {
+                return -1;
+            }
+            throw new IllegalStateException(MessageFormat.format("Unsupported CBOR initial byte <{0}>.",
+                    initialByte));
+        }
+
+        private boolean consumeBreak() {
+            if ((data[pos] & 0xFF) == BREAK) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private static int toIntLength(final long length) {
+            if (length < 0 || length > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Unsupported CBOR length.");
+            }
+            return (int) length;
+        }
+
+    }
+
+}
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.json;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import javax.annotation.Nullable;
 
@@ -298,4 +299,28 @@ public interface JsonValue {
      * @since 1.1.0
      */
     long getUpperBoundForStringSize();
+
+    /**
+     * Returns the exact length in bytes of the UTF-8 encoded JSON string of this value, i.e. the number of bytes
+     * {@link #toUtf8ByteBuffer()} contains.
+     * JSON objects and arrays determine their length only once.
+     *
+     * @return the length in bytes.
+     * @since 3.6.0
+     */
+    default long getUtf8Length() {
+        return Utf8Encoding.getEncodedLength(toString());
+    }
+
+    /**
+     * Returns the UTF-8 encoded JSON string of this value.
+     * JSON objects and arrays keep the encoded bytes as long as memory permits, so checking the size of an object and
+     * writing it to the wire afterwards encodes it only once.
+     *
+     * @return a read-only ByteBuffer containing the UTF-8 encoded JSON string of this value.
+     * @since 3.6.0
+     */
+    default ByteBuffer toUtf8ByteBuffer() {
+        return Utf8Encoding.encode(toString());
+    }
 }
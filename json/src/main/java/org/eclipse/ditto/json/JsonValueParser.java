@@ -16,6 +16,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -78,6 +79,29 @@ public final class JsonValueParser {
         return JsonValueParser::tryToReadJsonValueFrom;
     }
 
+    /**
+     * Returns a Function for parsing UTF-8 encoded JSON data to an instance of {@link JsonValue}.
+     * The data is parsed directly from the byte array without creating an intermediate String of the whole input.
+     *
+     * @return the function.
+     * @since 3.6.0
+     */
+    public static Function<byte[], JsonValue> fromBytes() {
+        return JsonValueParser::tryToParseJsonValueFromBytes;
+    }
+
+    /**
+     * Returns a Function for parsing the remaining UTF-8 encoded JSON data of a {@code ByteBuffer} to an instance of
+     * {@link JsonValue}.
+     * The position of the buffer is not changed.
+     *
+     * @return the function.
+     * @since 3.6.0
+     */
+    public static Function<ByteBuffer, JsonValue> fromByteBuffer() {
+        return JsonValueParser::tryToParseJsonValueFromByteBuffer;
+    }
+
     private static <T> T tryToParseJsonValue(final String jsonString,
             final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
 
@@ -100,6 +124,31 @@ public final class JsonValueParser {
         return dittoJsonHandler.getValue();
     }
 
+    private static JsonValue tryToParseJsonValueFromBytes(final byte[] jsonData) {
+        try {
+            return JsonByteParser.parse(requireNonNull(jsonData, "The JSON data to be parsed must not be null!"), 0,
+                    jsonData.length);
+        } catch (final StackOverflowError | IllegalArgumentException | NullPointerException e) {
+            throw newJsonDataParseException(e);
+        }
+    }
+
+    private static JsonValue tryToParseJsonValueFromByteBuffer(final ByteBuffer jsonData) {
+        try {
+            return JsonByteParser.parse(jsonData);
+        } catch (final StackOverflowError | IllegalArgumentException | NullPointerException e) {
+            throw newJsonDataParseException(e);
+        }
+    }
+
+    private static JsonParseException newJsonDataParseException(final Throwable cause) {
+        // IllegalArgumentException is thrown for example for empty keys or numbers which exceed the range of long
+        return JsonParseException.newBuilder()
+                .message("Failed to parse JSON data!")
+                .cause(cause)
+                .build();
+    }
+
     private static JsonValue tryToReadJsonValueFrom(final Reader reader) {
         try {
             return readJsonValueFrom(reader);
@@ -0,0 +1,574 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Persistent map of the fields of a JSON object which keeps the insertion order of its keys.
+ * <p>
+ * The keys are held in a hash array mapped trie and the fields in the order of their insertion in a 32-ary trie.
+ * Setting or removing a field only copies the nodes on the path to the field; all other nodes are shared with the
+ * map the new one was derived from.
+ * Thus, both operations take logarithmic time and memory in the size of the map instead of linear.
+ * Like for {@link java.util.LinkedHashMap} replacing the field of an existing key does not change its position.
+ * Removed fields leave gaps in the order trie which are compacted once they outnumber the remaining fields.
+ * </p>
+ * <p>
+ * The map itself is unmodifiable; {@link #with(String, JsonField)} and {@link #without(String)} return a new map.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+@Immutable
+final class PersistentJsonFieldMap extends AbstractMap<String, JsonField> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final int MIN_GAPS_TO_COMPACT = 1 << BITS_PER_LEVEL;
+
+    private static final PersistentJsonFieldMap EMPTY =
+            new PersistentJsonFieldMap(BitmapNode.EMPTY, OrderTrie.EMPTY, 0);
+
+    private final BitmapNode keyTrie;
+    private final OrderTrie orderTrie;
+    private final int size;
+
+    private PersistentJsonFieldMap(final BitmapNode keyTrie, final OrderTrie orderTrie, final int size) {
+        this.keyTrie = keyTrie;
+        this.orderTrie = orderTrie;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     *
+     * @return the map.
+     */
+    static PersistentJsonFieldMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a map containing the fields of the passed map in its iteration order.
+     * The passed map is returned as it is if it is a {@code PersistentJsonFieldMap} already.
+     *
+     * @param fields the fields mapped by their key name.
+     * @return the map.
+     */
+    static PersistentJsonFieldMap copyOf(final Map<String, JsonField> fields) {
+        if (fields instanceof PersistentJsonFieldMap) {
+            return (PersistentJsonFieldMap) fields;
+        }
+        PersistentJsonFieldMap result = EMPTY;
+        for (final Entry<String, JsonField> entry : fields.entrySet()) {
+            result = result.with(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map which additionally maps the passed key to the passed field.
+     * An existing field of the key is replaced at its position, a new field is appended.
+     *
+     * @param key the key name of the field.
+     * @param field the field.
+     * @return the new map.
+     */
+    PersistentJsonFieldMap with(final String key, final JsonField field) {
+        final int hash = key.hashCode();
+        @Nullable final KeyEntry existingEntry = keyTrie.find(key, hash, 0);
+        final PersistentJsonFieldMap result;
+        if (null != existingEntry) {
+            final KeyEntry entry = new KeyEntry(key, hash, existingEntry.position, field);
+            result = new PersistentJsonFieldMap(keyTrie.put(entry, 0), orderTrie.set(entry.position, field), size);
+        } else {
+            final KeyEntry entry = new KeyEntry(key, hash, orderTrie.length, field);
+            result = new PersistentJsonFieldMap(keyTrie.put(entry, 0), orderTrie.append(field), size + 1);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map without the field of the passed key.
+     *
+     * @param key the key name of the field to remove.
+     * @return the new map or this map if it does not contain {@code key}.
+     */
+    PersistentJsonFieldMap without(final String key) {
+        final int hash = key.hashCode();
+        @Nullable final KeyEntry existingEntry = keyTrie.find(key, hash, 0);
+        if (null == existingEntry) {
+            return this;
+        }
+        if (1 == size) {
+            return EMPTY;
+        }
+        @Nullable final Node newKeyTrie = keyTrie.remove(key, hash, 0);
+        final PersistentJsonFieldMap result = new PersistentJsonFieldMap((BitmapNode) newKeyTrie,
+                orderTrie.set(existingEntry.position, null), size - 1);
+        final int gaps = result.orderTrie.length - result.size;
+        return gaps >= MIN_GAPS_TO_COMPACT && gaps > result.size ? result.compact() : result;
+    }
+
+    private PersistentJsonFieldMap compact() {
+        PersistentJsonFieldMap result = EMPTY;
+        for (final JsonField field : values()) {
+            result = result.with(field.getKeyName(), field);
+        }
+        return result;
+    }
+
+    @Nullable
+    @Override
+    public JsonField get(final Object key) {
+        if (key instanceof String) {
+            @Nullable final KeyEntry entry = keyTrie.find((String) key, key.hashCode(), 0);
+            if (null != entry) {
+                return entry.field;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return null != get(key);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    @Override
+    public Collection<JsonField> values() {
+        return new AbstractCollection<JsonField>() {
+            @Override
+            public Iterator<JsonField> iterator() {
+                return new FieldIterator(orderTrie);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<String, JsonField>> entrySet() {
+        return new AbstractSet<Entry<String, JsonField>>() {
+            @Override
+            public Iterator<Entry<String, JsonField>> iterator() {
+                final Iterator<JsonField> fieldIterator = new FieldIterator(orderTrie);
+                return new Iterator<Entry<String, JsonField>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return fieldIterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, JsonField> next() {
+                        final JsonField field = fieldIterator.next();
+                        return new SimpleImmutableEntry<>(field.getKeyName(), field);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static int getIndexOnLevel(final int hash, final int shift) {
+        return (hash >>> shift) & LEVEL_MASK;
+    }
+
+    /**
+     * A field together with its key and its position in the order trie.
+     */
+    private static final class KeyEntry {
+
+        private final String key;
+        private final int hash;
+        private final int position;
+        private final JsonField field;
+
+        private KeyEntry(final String key, final int hash, final int position, final JsonField field) {
+            this.key = key;
+            this.hash = hash;
+            this.position = position;
+            this.field = field;
+        }
+
+        private boolean hasKey(final String key, final int hash) {
+            return this.hash == hash && this.key.equals(key);
+        }
+
+    }
+
+    /**
+     * A node of the hash array mapped trie of the keys.
+     */
+    private abstract static class Node {
+
+        @Nullable
+        abstract KeyEntry find(String key, int hash, int shift);
+
+        abstract Node put(KeyEntry entry, int shift);
+
+        /**
+         * Returns the node without the entry of the passed key.
+         *
+         * @return this node if it does not contain the key or {@code null} if the node became empty.
+         */
+        @Nullable
+        abstract Node remove(String key, int hash, int shift);
+
+        /**
+         * @return the only entry of this node if it has exactly one entry and no child nodes or {@code null}.
+         */
+        @Nullable
+        abstract KeyEntry getSingleEntryOrNull();
+
+    }
+
+    /**
+     * Node whose slots hold entries or child nodes; the bitmap tells which of the 32 possible slots of the level are
+     * occupied.
+     */
+    private static final class BitmapNode extends Node {
+
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] slots;
+
+        private BitmapNode(final int bitmap, final Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        private static Node of(final KeyEntry entry1, final KeyEntry entry2, final int shift) {
+            if (entry1.hash == entry2.hash) {
+                return new CollisionNode(entry1.hash, new KeyEntry[]{entry1, entry2});
+            }
+            final int index1 = getIndexOnLevel(entry1.hash, shift);
+            final int index2 = getIndexOnLevel(entry2.hash, shift);
+            final Node result;
+            if (index1 == index2) {
+                result = new BitmapNode(1 << index1, new Object[]{of(entry1, entry2, shift + BITS_PER_LEVEL)});
+            } else if (index1 < index2) {
+                result = new BitmapNode((1 << index1) | (1 << index2), new Object[]{entry1, entry2});
+            } else {
+                result = new BitmapNode((1 << index1) | (1 << index2), new Object[]{entry2, entry1});
+            }
+            return result;
+        }
+
+        private int getSlotIndex(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Nullable
+        @Override
+        KeyEntry find(final String key, final int hash, final int shift) {
+            final int bit = 1 << getIndexOnLevel(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return null;
+            }
+            final Object slot = slots[getSlotIndex(bit)];
+            if (slot instanceof KeyEntry) {
+                final KeyEntry entry = (KeyEntry) slot;
+                return entry.hasKey(key, hash) ? entry : null;
+            }
+            return ((Node) slot).find(key, hash, shift + BITS_PER_LEVEL);
+        }
+
+        @Override
+        BitmapNode put(final KeyEntry entry, final int shift) {
+            final int bit = 1 << getIndexOnLevel(entry.hash, shift);
+            final int slotIndex = getSlotIndex(bit);
+            if (0 == (bitmap & bit)) {
+                final Object[] newSlots = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, newSlots, 0, slotIndex);
+                newSlots[slotIndex] = entry;
+                System.arraycopy(slots, slotIndex, newSlots, slotIndex + 1, slots.length - slotIndex);
+                return new BitmapNode(bitmap | bit, newSlots);
+            }
+            final Object slot = slots[slotIndex];
+            final Object newSlot;
+            if (slot instanceof KeyEntry) {
+                final KeyEntry existingEntry = (KeyEntry) slot;
+                if (existingEntry.hasKey(entry.key, entry.hash)) {
+                    newSlot = entry;
+                } else {
+                    newSlot = of(existingEntry, entry, shift + BITS_PER_LEVEL);
+                }
+            } else {
+                newSlot = ((Node) slot).put(entry, shift + BITS_PER_LEVEL);
+            }
+            return withSlot(slotIndex, newSlot);
+        }
+
+        private BitmapNode withSlot(final int slotIndex, final Object newSlot) {
+            final Object[] newSlots = slots.clone();
+            newSlots[slotIndex] = newSlot;
+            return new BitmapNode(bitmap, newSlots);
+        }
+
+        @Nullable
+        private BitmapNode withoutSlot(final int bit, final int slotIndex) {
+            if (bitmap == bit) {
+                return null;
+            }
+            final Object[] newSlots = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, newSlots, 0, slotIndex);
+            System.arraycopy(slots, slotIndex + 1, newSlots, slotIndex, newSlots.length - slotIndex);
+            return new BitmapNode(bitmap & ~bit, newSlots);
+        }
+
+        @Nullable
+        @Override
+        BitmapNode remove(final String key, final int hash, final int shift) {
+            final int bit = 1 << getIndexOnLevel(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return this;
+            }
+            final int slotIndex = getSlotIndex(bit);
+            final Object slot = slots[slotIndex];
+            if (slot instanceof KeyEntry) {
+                return ((KeyEntry) slot).hasKey(key, hash) ? withoutSlot(bit, slotIndex) : this;
+            }
+            final Node child = (Node) slot;
+            @Nullable final Node newChild = child.remove(key, hash, shift + BITS_PER_LEVEL);
+            if (newChild == child) {
+                return this;
+            }
+            if (null == newChild) {
+                return withoutSlot(bit, slotIndex);
+            }
+            @Nullable final KeyEntry singleEntry = newChild.getSingleEntryOrNull();
+            return withSlot(slotIndex, null != singleEntry ? singleEntry : newChild);
+        }
+
+        @Nullable
+        @Override
+        KeyEntry getSingleEntryOrNull() {
+            return 1 == slots.length && slots[0] instanceof KeyEntry ? (KeyEntry) slots[0] : null;
+        }
+
+    }
+
+    /**
+     * Node holding the entries of keys whose hash codes are equal.
+     */
+    private static final class CollisionNode extends Node {
+
+        private final int hash;
+        private final KeyEntry[] entries;
+
+        private CollisionNode(final int hash, final KeyEntry[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        private int indexOf(final String key) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].key.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Nullable
+        @Override
+        KeyEntry find(final String key, final int hash, final int shift) {
+            if (this.hash != hash) {
+                return null;
+            }
+            final int index = indexOf(key);
+            return 0 <= index ? entries[index] : null;
+        }
+
+        @Override
+        Node put(final KeyEntry entry, final int shift) {
+            if (entry.hash != hash) {
+                // the new key only shares a prefix of the hash code, so this node moves one level down
+                return new BitmapNode(1 << getIndexOnLevel(hash, shift), new Object[]{this}).put(entry, shift);
+            }
+            final int index = indexOf(entry.key);
+            final KeyEntry[] newEntries;
+            if (0 <= index) {
+                newEntries = entries.clone();
+                newEntries[index] = entry;
+            } else {
+                newEntries = Arrays.copyOf(entries, entries.length + 1);
+                newEntries[entries.length] = entry;
+            }
+            return new CollisionNode(hash, newEntries);
+        }
+
+        @Nullable
+        @Override
+        Node remove(final String key, final int hash, final int shift) {
+            final int index = this.hash == hash ? indexOf(key) : -1;
+            if (0 > index) {
+                return this;
+            }
+            if (1 == entries.length) {
+                return null;
+            }
+            final KeyEntry[] newEntries = new KeyEntry[entries.length - 1];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            System.arraycopy(entries, index + 1, newEntries, index, newEntries.length - index);
+            return new CollisionNode(hash, newEntries);
+        }
+
+        @Nullable
+        @Override
+        KeyEntry getSingleEntryOrNull() {
+            return 1 == entries.length ? entries[0] : null;
+        }
+
+    }
+
+    /**
+     * Persistent 32-ary trie of the fields indexed by their insertion position; removed fields are {@code null}.
+     * The arrays of the nodes only grow as far as they are filled.
+     */
+    private static final class OrderTrie {
+
+        private static final OrderTrie EMPTY = new OrderTrie(new Object[0], 0, 0);
+
+        private final Object[] root;
+        private final int shift;
+        private final int length;
+
+        private OrderTrie(final Object[] root, final int shift, final int length) {
+            this.root = root;
+            this.shift = shift;
+            this.length = length;
+        }
+
+        private Object[] getLeaf(final int position) {
+            Object[] node = root;
+            for (int level = shift; level > 0; level -= BITS_PER_LEVEL) {
+                node = (Object[]) node[(position >>> level) & LEVEL_MASK];
+            }
+            return node;
+        }
+
+        private OrderTrie set(final int position, @Nullable final JsonField field) {
+            return new OrderTrie(setInNode(root, shift, position, field), shift, length);
+        }
+
+        private OrderTrie append(final JsonField field) {
+            if (length == 1 << (shift + BITS_PER_LEVEL)) {
+                // the trie is full, so it gets one level higher
+                final int newShift = shift + BITS_PER_LEVEL;
+                return new OrderTrie(setInNode(new Object[]{root}, newShift, length, field), newShift, length + 1);
+            }
+            return new OrderTrie(setInNode(root, shift, length, field), shift, length + 1);
+        }
+
+        private static Object[] setInNode(@Nullable final Object[] node, final int level, final int position,
+                @Nullable final Object value) {
+
+            final int index = (position >>> level) & LEVEL_MASK;
+            final Object[] result;
+            if (null == node) {
+                result = new Object[index + 1];
+            } else {
+                result = Arrays.copyOf(node, Math.max(node.length, index + 1));
+            }
+            if (0 == level) {
+                result[index] = value;
+            } else {
+                result[index] = setInNode((Object[]) result[index], level - BITS_PER_LEVEL, position, value);
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Iterates the fields of an order trie skipping the gaps of removed fields.
+     */
+    private static final class FieldIterator implements Iterator<JsonField> {
+
+        private final OrderTrie orderTrie;
+        private int position;
+        @Nullable private Object[] leaf;
+        @Nullable private JsonField next;
+
+        private FieldIterator(final OrderTrie orderTrie) {
+            this.orderTrie = orderTrie;
+            position = 0;
+            leaf = null;
+            next = findNext();
+        }
+
+        @Nullable
+        private JsonField findNext() {
+            while (position < orderTrie.length) {
+                final int indexInLeaf = position & LEVEL_MASK;
+                if (0 == indexInLeaf || null == leaf) {
+                    leaf = orderTrie.getLeaf(position);
+                }
+                position++;
+                if (indexInLeaf < leaf.length && null != leaf[indexInLeaf]) {
+                    return (JsonField) leaf[indexInLeaf];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return null != next;
+        }
+
+        @Override
+        public JsonField next() {
+            final JsonField result = next;
+            if (null == result) {
+                throw new NoSuchElementException();
+            }
+            next = findNext();
+            return result;
+        }
+
+    }
+
+}
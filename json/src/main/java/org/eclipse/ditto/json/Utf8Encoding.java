@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Determines the UTF-8 encoded form of string representations of JSON values and its length in bytes.
+ */
+@Immutable
+final class Utf8Encoding {
+
+    private Utf8Encoding() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the number of bytes the UTF-8 encoding of the passed chars has without encoding them.
+     * An unpaired surrogate is counted like the replacement character {@code ?} it is encoded to.
+     *
+     * @param chars the chars to determine the UTF-8 length of.
+     * @return the length in bytes.
+     */
+    static long getEncodedLength(final CharSequence chars) {
+        final int length = chars.length();
+        long result = length;
+        for (int i = 0; i < length; i++) {
+            final char c = chars.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    result += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length &&
+                        Character.isLowSurrogate(chars.charAt(i + 1))) {
+
+                    // a surrogate pair of 2 chars is encoded to 4 bytes
+                    result += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    result += 2;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Encodes the passed string to UTF-8.
+     *
+     * @param string the string to encode.
+     * @return a read-only ByteBuffer containing the encoded bytes.
+     */
+    static ByteBuffer encode(final String string) {
+        return asReadOnlyByteBuffer(string.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns a read-only ByteBuffer of the passed bytes without copying them.
+     *
+     * @param utf8Bytes the encoded bytes.
+     * @return the ByteBuffer.
+     */
+    static ByteBuffer asReadOnlyByteBuffer(final byte[] utf8Bytes) {
+        return ByteBuffer.wrap(utf8Bytes).asReadOnlyBuffer();
+    }
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ImmutableJsonFieldSelectorProjection}.
+ */
+public final class ImmutableJsonFieldSelectorProjectionTest {
+
+    private static final JsonParseOptions PARSE_OPTIONS = JsonParseOptions.newBuilder().withoutUrlDecoding().build();
+
+    private static final JsonPointer FEATURES = JsonPointer.of("/features");
+    private static final JsonPointer METADATA_FEATURES = JsonPointer.of("/_metadata/features");
+
+    private static final JsonObject THING = JsonObject.of("{" +
+            "\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"policyId\":\"org.eclipse.ditto:policy\"," +
+            "\"attributes\":{\"location\":{\"lat\":1.0,\"lon\":2.0},\"tags\":[\"a\",\"b\"]," +
+            "\"parts\":[{\"id\":1,\"name\":\"x\"},{\"id\":2},42]}," +
+            "\"features\":{" +
+            "\"lamp\":{\"properties\":{\"on\":true,\"color\":{\"r\":1,\"g\":2}},\"definition\":[\"d:lamp:1\"]}," +
+            "\"sensor\":{\"properties\":{\"temperature\":21.5},\"desiredProperties\":{\"temperature\":20}}," +
+            "\"empty\":{}" +
+            "}," +
+            "\"_metadata\":{\"features\":{\"lamp\":{\"properties\":{\"on\":{\"issuedAt\":\"now\"}}}}}" +
+            "}");
+
+    @Test
+    public void tryToGetProjectionOfNullFieldSelector() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> ImmutableJsonFieldSelectorProjection.of(null, Collections.emptyList()));
+    }
+
+    @Test
+    public void tryToApplyToNull() {
+        final JsonFieldSelectorProjection underTest = JsonFactory.getFieldSelectorProjection(selector("thingId"));
+
+        assertThatNullPointerException().isThrownBy(() -> underTest.apply(null));
+    }
+
+    @Test
+    public void projectionIsCachedByFieldSelectorString() {
+        final JsonFieldSelectorProjection first =
+                JsonFactory.getFieldSelectorProjection(selector("thingId,attributes/location"));
+        final JsonFieldSelectorProjection second =
+                JsonFactory.getFieldSelectorProjection(selector("thingId,attributes/location"));
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void projectionIsCachedSeparatelyPerWildcardLocations() {
+        final JsonFieldSelector fieldSelector = selector("features/*/properties");
+
+        final JsonFieldSelectorProjection withoutWildcards = JsonFactory.getFieldSelectorProjection(fieldSelector);
+        final JsonFieldSelectorProjection withWildcards =
+                JsonFactory.getFieldSelectorProjection(fieldSelector, Collections.singletonList(FEATURES));
+
+        assertThat(withWildcards).isNotSameAs(withoutWildcards);
+        assertThat(JsonFactory.getFieldSelectorProjection(fieldSelector, Collections.singletonList(FEATURES)))
+                .isSameAs(withWildcards);
+    }
+
+    @Test
+    public void applyingToEmptyObjectReturnsIt() {
+        final JsonObject emptyObject = JsonObject.empty();
+
+        assertThat(JsonFactory.getFieldSelectorProjection(selector("thingId")).apply(emptyObject))
+                .isSameAs(emptyObject);
+    }
+
+    @Test
+    public void applyingToNullObjectReturnsIt() {
+        final JsonObject nullObject = JsonFactory.nullObject();
+
+        assertThat(JsonFactory.getFieldSelectorProjection(selector("thingId")).apply(nullObject))
+                .isSameAs(nullObject);
+    }
+
+    @Test
+    public void emptyFieldSelectorSelectsNothing() {
+        assertThat(JsonFactory.getFieldSelectorProjection(JsonFactory.emptyFieldSelector()).apply(THING)).isEmpty();
+    }
+
+    @Test
+    public void selectsFieldsInOrderOfFieldSelector() {
+        final JsonObject actual = JsonFactory.getFieldSelectorProjection(selector("policyId,thingId")).apply(THING);
+
+        assertThat(actual.getKeys()).containsExactly(JsonKey.of("policyId"), JsonKey.of("thingId"));
+    }
+
+    @Test
+    public void yieldsSameResultAsFilteringByContainedPointers() {
+        final List<String> fieldSelectors = Arrays.asList(
+                "thingId",
+                "policyId,thingId",
+                "attributes",
+                "attributes/location/lat,thingId",
+                "attributes/location,attributes/location/lat",
+                "attributes/location/lat,attributes/location",
+                "attributes/location/nonexistent",
+                "attributes/location/lat/nonexistent",
+                "attributes/tags",
+                "attributes/parts/name",
+                "attributes/parts/nonexistent",
+                "features/lamp/properties/color/r,features/sensor,features/empty",
+                "features/empty/properties",
+                "features/*/properties",
+                "nonexistent,/",
+                "/"
+        );
+
+        for (final String fieldSelectorString : fieldSelectors) {
+            final JsonFieldSelector fieldSelector = selector(fieldSelectorString);
+            assertThat(JsonFactory.getFieldSelectorProjection(fieldSelector).apply(THING))
+                    .as(fieldSelectorString)
+                    .isEqualTo(filterByContainedPointers(THING, fieldSelector));
+        }
+    }
+
+    @Test
+    public void yieldsSameResultAsExpandingWildcards() {
+        final List<String> fieldSelectors = Arrays.asList(
+                "features/*/properties",
+                "features/*/properties/on",
+                "features/*/properties/temperature,thingId",
+                "features/sensor/desiredProperties,features/*/properties/temperature",
+                "features/*/properties/temperature,features/sensor/desiredProperties",
+                "features/lamp,features/*/properties/temperature",
+                "features/*/definition,_metadata/features/*/properties/on",
+                "features/*/nonexistent",
+                "attributes/*"
+        );
+        final Collection<JsonPointer> wildcardLocations = Arrays.asList(FEATURES, METADATA_FEATURES);
+
+        for (final String fieldSelectorString : fieldSelectors) {
+            final JsonFieldSelector fieldSelector = selector(fieldSelectorString);
+            final JsonObject actual =
+                    JsonFactory.getFieldSelectorProjection(fieldSelector, wildcardLocations).apply(THING);
+
+            final JsonObject expected = filterByContainedPointers(THING, expandWildcards(fieldSelector));
+            assertThat(actual).as(fieldSelectorString).isEqualTo(expected);
+            assertThat(actual.getKeys()).as(fieldSelectorString).containsExactlyElementsOf(expected.getKeys());
+        }
+    }
+
+    @Test
+    public void wildcardAtRootMatchesAllKeys() {
+        final JsonObject features = THING.getValue("features").map(JsonValue::asObject).orElseThrow(AssertionError::new);
+
+        final JsonObject actual = JsonFactory.getFieldSelectorProjection(selector("*/properties/on"),
+                Collections.singletonList(JsonPointer.empty())).apply(features);
+
+        assertThat(actual).isEqualTo(JsonObject.of("{\"lamp\":{\"properties\":{\"on\":true}}}"));
+    }
+
+    private static JsonFieldSelector selector(final String fieldSelectorString) {
+        return JsonFactory.newFieldSelector(fieldSelectorString, PARSE_OPTIONS);
+    }
+
+    /*
+     * Reference implementation: selects each contained pointer on its own and merges the results.
+     */
+    private static JsonObject filterByContainedPointers(final JsonObject jsonObject,
+            final JsonFieldSelector fieldSelector) {
+
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        boolean anyContained = false;
+        for (final JsonPointer pointer : fieldSelector) {
+            if (!pointer.isEmpty() && jsonObject.containsFlatteningArrays(pointer)) {
+                anyContained = true;
+                final JsonObject selected = jsonObject.get(JsonFieldSelector.newInstance(pointer.toString()));
+                selected.forEach(field -> builder.set(field.getKey(),
+                        mergeValues(builder.build().getValue(field.getKey()).orElse(null), field.getValue())));
+            }
+        }
+        return anyContained ? builder.build() : JsonObject.empty();
+    }
+
+    private static JsonValue mergeValues(final JsonValue existing, final JsonValue added) {
+        if (null == existing || !existing.isObject() || !added.isObject()) {
+            return added;
+        }
+        final JsonObjectBuilder builder = existing.asObject().toBuilder();
+        added.asObject().forEach(field -> builder.set(field.getKey(),
+                mergeValues(existing.asObject().getValue(field.getKey()).orElse(null), field.getValue())));
+        return builder.build();
+    }
+
+    private static JsonFieldSelector expandWildcards(final JsonFieldSelector fieldSelector) {
+        final List<JsonPointer> expanded = new ArrayList<>();
+        for (final JsonPointer pointer : fieldSelector) {
+            expanded.addAll(expandWildcard(pointer, FEATURES));
+        }
+        final List<JsonPointer> result = new ArrayList<>();
+        for (final JsonPointer pointer : expanded) {
+            result.addAll(expandWildcard(pointer, METADATA_FEATURES));
+        }
+        return JsonFactory.newFieldSelector(result);
+    }
+
+    private static List<JsonPointer> expandWildcard(final JsonPointer pointer, final JsonPointer location) {
+        final int level = location.getLevelCount();
+        if (!pointer.get(level).filter(JsonFieldSelectorProjection.WILDCARD::equals).isPresent() ||
+                !location.equals(pointer.getPrefixPointer(level).orElse(JsonPointer.empty()))) {
+            return Collections.singletonList(pointer);
+        }
+        final List<JsonPointer> result = new ArrayList<>();
+        final JsonPointer rest = pointer.getSubPointer(level + 1).orElse(JsonPointer.empty());
+        THING.getValue(location).filter(JsonValue::isObject).map(JsonValue::asObject)
+                .ifPresent(object -> object.getKeys().forEach(key -> result.add(location.addLeaf(key).append(rest))));
+        return result;
+    }
+
+}
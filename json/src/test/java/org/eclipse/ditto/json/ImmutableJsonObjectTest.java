@@ -22,6 +22,8 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 
 import java.lang.ref.SoftReference;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -1525,6 +1527,78 @@ public final class ImmutableJsonObjectTest {
         return JsonFactory.newFieldSelector(s, JsonParseOptions.newBuilder().withoutUrlDecoding().build());
     }
 
+    @Test
+    public void utf8EncodedFormIsRememberedAndMatchesStringRepresentation() {
+        final JsonObject underTest = JsonObject.newBuilder()
+                .set("unit", "\u00b0C")
+                .set("values", JsonArray.of(JsonValue.of("\u20ac"), JsonValue.of(1)))
+                .build();
+        final byte[] expectedBytes = underTest.toString().getBytes(StandardCharsets.UTF_8);
+
+        final ByteBuffer first = underTest.toUtf8ByteBuffer();
+        final ByteBuffer second = underTest.toUtf8ByteBuffer();
+
+        assertThat(underTest.getUtf8Length()).isEqualTo(expectedBytes.length);
+        assertThat(first.isReadOnly()).isTrue();
+        assertThat(first).isEqualTo(ByteBuffer.wrap(expectedBytes));
+        assertThat(second).isEqualTo(first);
+        assertThat(underTest.getValue("values").map(JsonValue::getUtf8Length))
+                .contains((long) "[\"\u20ac\",1]".getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    public void upperBoundForStringSizeOfDerivedObjectIsNotBelowStringSize() {
+        final JsonObject underTest = JsonObject.newBuilder()
+                .set("unit", "\u00b0C")
+                .set("values", JsonArray.of(JsonValue.of("\u20ac"), JsonValue.of(1)))
+                .build()
+                .setValue("nested", JsonObject.newBuilder().set("a\"b", true).build())
+                .remove("unit");
+
+        final long upperBound = underTest.getUpperBoundForStringSize();
+
+        assertThat(upperBound).isLessThan(Long.MAX_VALUE);
+        assertThat(upperBound).isGreaterThanOrEqualTo(underTest.toString().length());
+    }
+
+    @Test
+    public void setValueSharesUnchangedSubtrees() {
+        final JsonObject untouchedFeature = JsonObject.newBuilder().set("properties", JsonObject.newBuilder()
+                .set("value", 1)
+                .build()).build();
+        final JsonObject thing = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:thing")
+                .set("features", JsonObject.newBuilder()
+                        .set("untouched", untouchedFeature)
+                        .set("touched", JsonObject.newBuilder().set("properties", JsonObject.empty()).build())
+                        .build())
+                .build();
+
+        final JsonObject underTest = thing.setValue(JsonPointer.of("features/touched/properties/value"), JsonValue.of(2));
+
+        assertThat(underTest.getValue("features/untouched")).containsSame(untouchedFeature);
+        assertThat(underTest.getValue("features/touched/properties/value")).contains(JsonValue.of(2));
+        assertThat(underTest.remove(JsonPointer.of("features/touched")).getValue("features/untouched")).containsSame(untouchedFeature);
+        assertThat(underTest.getKeys()).containsExactly(JsonKey.of("thingId"), JsonKey.of("features"));
+        assertThat(underTest.toString()).isEqualTo("{\"thingId\":\"org.eclipse.ditto:thing\",\"features\":" +
+                "{\"untouched\":{\"properties\":{\"value\":1}},\"touched\":{\"properties\":{\"value\":2}}}}");
+        assertThat(underTest).isEqualTo(JsonFactory.newObject(underTest.toString()));
+    }
+
+    @Test
+    public void derivedObjectSharesFieldsAfterSerialization() {
+        final JsonObject untouched = JsonObject.newBuilder().set("value", 1).build();
+        final JsonObject derived = JsonObject.newBuilder()
+                .set("untouched", untouched)
+                .build()
+                .setValue("touched", JsonValue.of(2));
+
+        final String serialized = derived.toString();
+
+        assertThat(derived.setValue("touched", JsonValue.of(3)).getValue("untouched")).containsSame(untouched);
+        assertThat(derived.getUpperBoundForStringSize()).isGreaterThanOrEqualTo(serialized.length());
+    }
+
     @Test
     public void validateSoftReferenceStrategy() throws IllegalAccessException, NoSuchFieldException {
         final ImmutableJsonObject jsonObject = ImmutableJsonObject.of(KNOWN_FIELDS);
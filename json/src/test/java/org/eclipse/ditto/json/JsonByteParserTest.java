@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonByteParser}.
+ */
+public final class JsonByteParserTest {
+
+    private static final String THING_JSON = "{\"thingId\":\"org.eclipse.ditto:thing-1\"," +
+            "\"policyId\":\"org.eclipse.ditto:policy-1\"," +
+            "\"attributes\":{\"manufacturer\":\"ACME\",\"location\":{\"latitude\":47.68,\"longitude\":9.38}," +
+            "\"tags\":[\"a\",\"b\",1,2147483648,-3.5e2,true,false,null,[],{}]}," +
+            "\"features\":{\"temp\":{\"properties\":{\"value\":-12,\"unit\":\"\\u00b0C\\n\\\"quoted\\\"\"}}," +
+            "\"empty\":{}}," +
+            "\"_revision\":9223372036854775807}";
+
+    @Test
+    public void parsesLikeStringParser() {
+        final JsonValue expected = JsonValueParser.fromString().apply(THING_JSON);
+
+        final JsonValue actual = parse(THING_JSON);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void reusesCanonicalInputAsStringRepresentation() {
+        final String canonicalJson = "{\"topic\":\"ns/id/things/twin/commands/modify\",\"path\":\"/\"," +
+                "\"headers\":{\"correlation-id\":\"c\u00e4fe\"},\"value\":[1,\"x\\ty\"]}";
+
+        final JsonValue actual = parse(canonicalJson);
+
+        assertThat(actual.toString()).isEqualTo(canonicalJson);
+        assertThat(actual).isEqualTo(JsonFactory.readFrom(canonicalJson));
+    }
+
+    @Test
+    public void normalizesWhitespaceAndEscapes() {
+        final String json = " {\n  \"a\" : [ 1 , 2 ],\n  \"b\\u0062\" : \"\\/\\u0041\" ,\"c\":{ }\t}\r\n";
+
+        final JsonValue actual = parse(json);
+
+        assertThat(actual.toString()).isEqualTo("{\"a\":[1,2],\"bb\":\"/A\",\"c\":{}}");
+    }
+
+    @Test
+    public void parsesMultiByteCharacters() {
+        final String json = "{\"k\u00e9y\":\"Insprinc haftbandun, infar w\u00eegandun! \uD83D\uDE00\"}";
+
+        final JsonValue actual = parse(json);
+
+        assertThat(actual).isEqualTo(JsonFactory.readFrom(json));
+        assertThat(actual.toString()).isEqualTo(json);
+    }
+
+    @Test
+    public void parsesNumbersToSameTypesAsStringParser() {
+        assertThat(parse("2147483647")).isEqualTo(JsonValue.of(Integer.MAX_VALUE));
+        assertThat(parse("-2147483648")).isEqualTo(JsonValue.of(Integer.MIN_VALUE));
+        assertThat(parse("2147483648")).isEqualTo(JsonValue.of(Integer.MAX_VALUE + 1L));
+        assertThat(parse("-9223372036854775808")).isEqualTo(JsonValue.of(Long.MIN_VALUE));
+        assertThat(parse("0")).isEqualTo(JsonValue.of(0));
+        assertThat(parse("-0.5E-3")).isEqualTo(JsonValue.of(-0.5E-3));
+        assertThat(parse("23.42")).isEqualTo(JsonValue.of(23.42));
+    }
+
+    @Test
+    public void wrapsNumberFormatException() {
+        final String jsonLong = BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.TEN).toPlainString();
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonValueParser.fromBytes().apply(jsonLong.getBytes(StandardCharsets.UTF_8)))
+                .withMessage("Failed to parse JSON data!")
+                .withCauseExactlyInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void wrapsEmptyKey() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse("{\"\":1}"))
+                .withCauseExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void rejectsInvalidJson() {
+        final String[] invalidJsons = {"", "{", "{\"a\"}", "{\"a\":1,}", "[1,]", "[1 2]", "01", "-", "1.", "1e",
+                "tru", "nul", "\"abc", "\"\\x\"", "\"\\u12\"", "{\"a\":1}x", "\"a\tb\"", "{a:1}"};
+
+        for (final String invalidJson : invalidJsons) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .as(invalidJson)
+                    .isThrownBy(() -> parse(invalidJson));
+        }
+    }
+
+    @Test
+    public void reportsOffsetOfUnexpectedCharacter() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse("{\"a\":1;}"))
+                .withMessage("Unexpected character <;> at offset <6>!");
+    }
+
+    @Test
+    public void internsWellKnownKeys() {
+        final JsonObject first = parse("{\"topic\":\"a\",\"headers\":{}}").asObject();
+        final JsonObject second = parse("{\"topic\":\"b\",\"headers\":{}}").asObject();
+
+        assertThat(first.getKeys().get(0)).isSameAs(second.getKeys().get(0));
+        assertThat(first.getKeys().get(1)).isSameAs(second.getKeys().get(1));
+    }
+
+    @Test
+    public void parsesRangeOfByteArray() {
+        final byte[] data = "xx[true]yy".getBytes(StandardCharsets.UTF_8);
+
+        final JsonValue actual = JsonByteParser.parse(data, 2, 6);
+
+        assertThat(actual).isEqualTo(JsonArray.of(JsonValue.of(true)));
+    }
+
+    @Test
+    public void parsesHeapAndDirectByteBufferWithoutChangingPosition() {
+        final byte[] data = THING_JSON.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer heapBuffer = ByteBuffer.wrap(data);
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(data.length);
+        directBuffer.put(data).flip();
+
+        final JsonValue fromHeapBuffer = JsonFactory.readFrom(heapBuffer);
+        final JsonValue fromDirectBuffer = JsonFactory.readFrom(directBuffer);
+
+        assertThat(fromHeapBuffer).isEqualTo(JsonFactory.readFrom(THING_JSON));
+        assertThat(fromDirectBuffer).isEqualTo(fromHeapBuffer);
+        assertThat(heapBuffer.position()).isZero();
+        assertThat(directBuffer.position()).isZero();
+    }
+
+    private static JsonValue parse(final String json) {
+        return JsonFactory.readFrom(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
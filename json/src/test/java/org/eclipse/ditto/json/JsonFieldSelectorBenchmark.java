@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures applying a {@code fields} selector to a Thing like retrieving a Thing or enriching a signal does.
+ * The expanding variant replaces the feature ID wildcard by each feature ID before selecting like the Thing
+ * persistence did before wildcards were supported by projections.
+ * <p>
+ * Build with {@code mvn clean package -Pbuild-benchmark-assembly} and run with
+ * {@code java -jar target/ditto-json-*-benchmark.jar JsonFieldSelectorBenchmark -prof gc}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JsonFieldSelectorBenchmark {
+
+    private static final JsonParseOptions PARSE_OPTIONS = JsonParseOptions.newBuilder().withoutUrlDecoding().build();
+    private static final JsonPointer FEATURES = JsonPointer.of("features");
+
+    @Param({"10", "100"})
+    public int numberOfFeatures;
+
+    private JsonObject thing;
+    private JsonFieldSelector fieldSelector;
+    private JsonFieldSelector wildcardFieldSelector;
+
+    @Setup
+    public void setup() {
+        final JsonObjectBuilder featuresBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < numberOfFeatures; i++) {
+            featuresBuilder.set("feature-" + i, JsonObject.newBuilder()
+                    .set("properties", JsonObject.newBuilder()
+                            .set("value", i)
+                            .set("unit", "celsius")
+                            .set("status", JsonObject.newBuilder().set("ok", true).set("since", "now").build())
+                            .build())
+                    .set("desiredProperties", JsonObject.newBuilder().set("value", i + 1).build())
+                    .build());
+        }
+        thing = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:thing")
+                .set("policyId", "org.eclipse.ditto:policy")
+                .set("attributes", JsonObject.newBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("location", JsonObject.newBuilder().set("lat", 1.0).set("lon", 2.0).build())
+                        .build())
+                .set(FEATURES.toString(), featuresBuilder.build())
+                .build();
+        fieldSelector = JsonFactory.newFieldSelector(
+                "thingId,attributes/location,features/feature-1/properties/value,features/feature-3/properties/status",
+                PARSE_OPTIONS);
+        wildcardFieldSelector = JsonFactory.newFieldSelector("thingId,attributes/location,features/*/properties/value",
+                PARSE_OPTIONS);
+    }
+
+    @Benchmark
+    public JsonObject select() {
+        return thing.get(fieldSelector);
+    }
+
+    @Benchmark
+    public JsonObject selectWildcard() {
+        return JsonFactory.getFieldSelectorProjection(wildcardFieldSelector, Collections.singletonList(FEATURES))
+                .apply(thing);
+    }
+
+    @Benchmark
+    public JsonObject selectWildcardByExpanding() {
+        final JsonObject features = thing.getValue(FEATURES).map(JsonValue::asObject).orElseGet(JsonObject::empty);
+        final List<JsonPointer> expandedPointers = new ArrayList<>();
+        for (final JsonPointer pointer : wildcardFieldSelector) {
+            if (pointer.getLevelCount() > 1 && FEATURES.equals(pointer.getPrefixPointer(1).orElse(null)) &&
+                    pointer.get(1).filter(JsonFieldSelectorProjection.WILDCARD::equals).isPresent()) {
+                final JsonPointer rest = pointer.getSubPointer(2).orElse(JsonPointer.empty());
+                for (final JsonKey featureId : features.getKeys()) {
+                    expandedPointers.add(FEATURES.addLeaf(featureId).append(rest));
+                }
+            } else {
+                expandedPointers.add(pointer);
+            }
+        }
+        return thing.get(JsonFactory.newFieldSelector(expandedPointers));
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonObjectFieldIndex} and JSON objects created by
+ * {@link JsonFactory#newObjectWithLazyFields(String)}.
+ */
+public final class JsonObjectFieldIndexTest {
+
+    private static final String THING_JSON = "{\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"attributes\":{\"location\":{\"latitude\":47.68,\"longitude\":9.38},\"serial\":2147483648}," +
+            "\"features\":{\"temp\":{\"properties\":{\"value\":-1.5E-7,\"unit\":\"a\\\"b\\\\c\"}}," +
+            "\"tags\":[\"a\",true,null,{\"nested\":1},[]]}," +
+            "\"k\\\"ey\":{},\"_revision\":42}";
+
+    @Test
+    public void indexesKeysAndValueOffsets() {
+        final JsonObjectFieldIndex underTest = JsonObjectFieldIndex.ofJsonString(THING_JSON);
+
+        assertThat(underTest).isNotNull();
+        assertThat(underTest.getSize()).isEqualTo(5);
+        assertThat(underTest.getKeys()).containsExactly(JsonKey.of("thingId"), JsonKey.of("attributes"),
+                JsonKey.of("features"), JsonKey.of("k\"ey"), JsonKey.of("_revision"));
+        assertThat(underTest.getOrNull("_revision")).isEqualTo(JsonField.newInstance("_revision", JsonValue.of(42)));
+        assertThat(underTest.getOrNull("k\"ey")).isEqualTo(JsonField.newInstance("k\"ey", JsonObject.empty()));
+        assertThat(underTest.getOrNull("policyId")).isNull();
+    }
+
+    @Test
+    public void decodedFieldsAreCached() {
+        final JsonObjectFieldIndex underTest = JsonObjectFieldIndex.ofJsonString(THING_JSON);
+
+        assertThat(underTest.getOrNull("attributes")).isSameAs(underTest.getOrNull("attributes"));
+    }
+
+    @Test
+    public void rejectsNotNormalizedOrDuplicateKeys() {
+        assertThat(JsonObjectFieldIndex.ofJsonString("{\"a\": 1}")).isNull();
+        assertThat(JsonObjectFieldIndex.ofJsonString("{\"a\":[1, 2]}")).isNull();
+        assertThat(JsonObjectFieldIndex.ofJsonString("{\"a\":\"\\u0041\"}")).isNull();
+        assertThat(JsonObjectFieldIndex.ofJsonString("{\"a\":1,\"a\":2}")).isNull();
+        assertThat(JsonObjectFieldIndex.ofJsonString("{\"a\":1}x")).isNull();
+        assertThat(JsonObjectFieldIndex.ofJsonString("[1]")).isNull();
+        assertThat(JsonObjectFieldIndex.ofJsonString("{}")).isNotNull();
+    }
+
+    @Test
+    public void lazyObjectBehavesLikeEagerObject() {
+        final JsonObject eager = JsonFactory.newObject(THING_JSON);
+
+        final JsonObject underTest = JsonFactory.newObjectWithLazyFields(THING_JSON);
+
+        assertThat(underTest.getValue("features/temp/properties/unit"))
+                .isEqualTo(eager.getValue("features/temp/properties/unit"));
+        assertThat(underTest.getValue("features/tags")).isEqualTo(eager.getValue("features/tags"));
+        assertThat(underTest.getKeys()).isEqualTo(eager.getKeys());
+        assertThat(underTest.get(JsonFieldSelector.newInstance("thingId", "attributes/location/latitude")))
+                .isEqualTo(eager.get(JsonFieldSelector.newInstance("thingId", "attributes/location/latitude")));
+        assertThat(underTest.setValue("attributes/serial", 1)).isEqualTo(eager.setValue("attributes/serial", 1));
+        assertThat(underTest).isEqualTo(eager);
+        assertThat(underTest.hashCode()).isEqualTo(eager.hashCode());
+        assertThat(underTest.toString()).isEqualTo(THING_JSON);
+        assertThat(underTest).containsExactlyElementsOf(eager);
+    }
+
+    @Test
+    public void notNormalizedStringIsParsedEagerly() {
+        final JsonObject underTest = JsonFactory.newObjectWithLazyFields("{ \"a\" : [1, 2] }");
+
+        assertThat(underTest.toString()).isEqualTo("{\"a\":[1,2]}");
+    }
+
+    @Test
+    public void invalidTopLevelStructureIsRejectedImmediately() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonFactory.newObjectWithLazyFields("{\"a\":1"));
+    }
+
+    @Test
+    public void invalidValueIsRejectedOnAccess() {
+        final JsonObject underTest = JsonFactory.newObjectWithLazyFields("{\"a\":tru,\"b\":2}");
+
+        assertThat(underTest.getValue("b")).contains(JsonValue.of(2));
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> underTest.getValue("a"));
+    }
+
+}
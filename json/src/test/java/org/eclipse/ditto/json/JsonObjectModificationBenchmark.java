@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures modifying a single property of a Thing with many features like the event strategies of a Thing
+ * persistence actor do, i. e. each modification is applied to the result of the previous one.
+ * The copying variants rebuild each level of the path like {@code setValue} did before JSON objects were backed by
+ * a persistent map.
+ * <p>
+ * Build with {@code mvn clean package -Pbuild-benchmark-assembly} and run with
+ * {@code java -jar target/ditto-json-*-benchmark.jar JsonObjectModificationBenchmark -prof gc}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JsonObjectModificationBenchmark {
+
+    private static final JsonPointer PROPERTY_POINTER = JsonPointer.of("features/feature-7/properties/value");
+
+    @Param({"10", "100", "1000"})
+    public int numberOfFeatures;
+
+    private JsonObject thing;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        thing = createThing(numberOfFeatures);
+        counter = 0;
+    }
+
+    @Benchmark
+    public JsonObject setValue() {
+        thing = thing.setValue(PROPERTY_POINTER, JsonValue.of(counter++));
+        return thing;
+    }
+
+    @Benchmark
+    public JsonObject setValueByCopying() {
+        thing = setValueByCopying(thing, PROPERTY_POINTER, JsonValue.of(counter++));
+        return thing;
+    }
+
+    @Benchmark
+    public JsonObject applyMergePatch() {
+        final JsonMergePatch mergePatch = JsonMergePatch.of(PROPERTY_POINTER, JsonValue.of(counter++));
+        thing = mergePatch.applyOn(thing).asObject();
+        return thing;
+    }
+
+    private static JsonObject setValueByCopying(final JsonObject target, final JsonPointer pointer,
+            final JsonValue value) {
+
+        final JsonKey rootKey = pointer.getRoot().orElseThrow(IllegalArgumentException::new);
+        final JsonValue newValue;
+        if (1 == pointer.getLevelCount()) {
+            newValue = value;
+        } else {
+            final JsonObject child = target.getValue(rootKey)
+                    .filter(JsonValue::isObject)
+                    .map(JsonValue::asObject)
+                    .orElseGet(JsonObject::empty);
+            newValue = setValueByCopying(child, pointer.nextLevel(), value);
+        }
+        return JsonFactory.newObjectBuilder(target).set(rootKey, newValue).build();
+    }
+
+    private static JsonObject createThing(final int numberOfFeatures) {
+        final JsonObjectBuilder featuresBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < numberOfFeatures; i++) {
+            featuresBuilder.set("feature-" + i, JsonObject.newBuilder()
+                    .set("definition", JsonFactory.newArrayBuilder().add("org.eclipse.ditto:sensor:1.0.0").build())
+                    .set("properties", JsonObject.newBuilder()
+                            .set("value", i * 1.5)
+                            .set("unit", "°C")
+                            .set("active", i % 2 == 0)
+                            .build())
+                    .build());
+        }
+        return JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:thing-1")
+                .set("policyId", "org.eclipse.ditto:policy-1")
+                .set("attributes", JsonObject.newBuilder().set("manufacturer", "ACME").build())
+                .set("features", featuresBuilder.build())
+                .build();
+    }
+
+}
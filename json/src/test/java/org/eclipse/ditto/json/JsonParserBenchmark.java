@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the byte oriented {@link JsonByteParser} with the minimal-json based parsing of {@link JsonValueParser}
+ * for a Ditto Protocol message and a Thing with many features.
+ * <p>
+ * Build with {@code mvn clean package -Pbuild-benchmark-assembly} and run with
+ * {@code java -jar target/ditto-json-*-benchmark.jar JsonParserBenchmark -prof gc} to also compare allocations.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JsonParserBenchmark {
+
+    @Param({"protocolMessage", "thingWith100Features"})
+    public String payload;
+
+    private String jsonString;
+    private byte[] jsonBytes;
+    private ByteBuffer jsonByteBuffer;
+
+    @Setup
+    public void setup() {
+        jsonString = "protocolMessage".equals(payload) ? createProtocolMessage() : createThing(100);
+        jsonBytes = jsonString.getBytes(StandardCharsets.UTF_8);
+        jsonByteBuffer = ByteBuffer.wrap(jsonBytes);
+    }
+
+    @Benchmark
+    public JsonValue stringParser() {
+        return JsonFactory.readFrom(jsonString);
+    }
+
+    @Benchmark
+    public JsonValue stringParserFromBytes() {
+        // the path formerly taken by JsonFactory.newObject(byte[])
+        return JsonFactory.readFrom(new InputStreamReader(new ByteArrayInputStream(jsonBytes), StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public JsonValue byteParser() {
+        return JsonFactory.readFrom(jsonBytes);
+    }
+
+    @Benchmark
+    public JsonValue byteParserFromByteBuffer() {
+        return JsonFactory.readFrom(jsonByteBuffer);
+    }
+
+    private static String createProtocolMessage() {
+        return JsonObject.newBuilder()
+                .set("topic", "org.eclipse.ditto/thing-1/things/twin/commands/modify")
+                .set("headers", JsonObject.newBuilder()
+                        .set("correlation-id", "7a2d6d9e-6c5e-4d3b-9b0e-3f6f1f0c2a11")
+                        .set("content-type", "application/json")
+                        .set("response-required", false)
+                        .set("version", 2)
+                        .build())
+                .set("path", "/features/temperature/properties/value")
+                .set("value", 23.42)
+                .build()
+                .toString();
+    }
+
+    private static String createThing(final int featureCount) {
+        final JsonObjectBuilder features = JsonObject.newBuilder();
+        for (int i = 0; i < featureCount; i++) {
+            features.set("feature-" + i, JsonObject.newBuilder()
+                    .set("definition", JsonArray.of(JsonValue.of("org.eclipse.ditto:sensor:1.0.0")))
+                    .set("properties", JsonObject.newBuilder()
+                            .set("value", i * 1.5)
+                            .set("unit", "°C")
+                            .set("lastUpdate", "2026-10-17T12:00:00Z")
+                            .set("active", i % 2 == 0)
+                            .build())
+                    .build());
+        }
+        return JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:thing-1")
+                .set("policyId", "org.eclipse.ditto:thing-1")
+                .set("attributes", JsonObject.newBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("serialNumber", 1234567890L)
+                        .build())
+                .set("features", features.build())
+                .build()
+                .toString();
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentJsonFieldMap}.
+ */
+public final class PersistentJsonFieldMapTest {
+
+    @Test
+    public void keepsInsertionOrderAndPositionOfReplacedFields() {
+        final PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty()
+                .with("b", field("b", 1))
+                .with("a", field("a", 2))
+                .with("c", field("c", 3))
+                .with("a", field("a", 4));
+
+        assertThat(underTest.keySet()).containsExactly("b", "a", "c");
+        assertThat(underTest.get("a")).isEqualTo(field("a", 4));
+        assertThat(underTest).hasSize(3);
+    }
+
+    @Test
+    public void modificationsDoNotChangeOriginal() {
+        final PersistentJsonFieldMap original = PersistentJsonFieldMap.empty()
+                .with("a", field("a", 1))
+                .with("b", field("b", 2));
+
+        original.with("a", field("a", 3)).without("b").with("c", field("c", 4));
+
+        assertThat(original.values()).containsExactly(field("a", 1), field("b", 2));
+    }
+
+    @Test
+    public void removingUnknownKeyReturnsSameMap() {
+        final PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty().with("a", field("a", 1));
+
+        assertThat(underTest.without("b")).isSameAs(underTest);
+        assertThat(underTest.without("a")).isEmpty();
+    }
+
+    @Test
+    public void handlesKeysWithEqualHashCodes() {
+        // "Aa" and "BB" have the same hash code
+        final PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty()
+                .with("Aa", field("Aa", 1))
+                .with("BB", field("BB", 2))
+                .with("C#", field("C#", 3));
+
+        assertThat(underTest.get("Aa")).isEqualTo(field("Aa", 1));
+        assertThat(underTest.get("BB")).isEqualTo(field("BB", 2));
+        assertThat(underTest.without("Aa").keySet()).containsExactly("BB", "C#");
+        assertThat(underTest.without("BB").without("Aa").get("C#")).isEqualTo(field("C#", 3));
+    }
+
+    @Test
+    public void behavesLikeLinkedHashMapForRandomModifications() {
+        final Random random = new Random(42);
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty();
+
+        for (int i = 0; i < 20_000; i++) {
+            final String key = "key-" + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                underTest = underTest.without(key);
+            } else {
+                final JsonField field = field(key, i);
+                expected.put(key, field);
+                underTest = underTest.with(key, field);
+            }
+        }
+
+        assertThat(underTest).containsExactlyEntriesOf(expected);
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(PersistentJsonFieldMap.copyOf(expected)).containsExactlyEntriesOf(expected);
+    }
+
+    @Test
+    public void isUnmodifiable() {
+        final PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty().with("a", field("a", 1));
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> underTest.put("b", field("b", 2)));
+    }
+
+    private static JsonField field(final String key, final int value) {
+        return JsonField.newInstance(key, JsonValue.of(value));
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Utf8Encoding}.
+ */
+public final class Utf8EncodingTest {
+
+    @Test
+    public void encodedLengthEqualsLengthOfEncodedBytes() {
+        final String[] strings = {"", "ascii", "café", "€ 10", "smile 😀", "°Cࠀ߿",
+                "unpaired \uD83D surrogate", "unpaired \uDE00 low surrogate"};
+
+        for (final String string : strings) {
+            assertThat(Utf8Encoding.getEncodedLength(string))
+                    .as(string)
+                    .isEqualTo(string.getBytes(StandardCharsets.UTF_8).length);
+        }
+    }
+
+    @Test
+    public void encodeReturnsReadOnlyBufferOfUtf8Bytes() {
+        final String string = "{\"unit\":\"°C\"}";
+
+        final ByteBuffer encoded = Utf8Encoding.encode(string);
+
+        assertThat(encoded.isReadOnly()).isTrue();
+        assertThat(StandardCharsets.UTF_8.decode(encoded).toString()).isEqualTo(string);
+    }
+
+}
@@ -33,6 +33,21 @@ public final class PoliciesMessagingConstants {
      */
     public static final String POLICIES_STREAM_PROVIDER_ACTOR_PATH = ROOT_ACTOR_PATH + "/persistenceStreamingActor";
 
+    /**
+     * Name of the PoliciesAggregatorActor. To query this actor use the {@link #POLICIES_AGGREGATOR_ACTOR_PATH actor
+     * path}.
+     *
+     * @since 3.6.0
+     */
+    public static final String POLICIES_AGGREGATOR_ACTOR_NAME = "aggregator";
+
+    /**
+     * Path of the PoliciesAggregatorActor which answers {@code SudoRetrievePolicies} commands.
+     *
+     * @since 3.6.0
+     */
+    public static final String POLICIES_AGGREGATOR_ACTOR_PATH = ROOT_ACTOR_PATH + "/" + POLICIES_AGGREGATOR_ACTOR_NAME;
+
     /**
      * Name of the shard region for Policy entities.
      */
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.api.commands.sudo;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonParsableCommand;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.commands.AbstractCommand;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+/**
+ * Command which retrieves several {@link org.eclipse.ditto.policies.model.Policy}s based on the passed in List of
+ * Policy IDs w/o authorization context. This command is sent only internally by the Ditto services in order to fill
+ * their policy caches with few large requests instead of many single {@link SudoRetrievePolicy} commands.
+ *
+ * @since 3.6.0
+ */
+@Immutable
+@AllValuesAreNonnullByDefault
+@JsonParsableCommand(typePrefix = PolicySudoCommand.TYPE_PREFIX, name = SudoRetrievePolicies.NAME)
+public final class SudoRetrievePolicies extends AbstractCommand<SudoRetrievePolicies>
+        implements PolicySudoCommand<SudoRetrievePolicies> {
+
+    /**
+     * Name of the "Sudo Retrieve Policies" command.
+     */
+    public static final String NAME = "sudoRetrievePolicies";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = PolicySudoCommand.TYPE_PREFIX + NAME;
+
+    static final JsonFieldDefinition<JsonArray> JSON_POLICY_IDS =
+            JsonFactory.newJsonArrayFieldDefinition("payload/policyIds", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
+    private final List<PolicyId> policyIds;
+
+    private SudoRetrievePolicies(final List<PolicyId> policyIds, final DittoHeaders dittoHeaders) {
+        super(TYPE, dittoHeaders);
+
+        checkNotNull(policyIds, "policyIds");
+        this.policyIds = Collections.unmodifiableList(new ArrayList<>(policyIds));
+    }
+
+    /**
+     * Returns a Command for retrieving the Policies with the given IDs.
+     *
+     * @param policyIds the IDs of the Policies to be retrieved by this command.
+     * @param dittoHeaders the optional command headers of the request.
+     * @return a Command for retrieving the Policies with the {@code policyIds} as their IDs.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoRetrievePolicies of(final List<PolicyId> policyIds, final DittoHeaders dittoHeaders) {
+        return new SudoRetrievePolicies(policyIds, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoRetrievePolicies} from a JSON string.
+     *
+     * @param jsonString the JSON string of which a new SudoRetrievePolicies instance is to be created.
+     * @param dittoHeaders the optional command headers of the request.
+     * @return the {@code SudoRetrievePolicies} which was created from the given JSON string.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static SudoRetrievePolicies fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoRetrievePolicies} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which a new SudoRetrievePolicies instance is to be created.
+     * @param dittoHeaders the optional command headers of the request.
+     * @return the {@code SudoRetrievePolicies} which was created from the given JSON object.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static SudoRetrievePolicies fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        final List<PolicyId> extractedPolicyIds = jsonObject.getValueOrThrow(JSON_POLICY_IDS)
+                .stream()
+                .filter(JsonValue::isString)
+                .map(JsonValue::asString)
+                .map(PolicyId::of)
+                .toList();
+
+        return of(extractedPolicyIds, dittoHeaders);
+    }
+
+    /**
+     * Returns the IDs of the Policies to be retrieved by this command.
+     *
+     * @return an unmodifiable list containing the IDs of the Policies to be retrieved by this command in the order
+     * they were requested.
+     */
+    public List<PolicyId> getPolicyIds() {
+        return policyIds;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        final JsonArray policyIdsJsonArray = policyIds.stream()
+                .map(String::valueOf)
+                .map(JsonFactory::newValue)
+                .collect(JsonCollectors.valuesToArray());
+        jsonObjectBuilder.set(JSON_POLICY_IDS, policyIdsJsonArray, predicate);
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.QUERY;
+    }
+
+    @Override
+    public SudoRetrievePolicies setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(policyIds, dittoHeaders);
+    }
+
+    @SuppressWarnings({"squid:MethodCyclomaticComplexity", "squid:S1067"})
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final SudoRetrievePolicies that = (SudoRetrievePolicies) obj;
+        return that.canEqual(this) && Objects.equals(policyIds, that.policyIds) && super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof SudoRetrievePolicies;
+    }
+
+    @SuppressWarnings("squid:S109")
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), policyIds);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", policyIds=" + policyIds + "]";
+    }
+
+}
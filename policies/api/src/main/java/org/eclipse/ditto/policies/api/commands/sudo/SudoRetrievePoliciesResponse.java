@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.api.commands.sudo;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.commands.AbstractCommandResponse;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponseHttpStatusValidator;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponseJsonDeserializer;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+/**
+ * Response to a {@link SudoRetrievePolicies} command. Contains the existing ones of the requested Policies; Policies
+ * which do not exist are omitted.
+ *
+ * @since 3.6.0
+ */
+@Immutable
+@AllValuesAreNonnullByDefault
+@JsonParsableCommandResponse(type = SudoRetrievePoliciesResponse.TYPE)
+public final class SudoRetrievePoliciesResponse extends AbstractCommandResponse<SudoRetrievePoliciesResponse>
+        implements PolicySudoQueryCommandResponse<SudoRetrievePoliciesResponse> {
+
+    /**
+     * Type of this response.
+     */
+    public static final String TYPE = TYPE_PREFIX + SudoRetrievePolicies.NAME;
+
+    static final JsonFieldDefinition<JsonArray> JSON_POLICIES =
+            JsonFieldDefinition.ofJsonArray("payload/policies", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
+    private static final HttpStatus HTTP_STATUS = HttpStatus.OK;
+
+    private static final CommandResponseJsonDeserializer<SudoRetrievePoliciesResponse> JSON_DESERIALIZER =
+            CommandResponseJsonDeserializer.newInstance(TYPE,
+                    context -> new SudoRetrievePoliciesResponse(
+                            context.getJsonObject().getValueOrThrow(JSON_POLICIES),
+                            context.getDeserializedHttpStatus(),
+                            context.getDittoHeaders()
+                    ));
+
+    private final JsonArray policies;
+
+    private SudoRetrievePoliciesResponse(final JsonArray policies,
+            final HttpStatus httpStatus,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE,
+                CommandResponseHttpStatusValidator.validateHttpStatus(httpStatus,
+                        Collections.singleton(HTTP_STATUS),
+                        SudoRetrievePoliciesResponse.class),
+                dittoHeaders);
+        this.policies = checkNotNull(policies, "policies");
+    }
+
+    /**
+     * Creates a response to a {@code SudoRetrievePolicies} command.
+     *
+     * @param policies the retrieved Policies.
+     * @param dittoHeaders the headers of the preceding command.
+     * @return the response.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoRetrievePoliciesResponse of(final List<Policy> policies, final DittoHeaders dittoHeaders) {
+        checkNotNull(policies, "policies");
+        final JsonArray policiesArray = policies.stream()
+                .map(policy -> policy.toJson(dittoHeaders.getSchemaVersion().orElse(policy.getLatestSchemaVersion()),
+                        FieldType.regularOrSpecial()))
+                .collect(JsonCollectors.valuesToArray());
+        return new SudoRetrievePoliciesResponse(policiesArray, HTTP_STATUS, dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code SudoRetrievePolicies} command.
+     *
+     * @param policies the JSON objects of the retrieved Policies.
+     * @param dittoHeaders the headers of the preceding command.
+     * @return the response.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoRetrievePoliciesResponse of(final JsonArray policies, final DittoHeaders dittoHeaders) {
+        return new SudoRetrievePoliciesResponse(policies, HTTP_STATUS, dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code SudoRetrievePolicies} command from a JSON string.
+     *
+     * @param jsonString the JSON string of which the response is to be created.
+     * @param dittoHeaders the headers of the preceding command.
+     * @return the response.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static SudoRetrievePoliciesResponse fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonObject.of(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code SudoRetrievePolicies} command from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers of the preceding command.
+     * @return the response.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static SudoRetrievePoliciesResponse fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+
+        return JSON_DESERIALIZER.deserialize(jsonObject, dittoHeaders);
+    }
+
+    /**
+     * Returns the retrieved Policies.
+     *
+     * @return the retrieved Policies.
+     */
+    public List<Policy> getPolicies() {
+        return policies.stream()
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .map(PoliciesModelFactory::newPolicy)
+                .toList();
+    }
+
+    @Override
+    public JsonValue getEntity(final JsonSchemaVersion schemaVersion) {
+        return policies;
+    }
+
+    @Override
+    public SudoRetrievePoliciesResponse setEntity(final JsonValue entity) {
+        checkNotNull(entity, "entity");
+        return of(entity.asArray(), getDittoHeaders());
+    }
+
+    @Override
+    public SudoRetrievePoliciesResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(policies, dittoHeaders);
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder,
+            final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JSON_POLICIES, policies, predicate);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof SudoRetrievePoliciesResponse;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SudoRetrievePoliciesResponse that = (SudoRetrievePoliciesResponse) o;
+        return that.canEqual(this) && Objects.equals(policies, that.policies) && super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), policies);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", policies=" + policies + "]";
+    }
+
+}
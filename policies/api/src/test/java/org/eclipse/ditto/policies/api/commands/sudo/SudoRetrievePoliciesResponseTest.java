@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.api.commands.sudo;
+
+import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponse;
+import org.eclipse.ditto.base.model.signals.commands.GlobalCommandResponseRegistry;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.api.TestConstants;
+import org.eclipse.ditto.policies.model.Policy;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link SudoRetrievePoliciesResponse}.
+ */
+public final class SudoRetrievePoliciesResponseTest {
+
+    private static final JsonObject KNOWN_JSON = JsonFactory.newObjectBuilder()
+            .set(PolicySudoQueryCommandResponse.JsonFields.TYPE, SudoRetrievePoliciesResponse.TYPE)
+            .set(PolicySudoQueryCommandResponse.JsonFields.STATUS, HttpStatus.OK.getCode())
+            .set(SudoRetrievePoliciesResponse.JSON_POLICIES,
+                    JsonArray.of(TestConstants.Policy.POLICY.toJson(FieldType.regularOrSpecial())))
+            .build();
+
+    private static final DittoHeaders EMPTY_DITTO_HEADERS = DittoHeaders.empty();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(SudoRetrievePoliciesResponse.class, areImmutable(),
+                provided(JsonArray.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(SudoRetrievePoliciesResponse.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void tryToCreateInstanceWithNullPolicies() {
+        SudoRetrievePoliciesResponse.of((List<Policy>) null, EMPTY_DITTO_HEADERS);
+    }
+
+    @Test
+    public void toJsonReturnsExpected() {
+        final SudoRetrievePoliciesResponse underTest =
+                SudoRetrievePoliciesResponse.of(Collections.singletonList(TestConstants.Policy.POLICY),
+                        EMPTY_DITTO_HEADERS);
+        final JsonObject actualJson = underTest.toJson(FieldType.REGULAR.or(FieldType.SPECIAL));
+
+        assertThat(actualJson).isEqualTo(KNOWN_JSON);
+    }
+
+    @Test
+    public void createInstanceFromValidJson() {
+        final SudoRetrievePoliciesResponse underTest =
+                SudoRetrievePoliciesResponse.fromJson(KNOWN_JSON.toString(), EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest).isNotNull();
+        assertThat(underTest.getPolicies()).hasSize(1);
+        assertThat(underTest.getPolicies().get(0).toJson()).isEqualTo(TestConstants.Policy.POLICY.toJson());
+    }
+
+    @Test
+    public void checkSudoCommandResponseRegistryWorks() {
+        final SudoRetrievePoliciesResponse sudoRetrievePoliciesResponse =
+                SudoRetrievePoliciesResponse.fromJson(KNOWN_JSON.toString(), EMPTY_DITTO_HEADERS);
+
+        final CommandResponse<?> commandResponse =
+                GlobalCommandResponseRegistry.getInstance().parse(KNOWN_JSON.toString(), EMPTY_DITTO_HEADERS);
+
+        assertThat(sudoRetrievePoliciesResponse).isEqualTo(commandResponse);
+    }
+
+}
@@ -12,6 +12,9 @@
  */
 package org.eclipse.ditto.policies.enforcement;
 
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.service.devops.PolicyEvaluationStatistics;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.policies.model.PolicyId;
 
@@ -36,6 +39,12 @@ abstract class AbstractPolicyEnforcerProvider implements PolicyEnforcerProvider
         return new PolicyEnforcerCacheLoader(policyCacheLoader);
     }
 
+    protected static PolicyEnforcer withEvaluationStatistics(final PolicyEnforcer policyEnforcer,
+            @Nullable final PolicyEvaluationStatistics statistics) {
+
+        return null != statistics ? policyEnforcer.withEvaluationStatistics(statistics) : policyEnforcer;
+    }
+
     protected static MessageDispatcher enforcementCacheDispatcher(final ActorSystem actorSystem) {
         return actorSystem.dispatchers().lookup(PolicyEnforcerCacheLoader.ENFORCEMENT_CACHE_DISPATCHER);
     }
@@ -16,6 +16,7 @@ import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -32,54 +33,102 @@ import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.apache.pekko.pattern.Patterns;
 import org.eclipse.ditto.base.model.exceptions.DittoInternalErrorException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
-import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.base.service.devops.PolicyEvaluationStatistics;
 import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.policies.api.PolicyTag;
 import org.eclipse.ditto.policies.model.PolicyId;
-import org.slf4j.Logger;
 
-import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.typesafe.config.Config;
 
 /**
- * Transparent caching layer for {@link org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider}
+ * Transparent caching layer for {@link org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider}.
+ * <p>
+ * Lookups read the thread-safe {@link PolicyEnforcerCache} directly from the calling thread: a cached policy enforcer
+ * is returned without any actor message, concurrent misses of the same policy share a single load of the cache.
+ * Only invalidations are handled by an actor as they are triggered by subscribed pub/sub and distributed data
+ * messages.
+ * </p>
  */
 final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider implements Invalidatable {
 
-    private static final Logger LOGGER = DittoLoggerFactory.getThreadSafeLogger(CachingPolicyEnforcerProvider.class);
-    private static final Duration LOCAL_POLICY_RETRIEVAL_TIMEOUT = Duration.ofSeconds(60);
-
+    private static final String LOOKUP_TIMER_NAME = "policy_enforcer_lookup";
+    private static final String LOOKUP_TIMER_TAG_CACHE = "cache";
+    private static final String IMPORT_REBUILDS_PER_SECOND_CONFIG_KEY =
+            PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY + ".import-rebuilds-per-second";
+    private static final String MAXIMUM_BYTES_CONFIG_KEY =
+            PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY + ".maximum-bytes";
+    private static final String OFF_HEAP_MAXIMUM_BYTES_CONFIG_KEY =
+            PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY + ".off-heap.maximum-bytes";
+    private static final String OFF_HEAP_EXPIRE_AFTER_WRITE_CONFIG_KEY =
+            PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY + ".off-heap.expire-after-write";
+
+    private final PolicyEnforcerCache policyEnforcerCache;
     private final ActorRef cachingPolicyEnforcerProviderActor;
+    private final PreparedTimer cacheHitTimer;
+    private final PreparedTimer cacheMissTimer;
+    @Nullable private final PolicyEvaluationStatistics evaluationStatistics;
 
     CachingPolicyEnforcerProvider(final ActorSystem actorSystem) {
-        this(actorSystem, policyEnforcerCacheLoader(actorSystem), enforcementCacheDispatcher(actorSystem),
-                DefaultCacheConfig.of(actorSystem.settings().config(),
-                        PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY));
+        this(actorSystem, PolicyCacheLoader.getSingletonInstance(actorSystem), enforcementCacheDispatcher(actorSystem),
+                actorSystem.settings().config());
     }
 
     private CachingPolicyEnforcerProvider(final ActorSystem actorSystem,
-            final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader,
+            final PolicyCacheLoader policyCacheLoader,
             final MessageDispatcher cacheDispatcher,
-            final CacheConfig cacheConfig) {
-
-        this(actorSystem, new PolicyEnforcerCache(policyEnforcerCacheLoader, cacheDispatcher, cacheConfig),
+            final Config config) {
+
+        this(actorSystem, new PolicyEnforcerCache(new PolicyEnforcerCacheLoader(policyCacheLoader),
+                        importedPolicyId -> policyCacheLoader.asyncLoad(importedPolicyId, cacheDispatcher)
+                                .thenApply(Entry::get),
+                        cacheDispatcher,
+                        DefaultCacheConfig.of(config, PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY),
+                        config.getInt(IMPORT_REBUILDS_PER_SECOND_CONFIG_KEY),
+                        config.getBytes(MAXIMUM_BYTES_CONFIG_KEY),
+                        offHeapPolicyTier(config)),
                 BlockedNamespaces.of(actorSystem),
-                DistributedPubSub.get(actorSystem).mediator()
+                DistributedPubSub.get(actorSystem).mediator(),
+                PolicyEvaluationStatistics.get(actorSystem)
         );
     }
 
+    @Nullable
+    private static OffHeapPolicyTier offHeapPolicyTier(final Config config) {
+        final long offHeapMaximumBytes = config.getBytes(OFF_HEAP_MAXIMUM_BYTES_CONFIG_KEY);
+        if (offHeapMaximumBytes <= 0L || config.getBytes(MAXIMUM_BYTES_CONFIG_KEY) <= 0L) {
+            return null;
+        }
+        return new OffHeapPolicyTier(offHeapMaximumBytes, config.getDuration(OFF_HEAP_EXPIRE_AFTER_WRITE_CONFIG_KEY));
+    }
+
     CachingPolicyEnforcerProvider(final ActorSystem actorSystem,
             final PolicyEnforcerCache policyEnforcerCache,
             final BlockedNamespaces blockedNamespaces,
             final ActorRef pubSubMediator) {
 
+        this(actorSystem, policyEnforcerCache, blockedNamespaces, pubSubMediator, null);
+    }
+
+    CachingPolicyEnforcerProvider(final ActorSystem actorSystem,
+            final PolicyEnforcerCache policyEnforcerCache,
+            final BlockedNamespaces blockedNamespaces,
+            final ActorRef pubSubMediator,
+            @Nullable final PolicyEvaluationStatistics evaluationStatistics) {
+
+        this.policyEnforcerCache = policyEnforcerCache;
+        this.evaluationStatistics = evaluationStatistics;
         this.cachingPolicyEnforcerProviderActor = actorSystem.actorOf(
                 CachingPolicyEnforcerProviderActor.props(policyEnforcerCache, blockedNamespaces,
                         pubSubMediator));
+        cacheHitTimer = DittoMetrics.timer(LOOKUP_TIMER_NAME).tag(LOOKUP_TIMER_TAG_CACHE, "hit");
+        cacheMissTimer = DittoMetrics.timer(LOOKUP_TIMER_NAME).tag(LOOKUP_TIMER_TAG_CACHE, "miss");
     }
 
     @Override
@@ -87,25 +136,23 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
         if (policyId == null) {
             return CompletableFuture.completedFuture(Optional.empty());
         }
-        return Patterns.ask(cachingPolicyEnforcerProviderActor, policyId, LOCAL_POLICY_RETRIEVAL_TIMEOUT)
-                .thenApply(response -> {
-                    final Optional<PolicyEnforcer> result;
-                    if (response instanceof Optional<?> optional) {
-                        result = optional.map(value -> {
-                            if (value instanceof PolicyEnforcer policyEnforcer) {
-                                return policyEnforcer;
-                            } else {
-                                LOGGER.warn("Did receive Optional holding an unexpected type. " +
-                                                "Did expect a PolicyEnforcer but got <{}>.",
-                                        value.getClass());
-                                return null;
-                            }
-                        });
-                    } else {
-                        result = Optional.empty();
-                    }
-                    return result;
-                });
+        final long startNanos = System.nanoTime();
+        final CompletableFuture<Optional<Entry<PolicyEnforcer>>> cacheLookup = policyEnforcerCache.get(policyId);
+        if (cacheLookup.isDone()) {
+            final CompletableFuture<Optional<PolicyEnforcer>> result =
+                    cacheLookup.thenApply(this::toPolicyEnforcer);
+            cacheHitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            return result;
+        }
+        return cacheLookup.thenApply(optionalEntry -> {
+            cacheMissTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            return toPolicyEnforcer(optionalEntry);
+        });
+    }
+
+    private Optional<PolicyEnforcer> toPolicyEnforcer(final Optional<Entry<PolicyEnforcer>> optionalEntry) {
+        return optionalEntry.flatMap(Entry::get)
+                .map(policyEnforcer -> withEvaluationStatistics(policyEnforcer, evaluationStatistics));
     }
 
     @Override
@@ -126,7 +173,7 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
     protected record PolicyTagEnvelope(PolicyTag policyTag, String correlationId){}
 
     /**
-     * Actor which handles the actual cache lookup and invalidation.
+     * Actor which handles the invalidation of the cache.
      */
     private static final class CachingPolicyEnforcerProviderActor extends AbstractActor {
 
@@ -159,7 +206,6 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
         @Override
         public Receive createReceive() {
             return ReceiveBuilder.create()
-                    .match(PolicyId.class, this::doGetPolicyEnforcer)
                     .match(DistributedPubSubMediator.SubscribeAck.class, s -> log.debug("Got subscribeAck <{}>.", s))
                     .match(PolicyTag.class, policyTag -> policyEnforcerCache.invalidate(policyTag.getEntityId()))
                     .match(PolicyTagEnvelope.class, policyTagEnvelope -> {
@@ -172,13 +218,6 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
                     .build();
         }
 
-        private void doGetPolicyEnforcer(final PolicyId policyId) {
-            final ActorRef sender = getSender();
-            final CompletableFuture<Optional<PolicyEnforcer>> policyEnforcerCS =
-                    policyEnforcerCache.get(policyId).thenApply(optionalEntry -> optionalEntry.flatMap(Entry::get));
-            Patterns.pipe(policyEnforcerCS, getContext().dispatcher()).to(sender);
-        }
-
         @SuppressWarnings("unchecked")
         private void handleChangedBlockedNamespaces(final Replicator.Changed<?> changed) {
             if (changed.dataValue() instanceof ORSet<?> orSet) {
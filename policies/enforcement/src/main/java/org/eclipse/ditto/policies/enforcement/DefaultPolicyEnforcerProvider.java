@@ -20,6 +20,7 @@ import javax.annotation.Nullable;
 
 import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.dispatch.MessageDispatcher;
+import org.eclipse.ditto.base.service.devops.PolicyEvaluationStatistics;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
@@ -38,17 +39,28 @@ final class DefaultPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
 
     private final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader;
     private final MessageDispatcher cacheDispatcher;
+    @Nullable private final PolicyEvaluationStatistics evaluationStatistics;
 
     DefaultPolicyEnforcerProvider(final ActorSystem actorSystem) {
-        this(policyEnforcerCacheLoader(actorSystem), enforcementCacheDispatcher(actorSystem));
+        this(policyEnforcerCacheLoader(actorSystem), enforcementCacheDispatcher(actorSystem),
+                PolicyEvaluationStatistics.get(actorSystem));
     }
 
     DefaultPolicyEnforcerProvider(
             final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader,
             final MessageDispatcher cacheDispatcher) {
 
+        this(policyEnforcerCacheLoader, cacheDispatcher, null);
+    }
+
+    private DefaultPolicyEnforcerProvider(
+            final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader,
+            final MessageDispatcher cacheDispatcher,
+            @Nullable final PolicyEvaluationStatistics evaluationStatistics) {
+
         this.policyEnforcerCacheLoader = policyEnforcerCacheLoader;
         this.cacheDispatcher = cacheDispatcher;
+        this.evaluationStatistics = evaluationStatistics;
     }
 
     @Override
@@ -58,7 +70,9 @@ final class DefaultPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
         } else {
             try {
                 return policyEnforcerCacheLoader.asyncLoad(policyId, cacheDispatcher)
-                        .thenApply(Entry::get)
+                        .thenApply(entry -> entry.get()
+                                .map(policyEnforcer -> withEvaluationStatistics(policyEnforcer,
+                                        evaluationStatistics)))
                         .exceptionally(error -> Optional.empty());
             } catch (final Exception e) {
                 LOGGER.warn(
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.service.devops.PolicyEvaluationStatistics;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.internal.utils.metrics.instruments.timer.PreparedTimer;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.trie.TrieBasedPolicyEnforcer;
+
+/**
+ * Enforcer which measures each evaluation of the policy of a delegate enforcer.
+ * <p>
+ * The duration, the number of policy entries, the number of evaluated resources and the size of built JSON views are
+ * recorded as metrics per kind of evaluation. As the policy ID is not suited as metric tag, the evaluations are
+ * additionally recorded per policy in the node-local {@link PolicyEvaluationStatistics}.
+ * </p>
+ */
+@Immutable
+final class InstrumentedEnforcer implements Enforcer {
+
+    private static final String TIMER_NAME = "policy_evaluation";
+    private static final String ENTRIES_HISTOGRAM_NAME = "policy_evaluation_entries";
+    private static final String RESOURCES_VISITED_HISTOGRAM_NAME = "policy_evaluation_resources_visited";
+    private static final String JSON_VIEW_SIZE_HISTOGRAM_NAME = "policy_evaluation_json_view_size";
+    private static final String OPERATION_TAG = "operation";
+
+    private static final PreparedTimer UNRESTRICTED_TIMER = timer("unrestricted");
+    private static final PreparedTimer PARTIAL_TIMER = timer("partial");
+    private static final PreparedTimer SUBJECTS_TIMER = timer("subjects");
+    private static final PreparedTimer PARTIAL_SUBJECTS_TIMER = timer("partial_subjects");
+    private static final PreparedTimer UNRESTRICTED_SUBJECTS_TIMER = timer("unrestricted_subjects");
+    private static final PreparedTimer JSON_VIEW_TIMER = timer("json_view");
+    private static final Histogram ENTRIES = DittoMetrics.histogram(ENTRIES_HISTOGRAM_NAME);
+    private static final Histogram CHECK_RESOURCES_VISITED =
+            DittoMetrics.histogram(RESOURCES_VISITED_HISTOGRAM_NAME).tag(OPERATION_TAG, "check");
+    private static final Histogram JSON_VIEW_RESOURCES_VISITED =
+            DittoMetrics.histogram(RESOURCES_VISITED_HISTOGRAM_NAME).tag(OPERATION_TAG, "json_view");
+    private static final Histogram JSON_VIEW_SIZE = DittoMetrics.histogram(JSON_VIEW_SIZE_HISTOGRAM_NAME);
+
+    private final Enforcer delegate;
+    private final String policyId;
+    private final int entries;
+    private final PolicyEvaluationStatistics statistics;
+
+    InstrumentedEnforcer(final Enforcer delegate, final String policyId, final int entries,
+            final PolicyEvaluationStatistics statistics) {
+
+        this.delegate = delegate;
+        this.policyId = policyId;
+        this.entries = entries;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        final long startNanos = System.nanoTime();
+        final boolean result = delegate.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions);
+        recordCheck(UNRESTRICTED_TIMER, startNanos, resourceKey);
+        return result;
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        final long startNanos = System.nanoTime();
+        final EffectedSubjects result = delegate.getSubjectsWithPermission(resourceKey, permissions);
+        recordCheck(SUBJECTS_TIMER, startNanos, resourceKey);
+        return result;
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        final long startNanos = System.nanoTime();
+        final Set<AuthorizationSubject> result = delegate.getSubjectsWithPartialPermission(resourceKey, permissions);
+        recordCheck(PARTIAL_SUBJECTS_TIMER, startNanos, resourceKey);
+        return result;
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        final long startNanos = System.nanoTime();
+        final boolean result = delegate.hasPartialPermissions(resourceKey, authorizationContext, permissions);
+        recordCheck(PARTIAL_TIMER, startNanos, resourceKey);
+        return result;
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithUnrestrictedPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        final long startNanos = System.nanoTime();
+        final Set<AuthorizationSubject> result =
+                delegate.getSubjectsWithUnrestrictedPermission(resourceKey, permissions);
+        recordCheck(UNRESTRICTED_SUBJECTS_TIMER, startNanos, resourceKey);
+        return result;
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        final long startNanos = System.nanoTime();
+        final int[] resourcesVisited = new int[1];
+        final JsonObject result;
+        if (delegate instanceof TrieBasedPolicyEnforcer trieBasedPolicyEnforcer) {
+            result = trieBasedPolicyEnforcer.buildJsonView(resourceKey, jsonFields, authorizationContext,
+                    permissions, evaluatedResources -> resourcesVisited[0] = evaluatedResources);
+        } else {
+            result = delegate.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions);
+        }
+        final long nanos = System.nanoTime() - startNanos;
+        final int resultSize = result.getSize();
+        JSON_VIEW_TIMER.record(nanos, TimeUnit.NANOSECONDS);
+        ENTRIES.record((long) entries);
+        JSON_VIEW_RESOURCES_VISITED.record((long) resourcesVisited[0]);
+        JSON_VIEW_SIZE.record((long) resultSize);
+        statistics.record(policyId, entries, nanos, resourcesVisited[0], resultSize);
+        return result;
+    }
+
+    private void recordCheck(final PreparedTimer timer, final long startNanos, final ResourceKey resourceKey) {
+        final long nanos = System.nanoTime() - startNanos;
+        // counted after the measurement as the trie is traversed again
+        final int resourcesVisited = delegate instanceof TrieBasedPolicyEnforcer trieBasedPolicyEnforcer
+                ? trieBasedPolicyEnforcer.countVisitedResources(resourceKey)
+                : 0;
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+        ENTRIES.record((long) entries);
+        CHECK_RESOURCES_VISITED.record((long) resourcesVisited);
+        statistics.record(policyId, entries, nanos, resourcesVisited, 0);
+    }
+
+    private static PreparedTimer timer(final String operation) {
+        return DittoMetrics.timer(TIMER_NAME).tag(OPERATION_TAG, operation);
+    }
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+
+/**
+ * Second tier of the {@link PolicyEnforcerCache} in direct (off-heap) memory.
+ * <p>
+ * Holds the serialized policies of enforcers which were evicted from the heap because of its size, so that their
+ * enforcers can be rebuilt without retrieving the policies from the cluster again. The tier is bounded by the bytes
+ * of the serialized policies; the policies stored first are dropped first. A policy is taken out of the tier when
+ * its enforcer is rebuilt or when it is invalidated.
+ * </p>
+ * <p>
+ * Policies expire by the time they were originally retrieved from the cluster, not by the time they were stored in
+ * this tier, so that moving an enforcer between the tiers does not extend the inconsistency after a lost
+ * invalidation.
+ * </p>
+ */
+@ThreadSafe
+final class OffHeapPolicyTier {
+
+    static final String CACHE_NAME = "policy_enforcer_off_heap_cache";
+
+    private static final String CACHE_NAME_TAG = "cache_name";
+
+    private final long maximumBytes;
+    private final long expireAfterWriteNanos;
+    private final Map<PolicyId, StoredPolicy> storedPolicies;
+    private final Gauge estimatedSize;
+    private long bytes;
+
+    /**
+     * Creates an off-heap tier.
+     *
+     * @param maximumBytes the maximum number of bytes of the serialized policies in the tier.
+     * @param expireAfterWrite how long after its retrieval from the cluster a policy may be restored at most.
+     */
+    OffHeapPolicyTier(final long maximumBytes, final Duration expireAfterWrite) {
+        this.maximumBytes = maximumBytes;
+        expireAfterWriteNanos = expireAfterWrite.toNanos();
+        storedPolicies = new LinkedHashMap<>();
+        estimatedSize = DittoMetrics.gauge("cache_estimated_size").tag(CACHE_NAME_TAG, CACHE_NAME);
+        DittoMetrics.gauge("cache_max_size").tag(CACHE_NAME_TAG, CACHE_NAME).set(maximumBytes);
+        bytes = 0L;
+    }
+
+    /**
+     * Stores the policy of an evicted enforcer.
+     *
+     * @param policyId the ID of the policy.
+     * @param policyEnforcerEntry the evicted entry; entries without policy are ignored.
+     */
+    void put(final PolicyId policyId, final Entry<PolicyEnforcer> policyEnforcerEntry) {
+        policyEnforcerEntry.get()
+                .flatMap(PolicyEnforcer::getPolicy)
+                .ifPresent(policy -> put(policyId, policyEnforcerEntry.getRevision(), policy,
+                        policyEnforcerEntry.getValueOrThrow().getLoadedAtNanos()));
+    }
+
+    private void put(final PolicyId policyId, final long revision, final Policy policy, final long loadedAtNanos) {
+        if (getRemainingNanos(loadedAtNanos) <= 0L) {
+            return;
+        }
+        final byte[] serializedPolicy = policy.toJsonString().getBytes(StandardCharsets.UTF_8);
+        if (serializedPolicy.length > maximumBytes) {
+            return;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(serializedPolicy.length);
+        buffer.put(serializedPolicy).flip();
+        final StoredPolicy storedPolicy = new StoredPolicy(revision, buffer, loadedAtNanos);
+        synchronized (this) {
+            removeStoredPolicy(policyId);
+            storedPolicies.put(policyId, storedPolicy);
+            bytes += storedPolicy.size();
+            final Iterator<StoredPolicy> oldestFirst = storedPolicies.values().iterator();
+            while (bytes > maximumBytes && oldestFirst.hasNext()) {
+                bytes -= oldestFirst.next().size();
+                oldestFirst.remove();
+            }
+            estimatedSize.set(bytes);
+        }
+    }
+
+    /**
+     * Takes the policy with the given ID out of this tier.
+     *
+     * @param policyId the ID of the policy.
+     * @return the restored policy or an empty optional if the policy is not stored or expired.
+     */
+    Optional<RestoredPolicy> take(final PolicyId policyId) {
+        final StoredPolicy storedPolicy;
+        synchronized (this) {
+            storedPolicy = removeStoredPolicy(policyId);
+            estimatedSize.set(bytes);
+        }
+        if (null == storedPolicy) {
+            return Optional.empty();
+        }
+        final long remainingNanos = getRemainingNanos(storedPolicy.loadedAtNanos());
+        if (remainingNanos <= 0L) {
+            return Optional.empty();
+        }
+        final byte[] serializedPolicy = new byte[storedPolicy.size()];
+        storedPolicy.serializedPolicy().duplicate().get(serializedPolicy);
+        final Policy policy = PoliciesModelFactory.newPolicy(new String(serializedPolicy, StandardCharsets.UTF_8));
+        return Optional.of(new RestoredPolicy(Entry.of(storedPolicy.revision(), policy), storedPolicy.loadedAtNanos(),
+                remainingNanos));
+    }
+
+    /**
+     * Removes the policy with the given ID from this tier.
+     *
+     * @param policyId the ID of the policy.
+     */
+    synchronized void invalidate(final PolicyId policyId) {
+        if (null != removeStoredPolicy(policyId)) {
+            estimatedSize.set(bytes);
+        }
+    }
+
+    /**
+     * Returns the number of bytes of the serialized policies held by this tier.
+     *
+     * @return the bytes.
+     */
+    synchronized long getBytes() {
+        return bytes;
+    }
+
+    private long getRemainingNanos(final long loadedAtNanos) {
+        return expireAfterWriteNanos - (System.nanoTime() - loadedAtNanos);
+    }
+
+    @Nullable
+    private StoredPolicy removeStoredPolicy(final PolicyId policyId) {
+        final StoredPolicy removed = storedPolicies.remove(policyId);
+        if (null != removed) {
+            bytes -= removed.size();
+        }
+        return removed;
+    }
+
+    /**
+     * A policy taken out of this tier.
+     *
+     * @param policyEntry the cache entry of the policy.
+     * @param loadedAtNanos the {@link System#nanoTime()} at which the policy was retrieved from the cluster.
+     * @param remainingNanos how long an enforcer rebuilt from the policy may be used until it expires.
+     */
+    record RestoredPolicy(Entry<Policy> policyEntry, long loadedAtNanos, long remainingNanos) {
+
+        /**
+         * Rebuilds the enforcer of the policy.
+         *
+         * @return the cache entry of the enforcer.
+         */
+        Entry<PolicyEnforcer> toPolicyEnforcerEntry() {
+            return Entry.of(policyEntry.getRevision(),
+                    PolicyEnforcer.of(policyEntry.getValueOrThrow(), loadedAtNanos));
+        }
+
+    }
+
+    private record StoredPolicy(long revision, ByteBuffer serializedPolicy, long loadedAtNanos) {
+
+        private int size() {
+            return serializedPolicy.capacity();
+        }
+
+    }
+
+}
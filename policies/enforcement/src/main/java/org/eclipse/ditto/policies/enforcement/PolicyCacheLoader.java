@@ -12,20 +12,37 @@
  */
 package org.eclipse.ditto.policies.enforcement;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
-import javax.annotation.concurrent.Immutable;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
 
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.internal.utils.cacheloaders.ActorAskCacheLoader;
 import org.eclipse.ditto.internal.utils.cacheloaders.config.AskWithRetryConfig;
+import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.cluster.ShardRegionProxyActorFactory;
 import org.eclipse.ditto.internal.utils.cluster.config.ClusterConfig;
 import org.eclipse.ditto.internal.utils.cluster.config.DefaultClusterConfig;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.policies.api.PoliciesMessagingConstants;
+import org.eclipse.ditto.policies.api.commands.sudo.SudoRetrievePolicies;
+import org.eclipse.ditto.policies.api.commands.sudo.SudoRetrievePoliciesResponse;
 import org.eclipse.ditto.policies.api.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.policies.enforcement.config.DefaultEnforcementConfig;
 import org.eclipse.ditto.policies.model.Policy;
@@ -35,6 +52,7 @@ import org.eclipse.ditto.policies.model.PolicyRevision;
 import org.eclipse.ditto.policies.model.signals.commands.exceptions.PolicyNotAccessibleException;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.typesafe.config.Config;
 
 import org.apache.pekko.actor.AbstractExtensionId;
 import org.apache.pekko.actor.ActorRef;
@@ -42,14 +60,31 @@ import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.actor.ExtendedActorSystem;
 import org.apache.pekko.actor.Extension;
 import org.apache.pekko.actor.Scheduler;
+import org.apache.pekko.cluster.pubsub.DistributedPubSub;
+import org.apache.pekko.pattern.Patterns;
 
 /**
  * Loads a policy by asking the policies shard-region-proxy.
+ * <p>
+ * Concurrent loads of the same policy are coalesced into one request as long as the policy is not invalidated via
+ * {@link #invalidateLoadsInFlight(PolicyId)} in the meantime. If batch loading is configured, the policies
+ * requested within a short collection window are retrieved together with one {@link SudoRetrievePolicies} command
+ * from the policies aggregator, so that filling cold caches e.g. after a restart issues few large requests instead of
+ * one request per policy. If a batch cannot be retrieved, its policies are loaded one by one.
+ * </p>
  */
-@Immutable
+@ThreadSafe
 public final class PolicyCacheLoader implements AsyncCacheLoader<PolicyId, Entry<Policy>>, Extension {
 
+    /**
+     * Config path of the batch loading configuration.
+     */
+    static final String BATCH_LOADING_CONFIG_PATH = "ditto.policies-enforcer-cache.batch-loading";
+
     private final ActorAskCacheLoader<Policy, Command<?>, PolicyId> delegate;
+    @Nullable private final BatchLoader batchLoader;
+    private final Map<PolicyId, CompletableFuture<Entry<Policy>>> loadsInFlight;
+    private final Counter coalescedLoads;
 
     /**
      * Constructor.
@@ -57,10 +92,17 @@ public final class PolicyCacheLoader implements AsyncCacheLoader<PolicyId, Entry
      * @param askWithRetryConfig the configuration for the "ask with retry" pattern applied for the cache loader.
      * @param scheduler the scheduler to use for the "ask with retry" for retries.
      * @param policiesShardRegionProxy the shard-region-proxy.
+     * @param pubSubMediator the pub-sub mediator to reach the policies aggregator with or {@code null} if policies
+     * should be loaded one by one.
+     * @param maxBatchSize the maximum number of policies to retrieve with one request.
+     * @param collectionWindow how long to collect policies to load before retrieving them.
      */
     private PolicyCacheLoader(final AskWithRetryConfig askWithRetryConfig,
             final Scheduler scheduler,
-            final ActorRef policiesShardRegionProxy) {
+            final ActorRef policiesShardRegionProxy,
+            @Nullable final ActorRef pubSubMediator,
+            final int maxBatchSize,
+            final Duration collectionWindow) {
 
         delegate = ActorAskCacheLoader.forShard(askWithRetryConfig,
                 scheduler,
@@ -68,6 +110,14 @@ public final class PolicyCacheLoader implements AsyncCacheLoader<PolicyId, Entry
                 policiesShardRegionProxy,
                 PolicyCommandFactory::sudoRetrievePolicy,
                 PolicyCacheLoader::extractPolicy);
+        if (null != pubSubMediator && maxBatchSize > 1) {
+            batchLoader = new BatchLoader(pubSubMediator, askWithRetryConfig.getAskTimeout(), maxBatchSize,
+                    collectionWindow);
+        } else {
+            batchLoader = null;
+        }
+        loadsInFlight = new ConcurrentHashMap<>();
+        coalescedLoads = DittoMetrics.counter("policy_loads_coalesced");
     }
 
     /**
@@ -80,7 +130,31 @@ public final class PolicyCacheLoader implements AsyncCacheLoader<PolicyId, Entry
             final Scheduler scheduler,
             final ActorRef policiesShardRegionProxy) {
 
-        return new PolicyCacheLoader(askWithRetryConfig, scheduler, policiesShardRegionProxy);
+        return new PolicyCacheLoader(askWithRetryConfig, scheduler, policiesShardRegionProxy, null, 1, Duration.ZERO);
+    }
+
+    /**
+     * Creates a {@link PolicyCacheLoader} which loads batches of policies from the policies aggregator.
+     *
+     * @param askWithRetryConfig the configuration for the "ask with retry" pattern applied for the cache loader.
+     * @param scheduler the scheduler to use for the "ask with retry" for retries.
+     * @param policiesShardRegionProxy the shard-region-proxy.
+     * @param pubSubMediator the pub-sub mediator to reach the policies aggregator with.
+     * @param maxBatchSize the maximum number of policies to retrieve with one request; batch loading is disabled if
+     * it is less than 2.
+     * @param collectionWindow how long to collect policies to load before retrieving them.
+     * @return the new instance.
+     * @since 3.6.0
+     */
+    public static PolicyCacheLoader getNewInstance(final AskWithRetryConfig askWithRetryConfig,
+            final Scheduler scheduler,
+            final ActorRef policiesShardRegionProxy,
+            final ActorRef pubSubMediator,
+            final int maxBatchSize,
+            final Duration collectionWindow) {
+
+        return new PolicyCacheLoader(askWithRetryConfig, scheduler, policiesShardRegionProxy, pubSubMediator,
+                maxBatchSize, collectionWindow);
     }
 
     /**
@@ -97,7 +171,8 @@ public final class PolicyCacheLoader implements AsyncCacheLoader<PolicyId, Entry
 
         @Override
         public PolicyCacheLoader createExtension(final ExtendedActorSystem system) {
-            final DefaultScopedConfig dittoScoped = DefaultScopedConfig.dittoScoped(system.settings().config());
+            final Config config = system.settings().config();
+            final DefaultScopedConfig dittoScoped = DefaultScopedConfig.dittoScoped(config);
             final AskWithRetryConfig askWithRetryConfig = DefaultEnforcementConfig.of(dittoScoped)
                     .getAskWithRetryConfig();
 
@@ -110,21 +185,63 @@ public final class PolicyCacheLoader implements AsyncCacheLoader<PolicyId, Entry
                     PoliciesMessagingConstants.SHARD_REGION
             );
 
-            return new PolicyCacheLoader(askWithRetryConfig, system.scheduler(), policiesShardRegion);
+            return getNewInstance(askWithRetryConfig, system.scheduler(), policiesShardRegion,
+                    DistributedPubSub.get(system).mediator(),
+                    config.getInt(BATCH_LOADING_CONFIG_PATH + ".max-batch-size"),
+                    config.getDuration(BATCH_LOADING_CONFIG_PATH + ".collection-window"));
         }
     }
 
     @Override
     public CompletableFuture<Entry<Policy>> asyncLoad(final PolicyId policyId, final Executor executor) {
-        return delegate.asyncLoad(policyId, executor);
+        final CompletableFuture<Entry<Policy>> load = new CompletableFuture<>();
+        final CompletableFuture<Entry<Policy>> loadInFlight = loadsInFlight.putIfAbsent(policyId, load);
+        if (null != loadInFlight) {
+            coalescedLoads.increment();
+            return loadInFlight.copy();
+        }
+        load.whenComplete((entry, error) -> loadsInFlight.remove(policyId, load));
+        try {
+            final CompletableFuture<Entry<Policy>> startedLoad = null != batchLoader
+                    ? batchLoader.load(policyId, executor)
+                    : delegate.asyncLoad(policyId, executor);
+            startedLoad.whenComplete((entry, error) -> complete(load, entry, error));
+        } catch (final RuntimeException e) {
+            load.completeExceptionally(e);
+        }
+        return load.copy();
+    }
+
+    /**
+     * Stops coalescing loads of a policy with the loads which are already in flight, e.g. because the policy was
+     * modified and the loads in flight might still retrieve its previous revision. The loads in flight complete
+     * nevertheless; loads requested afterwards retrieve the policy again.
+     *
+     * @param policyId the ID of the invalidated policy.
+     * @since 3.6.0
+     */
+    public void invalidateLoadsInFlight(final PolicyId policyId) {
+        loadsInFlight.remove(policyId);
+    }
+
+    private void loadOneByOne(final Map<PolicyId, CompletableFuture<Entry<Policy>>> batch, final Executor executor) {
+        batch.forEach((policyId, load) -> delegate.asyncLoad(policyId, executor)
+                .whenComplete((entry, error) -> complete(load, entry, error)));
+    }
+
+    private static <T> void complete(final CompletableFuture<T> future, @Nullable final T value,
+            @Nullable final Throwable error) {
+
+        if (null != error) {
+            future.completeExceptionally(error);
+        } else {
+            future.complete(value);
+        }
     }
 
     private static Entry<Policy> extractPolicy(final Object response) {
         if (response instanceof final SudoRetrievePolicyResponse sudoRetrievePolicyResponse) {
-            final var policy = sudoRetrievePolicyResponse.getPolicy();
-            final long revision = policy.getRevision().map(PolicyRevision::toLong)
-                    .orElseThrow(() -> new IllegalStateException("Bad SudoRetrievePolicyResponse: no revision"));
-            return Entry.of(revision, policy);
+            return toEntry(sudoRetrievePolicyResponse.getPolicy());
         } else if (response instanceof PolicyNotAccessibleException) {
             return Entry.nonexistent();
         } else {
@@ -132,4 +249,107 @@ public final class PolicyCacheLoader implements AsyncCacheLoader<PolicyId, Entry
         }
     }
 
+    private static Map<PolicyId, Entry<Policy>> extractPolicies(final Object response) {
+        if (response instanceof final SudoRetrievePoliciesResponse sudoRetrievePoliciesResponse) {
+            final Map<PolicyId, Entry<Policy>> entries = new HashMap<>();
+            for (final Policy policy : sudoRetrievePoliciesResponse.getPolicies()) {
+                policy.getEntityId().ifPresent(policyId -> entries.put(policyId, toEntry(policy)));
+            }
+            return entries;
+        } else {
+            throw new IllegalStateException("expect SudoRetrievePoliciesResponse, got: " + response);
+        }
+    }
+
+    private static Entry<Policy> toEntry(final Policy policy) {
+        final long revision = policy.getRevision().map(PolicyRevision::toLong)
+                .orElseThrow(() -> new IllegalStateException("Bad SudoRetrievePolicyResponse: no revision"));
+        return Entry.of(revision, policy);
+    }
+
+    /**
+     * Collects the policies to load within a collection window and retrieves them with one
+     * {@link SudoRetrievePolicies} command.
+     */
+    private final class BatchLoader {
+
+        private final ActorRef pubSubMediator;
+        private final Duration askTimeout;
+        private final int maxBatchSize;
+        private final Duration collectionWindow;
+        private final Histogram batchSizes;
+
+        @GuardedBy("this")
+        private Map<PolicyId, CompletableFuture<Entry<Policy>>> batch;
+
+        private BatchLoader(final ActorRef pubSubMediator,
+                final Duration askTimeout,
+                final int maxBatchSize,
+                final Duration collectionWindow) {
+
+            this.pubSubMediator = pubSubMediator;
+            this.askTimeout = askTimeout;
+            this.maxBatchSize = maxBatchSize;
+            this.collectionWindow = collectionWindow;
+            batchSizes = DittoMetrics.histogram("policy_load_batch_size");
+            batch = new LinkedHashMap<>();
+        }
+
+        private CompletableFuture<Entry<Policy>> load(final PolicyId policyId, final Executor executor) {
+            final CompletableFuture<Entry<Policy>> load = new CompletableFuture<>();
+            final boolean firstOfBatch;
+            @Nullable final Map<PolicyId, CompletableFuture<Entry<Policy>>> fullBatch;
+            synchronized (this) {
+                // a policy loaded again after its invalidation may still wait for the retrieval of the current batch
+                final CompletableFuture<Entry<Policy>> pendingLoad = batch.get(policyId);
+                if (null != pendingLoad) {
+                    return pendingLoad;
+                }
+                firstOfBatch = batch.isEmpty();
+                batch.put(policyId, load);
+                fullBatch = batch.size() >= maxBatchSize ? takeBatch() : null;
+            }
+            if (null != fullBatch) {
+                retrieve(fullBatch, executor);
+            } else if (firstOfBatch) {
+                CompletableFuture.delayedExecutor(collectionWindow.toMillis(), TimeUnit.MILLISECONDS, executor)
+                        .execute(() -> retrieve(takeBatch(), executor));
+            }
+            return load;
+        }
+
+        private synchronized Map<PolicyId, CompletableFuture<Entry<Policy>>> takeBatch() {
+            final Map<PolicyId, CompletableFuture<Entry<Policy>>> result = batch;
+            batch = new LinkedHashMap<>();
+            return result;
+        }
+
+        private void retrieve(final Map<PolicyId, CompletableFuture<Entry<Policy>>> batchToRetrieve,
+                final Executor executor) {
+
+            if (batchToRetrieve.isEmpty()) {
+                return;
+            }
+            batchSizes.record((long) batchToRetrieve.size());
+            if (batchToRetrieve.size() == 1) {
+                loadOneByOne(batchToRetrieve, executor);
+                return;
+            }
+            final SudoRetrievePolicies command = SudoRetrievePolicies.of(new ArrayList<>(batchToRetrieve.keySet()),
+                    DittoHeaders.newBuilder().correlationId("sudoRetrievePolicies-" + UUID.randomUUID()).build());
+            Patterns.ask(pubSubMediator,
+                            DistPubSubAccess.send(PoliciesMessagingConstants.POLICIES_AGGREGATOR_ACTOR_PATH, command),
+                            askTimeout)
+                    .thenApply(PolicyCacheLoader::extractPolicies)
+                    .whenCompleteAsync((entries, error) -> {
+                        if (null != error) {
+                            loadOneByOne(batchToRetrieve, executor);
+                        } else {
+                            batchToRetrieve.forEach((policyId, load) ->
+                                    load.complete(entries.getOrDefault(policyId, Entry.nonexistent())));
+                        }
+                    }, executor);
+        }
+    }
+
 }
@@ -14,11 +14,13 @@ package org.eclipse.ditto.policies.enforcement;
 
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.base.service.devops.PolicyEvaluationStatistics;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
@@ -31,12 +33,27 @@ import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
 @Immutable
 public final class PolicyEnforcer {
 
+    private static final AtomicLong GENERATIONS = new AtomicLong();
+
     @Nullable private final Policy policy;
     private final Enforcer enforcer;
+    private final long generation;
+    private final long loadedAtNanos;
+
+    // lazily created instrumented variant of this enforcer, kept so that every lookup yields the same instance
+    @Nullable private volatile PolicyEnforcer instrumented;
 
     private PolicyEnforcer(@Nullable final Policy policy, final Enforcer enforcer) {
+        this(policy, enforcer, GENERATIONS.incrementAndGet(), System.nanoTime());
+    }
+
+    private PolicyEnforcer(@Nullable final Policy policy, final Enforcer enforcer, final long generation,
+            final long loadedAtNanos) {
+
         this.policy = policy;
         this.enforcer = enforcer;
+        this.generation = generation;
+        this.loadedAtNanos = loadedAtNanos;
     }
 
     /**
@@ -64,6 +81,19 @@ public final class PolicyEnforcer {
         return new PolicyEnforcer(policy, PolicyEnforcers.defaultEvaluator(policy));
     }
 
+    /**
+     * Create a policy together with its enforcer for a policy which was retrieved earlier, e.g. from a secondary
+     * cache tier.
+     *
+     * @param policy the policy
+     * @param loadedAtNanos the {@link System#nanoTime()} at which the policy was retrieved.
+     * @return the pair
+     */
+    static PolicyEnforcer of(final Policy policy, final long loadedAtNanos) {
+        return new PolicyEnforcer(policy, PolicyEnforcers.defaultEvaluator(policy), GENERATIONS.incrementAndGet(),
+                loadedAtNanos);
+    }
+
     /**
      * Create a cache entry containing an Enforcer extracted from the passed {@code policyEnforcerEntry}.
      *
@@ -92,6 +122,34 @@ public final class PolicyEnforcer {
         }
     }
 
+    /**
+     * Create a policy enforcer whose policy evaluations are recorded as metrics and in the given statistics.
+     * Enforcers without policy are not instrumented as their policy ID is unknown.
+     *
+     * @param statistics the statistics to record the evaluations in.
+     * The instrumented enforcer is created once and returned by all subsequent calls, so that repeated lookups of
+     * the same cached policy enforcer yield the same instance.
+     *
+     * @param statistics the statistics to record the evaluations in.
+     * @return the instrumented policy enforcer or this one if the statistics are disabled.
+     */
+    PolicyEnforcer withEvaluationStatistics(final PolicyEvaluationStatistics statistics) {
+        if (null == policy || !statistics.isEnabled() || enforcer instanceof InstrumentedEnforcer) {
+            return this;
+        }
+        final PolicyEnforcer existing = instrumented;
+        if (null != existing) {
+            return existing;
+        }
+        final String policyId = policy.getEntityId().map(String::valueOf).orElse("");
+        final PolicyEnforcer created = new PolicyEnforcer(policy,
+                new InstrumentedEnforcer(enforcer, policyId, policy.getSize(), statistics),
+                generation,
+                loadedAtNanos);
+        instrumented = created;
+        return created;
+    }
+
     /**
      * Retrieve the policy.
      *
@@ -110,4 +168,24 @@ public final class PolicyEnforcer {
         return enforcer;
     }
 
+    /**
+     * Retrieve the generation of this policy enforcer. Each compiled enforcer gets a new generation, so that the
+     * generation changes whenever the policy or one of its imported policies changed. The instrumented variant of an
+     * enforcer shares its generation.
+     *
+     * @return the generation.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Retrieve when the policy of this enforcer was retrieved.
+     *
+     * @return the {@link System#nanoTime()} at which the policy was retrieved.
+     */
+    long getLoadedAtNanos() {
+        return loadedAtNanos;
+    }
+
 }
@@ -13,57 +13,233 @@
 package org.eclipse.ditto.policies.enforcement;
 
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.internal.utils.cache.Cache;
 import org.eclipse.ditto.internal.utils.cache.CacheFactory;
 import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyBuilder;
+import org.eclipse.ditto.policies.model.PolicyEntry;
 import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.policies.model.PolicyImport;
+import org.eclipse.ditto.policies.model.PolicyImporter;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 
 import scala.concurrent.ExecutionContextExecutor;
 
+/**
+ * Cache of policy enforcers which are invalidated together with the policies they import.
+ * <p>
+ * If a resolver of imported policies is given, a change of an imported policy does not cause the importing policies
+ * to be loaded again: the enforcers of cached importing policies are rebuilt from their cached policies by replacing
+ * only the entries imported from the changed policy, which is loaded once per change for all importing policies.
+ * The rebuilds are done on the next access of the importing policy or, rate limited, in the background.
+ * </p>
+ * <p>
+ * The cache may be bounded by the estimated heap bytes of its enforcers (see {@link PolicyEnforcerWeigher}) instead
+ * of by their number. Then the policies of enforcers evicted due to the size of the cache may be kept in an
+ * {@link OffHeapPolicyTier} in order to rebuild their enforcers without retrieving the policies again.
+ * </p>
+ */
 final class PolicyEnforcerCache implements Cache<PolicyId, Entry<PolicyEnforcer>> {
 
+    private static final String IMPORT_REBUILDS_HISTOGRAM_NAME = "policy_enforcer_import_rebuilds";
+    private static final long REBUILD_INTERVAL_MILLIS = 100L;
+    private static final String CACHE_NAME = "policy_enforcer_cache";
+    private static final String OFF_HEAP_RESTORES_COUNTER_NAME = "policy_enforcer_off_heap_restores";
+
     private final Cache<PolicyId, Entry<PolicyEnforcer>> delegate;
     private final Map<PolicyId, Set<PolicyId>> policyIdToImportingMap;
+    @Nullable private final Function<PolicyId, CompletionStage<Optional<Policy>>> importedPolicyResolver;
+    private final Map<PolicyId, ImportPatch> pendingImportPatches;
+    private final Queue<PolicyId> pendingRebuilds;
+    private final AtomicBoolean rebuilding;
+    private final int rebuildsPerInterval;
+    private final Executor rebuildExecutor;
+    private final Histogram importRebuildsPerChange;
+    @Nullable private final OffHeapPolicyTier offHeapTier;
+    private final Counter offHeapRestores;
+    private final Consumer<PolicyId> loadsInFlightInvalidator;
 
     PolicyEnforcerCache(final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader,
             final ExecutionContextExecutor cacheDispatcher,
             final CacheConfig cacheConfig) {
+
+        this(policyEnforcerCacheLoader, null, cacheDispatcher, cacheConfig, 0, 0L, null);
+    }
+
+    /**
+     * Creates a cache which rebuilds the enforcers of importing policies incrementally.
+     *
+     * @param policyEnforcerCacheLoader loads policy enforcers with resolved imports.
+     * @param importedPolicyResolver resolves imported policies or {@code null} to load importing policies again
+     * when an imported policy changes.
+     * @param cacheDispatcher the executor of the cache.
+     * @param cacheConfig the configuration of the cache.
+     * @param importRebuildsPerSecond how many enforcers of importing policies to rebuild per second in the
+     * background, 0 to rebuild them only on access.
+     * @param maximumBytes the maximum estimated heap bytes of all cached enforcers or 0 to bound the cache by the
+     * maximum size of {@code cacheConfig}.
+     * @param offHeapTier keeps the policies of enforcers evicted due to {@code maximumBytes} or {@code null}.
+     */
+    PolicyEnforcerCache(final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader,
+            @Nullable final Function<PolicyId, CompletionStage<Optional<Policy>>> importedPolicyResolver,
+            final ExecutionContextExecutor cacheDispatcher,
+            final CacheConfig cacheConfig,
+            final int importRebuildsPerSecond,
+            final long maximumBytes,
+            @Nullable final OffHeapPolicyTier offHeapTier) {
+
         policyIdToImportingMap = new ConcurrentHashMap<>();
-        this.delegate = CacheFactory.createCache(
-                (policyId, executor) -> policyEnforcerCacheLoader.asyncLoad(policyId, executor)
-                        .whenComplete(((policyEnforcerEntry, throwable) -> policyEnforcerEntry.get()
-                                .flatMap(PolicyEnforcer::getPolicy)
-                                .map(Policy::getPolicyImports)
-                                .filter(imports -> !imports.isEmpty())
-                                .ifPresent(imports -> imports.stream()
-                                        .map(PolicyImport::getImportedPolicyId)
-                                        .forEach(importedPolicyId -> policyIdToImportingMap.compute(
-                                                importedPolicyId, (importedPolicyId1, importingPolicyIds) -> {
-                                                    final Set<PolicyId> newImportingPolicyIds =
-                                                            importingPolicyIds == null ? new HashSet<>() :
-                                                                    importingPolicyIds;
-                                                    newImportingPolicyIds.add(policyId);
-                                                    return newImportingPolicyIds;
-                                                }))))),
-                cacheConfig,
-                "policy_enforcer_cache",
-                cacheDispatcher
-        );
+        this.importedPolicyResolver = importedPolicyResolver;
+        pendingImportPatches = new ConcurrentHashMap<>();
+        pendingRebuilds = new ConcurrentLinkedQueue<>();
+        rebuilding = new AtomicBoolean();
+        rebuildsPerInterval = importRebuildsPerSecond <= 0 ? 0 :
+                Math.max(1, (int) (importRebuildsPerSecond * REBUILD_INTERVAL_MILLIS / 1000L));
+        rebuildExecutor = CompletableFuture.delayedExecutor(REBUILD_INTERVAL_MILLIS, TimeUnit.MILLISECONDS,
+                cacheDispatcher);
+        importRebuildsPerChange = DittoMetrics.histogram(IMPORT_REBUILDS_HISTOGRAM_NAME);
+        this.offHeapTier = offHeapTier;
+        offHeapRestores = DittoMetrics.counter(OFF_HEAP_RESTORES_COUNTER_NAME);
+        if (policyEnforcerCacheLoader instanceof PolicyEnforcerCacheLoader loader) {
+            loadsInFlightInvalidator = loader::invalidateLoadsInFlight;
+        } else {
+            loadsInFlightInvalidator = policyId -> {};
+        }
+        final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> registeringImportsLoader =
+                (policyId, executor) -> loadPolicyEnforcer(policyEnforcerCacheLoader, policyId, executor)
+                        .whenComplete((policyEnforcerEntry, throwable) -> {
+                            if (null != policyEnforcerEntry) {
+                                registerImports(policyId, policyEnforcerEntry);
+                            }
+                        });
+        if (maximumBytes > 0L) {
+            this.delegate = CacheFactory.createCache(registeringImportsLoader,
+                    new PolicyEnforcerWeigher(),
+                    maximumBytes,
+                    this::onEviction,
+                    cacheConfig,
+                    CACHE_NAME,
+                    cacheDispatcher
+            );
+        } else {
+            this.delegate = CacheFactory.createCache(registeringImportsLoader, cacheConfig, CACHE_NAME,
+                    cacheDispatcher);
+        }
+    }
+
+    private void onEviction(@Nullable final PolicyId policyId,
+            @Nullable final Entry<PolicyEnforcer> policyEnforcerEntry,
+            final RemovalCause removalCause) {
+
+        // expired enforcers are not kept as they bound the inconsistency after a lost invalidation
+        if (null != offHeapTier && RemovalCause.SIZE == removalCause && null != policyId &&
+                null != policyEnforcerEntry) {
+            offHeapTier.put(policyId, policyEnforcerEntry);
+        }
+    }
+
+    private CompletableFuture<Entry<PolicyEnforcer>> loadPolicyEnforcer(
+            final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader,
+            final PolicyId policyId,
+            final Executor executor) {
+
+        final ImportPatch importPatch = pendingImportPatches.remove(policyId);
+        if (null == importPatch) {
+            return restoreFromOffHeapTier(policyId, executor)
+                    .orElseGet(() -> load(policyEnforcerCacheLoader, policyId, executor));
+        }
+        return importPatch.apply()
+                .exceptionallyCompose(error -> load(policyEnforcerCacheLoader, policyId, executor));
+    }
+
+    private Optional<CompletableFuture<Entry<PolicyEnforcer>>> restoreFromOffHeapTier(final PolicyId policyId,
+            final Executor executor) {
+
+        if (null == offHeapTier) {
+            return Optional.empty();
+        }
+        return offHeapTier.take(policyId).map(restoredPolicy -> {
+            offHeapRestores.increment();
+            return CompletableFuture.supplyAsync(restoredPolicy::toPolicyEnforcerEntry, executor)
+                    .whenComplete((policyEnforcerEntry, error) -> {
+                        if (null != policyEnforcerEntry) {
+                            scheduleExpiry(policyId, policyEnforcerEntry, restoredPolicy.remainingNanos(), executor);
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Expires a restored enforcer by the time its policy was originally retrieved instead of by the time it was
+     * restored, as the heap tier would.
+     */
+    private void scheduleExpiry(final PolicyId policyId, final Entry<PolicyEnforcer> policyEnforcerEntry,
+            final long remainingNanos, final Executor executor) {
+
+        final long generation = policyEnforcerEntry.getValueOrThrow().getGeneration();
+        CompletableFuture.delayedExecutor(remainingNanos, TimeUnit.NANOSECONDS, executor)
+                .execute(() -> delegate.invalidateConditionally(policyId, entry -> entry.get()
+                        .filter(policyEnforcer -> policyEnforcer.getGeneration() == generation)
+                        .isPresent()));
+    }
+
+    private static CompletableFuture<Entry<PolicyEnforcer>> load(
+            final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader,
+            final PolicyId policyId,
+            final Executor executor) {
+
+        try {
+            return policyEnforcerCacheLoader.asyncLoad(policyId, executor)
+                    .thenApply(Function.<Entry<PolicyEnforcer>>identity());
+        } catch (final Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void registerImports(final PolicyId policyId, final Entry<PolicyEnforcer> policyEnforcerEntry) {
+        policyEnforcerEntry.get()
+                .flatMap(PolicyEnforcer::getPolicy)
+                .map(Policy::getPolicyImports)
+                .filter(imports -> !imports.isEmpty())
+                .ifPresent(imports -> imports.stream()
+                        .map(PolicyImport::getImportedPolicyId)
+                        .forEach(importedPolicyId -> registerImport(importedPolicyId, policyId)));
+    }
+
+    private void registerImport(final PolicyId importedPolicyId, final PolicyId importingPolicyId) {
+        policyIdToImportingMap.compute(importedPolicyId, (importedPolicyId1, importingPolicyIds) -> {
+            final Set<PolicyId> newImportingPolicyIds =
+                    importingPolicyIds == null ? ConcurrentHashMap.newKeySet() : importingPolicyIds;
+            newImportingPolicyIds.add(importingPolicyId);
+            return newImportingPolicyIds;
+        });
     }
 
     @Override
@@ -89,33 +265,119 @@ final class PolicyEnforcerCache implements Cache<PolicyId, Entry<PolicyEnforcer>
 
     @Override
     public boolean invalidate(final PolicyId policyId) {
+        // Loads of the changed policy requested from now on must not join loads of its previous revision
+        loadsInFlightInvalidator.accept(policyId);
+
         // Invalidate the changed policy
+        final boolean pendingImportPatch = null != pendingImportPatches.remove(policyId);
         final boolean directlyCached = delegate.invalidate(policyId);
 
         // Invalidate all policies that import the changed policy
-        final boolean indirectlyCachedViaImport = Optional.ofNullable(policyIdToImportingMap.remove(policyId))
-                .stream()
-                .flatMap(Collection::stream)
+        final Set<PolicyId> importingPolicyIds = policyIdToImportingMap.remove(policyId);
+        final boolean indirectlyCachedViaImport;
+        if (null == importingPolicyIds) {
+            indirectlyCachedViaImport = false;
+        } else if (null == importedPolicyResolver) {
+            indirectlyCachedViaImport = importingPolicyIds.stream()
+                    .map(delegate::invalidate)
+                    .reduce((previous, next) -> previous || next)
+                    .orElse(false);
+        } else {
+            indirectlyCachedViaImport = patchImportingPolicies(policyId, importingPolicyIds);
+        }
+        invalidateOffHeap(policyId, importingPolicyIds);
+
+        return pendingImportPatch || directlyCached || indirectlyCachedViaImport;
+    }
+
+    /**
+     * Must be called after the invalidation of the heap tier: an enforcer evicted concurrently to the invalidation
+     * is stored in the off-heap tier before it is removed from the heap tier.
+     */
+    private void invalidateOffHeap(final PolicyId policyId, @Nullable final Collection<PolicyId> importingPolicyIds) {
+        if (null != offHeapTier) {
+            offHeapTier.invalidate(policyId);
+            if (null != importingPolicyIds) {
+                importingPolicyIds.forEach(offHeapTier::invalidate);
+            }
+        }
+    }
+
+    private boolean patchImportingPolicies(final PolicyId importedPolicyId, final Set<PolicyId> importingPolicyIds) {
+        final ImportedPolicyReload reload = new ImportedPolicyReload(importedPolicyId, importedPolicyResolver);
+        final List<PolicyId> patchedPolicyIds = importingPolicyIds.stream()
+                .filter(importingPolicyId -> patchImportingPolicy(importingPolicyId, reload))
+                .toList();
+        patchedPolicyIds.forEach(importingPolicyId -> registerImport(importedPolicyId, importingPolicyId));
+        importRebuildsPerChange.record((long) patchedPolicyIds.size());
+        scheduleRebuilds(patchedPolicyIds);
+        return !patchedPolicyIds.isEmpty() || importingPolicyIds.stream()
+                .filter(importingPolicyId -> !patchedPolicyIds.contains(importingPolicyId))
                 .map(delegate::invalidate)
                 .reduce((previous, next) -> previous || next)
                 .orElse(false);
+    }
 
-        return directlyCached || indirectlyCachedViaImport;
+    private boolean patchImportingPolicy(final PolicyId importingPolicyId, final ImportedPolicyReload reload) {
+        // an importing policy whose rebuild is still pending is rebuilt with the latest change of the imported policy
+        if (null != pendingImportPatches.computeIfPresent(importingPolicyId,
+                (id, importPatch) -> importPatch.withReload(reload))) {
+            return true;
+        }
+        final CompletableFuture<Optional<Entry<PolicyEnforcer>>> cached = delegate.getIfPresent(importingPolicyId);
+        final Optional<ImportPatch> importPatch = cached.isDone() && !cached.isCompletedExceptionally()
+                ? cached.join().flatMap(entry -> ImportPatch.of(entry, reload))
+                : Optional.empty();
+        importPatch.ifPresent(patch -> pendingImportPatches.put(importingPolicyId, patch));
+        delegate.invalidate(importingPolicyId);
+        return importPatch.isPresent();
+    }
+
+    private void scheduleRebuilds(final Collection<PolicyId> importingPolicyIds) {
+        if (rebuildsPerInterval > 0 && !importingPolicyIds.isEmpty()) {
+            pendingRebuilds.addAll(importingPolicyIds);
+            if (rebuilding.compareAndSet(false, true)) {
+                rebuildExecutor.execute(this::rebuildNextPolicies);
+            }
+        }
+    }
+
+    private void rebuildNextPolicies() {
+        for (int i = 0; i < rebuildsPerInterval; i++) {
+            final PolicyId importingPolicyId = pendingRebuilds.poll();
+            if (null == importingPolicyId) {
+                break;
+            }
+            if (pendingImportPatches.containsKey(importingPolicyId)) {
+                delegate.get(importingPolicyId);
+            }
+        }
+        if (!pendingRebuilds.isEmpty()) {
+            rebuildExecutor.execute(this::rebuildNextPolicies);
+        } else {
+            rebuilding.set(false);
+            if (!pendingRebuilds.isEmpty() && rebuilding.compareAndSet(false, true)) {
+                rebuildExecutor.execute(this::rebuildNextPolicies);
+            }
+        }
     }
 
     @Override
     public boolean invalidateConditionally(final PolicyId policyId,
             final Predicate<Entry<PolicyEnforcer>> valueCondition) {
         // Invalidate the changed policy
+        pendingImportPatches.remove(policyId);
         final boolean directlyCached = delegate.invalidateConditionally(policyId, valueCondition);
 
         // Invalidate all policies that import the changed policy
-        final boolean indirectlyCachedViaImport = Optional.ofNullable(policyIdToImportingMap.remove(policyId))
+        final Set<PolicyId> importingPolicyIds = policyIdToImportingMap.remove(policyId);
+        final boolean indirectlyCachedViaImport = Optional.ofNullable(importingPolicyIds)
                 .stream()
                 .flatMap(Collection::stream)
                 .map(p -> delegate.invalidateConditionally(p, valueCondition))
                 .reduce((previous, next) -> previous || next)
                 .orElse(false);
+        invalidateOffHeap(policyId, importingPolicyIds);
 
         return directlyCached || indirectlyCachedViaImport;
     }
@@ -130,4 +392,99 @@ final class PolicyEnforcerCache implements Cache<PolicyId, Entry<PolicyEnforcer>
         return delegate.asMap();
     }
 
+    /**
+     * A load of a changed imported policy shared by all importing policies to rebuild.
+     */
+    private static final class ImportedPolicyReload {
+
+        private final PolicyId importedPolicyId;
+        private final Function<PolicyId, CompletionStage<Optional<Policy>>> importedPolicyResolver;
+        @Nullable private CompletableFuture<Optional<Policy>> importedPolicy;
+
+        private ImportedPolicyReload(final PolicyId importedPolicyId,
+                final Function<PolicyId, CompletionStage<Optional<Policy>>> importedPolicyResolver) {
+
+            this.importedPolicyId = importedPolicyId;
+            this.importedPolicyResolver = importedPolicyResolver;
+        }
+
+        private synchronized CompletableFuture<Optional<Policy>> getImportedPolicy() {
+            if (null == importedPolicy) {
+                importedPolicy = importedPolicyResolver.apply(importedPolicyId).toCompletableFuture();
+            }
+            return importedPolicy;
+        }
+
+    }
+
+    /**
+     * Rebuild of the enforcer of an importing policy from its outdated entry by replacing the entries imported from
+     * changed policies.
+     */
+    private record ImportPatch(Entry<PolicyEnforcer> outdatedEntry, Policy outdatedPolicy,
+                               Map<PolicyId, ImportedPolicyReload> reloads) {
+
+        private static Optional<ImportPatch> of(final Entry<PolicyEnforcer> outdatedEntry,
+                final ImportedPolicyReload reload) {
+
+            return outdatedEntry.get()
+                    .flatMap(PolicyEnforcer::getPolicy)
+                    .filter(policy -> isPatchable(policy, reload.importedPolicyId))
+                    .map(policy -> new ImportPatch(outdatedEntry, policy, Map.of(reload.importedPolicyId, reload)));
+        }
+
+        /**
+         * Entries imported from a policy are only recognized by their labels. Policy IDs may contain the separator
+         * of imported labels, therefore a label might be ambiguous with respect to different imported policies.
+         */
+        private static boolean isPatchable(final Policy policy, final PolicyId importedPolicyId) {
+            final List<PolicyId> otherImportedPolicyIds = policy.getPolicyImports().stream()
+                    .map(PolicyImport::getImportedPolicyId)
+                    .filter(policyId -> !policyId.equals(importedPolicyId))
+                    .toList();
+            return policy.getPolicyImports().getPolicyImport(importedPolicyId).isPresent() &&
+                    policy.getEntriesSet().stream()
+                            .map(PolicyEntry::getLabel)
+                            .filter(label -> PolicyImporter.isImportedFrom(label, importedPolicyId))
+                            .noneMatch(label -> otherImportedPolicyIds.stream()
+                                    .anyMatch(otherId -> PolicyImporter.isImportedFrom(label, otherId)));
+        }
+
+        @Nullable
+        private ImportPatch withReload(final ImportedPolicyReload reload) {
+            if (!isPatchable(outdatedPolicy, reload.importedPolicyId)) {
+                return null;
+            }
+            final Map<PolicyId, ImportedPolicyReload> newReloads = new HashMap<>(reloads);
+            newReloads.put(reload.importedPolicyId, reload);
+            return new ImportPatch(outdatedEntry, outdatedPolicy, newReloads);
+        }
+
+        private CompletableFuture<Entry<PolicyEnforcer>> apply() {
+            final List<CompletableFuture<Set<PolicyEntry>>> importedEntries = reloads.values().stream()
+                    .map(reload -> reload.getImportedPolicy().thenApply(importedPolicy -> importedPolicy
+                            .map(policy -> PolicyImporter.getImportedPolicyEntries(
+                                    outdatedPolicy.getPolicyImports()
+                                            .getPolicyImport(reload.importedPolicyId)
+                                            .orElseThrow(),
+                                    policy))
+                            .orElseGet(Set::of)))
+                    .toList();
+            return CompletableFuture.allOf(importedEntries.toArray(CompletableFuture[]::new))
+                    .thenApply(unused -> {
+                        final PolicyBuilder policyBuilder = outdatedPolicy.toBuilder();
+                        outdatedPolicy.getEntriesSet().stream()
+                                .filter(entry -> reloads.keySet().stream()
+                                        .anyMatch(policyId -> PolicyImporter.isImportedFrom(entry.getLabel(),
+                                                policyId)))
+                                .forEach(policyBuilder::remove);
+                        importedEntries.forEach(entries -> policyBuilder.setAll(entries.join()));
+                        // the importing policy itself was not retrieved again
+                        return Entry.of(outdatedEntry.getRevision(), PolicyEnforcer.of(policyBuilder.build(),
+                                outdatedEntry.getValueOrThrow().getLoadedAtNanos()));
+                    });
+        }
+
+    }
+
 }
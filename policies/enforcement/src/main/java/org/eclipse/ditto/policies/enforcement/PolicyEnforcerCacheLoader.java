@@ -56,6 +56,16 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<PolicyI
                 .thenCompose(policyEntry -> evaluatePolicy(policyEntry, policyResolver));
     }
 
+    /**
+     * Prevents loads of the policy requested from now on to be coalesced with loads which started before the policy
+     * was invalidated.
+     *
+     * @param policyId the ID of the invalidated policy.
+     */
+    void invalidateLoadsInFlight(final PolicyId policyId) {
+        delegate.invalidateLoadsInFlight(policyId);
+    }
+
     private CompletionStage<Entry<PolicyEnforcer>> evaluatePolicy(final Entry<Policy> entry,
             final Function<PolicyId, CompletionStage<Optional<Policy>>> policyResolver) {
         if (entry.exists()) {
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.PolicyId;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weighs cached policy enforcers by the estimated number of heap bytes they retain.
+ * <p>
+ * The compiled enforcer holds an index of the subjects and permissions for each resource of the policy, thus its
+ * size grows with the number of subjects times the number of resources of each policy entry. The estimate is
+ * derived from the entries of the policy, which is much cheaper than measuring the actual object graph.
+ * </p>
+ */
+@Immutable
+final class PolicyEnforcerWeigher implements Weigher<PolicyId, Entry<PolicyEnforcer>> {
+
+    static final int NONEXISTENT_POLICY_BYTES = 128;
+    static final int POLICY_BYTES = 2048;
+    static final int POLICY_ENTRY_BYTES = 512;
+    static final int SUBJECT_BYTES = 256;
+    static final int RESOURCE_BYTES = 256;
+    static final int SUBJECT_PER_RESOURCE_BYTES = 64;
+
+    @Override
+    public int weigh(final PolicyId policyId, final Entry<PolicyEnforcer> policyEnforcerEntry) {
+        return policyEnforcerEntry.get()
+                .map(policyEnforcer -> policyEnforcer.getPolicy()
+                        .map(PolicyEnforcerWeigher::estimateBytes)
+                        .orElse(POLICY_BYTES))
+                .orElse(NONEXISTENT_POLICY_BYTES);
+    }
+
+    private static int estimateBytes(final Policy policy) {
+        long bytes = POLICY_BYTES;
+        for (final PolicyEntry policyEntry : policy) {
+            final long subjects = policyEntry.getSubjects().getSize();
+            final long resources = policyEntry.getResources().getSize();
+            bytes += POLICY_ENTRY_BYTES + subjects * SUBJECT_BYTES + resources * RESOURCE_BYTES +
+                    subjects * resources * SUBJECT_PER_RESOURCE_BYTES;
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+}
@@ -21,15 +21,25 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.base.service.devops.PolicyEvaluationStatistics;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.policies.api.PolicyTag;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
 import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectType;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -37,6 +47,8 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.typesafe.config.ConfigFactory;
+
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.cluster.ddata.ORSet;
@@ -117,7 +129,7 @@ public final class CachingPolicyEnforcerProviderTest {
     }
 
     @Test
-    public void getPolicyEnforcerAsksCachingActorForPolicyEnforcer() {
+    public void getPolicyEnforcerReadsCacheWithoutAskingCachingActor() {
         final ActorSystem system = mock(ActorSystem.class);
         when(system.actorOf(any())).thenReturn(cachingActorTestProbe.ref());
         final var underTest = new CachingPolicyEnforcerProvider(
@@ -128,18 +140,21 @@ public final class CachingPolicyEnforcerProviderTest {
         );
 
         new TestKit(actorSystem) {{
+            final PolicyEnforcer enforcer = mock(PolicyEnforcer.class);
             final PolicyId policyId = PolicyId.generateRandom();
+            when(cache.get(policyId))
+                    .thenReturn(CompletableFuture.completedFuture(Optional.of(Entry.of(0L, enforcer))));
+
             final var policyEnforcer = underTest.getPolicyEnforcer(policyId).toCompletableFuture();
-            cachingActorTestProbe.expectMsg(policyId);
-            final PolicyEnforcer enforcer = mock(PolicyEnforcer.class);
-            cachingActorTestProbe.reply(Optional.of(enforcer));
-            assertThat(policyEnforcer.join()).contains(enforcer);
+
+            assertThat(policyEnforcer).isCompletedWithValue(Optional.of(enforcer));
+            cachingActorTestProbe.expectNoMsg();
         }};
 
     }
 
     @Test
-    public void getPolicyEnforcerReturnsEmptyOptionalIfChildActorReturnsOptionalOfWrongType() {
+    public void getPolicyEnforcerCompletesWhenLoadingCompletes() {
         final ActorSystem system = mock(ActorSystem.class);
         when(system.actorOf(any())).thenReturn(cachingActorTestProbe.ref());
         final var underTest = new CachingPolicyEnforcerProvider(
@@ -150,34 +165,86 @@ public final class CachingPolicyEnforcerProviderTest {
         );
 
         new TestKit(actorSystem) {{
+            final PolicyEnforcer enforcer = mock(PolicyEnforcer.class);
             final PolicyId policyId = PolicyId.generateRandom();
+            final CompletableFuture<Optional<Entry<PolicyEnforcer>>> loading = new CompletableFuture<>();
+            when(cache.get(policyId)).thenReturn(loading);
+
             final var policyEnforcer = underTest.getPolicyEnforcer(policyId).toCompletableFuture();
-            cachingActorTestProbe.expectMsg(policyId);
-            cachingActorTestProbe.reply(Optional.of("wrong"));
-            assertThat(policyEnforcer.join()).isEmpty();
+            assertThat(policyEnforcer).isNotDone();
+
+            loading.complete(Optional.of(Entry.of(0L, enforcer)));
+            assertThat(policyEnforcer.join()).contains(enforcer);
+            cachingActorTestProbe.expectNoMsg();
         }};
 
     }
 
     @Test
-    public void getPolicyEnforcerReturnsEmptyOptionalIfChildActorReturnsEmptyOptional() {
-        final ActorSystem system = mock(ActorSystem.class);
-        when(system.actorOf(any())).thenReturn(cachingActorTestProbe.ref());
+    public void concurrentLookupsOfUncachedPolicyLoadItOnce() throws InterruptedException {
+        final PolicyEnforcer enforcer = mock(PolicyEnforcer.class);
+        final AtomicInteger loads = new AtomicInteger();
+        final CompletableFuture<Entry<PolicyEnforcer>> loading = new CompletableFuture<>();
+        final var policyEnforcerCache = new PolicyEnforcerCache((policyId, executor) -> {
+            loads.incrementAndGet();
+            return loading;
+        }, actorSystem.dispatcher(), DefaultCacheConfig.of(ConfigFactory.empty(), "cache"));
         final var underTest = new CachingPolicyEnforcerProvider(
-                system,
-                cache,
+                actorSystem,
+                policyEnforcerCache,
                 blockedNamespaces,
                 pubSubMediatorProbe.ref()
         );
+        final PolicyId policyId = PolicyId.generateRandom();
+        final int numberOfLookups = 64;
+        final List<CompletableFuture<Optional<PolicyEnforcer>>> lookups = new CopyOnWriteArrayList<>();
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < numberOfLookups; i++) {
+                executorService.execute(() ->
+                        lookups.add(underTest.getPolicyEnforcer(policyId).toCompletableFuture()));
+            }
+            executorService.shutdown();
+            assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executorService.shutdownNow();
+        }
 
-        new TestKit(actorSystem) {{
-            final PolicyId policyId = PolicyId.generateRandom();
-            final var policyEnforcer = underTest.getPolicyEnforcer(policyId).toCompletableFuture();
-            cachingActorTestProbe.expectMsg(policyId);
-            cachingActorTestProbe.reply(Optional.empty());
-            assertThat(policyEnforcer.join()).isEmpty();
-        }};
+        loading.complete(Entry.of(0L, enforcer));
+
+        assertThat(lookups).hasSize(numberOfLookups)
+                .allSatisfy(lookup -> assertThat(lookup.join()).contains(enforcer));
+        assertThat(loads).hasValue(1);
+        assertThat(underTest.getPolicyEnforcer(policyId).toCompletableFuture())
+                .isCompletedWithValue(Optional.of(enforcer));
+    }
+
+    @Test
+    public void repeatedLookupsOfCachedPolicyYieldSameInstrumentedEnforcer() {
+        final PolicyId policyId = PolicyId.generateRandom();
+        final PolicyEnforcer enforcer = PolicyEnforcer.of(PoliciesModelFactory.newPolicyBuilder(policyId)
+                .forLabel("DEFAULT")
+                .setSubject("nginx:ditto", SubjectType.GENERATED)
+                .setGrantedPermissions("thing", "/", "READ")
+                .setRevision(1L)
+                .build());
+        when(cache.get(policyId))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(Entry.of(1L, enforcer))));
+        final var underTest = new CachingPolicyEnforcerProvider(
+                actorSystem,
+                cache,
+                blockedNamespaces,
+                pubSubMediatorProbe.ref(),
+                PolicyEvaluationStatistics.get(actorSystem)
+        );
+
+        final PolicyEnforcer first = underTest.getPolicyEnforcer(policyId).toCompletableFuture().join().orElseThrow();
+        final PolicyEnforcer second = underTest.getPolicyEnforcer(policyId).toCompletableFuture().join().orElseThrow();
 
+        assertThat(first.getEnforcer()).isInstanceOf(InstrumentedEnforcer.class);
+        assertThat(second).isSameAs(first);
+        assertThat(second.getEnforcer()).isSameAs(first.getEnforcer());
+        assertThat(second.getGeneration()).isEqualTo(enforcer.getGeneration());
     }
 
     @Test
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectIssuer;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link OffHeapPolicyTier}.
+ */
+public final class OffHeapPolicyTierTest {
+
+    private static final Policy POLICY = policy("first");
+    private static final Policy OTHER_POLICY = policy("second");
+
+    @Test
+    public void storedPolicyIsTakenOnce() {
+        final OffHeapPolicyTier underTest = new OffHeapPolicyTier(1024 * 1024, Duration.ofMinutes(1));
+        final PolicyId policyId = POLICY.getEntityId().orElseThrow();
+
+        underTest.put(policyId, Entry.of(3L, PolicyEnforcer.of(POLICY)));
+
+        assertThat(underTest.getBytes()).isEqualTo(sizeOf(POLICY));
+        assertThat(underTest.take(policyId).map(OffHeapPolicyTier.RestoredPolicy::policyEntry))
+                .contains(Entry.of(3L, POLICY));
+        assertThat(underTest.take(policyId)).isEmpty();
+        assertThat(underTest.getBytes()).isZero();
+    }
+
+    @Test
+    public void nonexistentPoliciesAreNotStored() {
+        final OffHeapPolicyTier underTest = new OffHeapPolicyTier(1024 * 1024, Duration.ofMinutes(1));
+
+        underTest.put(POLICY.getEntityId().orElseThrow(), Entry.nonexistent());
+
+        assertThat(underTest.getBytes()).isZero();
+    }
+
+    @Test
+    public void invalidatedPolicyIsRemoved() {
+        final OffHeapPolicyTier underTest = new OffHeapPolicyTier(1024 * 1024, Duration.ofMinutes(1));
+        final PolicyId policyId = POLICY.getEntityId().orElseThrow();
+        underTest.put(policyId, Entry.of(1L, PolicyEnforcer.of(POLICY)));
+
+        underTest.invalidate(policyId);
+
+        assertThat(underTest.getBytes()).isZero();
+        assertThat(underTest.take(policyId)).isEmpty();
+    }
+
+    @Test
+    public void policyStoredFirstIsDroppedWhenBytesAreExceeded() {
+        final OffHeapPolicyTier underTest =
+                new OffHeapPolicyTier(sizeOf(POLICY) + sizeOf(OTHER_POLICY) - 1, Duration.ofMinutes(1));
+        final PolicyId policyId = POLICY.getEntityId().orElseThrow();
+        final PolicyId otherPolicyId = OTHER_POLICY.getEntityId().orElseThrow();
+
+        underTest.put(policyId, Entry.of(1L, PolicyEnforcer.of(POLICY)));
+        underTest.put(otherPolicyId, Entry.of(1L, PolicyEnforcer.of(OTHER_POLICY)));
+
+        assertThat(underTest.getBytes()).isEqualTo(sizeOf(OTHER_POLICY));
+        assertThat(underTest.take(policyId)).isEmpty();
+        assertThat(underTest.take(otherPolicyId).map(OffHeapPolicyTier.RestoredPolicy::policyEntry))
+                .contains(Entry.of(1L, OTHER_POLICY));
+    }
+
+    @Test
+    public void expiredPolicyIsNotTaken() {
+        final OffHeapPolicyTier underTest = new OffHeapPolicyTier(1024 * 1024, Duration.ZERO);
+        final PolicyId policyId = POLICY.getEntityId().orElseThrow();
+        underTest.put(policyId, Entry.of(1L, PolicyEnforcer.of(POLICY)));
+
+        assertThat(underTest.take(policyId)).isEmpty();
+        assertThat(underTest.getBytes()).isZero();
+    }
+
+    @Test
+    public void policyExpiresByItsOriginalRetrieval() {
+        final OffHeapPolicyTier underTest = new OffHeapPolicyTier(1024 * 1024, Duration.ofMinutes(1));
+        final PolicyId policyId = POLICY.getEntityId().orElseThrow();
+        final long loadedAtNanos = System.nanoTime() - Duration.ofMinutes(2).toNanos();
+
+        underTest.put(policyId, Entry.of(1L, PolicyEnforcer.of(POLICY, loadedAtNanos)));
+
+        assertThat(underTest.getBytes()).isZero();
+        assertThat(underTest.take(policyId)).isEmpty();
+    }
+
+    @Test
+    public void restoredEnforcerKeepsOriginalRetrievalTime() {
+        final Duration expireAfterWrite = Duration.ofMinutes(1);
+        final OffHeapPolicyTier underTest = new OffHeapPolicyTier(1024 * 1024, expireAfterWrite);
+        final PolicyId policyId = POLICY.getEntityId().orElseThrow();
+        final long loadedAtNanos = System.nanoTime() - Duration.ofSeconds(30).toNanos();
+
+        underTest.put(policyId, Entry.of(1L, PolicyEnforcer.of(POLICY, loadedAtNanos)));
+        final OffHeapPolicyTier.RestoredPolicy restoredPolicy = underTest.take(policyId).orElseThrow();
+
+        assertThat(restoredPolicy.remainingNanos()).isPositive()
+                .isLessThanOrEqualTo(expireAfterWrite.minusSeconds(30).toNanos());
+        assertThat(restoredPolicy.toPolicyEnforcerEntry().getValueOrThrow().getLoadedAtNanos())
+                .isEqualTo(loadedAtNanos);
+    }
+
+    private static long sizeOf(final Policy policy) {
+        return policy.toJsonString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static Policy policy(final String name) {
+        return Policy.newBuilder(PolicyId.of("org.eclipse.ditto", name))
+                .forLabel("owner")
+                .setSubject(SubjectIssuer.GOOGLE, name)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ", "WRITE")
+                .build();
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.internal.utils.cacheloaders.config.AskWithRetryConfig;
+import org.eclipse.ditto.internal.utils.cacheloaders.config.DefaultAskWithRetryConfig;
+import org.eclipse.ditto.policies.api.PoliciesMessagingConstants;
+import org.eclipse.ditto.policies.api.commands.sudo.SudoRetrievePolicies;
+import org.eclipse.ditto.policies.api.commands.sudo.SudoRetrievePoliciesResponse;
+import org.eclipse.ditto.policies.api.commands.sudo.SudoRetrievePolicy;
+import org.eclipse.ditto.policies.api.commands.sudo.SudoRetrievePolicyResponse;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Status;
+import org.apache.pekko.cluster.pubsub.DistributedPubSubMediator;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Unit test for {@link PolicyCacheLoader}.
+ */
+public final class PolicyCacheLoaderTest {
+
+    private static final PolicyId POLICY_ID_1 = PolicyId.of("org.eclipse.ditto", "policy1");
+    private static final PolicyId POLICY_ID_2 = PolicyId.of("org.eclipse.ditto", "policy2");
+    private static final PolicyId POLICY_ID_3 = PolicyId.of("org.eclipse.ditto", "policy3");
+
+    private ActorSystem actorSystem;
+    private TestProbe policiesShardRegionProbe;
+    private TestProbe pubSubMediatorProbe;
+    private AskWithRetryConfig askWithRetryConfig;
+    private Executor executor;
+
+    @Before
+    public void setup() {
+        actorSystem = ActorSystem.create();
+        policiesShardRegionProbe = TestProbe.apply(actorSystem);
+        pubSubMediatorProbe = TestProbe.apply(actorSystem);
+        askWithRetryConfig = DefaultAskWithRetryConfig.of(ConfigFactory.empty(), "ask-with-retry");
+        executor = actorSystem.dispatcher();
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+        actorSystem = null;
+    }
+
+    @Test
+    public void concurrentLoadsOfSamePolicyAreCoalesced() {
+        final PolicyCacheLoader underTest = PolicyCacheLoader.getNewInstance(askWithRetryConfig,
+                actorSystem.scheduler(), policiesShardRegionProbe.ref());
+
+        final CompletableFuture<Entry<Policy>> firstLoad = underTest.asyncLoad(POLICY_ID_1, executor);
+        final CompletableFuture<Entry<Policy>> secondLoad = underTest.asyncLoad(POLICY_ID_1, executor);
+
+        final SudoRetrievePolicy sudoRetrievePolicy = policiesShardRegionProbe.expectMsgClass(SudoRetrievePolicy.class);
+        assertThat((CharSequence) sudoRetrievePolicy.getEntityId()).isEqualTo(POLICY_ID_1);
+        policiesShardRegionProbe.reply(SudoRetrievePolicyResponse.of(POLICY_ID_1, policy(POLICY_ID_1),
+                sudoRetrievePolicy.getDittoHeaders()));
+
+        assertThat(firstLoad.join().getRevision()).isEqualTo(1L);
+        assertThat(secondLoad.join().getRevision()).isEqualTo(1L);
+        policiesShardRegionProbe.expectNoMessage(FiniteDuration.apply(200, TimeUnit.MILLISECONDS));
+
+        underTest.asyncLoad(POLICY_ID_1, executor);
+        policiesShardRegionProbe.expectMsgClass(SudoRetrievePolicy.class);
+    }
+
+    @Test
+    public void loadAfterInvalidationIsNotCoalescedWithLoadInFlight() {
+        final PolicyCacheLoader underTest = PolicyCacheLoader.getNewInstance(askWithRetryConfig,
+                actorSystem.scheduler(), policiesShardRegionProbe.ref());
+
+        final CompletableFuture<Entry<Policy>> loadBeforeInvalidation = underTest.asyncLoad(POLICY_ID_1, executor);
+        final SudoRetrievePolicy firstRetrieve = policiesShardRegionProbe.expectMsgClass(SudoRetrievePolicy.class);
+        final ActorRef firstSender = policiesShardRegionProbe.sender();
+
+        underTest.invalidateLoadsInFlight(POLICY_ID_1);
+        final CompletableFuture<Entry<Policy>> loadAfterInvalidation = underTest.asyncLoad(POLICY_ID_1, executor);
+        final SudoRetrievePolicy secondRetrieve = policiesShardRegionProbe.expectMsgClass(SudoRetrievePolicy.class);
+        policiesShardRegionProbe.reply(SudoRetrievePolicyResponse.of(POLICY_ID_1, policy(POLICY_ID_1, 2L),
+                secondRetrieve.getDittoHeaders()));
+        firstSender.tell(SudoRetrievePolicyResponse.of(POLICY_ID_1, policy(POLICY_ID_1, 1L),
+                firstRetrieve.getDittoHeaders()), ActorRef.noSender());
+
+        assertThat(loadBeforeInvalidation.join().getRevision()).isEqualTo(1L);
+        assertThat(loadAfterInvalidation.join().getRevision()).isEqualTo(2L);
+    }
+
+    @Test
+    public void policiesRequestedWithinCollectionWindowAreRetrievedWithOneRequest() {
+        final PolicyCacheLoader underTest = batchingCacheLoader();
+
+        final CompletableFuture<Entry<Policy>> load1 = underTest.asyncLoad(POLICY_ID_1, executor);
+        final CompletableFuture<Entry<Policy>> load2 = underTest.asyncLoad(POLICY_ID_2, executor);
+        final CompletableFuture<Entry<Policy>> load3 = underTest.asyncLoad(POLICY_ID_3, executor);
+
+        final SudoRetrievePolicies sudoRetrievePolicies = expectSudoRetrievePolicies();
+        assertThat(sudoRetrievePolicies.getPolicyIds()).containsExactly(POLICY_ID_1, POLICY_ID_2, POLICY_ID_3);
+        pubSubMediatorProbe.reply(SudoRetrievePoliciesResponse.of(List.of(policy(POLICY_ID_1), policy(POLICY_ID_3)),
+                sudoRetrievePolicies.getDittoHeaders()));
+
+        assertThat(load1.join().get().flatMap(Policy::getEntityId)).contains(POLICY_ID_1);
+        assertThat(load2.join().exists()).isFalse();
+        assertThat(load3.join().get().flatMap(Policy::getEntityId)).contains(POLICY_ID_3);
+        policiesShardRegionProbe.expectNoMessage(FiniteDuration.apply(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void policiesOfFailedBatchAreLoadedOneByOne() {
+        final PolicyCacheLoader underTest = batchingCacheLoader();
+
+        final CompletableFuture<Entry<Policy>> load1 = underTest.asyncLoad(POLICY_ID_1, executor);
+        final CompletableFuture<Entry<Policy>> load2 = underTest.asyncLoad(POLICY_ID_2, executor);
+
+        expectSudoRetrievePolicies();
+        pubSubMediatorProbe.reply(new Status.Failure(new IllegalStateException("no aggregator")));
+
+        for (int i = 0; i < 2; i++) {
+            final SudoRetrievePolicy sudoRetrievePolicy =
+                    policiesShardRegionProbe.expectMsgClass(SudoRetrievePolicy.class);
+            policiesShardRegionProbe.reply(SudoRetrievePolicyResponse.of(sudoRetrievePolicy.getEntityId(),
+                    policy(sudoRetrievePolicy.getEntityId()), DittoHeaders.empty()));
+        }
+
+        assertThat(load1.join().exists()).isTrue();
+        assertThat(load2.join().exists()).isTrue();
+    }
+
+    private PolicyCacheLoader batchingCacheLoader() {
+        return PolicyCacheLoader.getNewInstance(askWithRetryConfig, actorSystem.scheduler(),
+                policiesShardRegionProbe.ref(), pubSubMediatorProbe.ref(), 10, Duration.ofMillis(100));
+    }
+
+    private SudoRetrievePolicies expectSudoRetrievePolicies() {
+        final DistributedPubSubMediator.Send send =
+                pubSubMediatorProbe.expectMsgClass(DistributedPubSubMediator.Send.class);
+        assertThat(send.path()).isEqualTo(PoliciesMessagingConstants.POLICIES_AGGREGATOR_ACTOR_PATH);
+        assertThat(send.msg()).isInstanceOf(SudoRetrievePolicies.class);
+        return (SudoRetrievePolicies) send.msg();
+    }
+
+    private static Policy policy(final PolicyId policyId) {
+        return policy(policyId, 1L);
+    }
+
+    private static Policy policy(final PolicyId policyId, final long revision) {
+        return PoliciesModelFactory.newPolicyBuilder(policyId)
+                .forLabel("DEFAULT")
+                .setSubject("nginx:ditto", SubjectType.GENERATED)
+                .setGrantedPermissions("thing", "/", "READ")
+                .setRevision(revision)
+                .build();
+    }
+
+}
@@ -22,13 +22,21 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
 import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.PolicyImport;
+import org.eclipse.ditto.policies.model.PolicyImporter;
+import org.eclipse.ditto.policies.model.SubjectIssuer;
+import org.awaitility.Awaitility;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -125,6 +133,157 @@ public final class PolicyEnforcerCacheTest {
 
     }
 
+    @Test
+    public void changedImportedPolicyIsPatchedIntoCachedEnforcersOfImportingPolicies() throws Exception {
+        final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader = mock(AsyncCacheLoader.class);
+        final var changedImportedPolicyId = PolicyId.of("org.eclipse.ditto", "template");
+        final var importingPolicyId = PolicyId.of("org.eclipse.ditto", "importing");
+        final var otherImportingPolicyId = PolicyId.of("org.eclipse.ditto", "other-importing");
+        final Policy importedPolicy = importedPolicy(changedImportedPolicyId, "READ");
+        final Policy changedImportedPolicy = importedPolicy(changedImportedPolicyId, "WRITE");
+        final AtomicInteger importedPolicyLoads = new AtomicInteger();
+        final var underTest = new PolicyEnforcerCache(
+                cacheLoader,
+                policyId -> {
+                    importedPolicyLoads.incrementAndGet();
+                    return CompletableFuture.completedFuture(Optional.of(changedImportedPolicy));
+                },
+                actorSystem.dispatcher(),
+                DefaultCacheConfig.of(actorSystem.settings().config(), "ditto.policies-enforcer-cache"),
+                0,
+                0L,
+                null
+        );
+
+        final Policy importingPolicy = importingPolicy(importingPolicyId, changedImportedPolicyId, importedPolicy);
+        final Policy otherImportingPolicy =
+                importingPolicy(otherImportingPolicyId, changedImportedPolicyId, importedPolicy);
+        verifyLoadedFromCacheLoader(importingPolicy, underTest, cacheLoader);
+        verifyLoadedFromCacheLoader(otherImportingPolicy, underTest, cacheLoader);
+        reset(cacheLoader);
+
+        assertThat(underTest.invalidate(changedImportedPolicyId)).isTrue();
+
+        final Policy expectedPolicy =
+                importingPolicy(importingPolicyId, changedImportedPolicyId, changedImportedPolicy);
+        final Policy otherExpectedPolicy =
+                importingPolicy(otherImportingPolicyId, changedImportedPolicyId, changedImportedPolicy);
+        assertThat(getPolicy(underTest, importingPolicyId)).contains(expectedPolicy);
+        assertThat(getPolicy(underTest, otherImportingPolicyId)).contains(otherExpectedPolicy);
+        verify(cacheLoader, never()).asyncLoad(any(), any());
+        assertThat(importedPolicyLoads).hasValue(1);
+
+        // the importing policies are still invalidated on further changes of the imported policy
+        assertThat(underTest.invalidate(changedImportedPolicyId)).isTrue();
+        assertThat(getPolicy(underTest, importingPolicyId)).contains(expectedPolicy);
+        assertThat(importedPolicyLoads).hasValue(2);
+    }
+
+    @Test
+    public void cachedEnforcersOfImportingPoliciesAreRebuiltInTheBackground() throws Exception {
+        final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader = mock(AsyncCacheLoader.class);
+        final var changedImportedPolicyId = PolicyId.of("org.eclipse.ditto", "template");
+        final var importingPolicyId = PolicyId.of("org.eclipse.ditto", "importing");
+        final Policy changedImportedPolicy = importedPolicy(changedImportedPolicyId, "WRITE");
+        final var underTest = new PolicyEnforcerCache(
+                cacheLoader,
+                policyId -> CompletableFuture.completedFuture(Optional.of(changedImportedPolicy)),
+                actorSystem.dispatcher(),
+                DefaultCacheConfig.of(actorSystem.settings().config(), "ditto.policies-enforcer-cache"),
+                100,
+                0L,
+                null
+        );
+        verifyLoadedFromCacheLoader(importingPolicy(importingPolicyId, changedImportedPolicyId,
+                importedPolicy(changedImportedPolicyId, "READ")), underTest, cacheLoader);
+
+        underTest.invalidate(changedImportedPolicyId);
+
+        Awaitility.await().untilAsserted(() ->
+                assertThat(underTest.getIfPresent(importingPolicyId).join()
+                        .flatMap(Entry::get)
+                        .flatMap(PolicyEnforcer::getPolicy))
+                        .contains(importingPolicy(importingPolicyId, changedImportedPolicyId, changedImportedPolicy)));
+    }
+
+    @Test
+    public void importingPolicyIsLoadedAgainIfImportedLabelsAreAmbiguous() throws Exception {
+        final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader = mock(AsyncCacheLoader.class);
+        final var changedImportedPolicyId = PolicyId.of("org.eclipse.ditto", "template");
+        final var otherImportedPolicyId = PolicyId.of("org.eclipse.ditto", "template-other");
+        final var importingPolicyId = PolicyId.of("org.eclipse.ditto", "importing");
+        final var underTest = new PolicyEnforcerCache(
+                cacheLoader,
+                policyId -> CompletableFuture.completedFuture(Optional.empty()),
+                actorSystem.dispatcher(),
+                DefaultCacheConfig.of(actorSystem.settings().config(), "ditto.policies-enforcer-cache"),
+                0,
+                0L,
+                null
+        );
+        final Policy importingPolicy = importingPolicy(importingPolicyId, otherImportedPolicyId,
+                importedPolicy(otherImportedPolicyId, "READ")).toBuilder()
+                .setPolicyImport(PoliciesModelFactory.newPolicyImport(changedImportedPolicyId))
+                .build();
+        verifyLoadedFromCacheLoader(importingPolicy, underTest, cacheLoader);
+        reset(cacheLoader);
+
+        underTest.invalidate(changedImportedPolicyId);
+
+        verifyLoadedFromCacheLoader(importingPolicy, underTest, cacheLoader);
+    }
+
+    @Test
+    public void enforcerEvictedByWeightIsRestoredFromOffHeapTier() throws Exception {
+        final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader = mock(AsyncCacheLoader.class);
+        final var offHeapTier = new OffHeapPolicyTier(1024 * 1024, Duration.ofMinutes(1));
+        final var underTest = new PolicyEnforcerCache(
+                cacheLoader,
+                policyId -> CompletableFuture.completedFuture(Optional.empty()),
+                actorSystem.dispatcher(),
+                DefaultCacheConfig.of(actorSystem.settings().config(), "ditto.policies-enforcer-cache"),
+                0,
+                PolicyEnforcerWeigher.POLICY_BYTES * 2L,
+                offHeapTier
+        );
+        final Policy evictedPolicy = importedPolicy(PolicyId.of("org.eclipse.ditto", "evicted"), "READ");
+        final Policy otherPolicy = importedPolicy(PolicyId.of("org.eclipse.ditto", "other"), "WRITE");
+        final PolicyId evictedPolicyId = evictedPolicy.getEntityId().orElseThrow();
+
+        verifyLoadedFromCacheLoader(evictedPolicy, underTest, cacheLoader);
+        verifyLoadedFromCacheLoader(otherPolicy, underTest, cacheLoader);
+        Awaitility.await().untilAsserted(() -> assertThat(offHeapTier.getBytes()).isPositive());
+        reset(cacheLoader);
+
+        assertThat(getPolicy(underTest, evictedPolicyId)).contains(evictedPolicy);
+        verify(cacheLoader, never()).asyncLoad(eq(evictedPolicyId), any());
+    }
+
+    private static Optional<Policy> getPolicy(final PolicyEnforcerCache cache, final PolicyId policyId) {
+        return cache.get(policyId).join().flatMap(Entry::get).flatMap(PolicyEnforcer::getPolicy);
+    }
+
+    private static Policy importedPolicy(final PolicyId policyId, final String permission) {
+        return Policy.newBuilder(policyId)
+                .forLabel("template")
+                .setSubject(SubjectIssuer.GOOGLE, "template-subject")
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), permission)
+                .build();
+    }
+
+    private static Policy importingPolicy(final PolicyId policyId, final PolicyId importedPolicyId,
+            final Policy importedPolicy) {
+
+        final PolicyImport policyImport = PoliciesModelFactory.newPolicyImport(importedPolicyId);
+        return Policy.newBuilder(policyId)
+                .forLabel("owner")
+                .setSubject(SubjectIssuer.GOOGLE, "owner")
+                .setGrantedPermissions(PoliciesResourceType.policyResource("/"), "READ", "WRITE")
+                .setPolicyImport(policyImport)
+                .setAll(PolicyImporter.getImportedPolicyEntries(policyImport, importedPolicy))
+                .build();
+    }
+
     private void verifyLoadedFromCacheLoader(final Policy policy,
             final PolicyEnforcerCache cache,
             final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader) throws Exception {
@@ -50,17 +50,54 @@ public final class PolicyImporter {
                 .map(policyImport -> {
                     final PolicyId importedPolicyId = policyImport.getImportedPolicyId();
                     final CompletionStage<Optional<Policy>> loadedPolicyOptCs = policyLoader.apply(importedPolicyId);
-                    return loadedPolicyOptCs.thenApply(loadedPolicyOpt -> loadedPolicyOpt.map(loadedPolicy -> {
-                        final ImportedLabels importedLabels = policyImport.getEffectedImports()
-                                .map(EffectedImports::getImportedLabels)
-                                .orElse(ImportedLabels.none());
-                        return rewriteImportedLabels(importedPolicyId, loadedPolicy, importedLabels);
-                    }).orElse(Collections.emptySet()));
+                    return loadedPolicyOptCs.thenApply(loadedPolicyOpt -> loadedPolicyOpt
+                            .map(loadedPolicy -> getImportedPolicyEntries(policyImport, loadedPolicy))
+                            .orElse(Collections.emptySet()));
                 })
                 .reduce(CompletableFuture.completedFuture(policy.getEntriesSet()), PolicyImporter::combineSets,
                         PolicyImporter::combineSets);
     }
 
+    /**
+     * Returns the {@link PolicyEntry}s which the passed {@code policyImport} imports from the passed
+     * {@code importedPolicy}, labeled as imported from that policy.
+     *
+     * @param policyImport the import of the importing policy.
+     * @param importedPolicy the policy imported by {@code policyImport}.
+     * @return the imported policy entries.
+     * @since 3.6.0
+     */
+    public static Set<PolicyEntry> getImportedPolicyEntries(final PolicyImport policyImport,
+            final Policy importedPolicy) {
+
+        final ImportedLabels importedLabels = policyImport.getEffectedImports()
+                .map(EffectedImports::getImportedLabels)
+                .orElse(ImportedLabels.none());
+        return rewriteImportedLabels(policyImport.getImportedPolicyId(), importedPolicy, importedLabels);
+    }
+
+    /**
+     * Indicates whether the passed {@code label} is the label of a {@link PolicyEntry} which was imported from the
+     * policy with the passed ID.
+     * As policy IDs may contain the separator of imported labels, the label of an entry imported from policy
+     * {@code ns:a-b} is also considered to be imported from policy {@code ns:a}.
+     *
+     * @param label the label to check.
+     * @param importedPolicyId the ID of the imported policy.
+     * @return whether the label may have been imported from the policy.
+     * @since 3.6.0
+     */
+    public static boolean isImportedFrom(final Label label, final PolicyId importedPolicyId) {
+        final String labelValue = label.toString();
+        final String importedPolicyIdValue = importedPolicyId.toString();
+        final int prefixLength = ImmutableImportedLabel.IMPORTED_PREFIX.length();
+        return labelValue.length() > prefixLength + importedPolicyIdValue.length() + 2 &&
+                labelValue.startsWith(ImmutableImportedLabel.IMPORTED_PREFIX) &&
+                labelValue.charAt(prefixLength) == '-' &&
+                labelValue.startsWith(importedPolicyIdValue, prefixLength + 1) &&
+                labelValue.charAt(prefixLength + 1 + importedPolicyIdValue.length()) == '-';
+    }
+
     private static Set<PolicyEntry> rewriteImportedLabels(final PolicyId importedPolicyId, final Policy importedPolicy,
             final Collection<Label> importedLabels) {
 
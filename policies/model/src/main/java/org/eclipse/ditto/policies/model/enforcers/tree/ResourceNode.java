@@ -21,6 +21,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -41,6 +42,10 @@ final class ResourceNode implements PolicyTreeNode {
     private final Map<String, PolicyTreeNode> children;
     private EffectedPermissions permissions;
 
+    // these fields summarize the children: do not use in hashCode() and equals() or toString()
+    private Set<String> grantedBelow;
+    private Set<String> revokedBelow;
+
     // this field is for internal caching only: do not use in hashCode() and equals() or toString()
     private JsonPointer absolutePointer;
 
@@ -49,6 +54,8 @@ final class ResourceNode implements PolicyTreeNode {
         this.name = name;
         children = new LinkedHashMap<>();
         this.permissions = permissions;
+        grantedBelow = Collections.emptySet();
+        revokedBelow = Collections.emptySet();
         absolutePointer = null;
     }
 
@@ -129,6 +136,53 @@ final class ResourceNode implements PolicyTreeNode {
         this.permissions = permissions;
     }
 
+    /**
+     * Computes the permissions which are granted respectively revoked anywhere below this node for this node and
+     * for all of its descendants. The summary has to be computed again after the permissions of any node of the
+     * subtree changed.
+     *
+     * @see #getGrantedBelow()
+     * @see #getRevokedBelow()
+     * @since 3.6.0
+     */
+    public void summarizeSubtree() {
+        final Set<String> granted = new HashSet<>();
+        final Set<String> revoked = new HashSet<>();
+        for (final PolicyTreeNode child : children.values()) {
+            final ResourceNode childResourceNode = (ResourceNode) child;
+            childResourceNode.summarizeSubtree();
+            final EffectedPermissions childPermissions = childResourceNode.getPermissions();
+            granted.addAll(childPermissions.getGrantedPermissions());
+            granted.addAll(childResourceNode.grantedBelow);
+            revoked.addAll(childPermissions.getRevokedPermissions());
+            revoked.addAll(childResourceNode.revokedBelow);
+        }
+        grantedBelow = granted.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(granted);
+        revokedBelow = revoked.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(revoked);
+    }
+
+    /**
+     * Returns the permissions which are granted by at least one node below this node as of the last call of
+     * {@link #summarizeSubtree()}.
+     *
+     * @return the unmodifiable set of permissions granted anywhere in the subtree of this node, excluding this node.
+     * @since 3.6.0
+     */
+    public Set<String> getGrantedBelow() {
+        return grantedBelow;
+    }
+
+    /**
+     * Returns the permissions which are revoked by at least one node below this node as of the last call of
+     * {@link #summarizeSubtree()}.
+     *
+     * @return the unmodifiable set of permissions revoked anywhere in the subtree of this node, excluding this node.
+     * @since 3.6.0
+     */
+    public Set<String> getRevokedBelow() {
+        return revokedBelow;
+    }
+
     /**
      * Indicates whether the effected permissions of this node grant the specified permission and do not revoke it.
      *
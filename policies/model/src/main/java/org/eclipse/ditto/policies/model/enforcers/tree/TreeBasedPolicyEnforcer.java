@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.policies.model.enforcers.tree;
 
+import static org.eclipse.ditto.base.model.common.ConditionChecker.argumentNotEmpty;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
@@ -96,6 +97,8 @@ public final class TreeBasedPolicyEnforcer implements Enforcer {
                 });
             });
         });
+        tree.values().forEach(subjectNode -> subjectNode.getChildren().values()
+                .forEach(resourceNode -> ((ResourceNode) resourceNode).summarizeSubtree()));
 
         return new TreeBasedPolicyEnforcer(tree);
     }
@@ -160,7 +163,32 @@ public final class TreeBasedPolicyEnforcer implements Enforcer {
         checkPermissions(permissions);
         final JsonPointer resourcePointer = createAbsoluteResourcePointer(resourceKey);
         final Collection<String> authSubjectIds = getAuthorizationSubjectIds(authorizationContext);
-        return visitTree(new CheckUnrestrictedPermissionsVisitor(resourcePointer, authSubjectIds, permissions));
+        return areAllEffectivelyGranted(ResourcePathAggregator.forUnrestrictedPermissions(resourcePointer),
+                authSubjectIds, permissions);
+    }
+
+    private boolean areAllEffectivelyGranted(final ResourcePathAggregator aggregator,
+            final Collection<String> authSubjectIds, final Permissions permissions) {
+
+        argumentNotEmpty(authSubjectIds, "authorization subject IDs");
+        argumentNotEmpty(permissions, "expected permissions");
+        final WeightedPermissions weightedPermissions = new WeightedPermissions();
+        authSubjectIds.forEach(authSubjectId -> aggregator.aggregate(tree.get(authSubjectId), weightedPermissions));
+        return weightedPermissions.areAllEffectivelyGranted(permissions);
+    }
+
+    private Set<AuthorizationSubject> collectEffectivelyGrantedSubjects(final ResourcePathAggregator aggregator,
+            final Permissions permissions) {
+
+        final Set<AuthorizationSubject> result = new HashSet<>();
+        tree.forEach((subjectId, subjectNode) -> {
+            final WeightedPermissions weightedPermissions = new WeightedPermissions();
+            aggregator.aggregate(subjectNode, weightedPermissions);
+            if (weightedPermissions.areAllEffectivelyGranted(permissions)) {
+                result.add(AuthorizationSubject.newInstance(subjectId));
+            }
+        });
+        return result;
     }
 
     private static void checkPermissions(final Permissions permissions) {
@@ -203,7 +231,8 @@ public final class TreeBasedPolicyEnforcer implements Enforcer {
         checkResourceKey(resourceKey);
         checkPermissions(permissions);
         final JsonPointer resourcePointer = createAbsoluteResourcePointer(resourceKey);
-        return visitTree(new CollectPartialGrantedSubjectsVisitor(resourcePointer, permissions));
+        return collectEffectivelyGrantedSubjects(ResourcePathAggregator.forPartialPermissions(resourcePointer),
+                permissions);
     }
 
     @Override
@@ -214,7 +243,8 @@ public final class TreeBasedPolicyEnforcer implements Enforcer {
         checkPermissions(permissions);
         final Collection<String> authSubjectIds = getAuthorizationSubjectIds(authorizationContext);
         final JsonPointer resourcePointer = createAbsoluteResourcePointer(resourceKey);
-        return visitTree(new CheckPartialPermissionsVisitor(resourcePointer, authSubjectIds, permissions));
+        return areAllEffectivelyGranted(ResourcePathAggregator.forPartialPermissions(resourcePointer),
+                authSubjectIds, permissions);
     }
 
     @Override
@@ -224,7 +254,8 @@ public final class TreeBasedPolicyEnforcer implements Enforcer {
         checkResourceKey(resourceKey);
         checkPermissions(permissions);
         final JsonPointer resourcePointer = createAbsoluteResourcePointer(resourceKey);
-        return visitTree(new CollectUnrestrictedSubjectsVisitor(resourcePointer, permissions));
+        return collectEffectivelyGrantedSubjects(ResourcePathAggregator.forUnrestrictedPermissions(resourcePointer),
+                permissions);
     }
 
     @Override
@@ -184,6 +184,33 @@ final class WeightedPermissions {
         }
     }
 
+    /**
+     * Indicates whether all of the specified permissions are granted and none of them is revoked with the same or a
+     * higher weight than its grant.
+     *
+     * @param expectedPermissions the permissions to be evaluated.
+     * @return {@code true} if all {@code expectedPermissions} are effectively granted, {@code false} else.
+     * @throws NullPointerException if {@code expectedPermissions} is {@code null}.
+     * @since 3.6.0
+     */
+    public boolean areAllEffectivelyGranted(final Collection<String> expectedPermissions) {
+        final Map<String, WeightedPermission> grantedWithHighestWeight =
+                getGrantedWithHighestWeight(expectedPermissions);
+        if (grantedWithHighestWeight.size() != expectedPermissions.size()) {
+            return false;
+        }
+        final Map<String, WeightedPermission> revokedWithHighestWeight =
+                getRevokedWithHighestWeight(expectedPermissions);
+        for (final String expectedPermission : expectedPermissions) {
+            final WeightedPermission revokedPermission = revokedWithHighestWeight.get(expectedPermission);
+            if (null != revokedPermission &&
+                    revokedPermission.getWeight() >= grantedWithHighestWeight.get(expectedPermission).getWeight()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
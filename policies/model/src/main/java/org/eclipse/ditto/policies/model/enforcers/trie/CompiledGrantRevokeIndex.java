@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Compiled form of a {@link GrantRevokeIndex}.
+ */
+@Immutable
+final class CompiledGrantRevokeIndex {
+
+    private final CompiledPermissionSubjects granted;
+    private final CompiledPermissionSubjects revoked;
+
+    private CompiledGrantRevokeIndex(final CompiledPermissionSubjects granted,
+            final CompiledPermissionSubjects revoked) {
+
+        this.granted = granted;
+        this.revoked = revoked;
+    }
+
+    /**
+     * Compiles a {@code GrantRevokeIndex}.
+     *
+     * @param grantRevokeIndex the index to compile.
+     * @param subjectIndices the interned index of each subject ID.
+     * @param permissionIndices the interned index of each permission.
+     * @param permissionCount the number of interned permissions.
+     * @return the compiled index.
+     */
+    static CompiledGrantRevokeIndex compile(final GrantRevokeIndex grantRevokeIndex,
+            final ToIntFunction<String> subjectIndices,
+            final ToIntFunction<String> permissionIndices,
+            final int permissionCount) {
+
+        return new CompiledGrantRevokeIndex(
+                CompiledPermissionSubjects.compile(grantRevokeIndex.getGranted(), subjectIndices, permissionIndices,
+                        permissionCount),
+                CompiledPermissionSubjects.compile(grantRevokeIndex.getRevoked(), subjectIndices, permissionIndices,
+                        permissionCount));
+    }
+
+    /**
+     * Check whether each of the given permissions is granted to some of the given subjects such that none of the
+     * permissions is revoked from any of the subjects with the same or a greater weight.
+     * Equivalent to {@link GrantRevokeIndex#hasPermissions(java.util.Collection, java.util.Collection)}.
+     *
+     * @param subjectIndices the indices of the subjects to check.
+     * @param requiredPermissions the bitset of the permissions to check.
+     * @return the result of the check.
+     */
+    boolean hasPermissions(final int[] subjectIndices, final long[] requiredPermissions) {
+        final int grantWeight = granted.getMaxWeightIfAllPermissions(subjectIndices, requiredPermissions);
+        return CompiledPermissionSubjects.NO_WEIGHT != grantWeight &&
+                revoked.getMaxWeightOfAnyPermission(subjectIndices, requiredPermissions) < grantWeight;
+    }
+
+    /**
+     * Returns the subjects for whom <em>all</em> of the given permissions are granted.
+     *
+     * @param requiredPermissions the bitset of the permissions to check.
+     * @return the indices of the subjects.
+     */
+    int[] getGrantedSubjects(final long[] requiredPermissions) {
+        return granted.getSubjectIntersect(requiredPermissions);
+    }
+
+    /**
+     * Returns the subjects for whom <em>any</em> of the given permissions is revoked.
+     *
+     * @param requiredPermissions the bitset of the permissions to check.
+     * @return the indices of the subjects.
+     */
+    int[] getRevokedSubjects(final long[] requiredPermissions) {
+        return revoked.getSubjectUnion(requiredPermissions);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CompiledGrantRevokeIndex that = (CompiledGrantRevokeIndex) o;
+        return Objects.equals(granted, that.granted) && Objects.equals(revoked, that.revoked);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(granted, revoked);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "granted=" + granted +
+                ", revoked=" + revoked +
+                "]";
+    }
+
+}
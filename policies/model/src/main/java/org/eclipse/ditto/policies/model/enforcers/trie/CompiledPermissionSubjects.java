@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Compiled form of a {@link PermissionSubjectsMap}: the weighted relation between permissions and authorization
+ * subjects with subjects and permissions interned to integer indices.
+ * <p>
+ * The related subjects are kept in a sorted array. For each subject, the set of its related permissions is a bitset
+ * and the weights of the related permissions are kept in an array indexed by permission.
+ * </p>
+ */
+@Immutable
+final class CompiledPermissionSubjects {
+
+    /**
+     * Marks the absence of a weight.
+     */
+    static final int NO_WEIGHT = Integer.MIN_VALUE;
+
+    private final int permissionCount;
+    private final int maskWords;
+    private final long[] permissions;
+    private final int[] subjects;
+    private final long[] subjectPermissions;
+    private final int[] subjectWeights;
+
+    private CompiledPermissionSubjects(final int permissionCount,
+            final long[] permissions,
+            final int[] subjects,
+            final long[] subjectPermissions,
+            final int[] subjectWeights) {
+
+        this.permissionCount = permissionCount;
+        maskWords = permissions.length;
+        this.permissions = permissions;
+        this.subjects = subjects;
+        this.subjectPermissions = subjectPermissions;
+        this.subjectWeights = subjectWeights;
+    }
+
+    /**
+     * Compiles a {@code PermissionSubjectsMap}.
+     *
+     * @param permissionSubjectsMap the relation to compile.
+     * @param subjectIndices the interned index of each subject ID.
+     * @param permissionIndices the interned index of each permission.
+     * @param permissionCount the number of interned permissions.
+     * @return the compiled relation.
+     */
+    static CompiledPermissionSubjects compile(final PermissionSubjectsMap permissionSubjectsMap,
+            final ToIntFunction<String> subjectIndices,
+            final ToIntFunction<String> permissionIndices,
+            final int permissionCount) {
+
+        final long[] permissions = new long[getMaskWords(permissionCount)];
+        final SortedMap<Integer, int[]> weightsBySubject = new TreeMap<>();
+        permissionSubjectsMap.forEach((permission, weightedSubjects) -> {
+            final int permissionIndex = permissionIndices.applyAsInt(permission);
+            setBit(permissions, 0, permissionIndex);
+            weightedSubjects.forEach((subjectId, weight) -> {
+                final int[] weights = weightsBySubject.computeIfAbsent(subjectIndices.applyAsInt(subjectId),
+                        subjectIndex -> newWeights(permissionCount));
+                weights[permissionIndex] = weight;
+            });
+        });
+
+        final int[] subjects = new int[weightsBySubject.size()];
+        final long[] subjectPermissions = new long[subjects.length * permissions.length];
+        final int[] subjectWeights = new int[subjects.length * permissionCount];
+        int i = 0;
+        for (final Map.Entry<Integer, int[]> entry : weightsBySubject.entrySet()) {
+            subjects[i] = entry.getKey();
+            final int[] weights = entry.getValue();
+            for (int permissionIndex = 0; permissionIndex < permissionCount; permissionIndex++) {
+                if (NO_WEIGHT != weights[permissionIndex]) {
+                    setBit(subjectPermissions, i * permissions.length, permissionIndex);
+                }
+            }
+            System.arraycopy(weights, 0, subjectWeights, i * permissionCount, permissionCount);
+            i++;
+        }
+
+        return new CompiledPermissionSubjects(permissionCount, permissions, subjects, subjectPermissions,
+                subjectWeights);
+    }
+
+    /**
+     * Returns the number of {@code long} words of a bitset of the given number of permissions.
+     *
+     * @param permissionCount the number of permissions.
+     * @return the number of words.
+     */
+    static int getMaskWords(final int permissionCount) {
+        return Math.max(1, (permissionCount + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    /**
+     * Sets the bit of a permission in a bitset.
+     *
+     * @param mask the words of the bitset.
+     * @param offset the index of the first word of the bitset in {@code mask}.
+     * @param permissionIndex the index of the permission.
+     */
+    static void setBit(final long[] mask, final int offset, final int permissionIndex) {
+        mask[offset + permissionIndex / Long.SIZE] |= 1L << permissionIndex;
+    }
+
+    /**
+     * If <em>all</em> of the given permissions are related to some of the given subjects, then return the maximum
+     * weight of the related pairs; otherwise return {@link #NO_WEIGHT}.
+     * Equivalent to {@link PermissionSubjectsMap#getMaxNonemptyWeightForAllPermissions(java.util.Collection,
+     * java.util.Collection)}.
+     *
+     * @param subjectIndices the indices of the subjects to check.
+     * @param requiredPermissions the bitset of the permissions to check.
+     * @return the maximum weight or {@code NO_WEIGHT}.
+     */
+    int getMaxWeightIfAllPermissions(final int[] subjectIndices, final long[] requiredPermissions) {
+        final long[] coveredPermissions = new long[maskWords];
+        final int maxWeight = getMaxWeight(subjectIndices, requiredPermissions, coveredPermissions);
+        return Arrays.equals(coveredPermissions, requiredPermissions) ? maxWeight : NO_WEIGHT;
+    }
+
+    /**
+     * If <em>some</em> of the given permissions are related to some of the given subjects, then return the maximum
+     * weight of the related pairs; otherwise return {@link #NO_WEIGHT}.
+     * Equivalent to {@link PermissionSubjectsMap#getMaxWeightForAllPermissions(java.util.Collection,
+     * java.util.Collection)}.
+     *
+     * @param subjectIndices the indices of the subjects to check.
+     * @param requiredPermissions the bitset of the permissions to check.
+     * @return the maximum weight or {@code NO_WEIGHT}.
+     */
+    int getMaxWeightOfAnyPermission(final int[] subjectIndices, final long[] requiredPermissions) {
+        return getMaxWeight(subjectIndices, requiredPermissions, new long[maskWords]);
+    }
+
+    private int getMaxWeight(final int[] subjectIndices, final long[] requiredPermissions,
+            final long[] coveredPermissions) {
+
+        int maxWeight = NO_WEIGHT;
+        for (final int subjectIndex : subjectIndices) {
+            final int i = Arrays.binarySearch(subjects, subjectIndex);
+            if (i >= 0) {
+                for (int word = 0; word < maskWords; word++) {
+                    long relatedPermissions = subjectPermissions[i * maskWords + word] & requiredPermissions[word];
+                    coveredPermissions[word] |= relatedPermissions;
+                    while (0 != relatedPermissions) {
+                        final int permissionIndex = word * Long.SIZE + Long.numberOfTrailingZeros(relatedPermissions);
+                        maxWeight = Math.max(maxWeight, subjectWeights[i * permissionCount + permissionIndex]);
+                        relatedPermissions &= relatedPermissions - 1;
+                    }
+                }
+            }
+        }
+        return maxWeight;
+    }
+
+    /**
+     * Returns the subjects each of which is related to <em>all</em> given permissions which are contained in this
+     * relation. Equivalent to {@link PermissionSubjectsMap#getSubjectIntersect(java.util.Set)}.
+     *
+     * @param requiredPermissions the bitset of the permissions to check.
+     * @return the indices of the subjects.
+     */
+    int[] getSubjectIntersect(final long[] requiredPermissions) {
+        final long[] containedPermissions = new long[maskWords];
+        boolean anyPermissionContained = false;
+        for (int word = 0; word < maskWords; word++) {
+            containedPermissions[word] = permissions[word] & requiredPermissions[word];
+            anyPermissionContained |= 0 != containedPermissions[word];
+        }
+        if (!anyPermissionContained) {
+            return new int[0];
+        }
+        return filterSubjects((i, word) ->
+                (subjectPermissions[i * maskWords + word] & containedPermissions[word]) == containedPermissions[word],
+                true);
+    }
+
+    /**
+     * Returns the subjects each of which is related to <em>some</em> of the given permissions.
+     * Equivalent to {@link PermissionSubjectsMap#getSubjectUnion(java.util.Set)}.
+     *
+     * @param requiredPermissions the bitset of the permissions to check.
+     * @return the indices of the subjects.
+     */
+    int[] getSubjectUnion(final long[] requiredPermissions) {
+        return filterSubjects((i, word) -> 0 != (subjectPermissions[i * maskWords + word] & requiredPermissions[word]),
+                false);
+    }
+
+    private int[] filterSubjects(final WordPredicate wordPredicate, final boolean allWords) {
+        final int[] result = new int[subjects.length];
+        int size = 0;
+        for (int i = 0; i < subjects.length; i++) {
+            boolean matches = allWords;
+            for (int word = 0; word < maskWords && matches == allWords; word++) {
+                matches = wordPredicate.test(i, word);
+            }
+            if (matches) {
+                result[size++] = subjects[i];
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int[] newWeights(final int permissionCount) {
+        final int[] weights = new int[permissionCount];
+        Arrays.fill(weights, NO_WEIGHT);
+        return weights;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CompiledPermissionSubjects that = (CompiledPermissionSubjects) o;
+        return permissionCount == that.permissionCount &&
+                Arrays.equals(permissions, that.permissions) &&
+                Arrays.equals(subjects, that.subjects) &&
+                Arrays.equals(subjectPermissions, that.subjectPermissions) &&
+                Arrays.equals(subjectWeights, that.subjectWeights);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = permissionCount;
+        result = 31 * result + Arrays.hashCode(permissions);
+        result = 31 * result + Arrays.hashCode(subjects);
+        result = 31 * result + Arrays.hashCode(subjectPermissions);
+        result = 31 * result + Arrays.hashCode(subjectWeights);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "permissions=" + Arrays.toString(permissions) +
+                ", subjects=" + Arrays.toString(subjects) +
+                ", subjectPermissions=" + Arrays.toString(subjectPermissions) +
+                ", subjectWeights=" + Arrays.toString(subjectWeights) +
+                "]";
+    }
+
+    @FunctionalInterface
+    private interface WordPredicate {
+
+        boolean test(int subjectPosition, int word);
+
+    }
+
+}
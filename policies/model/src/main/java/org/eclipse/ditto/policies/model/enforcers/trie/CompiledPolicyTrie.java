@@ -0,0 +1,511 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.DefaultEffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.EffectedSubjects;
+
+/**
+ * Compiled, flattened form of the policy tries of a {@link TrieBasedPolicyEnforcer}.
+ * <p>
+ * The inherited trie and the bottom-up grant and revoke tries have the same shape. They are flattened into one
+ * array-based trie whose nodes are numbered in breadth-first order: the children of each node are stored contiguously
+ * and sorted by their keys, so that a child is found by binary search. Each node refers to one
+ * {@link CompiledGrantRevokeIndex} per trie; equal indices are shared between nodes.
+ * </p>
+ * <p>
+ * Subject IDs and permissions are interned to integer indices once per policy, so that each check only translates
+ * the subjects of the authorization context and the required permissions to indices respectively a bitset once.
+ * </p>
+ */
+@Immutable
+final class CompiledPolicyTrie {
+
+    private static final int ROOT = 0;
+
+    private final Map<String, Integer> subjectIndices;
+    private final AuthorizationSubject[] authorizationSubjects;
+    private final Map<String, Integer> permissionIndices;
+    private final int maskWords;
+
+    private final int[] childOffsets;
+    private final String[] childKeys;
+    private final int[] childNodes;
+
+    private final CompiledGrantRevokeIndex[] inheritedIndices;
+    private final CompiledGrantRevokeIndex[] bottomUpGrantIndices;
+    private final CompiledGrantRevokeIndex[] bottomUpRevokeIndices;
+
+    private CompiledPolicyTrie(final List<PolicyTrie[]> nodes,
+            final Map<String, Integer> subjectIndices,
+            final Map<String, Integer> permissionIndices,
+            final int[] childOffsets,
+            final String[] childKeys,
+            final int[] childNodes) {
+
+        this.subjectIndices = subjectIndices;
+        authorizationSubjects = new AuthorizationSubject[subjectIndices.size()];
+        subjectIndices.forEach((subjectId, subjectIndex) ->
+                authorizationSubjects[subjectIndex] = AuthorizationSubject.newInstance(subjectId));
+        this.permissionIndices = permissionIndices;
+        maskWords = CompiledPermissionSubjects.getMaskWords(permissionIndices.size());
+        this.childOffsets = childOffsets;
+        this.childKeys = childKeys;
+        this.childNodes = childNodes;
+
+        inheritedIndices = new CompiledGrantRevokeIndex[nodes.size()];
+        bottomUpGrantIndices = new CompiledGrantRevokeIndex[nodes.size()];
+        bottomUpRevokeIndices = new CompiledGrantRevokeIndex[nodes.size()];
+        final Map<CompiledGrantRevokeIndex, CompiledGrantRevokeIndex> sharedIndices = new HashMap<>();
+        for (int node = 0; node < nodes.size(); node++) {
+            final PolicyTrie[] tries = nodes.get(node);
+            inheritedIndices[node] = compileIndex(tries[0], sharedIndices);
+            bottomUpGrantIndices[node] = compileIndex(tries[1], sharedIndices);
+            bottomUpRevokeIndices[node] = compileIndex(tries[2], sharedIndices);
+        }
+    }
+
+    /**
+     * Compiles the policy tries of a {@code TrieBasedPolicyEnforcer}.
+     *
+     * @param inheritedTrie the trie obtained by propagating grants and revokes down from ancestors to descendants.
+     * @param bottomUpGrantTrie the trie obtained from {@code inheritedTrie} by propagating grants up.
+     * @param bottomUpRevokeTrie the trie obtained from {@code inheritedTrie} by propagating revokes up.
+     * @return the compiled trie.
+     */
+    static CompiledPolicyTrie compile(final PolicyTrie inheritedTrie,
+            final PolicyTrie bottomUpGrantTrie,
+            final PolicyTrie bottomUpRevokeTrie) {
+
+        final List<PolicyTrie[]> nodes = new ArrayList<>();
+        final Map<String, Integer> subjectIndices = new HashMap<>();
+        final Map<String, Integer> permissionIndices = new HashMap<>();
+        final List<Integer> childOffsets = new ArrayList<>();
+        final List<String> childKeys = new ArrayList<>();
+        final List<Integer> childNodes = new ArrayList<>();
+
+        nodes.add(new PolicyTrie[]{inheritedTrie, bottomUpGrantTrie, bottomUpRevokeTrie});
+        for (int node = 0; node < nodes.size(); node++) {
+            final PolicyTrie[] tries = nodes.get(node);
+            for (final PolicyTrie trie : tries) {
+                intern(trie.getGrantRevokeIndex().getGranted(), subjectIndices, permissionIndices);
+                intern(trie.getGrantRevokeIndex().getRevoked(), subjectIndices, permissionIndices);
+            }
+            childOffsets.add(childKeys.size());
+            final List<JsonKey> sortedKeys = tries[0].getChildren().keySet().stream()
+                    .sorted(Comparator.comparing(JsonKey::toString))
+                    .collect(Collectors.toList());
+            for (final JsonKey key : sortedKeys) {
+                childKeys.add(key.toString());
+                childNodes.add(nodes.size());
+                nodes.add(new PolicyTrie[]{
+                        tries[0].getChildren().get(key),
+                        tries[1].getChildren().get(key),
+                        tries[2].getChildren().get(key)
+                });
+            }
+        }
+        childOffsets.add(childKeys.size());
+
+        return new CompiledPolicyTrie(nodes, subjectIndices, permissionIndices,
+                childOffsets.stream().mapToInt(Integer::intValue).toArray(),
+                childKeys.toArray(new String[0]),
+                childNodes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static void intern(final PermissionSubjectsMap permissionSubjectsMap,
+            final Map<String, Integer> subjectIndices,
+            final Map<String, Integer> permissionIndices) {
+
+        permissionSubjectsMap.forEach((permission, weightedSubjects) -> {
+            permissionIndices.putIfAbsent(permission, permissionIndices.size());
+            weightedSubjects.keySet()
+                    .forEach(subjectId -> subjectIndices.putIfAbsent(subjectId, subjectIndices.size()));
+        });
+    }
+
+    private CompiledGrantRevokeIndex compileIndex(final PolicyTrie trie,
+            final Map<CompiledGrantRevokeIndex, CompiledGrantRevokeIndex> sharedIndices) {
+
+        final CompiledGrantRevokeIndex index = CompiledGrantRevokeIndex.compile(trie.getGrantRevokeIndex(),
+                subjectIndices::get, permissionIndices::get, permissionIndices.size());
+        return sharedIndices.computeIfAbsent(index, i -> i);
+    }
+
+    /**
+     * Checks whether the given subjects have the given permissions on the given resource and all its sub-resources.
+     *
+     * @param resourceKey the resource to check.
+     * @param subjectIds the subject IDs of the authorization context.
+     * @param permissions the permissions to check.
+     * @return the result of the check.
+     * @see TrieBasedPolicyEnforcer#hasUnrestrictedPermissions
+     */
+    boolean hasUnrestrictedPermissions(final ResourceKey resourceKey, final Collection<String> subjectIds,
+            final Set<String> permissions) {
+
+        return hasPermissions(seekWithFallback(resourceKey, bottomUpRevokeIndices), subjectIds, permissions);
+    }
+
+    /**
+     * Checks whether the given subjects have the given permissions on the given resource or any of its sub-resources.
+     *
+     * @param resourceKey the resource to check.
+     * @param subjectIds the subject IDs of the authorization context.
+     * @param permissions the permissions to check.
+     * @return the result of the check.
+     * @see TrieBasedPolicyEnforcer#hasPartialPermissions
+     */
+    boolean hasPartialPermissions(final ResourceKey resourceKey, final Collection<String> subjectIds,
+            final Set<String> permissions) {
+
+        return hasPermissions(seekWithFallback(resourceKey, bottomUpGrantIndices), subjectIds, permissions);
+    }
+
+    private boolean hasPermissions(final CompiledGrantRevokeIndex index, final Collection<String> subjectIds,
+            final Set<String> permissions) {
+
+        final long[] requiredPermissions = getRequiredPermissions(permissions);
+        return null != requiredPermissions && index.hasPermissions(getSubjectIndices(subjectIds), requiredPermissions);
+    }
+
+    /**
+     * Returns the subjects with all of the given permissions granted and the subjects with any of the given
+     * permissions revoked on the given resource.
+     *
+     * @param resourceKey the resource to check.
+     * @param permissions the permissions to check.
+     * @return the effected subjects.
+     * @see TrieBasedPolicyEnforcer#getSubjectsWithPermission
+     */
+    EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Set<String> permissions) {
+        final CompiledGrantRevokeIndex index = inheritedIndices[seekToLeastAncestor(resourceKey)];
+        final long[] containedPermissions = getContainedPermissions(permissions);
+        return DefaultEffectedSubjects.of(
+                getAuthorizationSubjects(index.getGrantedSubjects(containedPermissions)),
+                getAuthorizationSubjects(index.getRevokedSubjects(containedPermissions)));
+    }
+
+    /**
+     * Returns the subjects with the given permissions granted on the given resource or any of its sub-resources.
+     *
+     * @param resourceKey the resource to check.
+     * @param permissions the permissions to check.
+     * @return the subjects.
+     * @see TrieBasedPolicyEnforcer#getSubjectsWithPartialPermission
+     */
+    Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Set<String> permissions) {
+
+        final CompiledGrantRevokeIndex index = seekWithFallback(resourceKey, bottomUpGrantIndices);
+        return getAuthorizationSubjects(index.getGrantedSubjects(getContainedPermissions(permissions)));
+    }
+
+    /**
+     * Returns the subjects with the given permissions granted and not revoked on the given resource and all its
+     * sub-resources.
+     *
+     * @param resourceKey the resource to check.
+     * @param permissions the permissions to check.
+     * @return the subjects.
+     * @see TrieBasedPolicyEnforcer#getSubjectsWithUnrestrictedPermission
+     */
+    Set<AuthorizationSubject> getSubjectsWithUnrestrictedPermission(final ResourceKey resourceKey,
+            final Set<String> permissions) {
+
+        final CompiledGrantRevokeIndex index = seekWithFallback(resourceKey, bottomUpRevokeIndices);
+        final long[] containedPermissions = getContainedPermissions(permissions);
+        final Set<AuthorizationSubject> grantedSubjects =
+                getAuthorizationSubjects(index.getGrantedSubjects(containedPermissions));
+        grantedSubjects.removeAll(getAuthorizationSubjects(index.getRevokedSubjects(containedPermissions)));
+        return grantedSubjects;
+    }
+
+    /**
+     * Builds the view of the given JSON fields of the given resource which the given subjects are permitted to see.
+     *
+     * @param resourceKey the resource of the JSON fields.
+     * @param jsonFields the JSON fields.
+     * @param subjectIds the subject IDs of the authorization context.
+     * @param permissions the permissions required to see a field.
+     * @return the view of the JSON fields.
+     * @see TrieBasedPolicyEnforcer#buildJsonView
+     */
+    JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final Collection<String> subjectIds, final Set<String> permissions) {
+
+        return buildJsonView(resourceKey, jsonFields, subjectIds, permissions, null);
+    }
+
+    /**
+     * Builds the view of the given JSON fields of the given resource which the given subjects are permitted to see.
+     *
+     * @param resourceKey the resource of the JSON fields.
+     * @param jsonFields the JSON fields.
+     * @param subjectIds the subject IDs of the authorization context.
+     * @param permissions the permissions required to see a field.
+     * @param evaluatedNodesConsumer receives the number of trie nodes whose permissions were evaluated for the view,
+     * or {@code null}.
+     * @return the view of the JSON fields.
+     * @see TrieBasedPolicyEnforcer#buildJsonView
+     */
+    JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final Collection<String> subjectIds, final Set<String> permissions,
+            @Nullable final IntConsumer evaluatedNodesConsumer) {
+
+        if (getChild(ROOT, resourceKey.getResourceType()) < 0) {
+            if (null != evaluatedNodesConsumer) {
+                evaluatedNodesConsumer.accept(0);
+            }
+            return JsonFactory.newObject();
+        }
+        final JsonViewBuilder jsonViewBuilder = new JsonViewBuilder(getSubjectIndices(subjectIds),
+                getRequiredPermissions(permissions));
+        final JsonObject jsonView = jsonViewBuilder.buildJsonView(seekToLeastAncestor(resourceKey), jsonFields);
+        if (null != evaluatedNodesConsumer) {
+            evaluatedNodesConsumer.accept(jsonViewBuilder.evaluatedNodes);
+        }
+        return jsonView;
+    }
+
+    /**
+     * Returns the index of the node whose path from root matches the given resource key exactly if it exists,
+     * otherwise the index of the node whose path from root matches the resource key the best.
+     *
+     * @param resourceKey the resource key to match.
+     * @return the index of the exactly matched node, or {@code (-(best matched node) - 1)}.
+     */
+    private int seek(final ResourceKey resourceKey) {
+        int node = getChild(ROOT, resourceKey.getResourceType());
+        if (node < 0) {
+            return -ROOT - 1;
+        }
+        for (final JsonKey key : resourceKey.getResourcePath()) {
+            final int child = getChild(node, key.toString());
+            if (child < 0) {
+                return -node - 1;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Counts the trie nodes which the permission checks of the given resource visit in order to locate it.
+     *
+     * @param resourceKey the checked resource.
+     * @return the number of visited nodes below the root.
+     */
+    int countVisitedNodes(final ResourceKey resourceKey) {
+        int node = getChild(ROOT, resourceKey.getResourceType());
+        if (node < 0) {
+            return 0;
+        }
+        int visitedNodes = 1;
+        for (final JsonKey key : resourceKey.getResourcePath()) {
+            node = getChild(node, key.toString());
+            if (node < 0) {
+                break;
+            }
+            visitedNodes++;
+        }
+        return visitedNodes;
+    }
+
+    private int seekToLeastAncestor(final ResourceKey resourceKey) {
+        final int node = seek(resourceKey);
+        return node >= 0 ? node : -node - 1;
+    }
+
+    /**
+     * Returns the grant-revoke index of the exactly matched node from {@code firstTry} if the node exists, otherwise
+     * the grant-revoke index of the best matched node from the inherited trie.
+     */
+    private CompiledGrantRevokeIndex seekWithFallback(final ResourceKey resourceKey,
+            final CompiledGrantRevokeIndex[] firstTry) {
+
+        final int node = seek(resourceKey);
+        return node >= 0 ? firstTry[node] : inheritedIndices[-node - 1];
+    }
+
+    private int getChild(final int node, final String key) {
+        final int i = Arrays.binarySearch(childKeys, childOffsets[node], childOffsets[node + 1], key);
+        return i >= 0 ? childNodes[i] : -1;
+    }
+
+    private boolean hasChildren(final int node) {
+        return childOffsets[node] < childOffsets[node + 1];
+    }
+
+    private int[] getSubjectIndices(final Collection<String> subjectIds) {
+        final int[] result = new int[subjectIds.size()];
+        int size = 0;
+        for (final String subjectId : subjectIds) {
+            final Integer subjectIndex = subjectIndices.get(subjectId);
+            if (null != subjectIndex) {
+                result[size++] = subjectIndex;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Returns the bitset of the given permissions, or {@code null} if any of them is not contained in the policy and
+     * therefore can never be granted.
+     */
+    @Nullable
+    private long[] getRequiredPermissions(final Set<String> permissions) {
+        final long[] result = new long[maskWords];
+        for (final String permission : permissions) {
+            final Integer permissionIndex = permissionIndices.get(permission);
+            if (null == permissionIndex) {
+                return null;
+            }
+            CompiledPermissionSubjects.setBit(result, 0, permissionIndex);
+        }
+        return result;
+    }
+
+    private long[] getContainedPermissions(final Set<String> permissions) {
+        final long[] result = new long[maskWords];
+        for (final String permission : permissions) {
+            final Integer permissionIndex = permissionIndices.get(permission);
+            if (null != permissionIndex) {
+                CompiledPermissionSubjects.setBit(result, 0, permissionIndex);
+            }
+        }
+        return result;
+    }
+
+    private Set<AuthorizationSubject> getAuthorizationSubjects(final int[] subjects) {
+        final Set<AuthorizationSubject> result = new HashSet<>();
+        for (final int subjectIndex : subjects) {
+            result.add(authorizationSubjects[subjectIndex]);
+        }
+        return result;
+    }
+
+    /**
+     * Builds a JSON view by walking the JSON against the inherited trie. Whether the subjects have the required
+     * permissions is evaluated at most once per node. Values at nodes without children are kept or dropped as a whole.
+     */
+    private final class JsonViewBuilder {
+
+        private static final byte UNKNOWN = 0;
+        private static final byte PERMITTED = 1;
+        private static final byte NOT_PERMITTED = 2;
+
+        private final int[] subjects;
+        @Nullable private final long[] requiredPermissions;
+        private final byte[] permittedNodes;
+        private int evaluatedNodes;
+
+        private JsonViewBuilder(final int[] subjects, @Nullable final long[] requiredPermissions) {
+            this.subjects = subjects;
+            this.requiredPermissions = requiredPermissions;
+            permittedNodes = new byte[inheritedIndices.length];
+        }
+
+        private JsonObject buildJsonView(final int node, final Iterable<JsonField> jsonFields) {
+            if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+                return (JsonObject) jsonFields;
+            }
+
+            final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+            for (final JsonField field : jsonFields) {
+                final int child = getChild(node, field.getKey().toString());
+                final JsonValue jsonView = child >= 0
+                        ? getViewForJsonValueOrNull(child, field.getValue())
+                        : getViewForLeafValueOrNull(node, field.getValue());
+                if (null != jsonView) {
+                    outputObjectBuilder.set(field.getKey(), jsonView);
+                }
+            }
+            return outputObjectBuilder.build();
+        }
+
+        @Nullable
+        private JsonValue getViewForJsonValueOrNull(final int node, final JsonValue jsonValue) {
+            final JsonValue result;
+            if (!hasChildren(node)) {
+                result = getViewForLeafValueOrNull(node, jsonValue);
+            } else if (jsonValue.isObject()) {
+                final JsonObject candidate = buildJsonView(node, jsonValue.asObject());
+                result = !candidate.isEmpty() || isPermitted(node) ? candidate : null;
+            } else if (jsonValue.isArray()) {
+                final JsonArray candidate = getViewForJsonArray(node, jsonValue.asArray());
+                result = !candidate.isEmpty() || isPermitted(node) ? candidate : null;
+            } else {
+                result = getViewForLeafValueOrNull(node, jsonValue);
+            }
+            return result;
+        }
+
+        private JsonArray getViewForJsonArray(final int node, final JsonArray jsonArray) {
+            final JsonArrayBuilder outputArrayBuilder = JsonFactory.newArrayBuilder();
+            for (final JsonValue value : jsonArray) {
+                final JsonValue jsonView = getViewForJsonValueOrNull(node, value);
+                if (null != jsonView) {
+                    outputArrayBuilder.add(jsonView);
+                }
+            }
+            return outputArrayBuilder.build();
+        }
+
+        /**
+         * Returns the whole value if the subjects have the required permissions at the given node, because the
+         * permissions at a node without children apply to all values below it.
+         */
+        @Nullable
+        private JsonValue getViewForLeafValueOrNull(final int node, final JsonValue jsonValue) {
+            return isPermitted(node) ? jsonValue : null;
+        }
+
+        private boolean isPermitted(final int node) {
+            if (UNKNOWN == permittedNodes[node]) {
+                final boolean permitted = null != requiredPermissions &&
+                        inheritedIndices[node].hasPermissions(subjects, requiredPermissions);
+                permittedNodes[node] = permitted ? PERMITTED : NOT_PERMITTED;
+                evaluatedNodes++;
+            }
+            return PERMITTED == permittedNodes[node];
+        }
+
+    }
+
+}
@@ -218,6 +218,15 @@ final class PolicyTrie {
         return new PolicyTrie(newGrantRevokeMap, newChildren);
     }
 
+    /**
+     * Returns the children of this node by the keys of their edges.
+     *
+     * @return An unmodifiable view of the children of this node.
+     */
+    Map<JsonKey, PolicyTrie> getChildren() {
+        return Collections.unmodifiableMap(children);
+    }
+
     /**
      * Returns whether a child exists for the given key.
      *
@@ -15,12 +15,11 @@ package org.eclipse.ditto.policies.model.enforcers.trie;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.util.Set;
+import java.util.function.IntConsumer;
 
 import org.eclipse.ditto.base.model.auth.AuthorizationContext;
 import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
-import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
-import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.policies.model.Permissions;
 import org.eclipse.ditto.policies.model.PolicyEntry;
@@ -69,30 +68,24 @@ import org.eclipse.ditto.policies.model.enforcers.Enforcer;
  * resource make all its super-resources non-writable. To build it, start from {@code inheritedTrie}, push revoked
  * subjects from descendants up to ancestors.
  * </li>
- * </ol> See Javadoc of individual methods for more details.
+ * </ol> The 3 tries used for policy enforcement are finally compiled into one flattened, array-based trie with
+ * interned subjects and permission bitsets ({@link CompiledPolicyTrie}), which serves all policy checks and JSON views.
+ * See Javadoc of individual methods for more details.
  */
 public final class TrieBasedPolicyEnforcer implements Enforcer {
 
     /**
-     * PolicyTrie obtained by propagating grant & revoke sets down from ancestors to descendants.
+     * Compiled form of the trie obtained by propagating grant and revoke sets down from ancestors to descendants
+     * and of the tries obtained from it by propagating grant sets respectively revoke sets up from descendants to
+     * ancestors.
      */
-    private final PolicyTrie inheritedTrie;
-
-    /**
-     * PolicyTrie obtained from {@code this.inheritedTrie} by propagating grant sets up from descendants to ancestors.
-     */
-    private final PolicyTrie bottomUpGrantTrie;
-
-    /**
-     * PolicyTrie obtained from {@code this.inheritedTrie} by propagating revoke sets up from descendants to ancestors.
-     */
-    private final PolicyTrie bottomUpRevokeTrie;
+    private final CompiledPolicyTrie compiledTrie;
 
     private TrieBasedPolicyEnforcer(final Iterable<PolicyEntry> policy) {
         final PolicyTrie rawTree = PolicyTrie.fromPolicy(policy);
-        inheritedTrie = rawTree.getTransitiveClosure();
-        bottomUpGrantTrie = inheritedTrie.getBottomUpGrantTrie();
-        bottomUpRevokeTrie = inheritedTrie.getBottomUpRevokeTrie();
+        final PolicyTrie inheritedTrie = rawTree.getTransitiveClosure();
+        compiledTrie = CompiledPolicyTrie.compile(inheritedTrie, inheritedTrie.getBottomUpGrantTrie(),
+                inheritedTrie.getBottomUpRevokeTrie());
     }
 
     /**
@@ -118,10 +111,8 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
     public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
             final AuthorizationContext authorizationContext, final Permissions permissions) {
 
-        final PolicyTrie policyTrie = seekWithFallback(resourceKey, bottomUpRevokeTrie, inheritedTrie);
-        final GrantRevokeIndex grantRevokeIndex = policyTrie.getGrantRevokeIndex();
-
-        return grantRevokeIndex.hasPermissions(authorizationContext.getAuthorizationSubjectIds(), permissions);
+        return compiledTrie.hasUnrestrictedPermissions(resourceKey,
+                authorizationContext.getAuthorizationSubjectIds(), permissions);
     }
 
     /**
@@ -136,19 +127,15 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
     public boolean hasPartialPermissions(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
             final Permissions permissions) {
 
-        final PolicyTrie policyTrie = seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie);
-        final GrantRevokeIndex grantRevokeIndex = policyTrie.getGrantRevokeIndex();
-
-        return grantRevokeIndex.hasPermissions(authorizationContext.getAuthorizationSubjectIds(), permissions);
+        return compiledTrie.hasPartialPermissions(resourceKey, authorizationContext.getAuthorizationSubjectIds(),
+                permissions);
     }
 
     @Override
     public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
         checkResourceKey(resourceKey);
         checkPermissions(permissions);
-        return inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey))
-                .getGrantRevokeIndex()
-                .getEffectedSubjects(permissions);
+        return compiledTrie.getSubjectsWithPermission(resourceKey, permissions);
     }
 
     private static void checkResourceKey(final ResourceKey resourceKey) {
@@ -165,9 +152,7 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
 
         checkResourceKey(resourceKey);
         checkPermissions(permissions);
-        final PolicyTrie policyTrie = seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie);
-        final GrantRevokeIndex grantRevokeIndex = policyTrie.getGrantRevokeIndex();
-        return grantRevokeIndex.getGrantedSubjects(permissions);
+        return compiledTrie.getSubjectsWithPartialPermission(resourceKey, permissions);
     }
 
     @Override
@@ -176,12 +161,7 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
         checkResourceKey(resourceKey);
         checkPermissions(permissions);
 
-        final PolicyTrie policyTrie = seekWithFallback(resourceKey, bottomUpRevokeTrie, inheritedTrie);
-        final GrantRevokeIndex grantRevokeIndex = policyTrie.getGrantRevokeIndex();
-        final Set<AuthorizationSubject> grantedSubjects = grantRevokeIndex.getGrantedSubjects(permissions);
-        grantedSubjects.removeAll(grantRevokeIndex.getRevokedSubjects(permissions));
-
-        return grantedSubjects;
+        return compiledTrie.getSubjectsWithUnrestrictedPermission(resourceKey, permissions);
     }
 
     @Override
@@ -194,31 +174,48 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
         checkNotNull(jsonFields, "JSON fields");
         checkPermissions(permissions);
 
-        final JsonKey typeKey = JsonKey.of(resourceKey.getResourceType());
+        return compiledTrie.buildJsonView(resourceKey, jsonFields, authorizationContext.getAuthorizationSubjectIds(),
+                permissions);
+    }
 
-        if (inheritedTrie.hasChild(typeKey)) {
-            final PolicyTrie start = inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
-            return start.buildJsonView(jsonFields, authorizationContext.getAuthorizationSubjectIds(), permissions);
-        } else {
-            return JsonFactory.newObject();
-        }
+    /**
+     * Counts the resources of the policy which a permission check of the given resource visits in order to locate it.
+     * These are the resource type and the levels of the resource path which are mentioned in the policy.
+     *
+     * @param resourceKey the checked resource.
+     * @return the number of visited resources.
+     * @throws NullPointerException if {@code resourceKey} is {@code null}.
+     */
+    public int countVisitedResources(final ResourceKey resourceKey) {
+        checkResourceKey(resourceKey);
+        return compiledTrie.countVisitedNodes(resourceKey);
     }
 
     /**
-     * Returns a node in the trie {@code firstTry} whose path from root matches the given resource key exactly if it
-     * exists, otherwise seek to the node in the trie {@code fallback} whose path from root matches the resource key the
-     * best.
+     * Builds the view of the given JSON fields like {@link #buildJsonView(ResourceKey, Iterable, AuthorizationContext,
+     * Permissions)} and reports how many resources of the policy were evaluated for it.
      *
-     * @param resourceKey Pointer to a resource.
-     * @param firstTry The policy trie to attempt an exact match.
-     * @param fallback The policy trie to traverse if no exact match is found in {@code firstTry}.
-     * @return The result trie node.
+     * @param resourceKey the resource of the JSON fields.
+     * @param jsonFields the JSON fields.
+     * @param authorizationContext the authorization context.
+     * @param permissions the permissions required to see a field.
+     * @param evaluatedResourcesConsumer receives the number of resources whose permissions were evaluated.
+     * @return the view of the JSON fields.
+     * @throws NullPointerException if any argument is {@code null}.
      */
-    private static PolicyTrie seekWithFallback(final ResourceKey resourceKey, final PolicyTrie firstTry,
-            final PolicyTrie fallback) {
+    public JsonObject buildJsonView(final ResourceKey resourceKey,
+            final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions,
+            final IntConsumer evaluatedResourcesConsumer) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFields, "JSON fields");
+        checkPermissions(permissions);
+        checkNotNull(evaluatedResourcesConsumer, "evaluatedResourcesConsumer");
 
-        return firstTry.seekToExactNode(PolicyTrie.getJsonKeyIterator(resourceKey))
-                .orElseGet(() -> fallback.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey)));
+        return compiledTrie.buildJsonView(resourceKey, jsonFields, authorizationContext.getAuthorizationSubjectIds(),
+                permissions, evaluatedResourcesConsumer);
     }
 
 }
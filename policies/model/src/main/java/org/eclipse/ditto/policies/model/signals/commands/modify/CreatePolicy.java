@@ -82,10 +82,7 @@ public final class CreatePolicy extends AbstractCommand<CreatePolicy> implements
         PolicyImportsValidator.validatePolicyImports(policy.getEntityId().orElse(null),
                 policy.getPolicyImports());
 
-        PolicyCommandSizeValidator.getInstance().ensureValidSize(
-                policyJsonObject::getUpperBoundForStringSize,
-                () -> policyJsonObject.toString().length(),
-                () -> dittoHeaders);
+        PolicyCommandSizeValidator.getInstance().ensureValidSize(policyJsonObject, () -> dittoHeaders);
     }
 
     /**
@@ -72,10 +72,7 @@ public final class ModifyPolicy extends AbstractCommand<ModifyPolicy> implements
 
         PolicyImportsValidator.validatePolicyImports(policyId, policy.getPolicyImports());
 
-        PolicyCommandSizeValidator.getInstance().ensureValidSize(
-                policyJsonObject::getUpperBoundForStringSize,
-                () -> policyJsonObject.toString().length(),
-                () -> dittoHeaders);
+        PolicyCommandSizeValidator.getInstance().ensureValidSize(policyJsonObject, () -> dittoHeaders);
     }
 
     /**
@@ -78,10 +78,7 @@ public final class ModifyPolicyEntries extends AbstractCommand<ModifyPolicyEntri
                 .map(PolicyEntry::toJson)
                 .collect(JsonCollectors.valuesToArray());
 
-        PolicyCommandSizeValidator.getInstance().ensureValidSize(
-                policyEntriesJsonArray::getUpperBoundForStringSize,
-                () -> policyEntriesJsonArray.toString().length(),
-                () -> dittoHeaders);
+        PolicyCommandSizeValidator.getInstance().ensureValidSize(policyEntriesJsonArray, () -> dittoHeaders);
     }
 
     /**
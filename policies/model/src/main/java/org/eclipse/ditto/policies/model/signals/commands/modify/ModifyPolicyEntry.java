@@ -74,10 +74,7 @@ public final class ModifyPolicyEntry extends AbstractCommand<ModifyPolicyEntry>
 
         final JsonObject policyEntryJsonObject = policyEntry.toJson();
 
-        PolicyCommandSizeValidator.getInstance().ensureValidSize(
-                policyEntryJsonObject::getUpperBoundForStringSize,
-                () -> policyEntryJsonObject.toString().length(),
-                () -> dittoHeaders);
+        PolicyCommandSizeValidator.getInstance().ensureValidSize(policyEntryJsonObject, () -> dittoHeaders);
     }
 
     /**
@@ -76,8 +76,7 @@ public final class ModifyPolicyImport extends AbstractCommand<ModifyPolicyImport
         this.policyId = policyId;
         this.policyImport = PolicyImportsValidator.validatePolicyImport(policyId, policyImport);
 
-        PolicyCommandSizeValidator.getInstance().ensureValidSize(() -> policyImport.toJsonString().length(), () ->
-                dittoHeaders);
+        PolicyCommandSizeValidator.getInstance().ensureValidSize(policyImport.toJson(), () -> dittoHeaders);
     }
 
     /**
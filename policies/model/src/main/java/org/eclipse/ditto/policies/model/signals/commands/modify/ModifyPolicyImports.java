@@ -74,7 +74,7 @@ public final class ModifyPolicyImports extends AbstractCommand<ModifyPolicyImpor
         this.policyImports = PolicyImportsValidator.validatePolicyImports(policyId, policyImports);
 
         PolicyCommandSizeValidator.getInstance()
-                .ensureValidSize(() -> policyImports.toJsonString().length(), () -> dittoHeaders);
+                .ensureValidSize(policyImports.toJson(), () -> dittoHeaders);
     }
 
     /**
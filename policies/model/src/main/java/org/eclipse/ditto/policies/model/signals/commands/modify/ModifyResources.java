@@ -78,10 +78,7 @@ public final class ModifyResources extends AbstractCommand<ModifyResources>
 
         final JsonObject resourcesJsonObject = resources.toJson();
 
-        PolicyCommandSizeValidator.getInstance().ensureValidSize(
-                resourcesJsonObject::getUpperBoundForStringSize,
-                () -> resourcesJsonObject.toString().length(),
-                () -> dittoHeaders);
+        PolicyCommandSizeValidator.getInstance().ensureValidSize(resourcesJsonObject, () -> dittoHeaders);
     }
 
     /**
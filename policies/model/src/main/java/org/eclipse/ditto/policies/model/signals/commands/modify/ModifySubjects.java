@@ -78,10 +78,7 @@ public final class ModifySubjects extends AbstractCommand<ModifySubjects>
 
         final JsonObject subjectsJsonObject = subjects.toJson();
 
-        PolicyCommandSizeValidator.getInstance().ensureValidSize(
-                subjectsJsonObject::getUpperBoundForStringSize,
-                () -> subjectsJsonObject.toString().length(),
-                () -> dittoHeaders);
+        PolicyCommandSizeValidator.getInstance().ensureValidSize(subjectsJsonObject, () -> dittoHeaders);
     }
 
     /**
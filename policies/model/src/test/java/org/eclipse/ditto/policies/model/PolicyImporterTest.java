@@ -143,6 +143,18 @@ public final class PolicyImporterTest {
         assertThat(entries).containsExactlyInAnyOrder(KNOWN_POLICY_ENTRY_OWN);
     }
 
+    @Test
+    public void importedPolicyEntriesAreRecognizedByTheirLabel() {
+        final Label importedLabel = PoliciesModelFactory.newImportedLabel(IMPORTED_POLICY_ID2, SUPPORT_LABEL);
+
+        assertThat(PolicyImporter.isImportedFrom(importedLabel, IMPORTED_POLICY_ID2)).isTrue();
+        assertThat(PolicyImporter.isImportedFrom(importedLabel, IMPORTED_POLICY_ID)).isFalse();
+        assertThat(PolicyImporter.isImportedFrom(END_USER_LABEL, IMPORTED_POLICY_ID2)).isFalse();
+        assertThat(PolicyImporter.isImportedFrom(
+                PoliciesModelFactory.newImportedLabel(PolicyId.of("com.example", "myImportedPolicy-2"), SUPPORT_LABEL),
+                IMPORTED_POLICY_ID)).isTrue();
+    }
+
     private static Policy createImportedPolicy(final PolicyId importedPolicyId) {
         final List<PolicyEntry> policyEntries =
                 Arrays.asList(policyEntry(ImportableType.IMPLICIT), policyEntry(ImportableType.EXPLICIT),
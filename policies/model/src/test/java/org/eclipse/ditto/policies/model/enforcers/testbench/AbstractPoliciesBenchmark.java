@@ -12,10 +12,15 @@
  */
 package org.eclipse.ditto.policies.model.enforcers.testbench;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.policies.model.enforcers.testbench.algorithms.PolicyAlgorithm;
 import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.Scenario;
@@ -96,7 +101,14 @@ import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario4.
 import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario4.Scenario4MultipleSubjects7;
 import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario4.Scenario4MultipleSubjects8;
 import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario4.Scenario4MultipleSubjects9;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario6.Scenario6LargePolicy;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario6.Scenario6LargePolicy1;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario6.Scenario6LargePolicy2;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario6.Scenario6LargePolicy3;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario6.Scenario6LargePolicy4;
+import org.eclipse.ditto.policies.model.Permissions;
 import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.ResourceKey;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Scope;
@@ -111,6 +123,11 @@ public abstract class AbstractPoliciesBenchmark {
     private static final int WARMUP_TIME = 1000;
     private static final int MEASUREMENT_TIME = 1000;
 
+    private static final ResourceKey EVENT_RESOURCE_KEY = ResourceKey.newInstance("thing",
+            "/features/" + Scenario6LargePolicy.featureId(42) + "/properties/value");
+    private static final Permissions READ_PERMISSIONS = Permissions.newInstance("READ");
+    private static final List<AuthorizationContext> EVENT_SUBSCRIBERS = createEventSubscribers();
+
     private final HashMap<String, PolicyAlgorithm> policyAlgorithms;
 
     public AbstractPoliciesBenchmark() {
@@ -121,6 +138,8 @@ public abstract class AbstractPoliciesBenchmark {
         policyAlgorithms.put(Scenario3Revoke.SCENARIO_GROUP_NAME, getPolicyAlgorithm(Scenario3Revoke.POLICY));
         policyAlgorithms.put(Scenario4MultipleSubjects.SCENARIO_GROUP_NAME,
                 getPolicyAlgorithm(Scenario4MultipleSubjects.POLICY));
+        policyAlgorithms.put(Scenario6LargePolicy.SCENARIO_GROUP_NAME,
+                getPolicyAlgorithm(Scenario6LargePolicy.POLICY));
     }
 
     /**
@@ -551,6 +570,73 @@ public abstract class AbstractPoliciesBenchmark {
         return runScenarioWithAlgorithm(scenario);
     }
 
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean benchmark_Scenario6LargePolicy1(final Scenario6LargePolicy1 scenario) {
+        return runScenarioWithAlgorithm(scenario);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean benchmark_Scenario6LargePolicy2(final Scenario6LargePolicy2 scenario) {
+        return runScenarioWithAlgorithm(scenario);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean benchmark_Scenario6LargePolicy3(final Scenario6LargePolicy3 scenario) {
+        return runScenarioWithAlgorithm(scenario);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean benchmark_Scenario6LargePolicy4(final Scenario6LargePolicy4 scenario) {
+        return runScenarioWithAlgorithm(scenario);
+    }
+
+    /**
+     * Determines the subscribers of a feature property event of the large policy the way signal filtering does it
+     * for each published event.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Set<AuthorizationSubject> benchmark_Scenario6EventSubscribers() {
+        return policyAlgorithms.get(Scenario6LargePolicy.SCENARIO_GROUP_NAME)
+                .getSubjectsWithPartialPermission(EVENT_RESOURCE_KEY, READ_PERMISSIONS);
+    }
+
+    /**
+     * Checks for each subscriber of the large policy whether it may receive a feature property event.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public int benchmark_Scenario6EventSubscriberFiltering() {
+        final PolicyAlgorithm algorithm = policyAlgorithms.get(Scenario6LargePolicy.SCENARIO_GROUP_NAME);
+        int receivingSubscribers = 0;
+        for (final AuthorizationContext subscriber : EVENT_SUBSCRIBERS) {
+            if (algorithm.hasPartialPermissions(EVENT_RESOURCE_KEY, subscriber, READ_PERMISSIONS)) {
+                receivingSubscribers++;
+            }
+        }
+        return receivingSubscribers;
+    }
+
+    private static List<AuthorizationContext> createEventSubscribers() {
+        final List<AuthorizationContext> result = new ArrayList<>();
+        result.add(Scenario.newAuthorizationContext(Scenario6LargePolicy.SUBJECT_ADMIN));
+        result.add(Scenario.newAuthorizationContext(Scenario6LargePolicy.SUBJECT_OPERATOR));
+        for (int device = 0; device < Scenario6LargePolicy.NUMBER_OF_DEVICES; device++) {
+            result.add(Scenario.newAuthorizationContext(Scenario6LargePolicy.deviceSubject(device)));
+        }
+        return result;
+    }
+
     @Benchmark
     @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
     @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
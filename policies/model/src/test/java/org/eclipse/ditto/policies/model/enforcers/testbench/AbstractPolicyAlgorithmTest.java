@@ -103,6 +103,10 @@ import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario4.
 import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario4.Scenario4MultipleSubjects8;
 import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario4.Scenario4MultipleSubjects9;
 import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario5.Scenario5Simple1;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario6.Scenario6LargePolicy1;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario6.Scenario6LargePolicy2;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario6.Scenario6LargePolicy3;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario6.Scenario6LargePolicy4;
 import org.eclipse.ditto.policies.model.enforcers.tree.TreeBasedPolicyEnforcer;
 import org.eclipse.ditto.policies.model.Permissions;
 import org.eclipse.ditto.policies.model.PoliciesResourceType;
@@ -430,6 +434,26 @@ public abstract class AbstractPolicyAlgorithmTest {
         testScenarioWithAlgorithm(new Scenario5Simple1());
     }
 
+    @Test
+    public void test_Scenario6LargePolicy1() {
+        testScenarioWithAlgorithm(new Scenario6LargePolicy1());
+    }
+
+    @Test
+    public void test_Scenario6LargePolicy2() {
+        testScenarioWithAlgorithm(new Scenario6LargePolicy2());
+    }
+
+    @Test
+    public void test_Scenario6LargePolicy3() {
+        testScenarioWithAlgorithm(new Scenario6LargePolicy3());
+    }
+
+    @Test
+    public void test_Scenario6LargePolicy4() {
+        testScenarioWithAlgorithm(new Scenario6LargePolicy4());
+    }
+
     @Test
     public void test_JsonViewScenario1() {
         testScenarioWithAlgorithm(new JsonViewScenario1());
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario6;
+
+import java.util.function.Function;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyBuilder;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectIssuer;
+import org.eclipse.ditto.policies.model.enforcers.testbench.algorithms.PolicyAlgorithm;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.Scenario;
+
+/**
+ * Scenarios of a gateway Thing with hundreds of features, each of which is managed by its own device subject with its
+ * own policy entry. An operator may read everything except the secret property of each feature.
+ */
+public interface Scenario6LargePolicy extends Scenario {
+
+    String SCENARIO_GROUP_NAME = Scenario6LargePolicy.class.getSimpleName();
+
+    int NUMBER_OF_DEVICES = 300;
+
+    String SUBJECT_ADMIN = "sid_admin";
+    String SUBJECT_OPERATOR = "sid_operator";
+    String SUBJECT_DEVICE_PREFIX = "sid_device_";
+
+    Policy POLICY = createPolicy();
+
+    JsonObject THING = createThing();
+
+    static String featureId(final int device) {
+        return "sensor-" + device;
+    }
+
+    static String deviceSubject(final int device) {
+        return SUBJECT_DEVICE_PREFIX + device;
+    }
+
+    static Policy createPolicy() {
+        final PolicyBuilder.LabelScoped operatorBuilder = PoliciesModelFactory
+                .newPolicyBuilder(PolicyId.of("benchmark", Scenario6LargePolicy.class.getSimpleName()))
+                .forLabel("admin")
+                .setSubject(SubjectIssuer.GOOGLE, SUBJECT_ADMIN)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ", "WRITE")
+                .forLabel("operator")
+                .setSubject(SubjectIssuer.GOOGLE, SUBJECT_OPERATOR)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ");
+        for (int device = 0; device < NUMBER_OF_DEVICES; device++) {
+            operatorBuilder.setRevokedPermissions(
+                    PoliciesResourceType.thingResource("/features/" + featureId(device) + "/properties/secret"),
+                    "READ");
+        }
+        PolicyBuilder policyBuilder = operatorBuilder;
+        for (int device = 0; device < NUMBER_OF_DEVICES; device++) {
+            policyBuilder = policyBuilder.forLabel("device-" + device)
+                    .setSubject(SubjectIssuer.GOOGLE, deviceSubject(device))
+                    .setGrantedPermissions(PoliciesResourceType.thingResource("/features/" + featureId(device)),
+                            "READ", "WRITE");
+        }
+        return policyBuilder.build();
+    }
+
+    static JsonObject createThing() {
+        final JsonObjectBuilder featuresBuilder = JsonFactory.newObjectBuilder();
+        for (int device = 0; device < NUMBER_OF_DEVICES; device++) {
+            featuresBuilder.set(featureId(device), JsonFactory.newObjectBuilder()
+                    .set("properties", JsonFactory.newObjectBuilder()
+                            .set("value", 20.0 + device % 10)
+                            .set("unit", "°C")
+                            .set("secret", "calibration-" + device)
+                            .build())
+                    .build());
+        }
+        return JsonFactory.newObjectBuilder()
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("serialNumber", "4711")
+                        .build())
+                .set("features", featuresBuilder.build())
+                .build();
+    }
+
+    @Override
+    default Policy getPolicy() {
+        return POLICY;
+    }
+
+    @Override
+    default String getScenarioGroup() {
+        return SCENARIO_GROUP_NAME;
+    }
+
+    @Override
+    default Function<PolicyAlgorithm, Boolean> getApplyAlgorithmFunction() {
+        return algorithm -> algorithm.hasPermissionsOnResourceOrAnySubresource(getSetup());
+    }
+
+}
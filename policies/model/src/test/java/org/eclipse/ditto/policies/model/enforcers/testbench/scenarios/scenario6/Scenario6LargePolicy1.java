@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario6;
+
+import java.util.Collections;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.policies.model.SubjectId;
+import org.eclipse.ditto.policies.model.SubjectIssuer;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.Scenario;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.ScenarioSetup;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+
+@State(Scope.Benchmark)
+public class Scenario6LargePolicy1 implements Scenario6LargePolicy {
+
+    private static final int DEVICE = 42;
+
+    private final ScenarioSetup setup;
+
+    public Scenario6LargePolicy1() {
+        setup = Scenario.newScenarioSetup(
+                true,
+                "Device subject has READ+WRITE granted on its own feature among hundreds of policy entries. "
+                        + "Is able to READ '/'. Can see in JsonView: only its own feature.",
+                getPolicy(),
+                Scenario.newAuthorizationContext(Scenario6LargePolicy.deviceSubject(DEVICE)),
+                "/",
+                THING,
+                THING.get(JsonFieldSelector.newInstance("/features/" + Scenario6LargePolicy.featureId(DEVICE))),
+                Collections.singleton(
+                        AuthorizationSubject.newInstance(SubjectId.newInstance(SubjectIssuer.GOOGLE, SUBJECT_ADMIN))),
+                "READ");
+    }
+
+    @Override
+    public ScenarioSetup getSetup() {
+        return setup;
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario6;
+
+import java.util.Collections;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.policies.model.SubjectId;
+import org.eclipse.ditto.policies.model.SubjectIssuer;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.Scenario;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.ScenarioSetup;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+
+@State(Scope.Benchmark)
+public class Scenario6LargePolicy2 implements Scenario6LargePolicy {
+
+    private final ScenarioSetup setup;
+
+    public Scenario6LargePolicy2() {
+        JsonObject expectedJsonView = THING;
+        for (int device = 0; device < NUMBER_OF_DEVICES; device++) {
+            expectedJsonView = expectedJsonView.remove(
+                    JsonPointer.of("/features/" + Scenario6LargePolicy.featureId(device) + "/properties/secret"));
+        }
+        setup = Scenario.newScenarioSetup(
+                true,
+                "Operator subject has READ granted on '/' and READ revoked on the secret property of hundreds of "
+                        + "features. Is able to READ '/'. Can see in JsonView: everything except the secrets.",
+                getPolicy(),
+                Scenario.newAuthorizationContext(SUBJECT_OPERATOR),
+                "/",
+                THING,
+                expectedJsonView,
+                Collections.singleton(
+                        AuthorizationSubject.newInstance(SubjectId.newInstance(SubjectIssuer.GOOGLE, SUBJECT_ADMIN))),
+                "READ");
+    }
+
+    @Override
+    public ScenarioSetup getSetup() {
+        return setup;
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.scenario6;
+
+import java.util.function.Function;
+
+import org.eclipse.ditto.policies.model.enforcers.testbench.algorithms.PolicyAlgorithm;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.Scenario;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.ScenarioSetup;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+
+@State(Scope.Benchmark)
+public class Scenario6LargePolicy4 implements Scenario6LargePolicy {
+
+    private final ScenarioSetup setup;
+
+    public Scenario6LargePolicy4() {
+        setup = Scenario.newScenarioSetup(
+                false,
+                "Operator subject has READ granted on '/' and READ revoked on the secret property of hundreds of "
+                        + "features. Is not able to READ '/features' completely.",
+                getPolicy(),
+                Scenario.newAuthorizationContext(SUBJECT_OPERATOR),
+                "/features",
+                "READ");
+    }
+
+    @Override
+    public ScenarioSetup getSetup() {
+        return setup;
+    }
+
+    @Override
+    public Function<PolicyAlgorithm, Boolean> getApplyAlgorithmFunction() {
+        return algorithm -> algorithm.hasPermissionsOnResource(getSetup());
+    }
+
+}
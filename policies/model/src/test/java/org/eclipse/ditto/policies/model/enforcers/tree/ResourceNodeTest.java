@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.policies.model.enforcers.tree;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.util.Collections;
 
 import org.eclipse.ditto.policies.model.EffectedPermissions;
@@ -43,7 +45,7 @@ public final class ResourceNodeTest {
         EqualsVerifier.forClass(ResourceNode.class)
                 .withRedefinedSuperclass()
                 .suppress(Warning.NONFINAL_FIELDS)
-                .withIgnoredFields("absolutePointer")
+                .withIgnoredFields("absolutePointer", "grantedBelow", "revokedBelow")
                 .verify();
     }
 
@@ -62,4 +64,24 @@ public final class ResourceNodeTest {
         ResourceNode.of(knownParent, KNOWN_NAME, null);
     }
 
+    @Test
+    public void summarizeSubtreeCollectsPermissionsOfAllDescendants() {
+        final ResourceNode root = ResourceNode.of(knownParent, "thing", KNOWN_PERMISSIONS);
+        final ResourceNode attributes = ResourceNode.of(root, "attributes",
+                EffectedPermissions.newInstance(Collections.singleton("WRITE"), Collections.emptySet()));
+        final ResourceNode location = ResourceNode.of(attributes, "location",
+                EffectedPermissions.newInstance(Collections.emptySet(), Collections.singleton("READ")));
+        root.addChild(attributes);
+        attributes.addChild(location);
+
+        root.summarizeSubtree();
+
+        assertThat(root.getGrantedBelow()).containsOnly("WRITE");
+        assertThat(root.getRevokedBelow()).containsOnly("READ");
+        assertThat(attributes.getGrantedBelow()).isEmpty();
+        assertThat(attributes.getRevokedBelow()).containsOnly("READ");
+        assertThat(location.getGrantedBelow()).isEmpty();
+        assertThat(location.getRevokedBelow()).isEmpty();
+    }
+
 }
@@ -15,6 +15,7 @@ package org.eclipse.ditto.policies.model.enforcers.tree;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.util.Arrays;
 import java.util.Set;
 
 import org.eclipse.ditto.base.model.auth.AuthorizationContext;
@@ -94,4 +95,55 @@ public final class TreeBasedPolicyEnforcerTest {
                 .doesNotContain(someRevokedSubject);
     }
 
+    @Test
+    public void partialAndUnrestrictedPermissionsTakeGrantsAndRevokesBelowTheResourceIntoAccount() {
+        final AuthorizationSubject unrestrictedReader = AuthorizationSubject.newInstance("dummy:unrestricted");
+        final AuthorizationSubject lampReader = AuthorizationSubject.newInstance("dummy:lamp");
+        final AuthorizationSubject restrictedReader = AuthorizationSubject.newInstance("dummy:restricted");
+
+        final PolicyId policyId = PolicyId.of("namespace", "id");
+        final Policy policy = Policy.newBuilder(policyId)
+                .forLabel("unrestricted")
+                .setSubject(unrestrictedReader.getId(), SubjectType.GENERATED)
+                .setSubject(restrictedReader.getId(), SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ")
+                .forLabel("lamp")
+                .setSubject(lampReader.getId(), SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/features/lamp/properties"), "READ")
+                .forLabel("restricted")
+                .setSubject(restrictedReader.getId(), SubjectType.GENERATED)
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/secret"), "READ")
+                .build();
+
+        final TreeBasedPolicyEnforcer underTest = TreeBasedPolicyEnforcer.createInstance(policy);
+        final Permissions read = Permissions.newInstance("READ");
+
+        assertThat(underTest.getSubjectsWithPartialPermission(ResourceKey.newInstance("thing", "/"), read))
+                .containsOnly(unrestrictedReader, lampReader, restrictedReader);
+        assertThat(underTest.getSubjectsWithPartialPermission(ResourceKey.newInstance("thing", "/attributes"), read))
+                .containsOnly(unrestrictedReader, restrictedReader);
+        assertThat(underTest.getSubjectsWithPartialPermission(
+                ResourceKey.newInstance("thing", "/attributes/secret/code"), read))
+                .containsOnly(unrestrictedReader);
+        assertThat(underTest.getSubjectsWithUnrestrictedPermission(ResourceKey.newInstance("thing", "/"), read))
+                .containsOnly(unrestrictedReader);
+        assertThat(underTest.getSubjectsWithUnrestrictedPermission(
+                ResourceKey.newInstance("thing", "/features/lamp"), read))
+                .containsOnly(unrestrictedReader, restrictedReader);
+
+        assertThat(underTest.hasPartialPermissions(ResourceKey.newInstance("thing", "/features"),
+                authorizationContext(lampReader), read)).isTrue();
+        assertThat(underTest.hasUnrestrictedPermissions(ResourceKey.newInstance("thing", "/features"),
+                authorizationContext(lampReader), read)).isFalse();
+        assertThat(underTest.hasPartialPermissions(ResourceKey.newInstance("thing", "/attributes/secret"),
+                authorizationContext(lampReader, restrictedReader), read)).isFalse();
+        assertThat(underTest.hasUnrestrictedPermissions(ResourceKey.newInstance("thing", "/features/lamp"),
+                authorizationContext(lampReader, restrictedReader), read)).isTrue();
+    }
+
+    private static AuthorizationContext authorizationContext(final AuthorizationSubject... authorizationSubjects) {
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                Arrays.asList(authorizationSubjects));
+    }
+
 }
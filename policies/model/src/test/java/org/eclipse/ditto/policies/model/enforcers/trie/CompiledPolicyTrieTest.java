@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyBuilder;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.SubjectId;
+import org.eclipse.ditto.policies.model.SubjectIssuer;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompiledPolicyTrie}. Compares the results of the compiled trie with those of the
+ * {@link PolicyTrie}s it was compiled from for random policies, resources, subjects and permissions.
+ */
+public final class CompiledPolicyTrieTest {
+
+    private static final List<String> PERMISSIONS = Arrays.asList("READ", "WRITE", "EXECUTE");
+    private static final List<String> SUBJECT_IDS = IntStream.range(0, 12)
+            .mapToObj(i -> SubjectId.newInstance(SubjectIssuer.GOOGLE, "subject-" + i).toString())
+            .collect(Collectors.toList());
+    private static final List<String> RESOURCE_PATHS = Arrays.asList("/",
+            "/attributes",
+            "/attributes/location",
+            "/attributes/location/latitude",
+            "/attributes/serialNumber",
+            "/features",
+            "/features/lamp",
+            "/features/lamp/properties",
+            "/features/lamp/properties/on",
+            "/features/lamp/properties/color/r",
+            "/features/sensor",
+            "/features/sensor/properties/values",
+            "/features/sensor/definition",
+            "/policyId",
+            "/unknown/resource");
+    private static final JsonObject THING = JsonObject.newBuilder()
+            .set("thingId", "org.eclipse.ditto:thing")
+            .set("policyId", "org.eclipse.ditto:policy")
+            .set("attributes", JsonObject.newBuilder()
+                    .set("location", JsonObject.newBuilder()
+                            .set("latitude", 47.68)
+                            .set("longitude", 9.38)
+                            .build())
+                    .set("serialNumber", "4711")
+                    .set("empty", JsonObject.empty())
+                    .build())
+            .set("features", JsonObject.newBuilder()
+                    .set("lamp", JsonObject.newBuilder()
+                            .set("properties", JsonObject.newBuilder()
+                                    .set("on", true)
+                                    .set("color", JsonObject.newBuilder()
+                                            .set("r", 255)
+                                            .set("g", 128)
+                                            .build())
+                                    .build())
+                            .build())
+                    .set("sensor", JsonObject.newBuilder()
+                            .set("definition", JsonArray.newBuilder().add("org.eclipse.ditto:sensor:1.0.0").build())
+                            .set("properties", JsonObject.newBuilder()
+                                    .set("values", JsonArray.of(1, 2, 3))
+                                    .set("objects", JsonArray.of(JsonObject.newBuilder().set("a", 1).build(),
+                                            JsonObject.newBuilder().set("b", 2).build()))
+                                    .build())
+                            .build())
+                    .build())
+            .build();
+
+    private Random random;
+
+    @Before
+    public void setUp() {
+        random = new Random(4711L);
+    }
+
+    @Test
+    public void compiledTrieBehavesLikePolicyTries() {
+        for (int i = 0; i < 50; i++) {
+            final Policy policy = randomPolicy(1 + random.nextInt(30));
+            final PolicyTrie inheritedTrie = PolicyTrie.fromPolicy(policy).getTransitiveClosure();
+            final PolicyTrie bottomUpGrantTrie = inheritedTrie.getBottomUpGrantTrie();
+            final PolicyTrie bottomUpRevokeTrie = inheritedTrie.getBottomUpRevokeTrie();
+            final CompiledPolicyTrie underTest =
+                    CompiledPolicyTrie.compile(inheritedTrie, bottomUpGrantTrie, bottomUpRevokeTrie);
+
+            for (int j = 0; j < 50; j++) {
+                final ResourceKey resourceKey = ResourceKey.newInstance(
+                        random.nextInt(10) == 0 ? PoliciesResourceType.POLICY : PoliciesResourceType.THING,
+                        randomElement(RESOURCE_PATHS));
+                final Collection<String> subjectIds = randomSubjectIds();
+                final Permissions permissions = randomPermissions();
+                final String description = policy + "\n" + resourceKey + " " + subjectIds + " " + permissions;
+
+                final GrantRevokeIndex unrestrictedIndex =
+                        seekWithFallback(resourceKey, bottomUpRevokeTrie, inheritedTrie).getGrantRevokeIndex();
+                final GrantRevokeIndex partialIndex =
+                        seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie).getGrantRevokeIndex();
+                final GrantRevokeIndex inheritedIndex =
+                        inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey))
+                                .getGrantRevokeIndex();
+
+                assertThat(underTest.hasUnrestrictedPermissions(resourceKey, subjectIds, permissions))
+                        .as(description)
+                        .isEqualTo(unrestrictedIndex.hasPermissions(subjectIds, permissions));
+                assertThat(underTest.hasPartialPermissions(resourceKey, subjectIds, permissions))
+                        .as(description)
+                        .isEqualTo(partialIndex.hasPermissions(subjectIds, permissions));
+                assertThat(underTest.getSubjectsWithPermission(resourceKey, permissions))
+                        .as(description)
+                        .isEqualTo(inheritedIndex.getEffectedSubjects(permissions));
+                assertThat(underTest.getSubjectsWithPartialPermission(resourceKey, permissions))
+                        .as(description)
+                        .isEqualTo(partialIndex.getGrantedSubjects(permissions));
+                assertThat(underTest.getSubjectsWithUnrestrictedPermission(resourceKey, permissions))
+                        .as(description)
+                        .isEqualTo(withoutRevoked(unrestrictedIndex, permissions));
+                assertThat(underTest.buildJsonView(resourceKey, THING, subjectIds, permissions))
+                        .as(description)
+                        .isEqualTo(buildJsonView(inheritedTrie, resourceKey, subjectIds, permissions));
+            }
+        }
+    }
+
+    @Test
+    public void policyWithManyEntriesBuildsSameJsonViews() {
+        final Policy policy = randomPolicy(300);
+        final PolicyTrie inheritedTrie = PolicyTrie.fromPolicy(policy).getTransitiveClosure();
+        final CompiledPolicyTrie underTest = CompiledPolicyTrie.compile(inheritedTrie,
+                inheritedTrie.getBottomUpGrantTrie(), inheritedTrie.getBottomUpRevokeTrie());
+        final ResourceKey resourceKey = ResourceKey.newInstance(PoliciesResourceType.THING, "/");
+
+        for (final String subjectId : SUBJECT_IDS) {
+            final Set<String> subjectIds = Collections.singleton(subjectId);
+            assertThat(underTest.buildJsonView(resourceKey, THING, subjectIds, Permissions.newInstance("READ")))
+                    .isEqualTo(buildJsonView(inheritedTrie, resourceKey, subjectIds, Permissions.newInstance("READ")));
+        }
+    }
+
+    @Test
+    public void countsNodesVisitedToLocateResource() {
+        final Policy policy = PoliciesModelFactory.newPolicyBuilder(PolicyId.of("org.eclipse.ditto", "policy"))
+                .forLabel("label")
+                .setSubject(PoliciesModelFactory.newSubject(SubjectId.newInstance(SUBJECT_IDS.get(0))))
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes/location"), "READ")
+                .build();
+        final PolicyTrie inheritedTrie = PolicyTrie.fromPolicy(policy).getTransitiveClosure();
+        final CompiledPolicyTrie underTest = CompiledPolicyTrie.compile(inheritedTrie,
+                inheritedTrie.getBottomUpGrantTrie(), inheritedTrie.getBottomUpRevokeTrie());
+
+        assertThat(underTest.countVisitedNodes(
+                ResourceKey.newInstance(PoliciesResourceType.THING, "/attributes/location/latitude"))).isEqualTo(3);
+        assertThat(underTest.countVisitedNodes(
+                ResourceKey.newInstance(PoliciesResourceType.THING, "/features/lamp"))).isEqualTo(1);
+        assertThat(underTest.countVisitedNodes(
+                ResourceKey.newInstance(PoliciesResourceType.POLICY, "/"))).isZero();
+    }
+
+    private static PolicyTrie seekWithFallback(final ResourceKey resourceKey, final PolicyTrie firstTry,
+            final PolicyTrie fallback) {
+
+        return firstTry.seekToExactNode(PolicyTrie.getJsonKeyIterator(resourceKey))
+                .orElseGet(() -> fallback.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey)));
+    }
+
+    private static Set<?> withoutRevoked(final GrantRevokeIndex grantRevokeIndex, final Permissions permissions) {
+        final Set<?> grantedSubjects = grantRevokeIndex.getGrantedSubjects(permissions);
+        grantedSubjects.removeAll(grantRevokeIndex.getRevokedSubjects(permissions));
+        return grantedSubjects;
+    }
+
+    private static JsonObject buildJsonView(final PolicyTrie inheritedTrie, final ResourceKey resourceKey,
+            final Collection<String> subjectIds, final Permissions permissions) {
+
+        final PolicyTrie start = inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+        if (!inheritedTrie.hasChild(JsonKey.of(resourceKey.getResourceType()))) {
+            return JsonObject.empty();
+        }
+        return start.buildJsonView(THING, subjectIds, permissions);
+    }
+
+    private Policy randomPolicy(final int numberOfEntries) {
+        final PolicyBuilder policyBuilder =
+                PoliciesModelFactory.newPolicyBuilder(PolicyId.of("org.eclipse.ditto", "policy"));
+        for (int i = 0; i < numberOfEntries; i++) {
+            final PolicyBuilder.LabelScoped labelScoped = policyBuilder.forLabel("label-" + i);
+            randomSubset(SUBJECT_IDS, 1).forEach(subjectId ->
+                    labelScoped.setSubject(PoliciesModelFactory.newSubject(SubjectId.newInstance(subjectId))));
+            for (int j = 0; j <= random.nextInt(3); j++) {
+                final String resourcePath = randomElement(RESOURCE_PATHS);
+                final Collection<String> granted = randomSubset(PERMISSIONS, 0);
+                final Collection<String> revoked = random.nextInt(3) == 0
+                        ? randomSubset(PERMISSIONS, 0)
+                        : Collections.<String>emptyList();
+                labelScoped.setResource(PoliciesModelFactory.newResource(
+                        PoliciesResourceType.thingResource(resourcePath),
+                        PoliciesModelFactory.newEffectedPermissions(granted, revoked)));
+            }
+            if (random.nextInt(10) == 0) {
+                labelScoped.setGrantedPermissions(PoliciesResourceType.policyResource("/"), "READ");
+            }
+        }
+        return policyBuilder.build();
+    }
+
+    private Collection<String> randomSubjectIds() {
+        final List<String> subjectIds = new ArrayList<>(randomSubset(SUBJECT_IDS, 0));
+        if (random.nextInt(4) == 0) {
+            subjectIds.add("google:unknown-subject");
+        }
+        return subjectIds;
+    }
+
+    private Permissions randomPermissions() {
+        final List<String> permissions = new ArrayList<>(randomSubset(PERMISSIONS, 0));
+        if (random.nextInt(8) == 0) {
+            permissions.add("ADMINISTRATE");
+        }
+        return PoliciesModelFactory.newPermissions(permissions);
+    }
+
+    private <T> List<T> randomSubset(final List<T> elements, final int minSize) {
+        final int size = minSize + random.nextInt(Math.min(elements.size(), 4) - minSize + 1);
+        return random.ints(size, 0, elements.size())
+                .mapToObj(elements::get)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private <T> T randomElement(final List<T> elements) {
+        return elements.get(random.nextInt(elements.size()));
+    }
+
+}
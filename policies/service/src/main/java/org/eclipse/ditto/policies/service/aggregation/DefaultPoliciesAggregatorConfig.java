@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.aggregation;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements {@link PoliciesAggregatorConfig}.
+ */
+@Immutable
+public final class DefaultPoliciesAggregatorConfig implements PoliciesAggregatorConfig {
+
+    private static final String CONFIG_PATH = "policies-aggregator";
+
+    private final Duration singleRetrievePolicyTimeout;
+    private final int maxParallelism;
+
+    private DefaultPoliciesAggregatorConfig(final ScopedConfig config) {
+        singleRetrievePolicyTimeout = config.getNonNegativeAndNonZeroDurationOrThrow(
+                PoliciesAggregatorConfigValue.SINGLE_RETRIEVE_POLICY_TIMEOUT);
+        maxParallelism = config.getPositiveIntOrThrow(PoliciesAggregatorConfigValue.MAX_PARALLELISM);
+    }
+
+    /**
+     * Returns an instance of {@code DefaultPoliciesAggregatorConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the policies aggregator config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultPoliciesAggregatorConfig of(final Config config) {
+        return new DefaultPoliciesAggregatorConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, PoliciesAggregatorConfigValue.values()));
+    }
+
+    @Override
+    public Duration getSingleRetrievePolicyTimeout() {
+        return singleRetrievePolicyTimeout;
+    }
+
+    @Override
+    public int getMaxParallelism() {
+        return maxParallelism;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultPoliciesAggregatorConfig that = (DefaultPoliciesAggregatorConfig) o;
+        return maxParallelism == that.maxParallelism &&
+                Objects.equals(singleRetrievePolicyTimeout, that.singleRetrievePolicyTimeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(singleRetrievePolicyTimeout, maxParallelism);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "singleRetrievePolicyTimeout=" + singleRetrievePolicyTimeout +
+                ", maxParallelism=" + maxParallelism +
+                "]";
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.aggregation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.pekko.actor.AbstractActor;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.japi.pf.ReceiveBuilder;
+import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.api.PoliciesMessagingConstants;
+import org.eclipse.ditto.policies.api.commands.sudo.SudoRetrievePolicies;
+import org.eclipse.ditto.policies.api.commands.sudo.SudoRetrievePoliciesResponse;
+import org.eclipse.ditto.policies.api.commands.sudo.SudoRetrievePolicy;
+import org.eclipse.ditto.policies.api.commands.sudo.SudoRetrievePolicyResponse;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.signals.commands.exceptions.PolicyNotAccessibleException;
+
+/**
+ * Actor answering {@link SudoRetrievePolicies} commands by retrieving each requested policy from the policy shard
+ * region and aggregating the results in one {@link SudoRetrievePoliciesResponse}.
+ * Policies which do not exist are omitted from the response; if any other error occurs the whole command fails.
+ */
+public final class PoliciesAggregatorActor extends AbstractActor {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = PoliciesMessagingConstants.POLICIES_AGGREGATOR_ACTOR_NAME;
+
+    private final ThreadSafeDittoLoggingAdapter log = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this);
+    private final ActorRef policiesShardRegion;
+    private final Duration singleRetrievePolicyTimeout;
+    private final int maxParallelism;
+    private final Materializer materializer;
+
+    @SuppressWarnings("unused")
+    private PoliciesAggregatorActor(final ActorRef policiesShardRegion,
+            final PoliciesAggregatorConfig aggregatorConfig) {
+
+        this.policiesShardRegion = policiesShardRegion;
+        singleRetrievePolicyTimeout = aggregatorConfig.getSingleRetrievePolicyTimeout();
+        maxParallelism = aggregatorConfig.getMaxParallelism();
+        materializer = Materializer.createMaterializer(this::getContext);
+    }
+
+    /**
+     * Creates Pekko configuration object Props for this PoliciesAggregatorActor.
+     *
+     * @param policiesShardRegion the shard region of the policies to retrieve.
+     * @param aggregatorConfig the configuration of the aggregation.
+     * @return the Pekko configuration Props object.
+     */
+    public static Props props(final ActorRef policiesShardRegion, final PoliciesAggregatorConfig aggregatorConfig) {
+        return Props.create(PoliciesAggregatorActor.class, policiesShardRegion, aggregatorConfig);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(SudoRetrievePolicies.class, this::retrievePolicies)
+                .matchAny(m -> {
+                    log.warning("Got unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    private void retrievePolicies(final SudoRetrievePolicies command) {
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final List<PolicyId> policyIds = command.getPolicyIds();
+        log.withCorrelationId(command).debug("Retrieving <{}> policies", policyIds.size());
+
+        final CompletionStage<SudoRetrievePoliciesResponse> response = Source.from(policyIds)
+                .mapAsyncUnordered(Math.max(1, Math.min(policyIds.size(), maxParallelism)), policyId ->
+                        Patterns.ask(policiesShardRegion, SudoRetrievePolicy.of(policyId, dittoHeaders),
+                                singleRetrievePolicyTimeout))
+                .filter(reply -> !(reply instanceof PolicyNotAccessibleException))
+                .map(PoliciesAggregatorActor::toPolicyJson)
+                .runWith(Sink.seq(), materializer)
+                .thenApply(policies -> SudoRetrievePoliciesResponse.of(
+                        policies.stream().collect(JsonCollectors.valuesToArray()), dittoHeaders));
+
+        Patterns.pipe(response, getContext().getDispatcher()).to(getSender());
+    }
+
+    private static JsonValue toPolicyJson(final Object reply) {
+        if (reply instanceof SudoRetrievePolicyResponse sudoRetrievePolicyResponse) {
+            return sudoRetrievePolicyResponse.getEntity(sudoRetrievePolicyResponse.getImplementedSchemaVersion());
+        } else if (reply instanceof Throwable throwable) {
+            throw new IllegalStateException("Retrieving a policy failed", throwable);
+        } else {
+            throw new IllegalStateException("Expected SudoRetrievePolicyResponse, got: " + reply);
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.aggregation;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings of policies aggregation.
+ */
+@Immutable
+public interface PoliciesAggregatorConfig {
+
+    /**
+     * Returns the timeout how long the {@code PoliciesAggregatorActor} should wait for a single retrieve policy.
+     *
+     * @return the timeout.
+     */
+    Duration getSingleRetrievePolicyTimeout();
+
+    /**
+     * Returns the maximum parallelism, that is how many {@code SudoRetrievePolicy} commands of one aggregation can be
+     * "in flight" at the same time towards the policy shard region.
+     *
+     * @return the maximum parallelism.
+     */
+    int getMaxParallelism();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code PoliciesAggregatorConfig}.
+     */
+    enum PoliciesAggregatorConfigValue implements KnownConfigValue {
+
+        /**
+         * The timeout how long the {@code PoliciesAggregatorActor} should wait for a single retrieve policy.
+         */
+        SINGLE_RETRIEVE_POLICY_TIMEOUT("single-retrieve-policy-timeout", Duration.ofSeconds(10L)),
+
+        /**
+         * The maximum parallelism.
+         */
+        MAX_PARALLELISM("max-parallelism", 50);
+
+        private final String path;
+        private final Object defaultValue;
+
+        PoliciesAggregatorConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+    }
+
+}
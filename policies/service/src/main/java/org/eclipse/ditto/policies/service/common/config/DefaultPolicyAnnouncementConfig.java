@@ -38,6 +38,9 @@ final class DefaultPolicyAnnouncementConfig implements PolicyAnnouncementConfig
 
     private final Duration defaultRandomizationInterval;
     private final ExponentialBackOffConfig exponentialBackOffConfig;
+    private final boolean subjectExpiryWheelEnabled;
+    private final Duration subjectExpiryWheelTickInterval;
+    private final int subjectExpiryWheelMaxSubjectsPerDelete;
 
     private DefaultPolicyAnnouncementConfig(final ScopedConfig scopedConfig) {
         gracePeriod = scopedConfig.getDuration(ConfigValue.GRACE_PERIOD.getConfigPath());
@@ -46,6 +49,11 @@ final class DefaultPolicyAnnouncementConfig implements PolicyAnnouncementConfig
                 scopedConfig.getBoolean(ConfigValue.ENABLE_ANNOUNCEMENTS_WHEN_DELETED.getConfigPath());
         defaultRandomizationInterval = scopedConfig.getDuration(ConfigValue.DEFAULT_RANDOMIZATION_INTERVAL.getConfigPath());
         exponentialBackOffConfig = DefaultExponentialBackOffConfig.of(scopedConfig);
+        subjectExpiryWheelEnabled = scopedConfig.getBoolean(ConfigValue.SUBJECT_EXPIRY_WHEEL_ENABLED.getConfigPath());
+        subjectExpiryWheelTickInterval =
+                scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.SUBJECT_EXPIRY_WHEEL_TICK_INTERVAL);
+        subjectExpiryWheelMaxSubjectsPerDelete =
+                scopedConfig.getPositiveIntOrThrow(ConfigValue.SUBJECT_EXPIRY_WHEEL_MAX_SUBJECTS_PER_DELETE);
     }
 
     static DefaultPolicyAnnouncementConfig of(final Config config) {
@@ -79,6 +87,21 @@ final class DefaultPolicyAnnouncementConfig implements PolicyAnnouncementConfig
         return exponentialBackOffConfig;
     }
 
+    @Override
+    public boolean isSubjectExpiryWheelEnabled() {
+        return subjectExpiryWheelEnabled;
+    }
+
+    @Override
+    public Duration getSubjectExpiryWheelTickInterval() {
+        return subjectExpiryWheelTickInterval;
+    }
+
+    @Override
+    public int getSubjectExpiryWheelMaxSubjectsPerDelete() {
+        return subjectExpiryWheelMaxSubjectsPerDelete;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -92,13 +115,17 @@ final class DefaultPolicyAnnouncementConfig implements PolicyAnnouncementConfig
                 Objects.equals(maxTimeout, that.maxTimeout) &&
                 enableAnnouncementsWhenDeleted == that.enableAnnouncementsWhenDeleted &&
                 Objects.equals(defaultRandomizationInterval, that.defaultRandomizationInterval) &&
-                Objects.equals(exponentialBackOffConfig, that.exponentialBackOffConfig);
+                Objects.equals(exponentialBackOffConfig, that.exponentialBackOffConfig) &&
+                subjectExpiryWheelEnabled == that.subjectExpiryWheelEnabled &&
+                Objects.equals(subjectExpiryWheelTickInterval, that.subjectExpiryWheelTickInterval) &&
+                subjectExpiryWheelMaxSubjectsPerDelete == that.subjectExpiryWheelMaxSubjectsPerDelete;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(gracePeriod, maxTimeout, enableAnnouncementsWhenDeleted, defaultRandomizationInterval,
-                exponentialBackOffConfig);
+                exponentialBackOffConfig, subjectExpiryWheelEnabled, subjectExpiryWheelTickInterval,
+                subjectExpiryWheelMaxSubjectsPerDelete);
     }
 
     @Override
@@ -109,6 +136,9 @@ final class DefaultPolicyAnnouncementConfig implements PolicyAnnouncementConfig
                 ", enableAnnouncementsWhenDeleted=" + enableAnnouncementsWhenDeleted +
                 ", defaultRandomizationInterval=" + defaultRandomizationInterval +
                 ", exponentialBackOffConfig" + exponentialBackOffConfig +
+                ", subjectExpiryWheelEnabled=" + subjectExpiryWheelEnabled +
+                ", subjectExpiryWheelTickInterval=" + subjectExpiryWheelTickInterval +
+                ", subjectExpiryWheelMaxSubjectsPerDelete=" + subjectExpiryWheelMaxSubjectsPerDelete +
                 "]";
     }
 
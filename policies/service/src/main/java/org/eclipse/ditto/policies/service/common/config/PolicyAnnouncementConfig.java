@@ -64,6 +64,32 @@ public interface PolicyAnnouncementConfig {
      */
     ExponentialBackOffConfig getExponentialBackOffConfig();
 
+    /**
+     * Returns whether subjects which expire without announcements are processed in batches by the per-node subject
+     * expiry wheel instead of by one actor per subject.
+     *
+     * @return whether the subject expiry wheel is enabled.
+     * @since 3.6.0
+     */
+    boolean isSubjectExpiryWheelEnabled();
+
+    /**
+     * Returns the interval in which the subject expiry wheel processes the expired subjects. Expirations falling into
+     * the same interval are processed together.
+     *
+     * @return the tick interval of the subject expiry wheel.
+     * @since 3.6.0
+     */
+    Duration getSubjectExpiryWheelTickInterval();
+
+    /**
+     * Returns the maximum number of expired subjects of one policy which are deleted by a single command.
+     *
+     * @return the maximum number of subjects per delete command.
+     * @since 3.6.0
+     */
+    int getSubjectExpiryWheelMaxSubjectsPerDelete();
+
     /**
      * Returns an instance of the policy announcement config based on the settings of the specified Config.
      *
@@ -99,7 +125,28 @@ public interface PolicyAnnouncementConfig {
         /**
          * Whether when-deleted announcements are enabled.
          */
-        ENABLE_ANNOUNCEMENTS_WHEN_DELETED("enable-announcements-when-deleted", true);
+        ENABLE_ANNOUNCEMENTS_WHEN_DELETED("enable-announcements-when-deleted", true),
+
+        /**
+         * Whether subjects expiring without announcements are processed by the subject expiry wheel.
+         *
+         * @since 3.6.0
+         */
+        SUBJECT_EXPIRY_WHEEL_ENABLED("subject-expiry-wheel.enabled", true),
+
+        /**
+         * The tick interval of the subject expiry wheel.
+         *
+         * @since 3.6.0
+         */
+        SUBJECT_EXPIRY_WHEEL_TICK_INTERVAL("subject-expiry-wheel.tick-interval", Duration.ofSeconds(1L)),
+
+        /**
+         * The maximum number of subjects of one policy deleted by one command of the subject expiry wheel.
+         *
+         * @since 3.6.0
+         */
+        SUBJECT_EXPIRY_WHEEL_MAX_SUBJECTS_PER_DELETE("subject-expiry-wheel.max-subjects-per-delete", 100);
 
         private final String path;
         private final Object defaultValue;
@@ -14,6 +14,7 @@ package org.eclipse.ditto.policies.service.persistence.actors.announcements;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -21,6 +22,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedPub;
@@ -43,6 +46,10 @@ import org.apache.pekko.japi.pf.ReceiveBuilder;
 
 /**
  * Manager of actors responsible for policy announcements.
+ * <p>
+ * Subjects which expire without announcements are handed over to the {@link SubjectExpiryWheel} of the node if it
+ * is enabled, all other subjects with expiry or announcements are tracked by one {@link SubjectExpiryActor} each.
+ * </p>
  */
 public final class PolicyAnnouncementManager extends AbstractActor {
 
@@ -52,6 +59,10 @@ public final class PolicyAnnouncementManager extends AbstractActor {
     private final Map<Subject, ActorRef> subjectExpiryActors;
     private final Map<ActorRef, Subject> activeSubjects;
     private final Map<SubjectId, Integer> activeSubjectIds;
+    @Nullable private final PolicyId policyId;
+    @Nullable private final ActorRef commandForwarder;
+    @Nullable private final ActorRef subjectExpiryWheel;
+    private final Set<Subject> subjectsInExpiryWheel;
 
     @SuppressWarnings("unused")
     private PolicyAnnouncementManager(final PolicyId policyId,
@@ -60,14 +71,31 @@ public final class PolicyAnnouncementManager extends AbstractActor {
             final PolicyAnnouncementConfig config) {
 
         this(subject -> SubjectExpiryActor.props(policyId, subject, config.getGracePeriod(), policyAnnouncementPub,
-                config.getMaxTimeout(), commandForwarder, config));
+                        config.getMaxTimeout(), commandForwarder, config),
+                policyId, commandForwarder, config.isSubjectExpiryWheelEnabled());
     }
 
     PolicyAnnouncementManager(final Function<Subject, Props> createChildProps) {
+        this(createChildProps, null, null, false);
+    }
+
+    PolicyAnnouncementManager(final Function<Subject, Props> createChildProps,
+            @Nullable final PolicyId policyId,
+            @Nullable final ActorRef commandForwarder,
+            final boolean useSubjectExpiryWheel) {
+
         subjectExpiryActors = new HashMap<>();
         activeSubjects = new HashMap<>();
         activeSubjectIds = new HashMap<>();
         this.createChildProps = createChildProps;
+        this.policyId = policyId;
+        this.commandForwarder = commandForwarder;
+        if (useSubjectExpiryWheel && null != policyId && null != commandForwarder) {
+            subjectExpiryWheel = SubjectExpiryWheel.get(getContext().getSystem());
+        } else {
+            subjectExpiryWheel = null;
+        }
+        subjectsInExpiryWheel = new HashSet<>();
     }
 
     /**
@@ -86,6 +114,13 @@ public final class PolicyAnnouncementManager extends AbstractActor {
         return Props.create(PolicyAnnouncementManager.class, policyId, policyAnnouncementPub, forwarder, config);
     }
 
+    @Override
+    public void postStop() throws Exception {
+        // the subjects are deleted by the subject expiry wheel only as long as their policy is managed on this node
+        subjectsInExpiryWheel.forEach(this::cancelExpiry);
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
@@ -97,15 +132,31 @@ public final class PolicyAnnouncementManager extends AbstractActor {
 
     private void onPolicyModified(final Policy policy) {
         final var subjects = getSubjectsWithExpiryOrAnnouncements(policy);
+        final var subjectsForExpiryWheel = subjects.stream()
+                .filter(this::isForSubjectExpiryWheel)
+                .collect(Collectors.toSet());
+        subjects.removeAll(subjectsForExpiryWheel);
         final var newSubjects = calculateDifference(subjects, subjectExpiryActors.keySet());
         final var deletedSubjects = calculateDifference(subjectExpiryActors.keySet(), subjects);
-        log.debug("OnPolicyModified policy=<{}> newSubjects=<{}> deletedSubjects=<{}>", policy, newSubjects,
-                deletedSubjects);
+        final var newExpiringSubjects = calculateDifference(subjectsForExpiryWheel, subjectsInExpiryWheel);
+        final var deletedExpiringSubjects = calculateDifference(subjectsInExpiryWheel, subjectsForExpiryWheel);
+        log.debug("OnPolicyModified policy=<{}> newSubjects=<{}> deletedSubjects=<{}> newExpiringSubjects=<{}> " +
+                "deletedExpiringSubjects=<{}>", policy, newSubjects, deletedSubjects, newExpiringSubjects,
+                deletedExpiringSubjects);
         for (final var newSubject : newSubjects) {
             startChild(newSubject);
         }
+        for (final var newExpiringSubject : newExpiringSubjects) {
+            scheduleExpiry(newExpiringSubject);
+        }
         // copy current active subject IDs so that deleted subjects are immediately accounted for
         final Map<SubjectId, Integer> counterMap = new HashMap<>(activeSubjectIds);
+        for (final var deletedExpiringSubject : deletedExpiringSubjects) {
+            cancelExpiry(deletedExpiringSubject);
+            subjectsInExpiryWheel.remove(deletedExpiringSubject);
+            removeActiveSubjectId(deletedExpiringSubject);
+            decrementReferenceCount(deletedExpiringSubject, counterMap);
+        }
         for (final var deletedSubject : deletedSubjects) {
             // precondition: child actors have started for new subjects so that modified subjects can be recognized
             sendSubjectDeleted(deletedSubject, counterMap);
@@ -120,6 +171,24 @@ public final class PolicyAnnouncementManager extends AbstractActor {
         addActiveSubjectId(subject);
     }
 
+    private boolean isForSubjectExpiryWheel(final Subject subject) {
+        return null != subjectExpiryWheel && subject.getExpiry().isPresent() && subject.getAnnouncement().isEmpty();
+    }
+
+    private void scheduleExpiry(final Subject subject) {
+        if (null != subjectExpiryWheel) {
+            subjectExpiryWheel.tell(new SubjectExpiryWheel.Schedule(policyId, subject, commandForwarder), getSelf());
+            subjectsInExpiryWheel.add(subject);
+            addActiveSubjectId(subject);
+        }
+    }
+
+    private void cancelExpiry(final Subject subject) {
+        if (null != subjectExpiryWheel) {
+            subjectExpiryWheel.tell(new SubjectExpiryWheel.Cancel(policyId, subject, commandForwarder), getSelf());
+        }
+    }
+
     private void onChildTerminated(final Terminated terminated) {
         final var terminatedActor = terminated.actor();
         final var removedSubject = activeSubjects.remove(terminatedActor);
@@ -170,9 +239,9 @@ public final class PolicyAnnouncementManager extends AbstractActor {
                     .map(PolicyEntry::getSubjects)
                     .flatMap(Subjects::stream)
                     .filter(subject -> subject.getExpiry().isPresent() || subject.getAnnouncement().isPresent())
-                    .collect(Collectors.toSet());
+                    .collect(Collectors.toCollection(HashSet::new));
         } else {
-            return Set.of();
+            return new HashSet<>();
         }
     }
 
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.actors.announcements;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.policies.model.SubjectExpiry;
+import org.eclipse.ditto.policies.service.common.config.PolicyAnnouncementConfig;
+import org.eclipse.ditto.policies.service.persistence.actors.strategies.commands.SudoDeleteExpiredSubjects;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.pekko.actor.AbstractActorWithTimers;
+import org.apache.pekko.actor.AbstractExtensionId;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Extension;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.japi.pf.ReceiveBuilder;
+
+/**
+ * Deletes the expired subjects of all policies of one node which expire without announcements.
+ * <p>
+ * Instead of one {@link SubjectExpiryActor} with its own timer per expiring subject, the expirations are kept in an
+ * index of time buckets of the length of the tick interval. On each tick the due buckets are drained and the expired
+ * subjects are deleted with one {@link SudoDeleteExpiredSubjects} command per policy.
+ * </p>
+ * <p>
+ * The delete commands have no response. A subject is kept in the index until its deletion is acknowledged by a
+ * {@link Cancel}, which the {@link PolicyAnnouncementManager} sends as soon as the modified policy no longer contains
+ * the subject. Until then its deletion is retried with exponential back-off.
+ * </p>
+ * <p>
+ * The number of scheduled expirations is reported by the gauge {@value #BACKLOG_METRIC_NAME}, the time between the
+ * expiry of a subject and the sending of its first delete command by the histogram {@value #LAG_METRIC_NAME} and the
+ * number of retried deletions by the counter {@value #DELETE_RETRIES_METRIC_NAME}.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+public final class SubjectExpiryWheel extends AbstractActorWithTimers {
+
+    /**
+     * The name of this actor.
+     */
+    public static final String ACTOR_NAME = "subjectExpiryWheel";
+
+    static final String BACKLOG_METRIC_NAME = "policy_subject_expiry_backlog";
+    static final String LAG_METRIC_NAME = "policy_subject_expiry_lag_ms";
+    static final String DELETES_METRIC_NAME = "policy_subject_expiry_deletes";
+    static final String DELETE_RETRIES_METRIC_NAME = "policy_subject_expiry_delete_retries";
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final long tickMillis;
+    private final int maxSubjectsPerDelete;
+    private final long minRetryBackOffMillis;
+    private final long maxRetryBackOffMillis;
+    private final NavigableMap<Long, Map<ExpiringSubject, ScheduledDelete>> buckets;
+    private final Map<ExpiringSubject, Long> bucketIndex;
+    private final Gauge backlog;
+    private final Histogram lag;
+    private final Counter deletes;
+    private final Counter deleteRetries;
+
+    @SuppressWarnings("unused")
+    private SubjectExpiryWheel(final Duration tickInterval, final int maxSubjectsPerDelete,
+            final Duration minRetryBackOff, final Duration maxRetryBackOff) {
+
+        tickMillis = Math.max(1L, tickInterval.toMillis());
+        this.maxSubjectsPerDelete = maxSubjectsPerDelete;
+        minRetryBackOffMillis = Math.max(tickMillis, minRetryBackOff.toMillis());
+        maxRetryBackOffMillis = Math.max(minRetryBackOffMillis, maxRetryBackOff.toMillis());
+        buckets = new TreeMap<>();
+        bucketIndex = new HashMap<>();
+        backlog = DittoMetrics.gauge(BACKLOG_METRIC_NAME);
+        lag = DittoMetrics.histogram(LAG_METRIC_NAME);
+        deletes = DittoMetrics.counter(DELETES_METRIC_NAME);
+        deleteRetries = DittoMetrics.counter(DELETE_RETRIES_METRIC_NAME);
+        timers().startTimerWithFixedDelay(Control.TICK, Control.TICK, tickInterval);
+    }
+
+    /**
+     * Create the Props object for this actor.
+     *
+     * @param config the policy announcement config.
+     * @return The Props object.
+     */
+    public static Props props(final PolicyAnnouncementConfig config) {
+        return Props.create(SubjectExpiryWheel.class, config.getSubjectExpiryWheelTickInterval(),
+                config.getSubjectExpiryWheelMaxSubjectsPerDelete(), config.getExponentialBackOffConfig().getMin(),
+                config.getExponentialBackOffConfig().getMax());
+    }
+
+    /**
+     * Returns the subject expiry wheel of the node of an actor system, starting it if necessary.
+     *
+     * @param actorSystem the actor system.
+     * @return the reference of the subject expiry wheel.
+     */
+    public static ActorRef get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem).subjectExpiryWheel;
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(Schedule.class, this::schedule)
+                .match(Cancel.class, this::cancel)
+                .matchEquals(Control.TICK, tick -> processExpiredSubjects(System.currentTimeMillis()))
+                .build();
+    }
+
+    private void schedule(final Schedule schedule) {
+        final var expiringSubject = new ExpiringSubject(schedule.policyId(), schedule.subject());
+        schedule.subject().getExpiry().ifPresentOrElse(expiry -> {
+            removeFromBucket(expiringSubject);
+            addToBucket(expiringSubject, new ScheduledDelete(schedule.forwarder(), 0),
+                    expiry.getTimestamp().toEpochMilli());
+            backlog.set((long) bucketIndex.size());
+        }, () -> log.warning("Ignoring subject without expiry: <{}>", schedule.subject()));
+    }
+
+    private void cancel(final Cancel cancel) {
+        final var expiringSubject = new ExpiringSubject(cancel.policyId(), cancel.subject());
+        final Long bucket = bucketIndex.get(expiringSubject);
+        if (null != bucket && cancel.forwarder().equals(buckets.get(bucket).get(expiringSubject).forwarder())) {
+            removeFromBucket(expiringSubject);
+            backlog.set((long) bucketIndex.size());
+        }
+    }
+
+    private void addToBucket(final ExpiringSubject expiringSubject, final ScheduledDelete scheduledDelete,
+            final long dueMillis) {
+
+        // round up so that a subject is never deleted before it is due
+        final long bucket = Math.floorDiv(dueMillis + tickMillis - 1, tickMillis);
+        buckets.computeIfAbsent(bucket, b -> new HashMap<>()).put(expiringSubject, scheduledDelete);
+        bucketIndex.put(expiringSubject, bucket);
+    }
+
+    private void removeFromBucket(final ExpiringSubject expiringSubject) {
+        final Long bucket = bucketIndex.remove(expiringSubject);
+        if (null != bucket) {
+            final Map<ExpiringSubject, ScheduledDelete> bucketContent = buckets.get(bucket);
+            bucketContent.remove(expiringSubject);
+            if (bucketContent.isEmpty()) {
+                buckets.remove(bucket);
+            }
+        }
+    }
+
+    private void processExpiredSubjects(final long nowMillis) {
+        final NavigableMap<Long, Map<ExpiringSubject, ScheduledDelete>> dueBuckets =
+                buckets.headMap(Math.floorDiv(nowMillis, tickMillis), true);
+        if (dueBuckets.isEmpty()) {
+            return;
+        }
+        final Map<ExpiringSubject, ScheduledDelete> dueDeletes = new LinkedHashMap<>();
+        dueBuckets.values().forEach(dueDeletes::putAll);
+        dueBuckets.clear();
+        final Map<ActorRef, Map<PolicyId, List<Subject>>> expiredSubjects = new LinkedHashMap<>();
+        dueDeletes.forEach((expiringSubject, scheduledDelete) -> {
+            expiredSubjects.computeIfAbsent(scheduledDelete.forwarder(), f -> new LinkedHashMap<>())
+                    .computeIfAbsent(expiringSubject.policyId(), p -> new ArrayList<>())
+                    .add(expiringSubject.subject());
+            if (scheduledDelete.attempts() == 0) {
+                expiringSubject.subject()
+                        .getExpiry()
+                        .map(SubjectExpiry::getTimestamp)
+                        .ifPresent(expiry -> lag.record(Math.max(0L, nowMillis - expiry.toEpochMilli())));
+            } else {
+                deleteRetries.increment();
+            }
+            // keep the subject until the deletion is acknowledged by a Cancel
+            addToBucket(expiringSubject, scheduledDelete.nextAttempt(),
+                    nowMillis + getRetryBackOffMillis(scheduledDelete.attempts()));
+        });
+        backlog.set((long) bucketIndex.size());
+        expiredSubjects.forEach((forwarder, subjectsPerPolicy) ->
+                subjectsPerPolicy.forEach((policyId, subjects) -> deleteExpiredSubjects(forwarder, policyId, subjects)));
+    }
+
+    private void deleteExpiredSubjects(final ActorRef forwarder, final PolicyId policyId,
+            final List<Subject> subjects) {
+
+        for (int i = 0; i < subjects.size(); i += maxSubjectsPerDelete) {
+            final List<Subject> batch = subjects.subList(i, Math.min(subjects.size(), i + maxSubjectsPerDelete));
+            log.debug("Deleting <{}> expired subjects of policy <{}>", batch.size(), policyId);
+            forwarder.tell(SudoDeleteExpiredSubjects.of(policyId, batch,
+                    DittoHeaders.newBuilder().responseRequired(false).build()), ActorRef.noSender());
+            deletes.increment();
+        }
+    }
+
+    private long getRetryBackOffMillis(final int attempts) {
+        long backOffMillis = minRetryBackOffMillis;
+        for (int i = 0; i < attempts && backOffMillis < maxRetryBackOffMillis; i++) {
+            backOffMillis *= 2;
+        }
+        return Math.min(backOffMillis, maxRetryBackOffMillis);
+    }
+
+    /**
+     * Message to schedule the deletion of an expiring subject. A previous schedule of the same subject of the same
+     * policy is replaced.
+     *
+     * @param policyId the ID of the policy of the subject.
+     * @param subject the subject with expiry.
+     * @param forwarder the actor to send the delete command to.
+     */
+    record Schedule(PolicyId policyId, Subject subject, ActorRef forwarder) {}
+
+    /**
+     * Message to cancel the deletion of a subject which was scheduled with the same forwarder. It also acknowledges
+     * the deletion of a subject whose delete command was already sent.
+     *
+     * @param policyId the ID of the policy of the subject.
+     * @param subject the subject.
+     * @param forwarder the forwarder of the cancelled schedule.
+     */
+    record Cancel(PolicyId policyId, Subject subject, ActorRef forwarder) {}
+
+    private record ExpiringSubject(PolicyId policyId, Subject subject) {}
+
+    private record ScheduledDelete(ActorRef forwarder, int attempts) {
+
+        private ScheduledDelete nextAttempt() {
+            return new ScheduledDelete(forwarder, attempts + 1);
+        }
+    }
+
+    private enum Control {
+        TICK
+    }
+
+    /**
+     * Holds the subject expiry wheel of an actor system.
+     */
+    private static final class SubjectExpiryWheelExtension implements Extension {
+
+        private final ActorRef subjectExpiryWheel;
+
+        private SubjectExpiryWheelExtension(final ActorRef subjectExpiryWheel) {
+            this.subjectExpiryWheel = subjectExpiryWheel;
+        }
+
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<SubjectExpiryWheelExtension> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+        private static final String POLICY_CONFIG_PATH = "ditto.policies.policy";
+
+        @Override
+        public SubjectExpiryWheelExtension createExtension(final ExtendedActorSystem system) {
+            final Config config = system.settings().config();
+            final PolicyAnnouncementConfig announcementConfig = PolicyAnnouncementConfig.of(
+                    config.hasPath(POLICY_CONFIG_PATH) ? config.getConfig(POLICY_CONFIG_PATH) : ConfigFactory.empty());
+
+            return new SubjectExpiryWheelExtension(system.systemActorOf(props(announcementConfig), ACTOR_NAME));
+        }
+
+    }
+
+}
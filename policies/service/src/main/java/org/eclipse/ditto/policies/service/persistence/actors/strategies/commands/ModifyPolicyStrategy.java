@@ -72,8 +72,7 @@ final class ModifyPolicyStrategy extends AbstractPolicyCommandStrategy<ModifyPol
 
         final JsonObject modifiedPolicyJsonObject = modifiedPolicyWithImplicits.toJson();
         PolicyCommandSizeValidator.getInstance()
-                .ensureValidSize(modifiedPolicyJsonObject::getUpperBoundForStringSize,
-                        () -> modifiedPolicyJsonObject.toString().length(), () -> commandHeaders);
+                .ensureValidSize(modifiedPolicyJsonObject, () -> commandHeaders);
 
         final Optional<Result<PolicyEvent<?>>> alreadyExpiredSubject =
                 checkForAlreadyExpiredSubject(modifiedPolicyWithImplicits, commandHeaders, command);
@@ -84,6 +84,7 @@ public final class PolicyCommandStrategies
         addStrategy(new SudoRetrievePolicyStrategy(policyConfig));
         addStrategy(new SudoRetrievePolicyRevisionStrategy(policyConfig));
         addStrategy(new SudoDeleteExpiredSubjectStrategy(policyConfig));
+        addStrategy(new SudoDeleteExpiredSubjectsStrategy(policyConfig));
     }
 
     /**
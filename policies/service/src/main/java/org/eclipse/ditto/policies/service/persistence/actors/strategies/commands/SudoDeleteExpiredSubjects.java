@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.actors.strategies.commands;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.entity.id.WithEntityId;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonParsableCommand;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.commands.AbstractCommand;
+import org.eclipse.ditto.base.model.signals.commands.CommandJsonDeserializer;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.api.commands.sudo.PolicySudoCommand;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.policies.model.signals.commands.PolicyCommand;
+
+/**
+ * This internal command deletes all occurrences of several expired {@link Subject}s of one policy at once.
+ * There is no response.
+ *
+ * @since 3.6.0
+ */
+@Immutable
+@JsonParsableCommand(typePrefix = PolicySudoCommand.TYPE_PREFIX, name = SudoDeleteExpiredSubjects.NAME)
+public final class SudoDeleteExpiredSubjects extends AbstractCommand<SudoDeleteExpiredSubjects>
+        implements PolicySudoCommand<SudoDeleteExpiredSubjects>, WithEntityId {
+
+    /**
+     * Name of this command.
+     */
+    public static final String NAME = "sudoDeleteExpiredSubjects";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    static final JsonFieldDefinition<JsonArray> JSON_SUBJECTS =
+            JsonFactory.newJsonArrayFieldDefinition("subjects", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
+    private final PolicyId policyId;
+    private final List<Subject> subjects;
+
+    private SudoDeleteExpiredSubjects(final PolicyId policyId, final List<Subject> subjects,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE, dittoHeaders);
+        this.policyId = policyId;
+        this.subjects = subjects;
+    }
+
+    /**
+     * Creates a command for deleting expired {@code Subject}s.
+     *
+     * @param policyId the identifier of the Policy.
+     * @param subjects the expired Subjects to delete.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoDeleteExpiredSubjects of(final PolicyId policyId,
+            final Collection<Subject> subjects,
+            final DittoHeaders dittoHeaders) {
+
+        Objects.requireNonNull(policyId, "policyId");
+        Objects.requireNonNull(subjects, "subjects");
+        return new SudoDeleteExpiredSubjects(policyId, List.copyOf(subjects), dittoHeaders);
+    }
+
+    /**
+     * Creates a command for deleting expired {@code Subject}s from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static SudoDeleteExpiredSubjects fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandJsonDeserializer<SudoDeleteExpiredSubjects>(TYPE, jsonObject).deserialize(() -> {
+            final String extractedPolicyId = jsonObject.getValueOrThrow(PolicyCommand.JsonFields.JSON_POLICY_ID);
+            final PolicyId policyId = PolicyId.of(extractedPolicyId);
+            final List<Subject> subjects = jsonObject.getValueOrThrow(JSON_SUBJECTS)
+                    .stream()
+                    .filter(JsonValue::isObject)
+                    .map(JsonValue::asObject)
+                    .map(subjectJson -> PoliciesModelFactory.newSubject(
+                            PoliciesModelFactory.newSubjectId(
+                                    subjectJson.getValueOrThrow(SudoDeleteExpiredSubject.JSON_SUBJECT_ID)),
+                            subjectJson.getValueOrThrow(SudoDeleteExpiredSubject.JSON_SUBJECT)))
+                    .toList();
+
+            return of(policyId, subjects, dittoHeaders);
+        });
+    }
+
+    /**
+     * Returns the expired {@code Subject}s to delete.
+     *
+     * @return the subjects.
+     */
+    public List<Subject> getSubjects() {
+        return subjects;
+    }
+
+    @Override
+    public PolicyId getEntityId() {
+        return policyId;
+    }
+
+    @Override
+    public JsonPointer getResourcePath() {
+        return JsonPointer.empty();
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(PolicyCommand.JsonFields.JSON_POLICY_ID, String.valueOf(policyId), predicate);
+        jsonObjectBuilder.set(JSON_SUBJECTS, subjects.stream()
+                .map(subject -> JsonObject.newBuilder()
+                        .set(SudoDeleteExpiredSubject.JSON_SUBJECT_ID, subject.getId().toString())
+                        .set(SudoDeleteExpiredSubject.JSON_SUBJECT, subject.toJson())
+                        .build())
+                .collect(JsonCollectors.valuesToArray()), predicate);
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.DELETE;
+    }
+
+    @Override
+    public SudoDeleteExpiredSubjects setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(policyId, subjects, dittoHeaders);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof SudoDeleteExpiredSubjects;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (null == obj || getClass() != obj.getClass()) {
+            return false;
+        }
+        final SudoDeleteExpiredSubjects that = (SudoDeleteExpiredSubjects) obj;
+        return that.canEqual(this) && Objects.equals(policyId, that.policyId) &&
+                Objects.equals(subjects, that.subjects) && super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), policyId, subjects);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() +
+                " [" + super.toString() +
+                ", policyId=" + policyId +
+                ", subjects=" + subjects +
+                "]";
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.actors.strategies.commands;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.entity.metadata.Metadata;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
+import org.eclipse.ditto.internal.utils.persistentactors.results.Result;
+import org.eclipse.ditto.internal.utils.persistentactors.results.ResultFactory;
+import org.eclipse.ditto.policies.model.Label;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.policies.model.SubjectId;
+import org.eclipse.ditto.policies.model.signals.events.PolicyEvent;
+import org.eclipse.ditto.policies.model.signals.events.SubjectDeleted;
+import org.eclipse.ditto.policies.model.signals.events.SubjectsDeletedPartially;
+import org.eclipse.ditto.policies.service.common.config.PolicyConfig;
+
+/**
+ * This strategy handles the {@link SudoDeleteExpiredSubjects} command by persisting one event for all expired
+ * subjects.
+ */
+final class SudoDeleteExpiredSubjectsStrategy extends
+        AbstractPolicyCommandStrategy<SudoDeleteExpiredSubjects, PolicyEvent<?>> {
+
+    SudoDeleteExpiredSubjectsStrategy(final PolicyConfig policyConfig) {
+        super(SudoDeleteExpiredSubjects.class, policyConfig);
+    }
+
+    @Override
+    protected Result<PolicyEvent<?>> doApply(final Context<PolicyId> context,
+            @Nullable final Policy policy,
+            final long nextRevision,
+            final SudoDeleteExpiredSubjects command,
+            @Nullable final Metadata metadata) {
+
+        final Policy nonNullPolicy = checkNotNull(policy, "policy");
+        final PolicyId policyId = context.getState();
+        final DittoHeaders headers = command.getDittoHeaders();
+
+        final Map<Label, Collection<SubjectId>> subjectIdsToDelete = new LinkedHashMap<>();
+        int deletedSubjects = 0;
+        for (final PolicyEntry policyEntry : nonNullPolicy) {
+            for (final Subject subject : command.getSubjects()) {
+                // only subjects with expiry are deleted, and only if all fields of the subject are equal
+                if (subject.getExpiry().isPresent() &&
+                        policyEntry.getSubjects().getSubject(subject.getId()).filter(subject::equals).isPresent()) {
+                    subjectIdsToDelete.computeIfAbsent(policyEntry.getLabel(), label -> new ArrayList<>())
+                            .add(subject.getId());
+                    deletedSubjects++;
+                }
+            }
+        }
+
+        if (deletedSubjects == 1) {
+            final var deletedSubject = subjectIdsToDelete.entrySet().iterator().next();
+            final var event = SubjectDeleted.of(policyId, deletedSubject.getKey(),
+                    deletedSubject.getValue().iterator().next(), nextRevision, getEventTimestamp(), headers,
+                    metadata);
+            // this command has no response
+            return ResultFactory.newMutationResult(command, event, command);
+        } else if (deletedSubjects > 1) {
+            final var event =
+                    SubjectsDeletedPartially.of(policyId, subjectIdsToDelete, nextRevision, getEventTimestamp(),
+                            headers, metadata);
+            // this command has no response
+            return ResultFactory.newMutationResult(command, event, command);
+        } else {
+            // subjects already deleted
+            return ResultFactory.emptyResult();
+        }
+    }
+
+    @Override
+    public Optional<EntityTag> previousEntityTag(final SudoDeleteExpiredSubjects command,
+            @Nullable final Policy previousEntity) {
+        return Optional.ofNullable(previousEntity).flatMap(EntityTag::fromEntity);
+    }
+
+    @Override
+    public Optional<EntityTag> nextEntityTag(final SudoDeleteExpiredSubjects command,
+            @Nullable final Policy newEntity) {
+        return Optional.ofNullable(newEntity).flatMap(EntityTag::fromEntity);
+    }
+}
@@ -22,6 +22,7 @@ import org.eclipse.ditto.internal.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.cluster.RetrieveStatisticsDetailsResponseSupplier;
 import org.eclipse.ditto.internal.utils.cluster.ShardRegionCreator;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 import org.eclipse.ditto.internal.utils.health.DefaultHealthCheckingActorFactory;
 import org.eclipse.ditto.internal.utils.health.HealthCheckingActorOptions;
@@ -37,6 +38,9 @@ import org.eclipse.ditto.policies.api.PoliciesMessagingConstants;
 import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider;
 import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProviderExtension;
 import org.eclipse.ditto.policies.model.signals.announcements.PolicyAnnouncement;
+import org.eclipse.ditto.policies.service.aggregation.DefaultPoliciesAggregatorConfig;
+import org.eclipse.ditto.policies.service.aggregation.PoliciesAggregatorActor;
+import org.eclipse.ditto.policies.service.aggregation.PoliciesAggregatorConfig;
 import org.eclipse.ditto.policies.service.common.config.PoliciesConfig;
 import org.eclipse.ditto.policies.service.persistence.actors.PoliciesPersistenceStreamingActorCreator;
 import org.eclipse.ditto.policies.service.persistence.actors.PolicyPersistenceOperationsActor;
@@ -106,6 +110,12 @@ public final class PoliciesRootActor extends DittoRootActor {
                 PolicyPersistenceOperationsActor.props(pubSubMediator, policiesConfig.getMongoDbConfig(),
                         actorSystem.settings().config(), policiesConfig.getPersistenceOperationsConfig()));
 
+        final PoliciesAggregatorConfig policiesAggregatorConfig =
+                DefaultPoliciesAggregatorConfig.of(DefaultScopedConfig.dittoScoped(actorSystem.settings().config()));
+        final ActorRef policiesAggregatorActor = startChildActor(PoliciesAggregatorActor.ACTOR_NAME,
+                PoliciesAggregatorActor.props(policiesShardRegion, policiesAggregatorConfig));
+        pubSubMediator.tell(DistPubSubAccess.put(policiesAggregatorActor), getSelf());
+
         retrieveStatisticsDetailsResponseSupplier = RetrieveStatisticsDetailsResponseSupplier.of(policiesShardRegion,
                 PoliciesMessagingConstants.SHARD_REGION, log);
 
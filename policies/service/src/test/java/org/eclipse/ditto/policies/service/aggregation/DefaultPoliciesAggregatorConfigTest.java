@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.aggregation;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultPoliciesAggregatorConfig}.
+ */
+public final class DefaultPoliciesAggregatorConfigTest {
+
+    private static Config policiesAggregatorTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        policiesAggregatorTestConf = ConfigFactory.load("policies-aggregator-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultPoliciesAggregatorConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultPoliciesAggregatorConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultPoliciesAggregatorConfig underTest = DefaultPoliciesAggregatorConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.getSingleRetrievePolicyTimeout())
+                .as(PoliciesAggregatorConfig.PoliciesAggregatorConfigValue.SINGLE_RETRIEVE_POLICY_TIMEOUT.getConfigPath())
+                .isEqualTo(PoliciesAggregatorConfig.PoliciesAggregatorConfigValue.SINGLE_RETRIEVE_POLICY_TIMEOUT.getDefaultValue());
+
+        softly.assertThat(underTest.getMaxParallelism())
+                .as(PoliciesAggregatorConfig.PoliciesAggregatorConfigValue.MAX_PARALLELISM.getConfigPath())
+                .isEqualTo(PoliciesAggregatorConfig.PoliciesAggregatorConfigValue.MAX_PARALLELISM.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultPoliciesAggregatorConfig underTest = DefaultPoliciesAggregatorConfig.of(policiesAggregatorTestConf);
+
+        softly.assertThat(underTest.getSingleRetrievePolicyTimeout())
+                .as(PoliciesAggregatorConfig.PoliciesAggregatorConfigValue.SINGLE_RETRIEVE_POLICY_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(60L));
+
+        softly.assertThat(underTest.getMaxParallelism())
+                .as(PoliciesAggregatorConfig.PoliciesAggregatorConfigValue.MAX_PARALLELISM.getConfigPath())
+                .isEqualTo(10);
+    }
+
+}
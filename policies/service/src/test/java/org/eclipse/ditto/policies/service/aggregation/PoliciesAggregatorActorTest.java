@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.aggregation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.policies.api.commands.sudo.SudoRetrievePolicies;
+import org.eclipse.ditto.policies.api.commands.sudo.SudoRetrievePoliciesResponse;
+import org.eclipse.ditto.policies.api.commands.sudo.SudoRetrievePolicy;
+import org.eclipse.ditto.policies.api.commands.sudo.SudoRetrievePolicyResponse;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.policies.model.signals.commands.exceptions.PolicyNotAccessibleException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Status;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link PoliciesAggregatorActor}.
+ */
+public final class PoliciesAggregatorActorTest {
+
+    private static final PolicyId EXISTING_POLICY_ID = PolicyId.of("org.eclipse.ditto", "existing");
+    private static final PolicyId MISSING_POLICY_ID = PolicyId.of("org.eclipse.ditto", "missing");
+
+    private ActorSystem actorSystem;
+    private TestProbe policiesShardRegionProbe;
+    private ActorRef underTest;
+
+    @Before
+    public void setup() {
+        actorSystem = ActorSystem.create();
+        policiesShardRegionProbe = TestProbe.apply(actorSystem);
+        underTest = actorSystem.actorOf(PoliciesAggregatorActor.props(policiesShardRegionProbe.ref(),
+                DefaultPoliciesAggregatorConfig.of(ConfigFactory.empty())));
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+        actorSystem = null;
+    }
+
+    @Test
+    public void respondsWithExistingPolicies() {
+        new TestKit(actorSystem) {{
+            final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().correlationId("retrievePolicies").build();
+            underTest.tell(SudoRetrievePolicies.of(List.of(EXISTING_POLICY_ID, MISSING_POLICY_ID), dittoHeaders),
+                    getRef());
+
+            for (int i = 0; i < 2; i++) {
+                final SudoRetrievePolicy sudoRetrievePolicy =
+                        policiesShardRegionProbe.expectMsgClass(SudoRetrievePolicy.class);
+                if (EXISTING_POLICY_ID.equals(sudoRetrievePolicy.getEntityId())) {
+                    policiesShardRegionProbe.reply(SudoRetrievePolicyResponse.of(EXISTING_POLICY_ID,
+                            policy(EXISTING_POLICY_ID), sudoRetrievePolicy.getDittoHeaders()));
+                } else {
+                    policiesShardRegionProbe.reply(PolicyNotAccessibleException.newBuilder(MISSING_POLICY_ID)
+                            .dittoHeaders(sudoRetrievePolicy.getDittoHeaders())
+                            .build());
+                }
+            }
+
+            final SudoRetrievePoliciesResponse response = expectMsgClass(SudoRetrievePoliciesResponse.class);
+            assertThat(response.getDittoHeaders().getCorrelationId()).contains("retrievePolicies");
+            assertThat(response.getPolicies()).hasSize(1);
+            assertThat(response.getPolicies().get(0).getEntityId()).contains(EXISTING_POLICY_ID);
+        }};
+    }
+
+    @Test
+    public void failsIfAnyPolicyCannotBeRetrieved() {
+        new TestKit(actorSystem) {{
+            underTest.tell(SudoRetrievePolicies.of(List.of(EXISTING_POLICY_ID), DittoHeaders.empty()), getRef());
+
+            policiesShardRegionProbe.expectMsgClass(SudoRetrievePolicy.class);
+            policiesShardRegionProbe.reply("unexpected");
+
+            expectMsgClass(Status.Failure.class);
+        }};
+    }
+
+    private static Policy policy(final PolicyId policyId) {
+        return PoliciesModelFactory.newPolicyBuilder(policyId)
+                .forLabel("DEFAULT")
+                .setSubject("nginx:ditto", SubjectType.GENERATED)
+                .setGrantedPermissions("thing", "/", "READ")
+                .setRevision(1L)
+                .build();
+    }
+
+}
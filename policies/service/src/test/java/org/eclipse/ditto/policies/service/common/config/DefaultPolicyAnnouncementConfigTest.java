@@ -73,6 +73,18 @@ public final class DefaultPolicyAnnouncementConfigTest {
         softly.assertThat(underTest.isEnableAnnouncementsWhenDeleted())
                 .as(PolicyAnnouncementConfig.ConfigValue.ENABLE_ANNOUNCEMENTS_WHEN_DELETED.getConfigPath())
                 .isTrue();
+
+        softly.assertThat(underTest.isSubjectExpiryWheelEnabled())
+                .as(PolicyAnnouncementConfig.ConfigValue.SUBJECT_EXPIRY_WHEEL_ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getSubjectExpiryWheelTickInterval())
+                .as(PolicyAnnouncementConfig.ConfigValue.SUBJECT_EXPIRY_WHEEL_TICK_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(1L));
+
+        softly.assertThat(underTest.getSubjectExpiryWheelMaxSubjectsPerDelete())
+                .as(PolicyAnnouncementConfig.ConfigValue.SUBJECT_EXPIRY_WHEEL_MAX_SUBJECTS_PER_DELETE.getConfigPath())
+                .isEqualTo(100);
     }
 
     @Test
@@ -102,6 +114,18 @@ public final class DefaultPolicyAnnouncementConfigTest {
         softly.assertThat(underTest.getExponentialBackOffConfig().getRandomFactor())
                 .as("exponential-backoff.random-factor")
                 .isEqualTo(11.0);
+
+        softly.assertThat(underTest.isSubjectExpiryWheelEnabled())
+                .as(PolicyAnnouncementConfig.ConfigValue.SUBJECT_EXPIRY_WHEEL_ENABLED.getConfigPath())
+                .isFalse();
+
+        softly.assertThat(underTest.getSubjectExpiryWheelTickInterval())
+                .as(PolicyAnnouncementConfig.ConfigValue.SUBJECT_EXPIRY_WHEEL_TICK_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(12L));
+
+        softly.assertThat(underTest.getSubjectExpiryWheelMaxSubjectsPerDelete())
+                .as(PolicyAnnouncementConfig.ConfigValue.SUBJECT_EXPIRY_WHEEL_MAX_SUBJECTS_PER_DELETE.getConfigPath())
+                .isEqualTo(13);
     }
 
 }
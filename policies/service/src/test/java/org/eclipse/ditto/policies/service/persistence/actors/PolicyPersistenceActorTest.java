@@ -116,6 +116,7 @@ import org.eclipse.ditto.policies.model.signals.events.PolicyEntryCreated;
 import org.eclipse.ditto.policies.model.signals.events.PolicyEvent;
 import org.eclipse.ditto.policies.model.signals.events.SubjectCreated;
 import org.eclipse.ditto.policies.model.signals.events.SubjectDeleted;
+import org.eclipse.ditto.policies.model.signals.events.SubjectsDeletedPartially;
 import org.eclipse.ditto.policies.service.common.config.PolicyAnnouncementConfig;
 import org.eclipse.ditto.policies.service.persistence.TestConstants;
 import org.eclipse.ditto.policies.service.persistence.actors.announcements.PolicyAnnouncementManager;
@@ -1009,35 +1010,24 @@ public final class PolicyPersistenceActorTest extends PersistenceActorTestBase {
             assertThat(policyCreatedPublish.msg()).isInstanceOf(PolicyCreated.class);
             assertThat(((PolicyCreated) policyCreatedPublish.msg()).getRevision()).isEqualTo(1L);
 
-            // THEN: subject1 is deleted after expiry
+            // THEN: subject1 and subject2 are deleted together after expiry
             final long secondsToAdd = 10 - (expiryInstant.getEpochSecond() % 10);
             final Instant expectedRoundedExpiryInstant = expiryInstant.plusSeconds(secondsToAdd);
             final Duration between =
                     Duration.between(LocalDateTime.now().atZone(ZoneId.systemDefault()).toInstant(),
                             expectedRoundedExpiryInstant);
-            final long secondsToWaitForSubjectDeletedEvent = between.getSeconds() + 2;
-            final DistributedPubSubMediator.Publish subject1Deleted =
+            final long secondsToWaitForSubjectDeletedEvent = between.getSeconds() + 3;
+            final DistributedPubSubMediator.Publish subjectsDeleted =
                     (DistributedPubSubMediator.Publish) pubSubMediatorTestProbe.fishForMessage(
                             scala.concurrent.duration.Duration.create(secondsToWaitForSubjectDeletedEvent, "s"),
                             "publish event",
                             publishedPolicyEvent());
-            assertThat(subject1Deleted.msg()).isInstanceOf(SubjectDeleted.class);
-            assertThat(((SubjectDeleted) subject1Deleted.msg()).getSubjectId())
-                    .isIn(subject1.getId(), subject2.getId());
-            assertThat(((SubjectDeleted) subject1Deleted.msg()).getRevision()).isEqualTo(2L);
-            assertThat(pubSubMediatorTestProbe.expectMsgClass(DistributedPubSubMediator.Publish.class).msg())
-                    .isInstanceOf(PolicyTag.class);
-
-            // THEN: subject2 is deleted immediately
-            final DistributedPubSubMediator.Publish subject2Deleted =
-                    (DistributedPubSubMediator.Publish) pubSubMediatorTestProbe.fishForMessage(
-                            scala.concurrent.duration.Duration.create(secondsToWaitForSubjectDeletedEvent, "s"),
-                            "publish event",
-                            publishedPolicyEvent());
-            assertThat(subject2Deleted.msg()).isInstanceOf(SubjectDeleted.class);
-            assertThat(((SubjectDeleted) subject2Deleted.msg()).getSubjectId())
-                    .isIn(subject1.getId(), subject2.getId());
-            assertThat(((SubjectDeleted) subject2Deleted.msg()).getRevision()).isEqualTo(3L);
+            assertThat(subjectsDeleted.msg()).isInstanceOf(SubjectsDeletedPartially.class);
+            Assertions.assertThat(((SubjectsDeletedPartially) subjectsDeleted.msg()).getDeletedSubjectIds())
+                    .containsOnlyKeys(POLICY_LABEL);
+            Assertions.assertThat(((SubjectsDeletedPartially) subjectsDeleted.msg()).getDeletedSubjectIds()
+                    .get(POLICY_LABEL)).containsExactlyInAnyOrder(subject1.getId(), subject2.getId());
+            assertThat(((SubjectsDeletedPartially) subjectsDeleted.msg()).getRevision()).isEqualTo(2L);
 
             // THEN: the policy has only subject3 left.
             underTest.tell(RetrievePolicy.of(policy.getEntityId().orElseThrow(), DittoHeaders.empty()), getRef());
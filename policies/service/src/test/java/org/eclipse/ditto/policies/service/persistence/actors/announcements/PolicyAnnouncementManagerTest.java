@@ -14,6 +14,8 @@ package org.eclipse.ditto.policies.service.persistence.actors.announcements;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -25,8 +27,10 @@ import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.policies.model.PolicyLifecycle;
 import org.eclipse.ditto.policies.model.Subject;
 import org.eclipse.ditto.policies.model.SubjectAnnouncement;
+import org.eclipse.ditto.policies.model.SubjectExpiry;
 import org.eclipse.ditto.policies.model.SubjectId;
 import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.policies.service.persistence.actors.strategies.commands.SudoDeleteExpiredSubjects;
 import org.junit.After;
 import org.junit.Test;
 
@@ -108,6 +112,45 @@ public final class PolicyAnnouncementManagerTest {
         }};
     }
 
+    @Test
+    public void subjectsExpiringWithoutAnnouncementAreDeletedBySubjectExpiryWheel() {
+        new TestKit(system) {{
+            final TestKit commandForwarder = new TestKit(system);
+            final PolicyId policyId = PolicyId.of("policy:id");
+            final Props forwarderProps = Props.create(Forwarder.class, () -> new Forwarder(getRef()));
+            final Props propsUnderTest = Props.create(PolicyAnnouncementManager.class,
+                    () -> new PolicyAnnouncementManager(s -> forwarderProps, policyId, commandForwarder.getRef(),
+                            true));
+
+            final var expiry = SubjectExpiry.newInstance(Instant.now().plusMillis(500));
+            final var subject1 = Subject.newInstance(SubjectId.newInstance("issuer:subject1"),
+                    SubjectType.GENERATED, expiry, null);
+            final var subject2 = Subject.newInstance(SubjectId.newInstance("issuer:subject2"),
+                    SubjectType.GENERATED, expiry, null);
+            final var subject3 = Subject.newInstance(SubjectId.newInstance("issuer:subject3"),
+                    SubjectType.GENERATED, expiry, SubjectAnnouncement.of(null, true));
+            final Policy policy = PoliciesModelFactory.newPolicyBuilder(policyId)
+                    .setLifecycle(PolicyLifecycle.ACTIVE)
+                    .forLabel("label1")
+                    .setSubject(subject1)
+                    .setSubject(subject2)
+                    .setSubject(subject3)
+                    .setGrantedPermissions("thing", JsonPointer.empty(), "READ", "WRITE")
+                    .build();
+
+            final ActorRef underTest = childActorOf(propsUnderTest, "underTest");
+            underTest.tell(policy, getRef());
+
+            // only the subject with announcement gets its own actor
+            expectMsgClass(ActorRef.class);
+            final SudoDeleteExpiredSubjects delete = commandForwarder.expectMsgClass(Duration.ofSeconds(5),
+                    SudoDeleteExpiredSubjects.class);
+            assertThat((CharSequence) delete.getEntityId()).isEqualTo(policyId);
+            assertThat(delete.getSubjects()).containsExactlyInAnyOrder(subject1, subject2);
+            expectNoMessage(Duration.ofMillis(500));
+        }};
+    }
+
     private static final class Forwarder extends AbstractActor {
 
         private final ActorRef actorRef;
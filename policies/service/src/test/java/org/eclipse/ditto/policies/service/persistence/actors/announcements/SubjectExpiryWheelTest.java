@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.actors.announcements;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.policies.model.SubjectExpiry;
+import org.eclipse.ditto.policies.model.SubjectId;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.policies.service.persistence.actors.strategies.commands.SudoDeleteExpiredSubjects;
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link SubjectExpiryWheel}.
+ */
+public final class SubjectExpiryWheelTest {
+
+    private static final Duration TICK_INTERVAL = Duration.ofMillis(100);
+    private static final Duration MIN_RETRY_BACK_OFF = Duration.ofMillis(500);
+    private static final Duration MAX_RETRY_BACK_OFF = Duration.ofMillis(800);
+    private static final PolicyId POLICY_ID = PolicyId.of("policy:id");
+    private static final PolicyId OTHER_POLICY_ID = PolicyId.of("policy:other");
+
+    private final ActorSystem system = ActorSystem.create();
+
+    @After
+    public void shutdown() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void expiredSubjectsAreDeletedWithOneCommandPerPolicy() {
+        new TestKit(system) {{
+            final ActorRef underTest = system.actorOf(props(100));
+            final TestKit otherForwarder = new TestKit(system);
+            final Instant expiry = Instant.now().plusMillis(300);
+            final Subject subject1 = expiringSubject("issuer:subject1", expiry);
+            final Subject subject2 = expiringSubject("issuer:subject2", expiry.plusMillis(50));
+            final Subject subject3 = expiringSubject("issuer:subject3", expiry);
+
+            underTest.tell(new SubjectExpiryWheel.Schedule(POLICY_ID, subject1, getRef()), ActorRef.noSender());
+            underTest.tell(new SubjectExpiryWheel.Schedule(POLICY_ID, subject2, getRef()), ActorRef.noSender());
+            underTest.tell(new SubjectExpiryWheel.Schedule(OTHER_POLICY_ID, subject3, otherForwarder.getRef()),
+                    ActorRef.noSender());
+
+            final SudoDeleteExpiredSubjects delete = expectMsgClass(SudoDeleteExpiredSubjects.class);
+            if (delete.getSubjects().size() == 1) {
+                // the expirations fell into different ticks
+                assertThat(delete.getSubjects()).containsExactly(subject1);
+                assertThat(expectMsgClass(SudoDeleteExpiredSubjects.class).getSubjects()).containsExactly(subject2);
+            } else {
+                assertThat(delete.getSubjects()).containsExactlyInAnyOrder(subject1, subject2);
+            }
+            assertThat((CharSequence) delete.getEntityId()).isEqualTo(POLICY_ID);
+            assertThat(delete.getDittoHeaders().isResponseRequired()).isFalse();
+            assertThat(Instant.now()).isAfterOrEqualTo(expiry);
+            final SudoDeleteExpiredSubjects otherDelete =
+                    otherForwarder.expectMsgClass(SudoDeleteExpiredSubjects.class);
+            assertThat((CharSequence) otherDelete.getEntityId()).isEqualTo(OTHER_POLICY_ID);
+            assertThat(otherDelete.getSubjects()).containsExactly(subject3);
+            acknowledgeDeletion(underTest, POLICY_ID, subject1, getRef());
+            acknowledgeDeletion(underTest, POLICY_ID, subject2, getRef());
+            acknowledgeDeletion(underTest, OTHER_POLICY_ID, subject3, otherForwarder.getRef());
+            expectNoMessage(MAX_RETRY_BACK_OFF.plus(TICK_INTERVAL.multipliedBy(3)));
+            otherForwarder.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void cancelledSubjectIsNotDeleted() {
+        new TestKit(system) {{
+            final ActorRef underTest = system.actorOf(props(100));
+            final Instant expiry = Instant.now().plusMillis(300);
+            final Subject subject1 = expiringSubject("issuer:subject1", expiry);
+            final Subject subject2 = expiringSubject("issuer:subject2", expiry);
+
+            underTest.tell(new SubjectExpiryWheel.Schedule(POLICY_ID, subject1, getRef()), ActorRef.noSender());
+            underTest.tell(new SubjectExpiryWheel.Schedule(POLICY_ID, subject2, getRef()), ActorRef.noSender());
+            underTest.tell(new SubjectExpiryWheel.Cancel(POLICY_ID, subject1, getRef()), ActorRef.noSender());
+
+            assertThat(expectMsgClass(SudoDeleteExpiredSubjects.class).getSubjects()).containsExactly(subject2);
+            acknowledgeDeletion(underTest, POLICY_ID, subject2, getRef());
+            expectNoMessage(MAX_RETRY_BACK_OFF.plus(TICK_INTERVAL.multipliedBy(3)));
+        }};
+    }
+
+    @Test
+    public void cancelOfOtherForwarderIsIgnored() {
+        new TestKit(system) {{
+            final ActorRef underTest = system.actorOf(props(100));
+            final Subject subject = expiringSubject("issuer:subject", Instant.now().plusMillis(200));
+
+            underTest.tell(new SubjectExpiryWheel.Schedule(POLICY_ID, subject, getRef()), ActorRef.noSender());
+            underTest.tell(new SubjectExpiryWheel.Cancel(POLICY_ID, subject, new TestKit(system).getRef()),
+                    ActorRef.noSender());
+
+            assertThat(expectMsgClass(SudoDeleteExpiredSubjects.class).getSubjects()).containsExactly(subject);
+        }};
+    }
+
+    @Test
+    public void expiredSubjectsOfOnePolicyAreDeletedInBatches() {
+        new TestKit(system) {{
+            final ActorRef underTest = system.actorOf(props(2));
+            final Instant expiry = Instant.now().minusSeconds(1);
+            for (int i = 0; i < 5; i++) {
+                underTest.tell(new SubjectExpiryWheel.Schedule(POLICY_ID,
+                        expiringSubject("issuer:subject" + i, expiry), getRef()), ActorRef.noSender());
+            }
+
+            assertThat(expectMsgClass(SudoDeleteExpiredSubjects.class).getSubjects()).hasSize(2);
+            assertThat(expectMsgClass(SudoDeleteExpiredSubjects.class).getSubjects()).hasSize(2);
+            assertThat(expectMsgClass(SudoDeleteExpiredSubjects.class).getSubjects()).hasSize(1);
+        }};
+    }
+
+    @Test
+    public void unacknowledgedDeletionIsRetriedWithBackOff() {
+        new TestKit(system) {{
+            final ActorRef underTest = system.actorOf(props(100));
+            final Subject subject = expiringSubject("issuer:subject", Instant.now().minusSeconds(1));
+
+            underTest.tell(new SubjectExpiryWheel.Schedule(POLICY_ID, subject, getRef()), ActorRef.noSender());
+
+            // the delete command is lost or fails without the policy being modified
+            assertThat(expectMsgClass(SudoDeleteExpiredSubjects.class).getSubjects()).containsExactly(subject);
+            expectNoMessage(MIN_RETRY_BACK_OFF.minus(TICK_INTERVAL));
+            assertThat(expectMsgClass(SudoDeleteExpiredSubjects.class).getSubjects()).containsExactly(subject);
+            assertThat(expectMsgClass(MAX_RETRY_BACK_OFF.plus(TICK_INTERVAL.multipliedBy(3)),
+                    SudoDeleteExpiredSubjects.class).getSubjects()).containsExactly(subject);
+
+            acknowledgeDeletion(underTest, POLICY_ID, subject, getRef());
+            expectNoMessage(MAX_RETRY_BACK_OFF.plus(TICK_INTERVAL.multipliedBy(3)));
+        }};
+    }
+
+    @Test
+    public void acknowledgedDeletionIsNotRetried() {
+        new TestKit(system) {{
+            final ActorRef underTest = system.actorOf(props(100));
+            final Subject subject = expiringSubject("issuer:subject", Instant.now().minusSeconds(1));
+
+            underTest.tell(new SubjectExpiryWheel.Schedule(POLICY_ID, subject, getRef()), ActorRef.noSender());
+
+            assertThat(expectMsgClass(SudoDeleteExpiredSubjects.class).getSubjects()).containsExactly(subject);
+            acknowledgeDeletion(underTest, POLICY_ID, subject, getRef());
+            expectNoMessage(MAX_RETRY_BACK_OFF.plus(TICK_INTERVAL.multipliedBy(3)));
+        }};
+    }
+
+    private static void acknowledgeDeletion(final ActorRef underTest, final PolicyId policyId, final Subject subject,
+            final ActorRef forwarder) {
+
+        // the policy announcement manager cancels the expiry as soon as the modified policy lacks the subject
+        underTest.tell(new SubjectExpiryWheel.Cancel(policyId, subject, forwarder), ActorRef.noSender());
+    }
+
+    private static Props props(final int maxSubjectsPerDelete) {
+        return Props.create(SubjectExpiryWheel.class, TICK_INTERVAL, maxSubjectsPerDelete, MIN_RETRY_BACK_OFF,
+                MAX_RETRY_BACK_OFF);
+    }
+
+    private static Subject expiringSubject(final String subjectId, final Instant expiry) {
+        return Subject.newInstance(SubjectId.newInstance(subjectId), SubjectType.GENERATED,
+                SubjectExpiry.newInstance(expiry), null);
+    }
+
+}
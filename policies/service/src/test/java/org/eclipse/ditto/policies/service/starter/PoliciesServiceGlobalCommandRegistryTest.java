@@ -29,6 +29,7 @@ import org.eclipse.ditto.policies.model.signals.commands.modify.DeleteSubject;
 import org.eclipse.ditto.policies.model.signals.commands.modify.ModifyPolicyImports;
 import org.eclipse.ditto.policies.model.signals.commands.query.RetrieveResource;
 import org.eclipse.ditto.policies.service.persistence.actors.strategies.commands.SudoDeleteExpiredSubject;
+import org.eclipse.ditto.policies.service.persistence.actors.strategies.commands.SudoDeleteExpiredSubjects;
 
 public final class PoliciesServiceGlobalCommandRegistryTest extends GlobalCommandRegistryTestCases {
 
@@ -37,6 +38,7 @@ public final class PoliciesServiceGlobalCommandRegistryTest extends GlobalComman
                 SudoStreamPids.class,
                 SudoRetrievePolicy.class,
                 SudoDeleteExpiredSubject.class,
+                SudoDeleteExpiredSubjects.class,
                 ExecutePiggybackCommand.class,
                 Shutdown.class,
                 PurgeNamespace.class,
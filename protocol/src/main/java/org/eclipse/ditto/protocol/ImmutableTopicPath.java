@@ -16,15 +16,15 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -42,6 +42,20 @@ import org.eclipse.ditto.protocol.adapter.UnknownTopicPathException;
 @Immutable
 final class ImmutableTopicPath implements TopicPath {
 
+    /**
+     * Maximum number of cached parsed topic paths; the cache is cleared when it is exceeded.
+     */
+    static final int MAX_CACHED_TOPIC_PATHS = 1024;
+
+    private static final char PATH_DELIMITER_CHAR = '/';
+
+    /**
+     * Parsed topic paths by the part of their string representation following namespace and entity name, e. g.
+     * {@code things/twin/commands/modify}.
+     * This part is the same for all entities which are addressed by the same kind of signal.
+     */
+    private static final Map<String, ImmutableTopicPath> CACHE = new ConcurrentHashMap<>();
+
     private final String namespace;
     private final String name;
     private final Group group;
@@ -64,6 +78,18 @@ final class ImmutableTopicPath implements TopicPath {
         subject = builder.subject;
     }
 
+    private ImmutableTopicPath(final String namespace, final String name, final ImmutableTopicPath template) {
+        this.namespace = namespace;
+        this.name = name;
+        group = template.group;
+        channel = template.channel;
+        criterion = template.criterion;
+        action = template.action;
+        searchAction = template.searchAction;
+        streamingAction = template.streamingAction;
+        subject = template.subject;
+    }
+
     /**
      * Returns a new builder with a fluent step API to create an {@code ImmutableTopicPath}.
      *
@@ -87,8 +113,27 @@ final class ImmutableTopicPath implements TopicPath {
      * @throws UnknownTopicPathException if the string does not contain a parsable ImmutableTopicPath.
      */
     static ImmutableTopicPath parseTopicPath(final String topicPathString) {
-        final TopicPathParser topicPathParser = new TopicPathParser(checkNotNull(topicPathString, "topicPathString"));
-        return topicPathParser.get();
+        checkNotNull(topicPathString, "topicPathString");
+
+        // namespace and entity name are the only parts which differ between entities; the remainder is looked up
+        final int entityNameStart = topicPathString.indexOf(PATH_DELIMITER_CHAR) + 1;
+        final int remainderStart = topicPathString.indexOf(PATH_DELIMITER_CHAR, entityNameStart) + 1;
+        if (1 < entityNameStart && entityNameStart + 1 < remainderStart) {
+            final String remainder = topicPathString.substring(remainderStart);
+            final ImmutableTopicPath template = CACHE.get(remainder);
+            if (null != template) {
+                return new ImmutableTopicPath(topicPathString.substring(0, entityNameStart - 1),
+                        topicPathString.substring(entityNameStart, remainderStart - 1),
+                        template);
+            }
+            final ImmutableTopicPath result = new TopicPathParser(topicPathString).get();
+            if (CACHE.size() >= MAX_CACHED_TOPIC_PATHS) {
+                CACHE.clear();
+            }
+            CACHE.put(remainder, result);
+            return result;
+        }
+        return new TopicPathParser(topicPathString).get();
     }
 
     static JsonPointer newTopicOrPathPointer(final String path) {
@@ -546,22 +591,38 @@ final class ImmutableTopicPath implements TopicPath {
     private static final class TopicPathParser implements Supplier<ImmutableTopicPath> {
 
         private final String topicPathString;
-        private final LinkedList<String> topicPathParts;
+        private final List<String> topicPathParts;
+        private int nextPartIndex;
 
         private TopicPathParser(final String topicPathString) {
             this.topicPathString = topicPathString;
             topicPathParts = splitByPathDelimiter(topicPathString);
+            nextPartIndex = 0;
         }
 
-        private static LinkedList<String> splitByPathDelimiter(final String topicPathString) {
-            final LinkedList<String> result =
-                    StreamSupport.stream(newTopicOrPathPointer(topicPathString).spliterator(), false)
-                            .map(JsonKey::toString)
-                            .collect(Collectors.toCollection(LinkedList::new));
-
+        /*
+         * Splits the topic path string like newTopicOrPathPointer does without creating a JSON pointer; a leading
+         * delimiter yields an empty first part.
+         */
+        private static List<String> splitByPathDelimiter(final String topicPathString) {
+            final List<String> result = new ArrayList<>(8);
+            int segmentStart = 0;
             if (topicPathString.startsWith(TopicPath.PATH_DELIMITER)) {
-                // topic path starts with an empty segment
-                result.addFirst("");
+                result.add("");
+                segmentStart = 1;
+            }
+            if (segmentStart < topicPathString.length()) {
+                int segmentEnd = topicPathString.indexOf(PATH_DELIMITER_CHAR, segmentStart);
+
+                // add segments until double slashes are encountered
+                while (segmentEnd >= 0 && segmentStart != segmentEnd) {
+                    result.add(topicPathString.substring(segmentStart, segmentEnd));
+                    segmentStart = segmentEnd + 1;
+                    segmentEnd = topicPathString.indexOf(PATH_DELIMITER_CHAR, segmentStart);
+                }
+                if (segmentStart < topicPathString.length()) {
+                    result.add(topicPathString.substring(segmentStart));
+                }
             }
             return result;
         }
@@ -599,9 +660,16 @@ final class ImmutableTopicPath implements TopicPath {
             return topicPathBuilder.build();
         }
 
+        private String nextPart() {
+            if (nextPartIndex < topicPathParts.size()) {
+                return topicPathParts.get(nextPartIndex++);
+            }
+            throw new NoSuchElementException();
+        }
+
         private String tryToGetNamespace() {
             try {
-                return topicPathParts.pop(); // parts[0]
+                return nextPart(); // parts[0]
             } catch (final NoSuchElementException e) {
                 throw UnknownTopicPathException.newBuilder(topicPathString)
                         .description("The topic path has no namespace part.")
@@ -612,7 +680,7 @@ final class ImmutableTopicPath implements TopicPath {
 
         private String tryToGetEntityName() {
             try {
-                return topicPathParts.pop(); // parts[1]
+                return nextPart(); // parts[1]
             } catch (final NoSuchElementException e) {
                 throw UnknownTopicPathException.newBuilder(topicPathString)
                         .description("The topic path has no entity name part.")
@@ -623,7 +691,7 @@ final class ImmutableTopicPath implements TopicPath {
 
         private String tryToGetGroupName() {
             try {
-                return topicPathParts.pop(); // parts[2]
+                return nextPart(); // parts[2]
             } catch (final NoSuchElementException e) {
                 throw UnknownTopicPathException.newBuilder(topicPathString)
                         .description("The topic path has no group part.")
@@ -650,7 +718,7 @@ final class ImmutableTopicPath implements TopicPath {
 
         private String tryToGetChannelName() {
             try {
-                return topicPathParts.pop(); // parts[3]
+                return nextPart(); // parts[3]
             } catch (final NoSuchElementException e) {
                 throw UnknownTopicPathException.newBuilder(topicPathString)
                         .description("The topic path has no channel part.")
@@ -667,7 +735,7 @@ final class ImmutableTopicPath implements TopicPath {
 
         private String tryToGetCriterionName() {
             try {
-                return topicPathParts.pop(); // parts[4]
+                return nextPart(); // parts[4]
             } catch (final NoSuchElementException e) {
                 throw UnknownTopicPathException.newBuilder(topicPathString)
                         .description("The topic path has no criterion part.")
@@ -685,7 +753,7 @@ final class ImmutableTopicPath implements TopicPath {
 
         private String tryToGetActionName() {
             try {
-                return topicPathParts.pop(); // parts[5]
+                return nextPart(); // parts[5]
             } catch (final NoSuchElementException e) {
                 throw UnknownTopicPathException.newBuilder(topicPathString)
                         .description("The topic path has no action part.")
@@ -702,7 +770,7 @@ final class ImmutableTopicPath implements TopicPath {
 
         private String tryToGetSearchActionName() {
             try {
-                return topicPathParts.pop(); // parts[5]
+                return nextPart(); // parts[5]
             } catch (final NoSuchElementException e) {
                 throw UnknownTopicPathException.newBuilder(topicPathString)
                         .description("The topic path has no search action part.")
@@ -727,7 +795,8 @@ final class ImmutableTopicPath implements TopicPath {
 
         @Nullable
         private String getSubjectOrNull() {
-            final String subject = String.join(TopicPath.PATH_DELIMITER, topicPathParts);
+            final String subject = String.join(TopicPath.PATH_DELIMITER,
+                    topicPathParts.subList(nextPartIndex, topicPathParts.size()));
             final String result;
             if (subject.isEmpty()) {
                 result = null;
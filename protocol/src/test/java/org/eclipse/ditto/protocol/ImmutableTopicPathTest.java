@@ -454,4 +454,66 @@ public final class ImmutableTopicPathTest {
                 .withNoCause();
     }
 
+    @Test
+    public void parseTopicPathsOfDifferentEntitiesWithSameRemainder() {
+        final String remainder = "/things/twin/commands/modify";
+
+        final TopicPath first = ImmutableTopicPath.parseTopicPath(NAMESPACE + "/" + ENTITY_NAME + remainder);
+        final TopicPath second = ImmutableTopicPath.parseTopicPath("org.eclipse.ditto.other/otherThing" + remainder);
+
+        assertThat(first).isEqualTo(ImmutableTopicPath.newBuilder(NAMESPACE, ENTITY_NAME)
+                .things()
+                .twin()
+                .commands()
+                .modify()
+                .build());
+        assertThat(second).isEqualTo(ImmutableTopicPath.newBuilder("org.eclipse.ditto.other", "otherThing")
+                .things()
+                .twin()
+                .commands()
+                .modify()
+                .build());
+    }
+
+    @Test
+    public void parseTopicPathWithSubjectRepeatedly() {
+        final String topicPathString =
+                String.join(TopicPath.PATH_DELIMITER, NAMESPACE, ENTITY_NAME, "things", "live", "messages", "a/b");
+        final TopicPath expected = ImmutableTopicPath.newBuilder(NAMESPACE, ENTITY_NAME)
+                .things()
+                .live()
+                .messages()
+                .subject("a/b")
+                .build();
+
+        softly.assertThat(ImmutableTopicPath.parseTopicPath(topicPathString)).isEqualTo(expected);
+        softly.assertThat(ImmutableTopicPath.parseTopicPath(topicPathString)).isEqualTo(expected);
+        softly.assertThat(ImmutableTopicPath.parseTopicPath(topicPathString).getPath()).isEqualTo(topicPathString);
+    }
+
+    @Test
+    public void parseInvalidTopicPathRepeatedlyFails() {
+        final String topicPathString =
+                String.join(TopicPath.PATH_DELIMITER, NAMESPACE, ENTITY_NAME, "things", "twin", "commands", "invalid");
+
+        for (int i = 0; i < 2; i++) {
+            assertThatExceptionOfType(UnknownTopicPathException.class)
+                    .isThrownBy(() -> ProtocolFactory.newTopicPath(topicPathString))
+                    .satisfies(exception -> assertThat(exception.getDescription())
+                            .hasValue("Action name <invalid> is unknown."));
+        }
+    }
+
+    @Test
+    public void parseTopicPathWithLeadingDelimiterYieldsEmptyNamespace() {
+        final TopicPath parsed = ImmutableTopicPath.parseTopicPath("/" + ENTITY_NAME + "/things/twin/commands/modify");
+
+        assertThat(parsed).isEqualTo(ImmutableTopicPath.newBuilder("", ENTITY_NAME)
+                .things()
+                .twin()
+                .commands()
+                .modify()
+                .build());
+    }
+
 }
@@ -426,6 +426,34 @@ public final class ThingModifyCommandAdapterTest extends LiveTwinTest implements
         assertWithExternalHeadersThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    public void modifyAndDeleteAttributesFromAdaptablesRepeatedly() {
+        final JsonPointer otherAttributePointer = JsonPointer.of("other/attribute");
+        final TopicPath modifyTopicPath = topicPath(TopicPath.Action.MODIFY);
+        final TopicPath deleteTopicPath = topicPath(TopicPath.Action.DELETE);
+
+        for (int i = 0; i < 2; i++) {
+            final Adaptable modifyAdaptable = Adaptable.newBuilder(modifyTopicPath)
+                    .withPayload(Payload.newBuilder(JsonPointer.of("/attributes").append(otherAttributePointer))
+                            .withValue(TestConstants.ATTRIBUTE_VALUE)
+                            .build())
+                    .withHeaders(TestConstants.HEADERS_V_2)
+                    .build();
+            final Adaptable deleteAdaptable = Adaptable.newBuilder(deleteTopicPath)
+                    .withPayload(Payload.newBuilder(JsonPointer.of("/attributes" + TestConstants.ATTRIBUTE_POINTER))
+                            .build())
+                    .withHeaders(TestConstants.HEADERS_V_2)
+                    .build();
+
+            assertWithExternalHeadersThat(underTest.fromAdaptable(modifyAdaptable))
+                    .isEqualTo(ModifyAttribute.of(TestConstants.THING_ID, otherAttributePointer,
+                            TestConstants.ATTRIBUTE_VALUE, TestConstants.DITTO_HEADERS_V_2));
+            assertWithExternalHeadersThat(underTest.fromAdaptable(deleteAdaptable))
+                    .isEqualTo(DeleteAttribute.of(TestConstants.THING_ID, TestConstants.ATTRIBUTE_POINTER,
+                            TestConstants.DITTO_HEADERS_V_2));
+        }
+    }
+
     @Test
     public void modifyAttributeToAdaptable() {
         final TopicPath topicPath = topicPath(TopicPath.Action.MODIFY);
@@ -17,6 +17,7 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 import static org.eclipse.ditto.json.JsonFactory.newValue;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -335,6 +336,16 @@ final class ImmutableAttributes implements Attributes {
         return wrapped.getUpperBoundForStringSize();
     }
 
+    @Override
+    public long getUtf8Length() {
+        return wrapped.getUtf8Length();
+    }
+
+    @Override
+    public ByteBuffer toUtf8ByteBuffer() {
+        return wrapped.toUtf8ByteBuffer();
+    }
+
     private Attributes determineResult(final Supplier<JsonObject> newWrappedSupplier) {
         final JsonObject newWrapped = newWrappedSupplier.get();
         if (!newWrapped.equals(wrapped)) {
@@ -15,6 +15,7 @@ package org.eclipse.ditto.things.model;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -333,6 +334,16 @@ final class ImmutableFeatureProperties implements FeatureProperties {
         return wrapped.getUpperBoundForStringSize();
     }
 
+    @Override
+    public long getUtf8Length() {
+        return wrapped.getUtf8Length();
+    }
+
+    @Override
+    public ByteBuffer toUtf8ByteBuffer() {
+        return wrapped.toUtf8ByteBuffer();
+    }
+
     private FeatureProperties determineResult(final Supplier<JsonObject> newWrappedSupplier) {
         final JsonObject newWrapped = newWrappedSupplier.get();
         if (!newWrapped.equals(wrapped)) {
@@ -15,7 +15,9 @@ package org.eclipse.ditto.things.model;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
@@ -34,6 +36,7 @@ import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonFieldSelectorProjection;
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonKeyInvalidException;
 import org.eclipse.ditto.json.JsonObject;
@@ -48,6 +51,10 @@ public final class ThingsModelFactory {
 
     public static final JsonKey FEATURE_ID_WILDCARD = JsonKey.of("*");
 
+    private static final List<JsonPointer> FEATURE_ID_WILDCARD_LOCATIONS = Collections.unmodifiableList(Arrays.asList(
+            Thing.JsonFields.FEATURES.getPointer(),
+            Thing.JsonFields.METADATA.getPointer().append(Thing.JsonFields.FEATURES.getPointer())));
+
     /*
      * Inhibit instantiation of this utility class.
      */
@@ -788,6 +795,35 @@ public final class ThingsModelFactory {
         return JsonFactory.newFieldSelector(jsonPointerList);
     }
 
+    /**
+     * Returns the cached projection of the given field selector which interprets the feature ID wildcard at
+     * {@code features/*} and {@code _metadata/features/*} of a Thing JSON.
+     * Applying it yields the same result as selecting the fields expanded by
+     * {@link #expandFeatureIdWildcards(Features, JsonFieldSelector)} without expanding them for each Thing.
+     *
+     * @param jsonFieldSelector the field selector.
+     * @return the projection.
+     * @throws NullPointerException if {@code jsonFieldSelector} is {@code null}.
+     * @since 3.6.0
+     */
+    public static JsonFieldSelectorProjection getFeatureIdWildcardProjection(final JsonFieldSelector jsonFieldSelector) {
+        return JsonFactory.getFieldSelectorProjection(jsonFieldSelector, FEATURE_ID_WILDCARD_LOCATIONS);
+    }
+
+    /**
+     * Returns the cached projection of the given field selector relative to the features of a Thing which interprets
+     * the feature ID wildcard at the root of the Features JSON.
+     *
+     * @param jsonFieldSelector the field selector relative to the features.
+     * @return the projection.
+     * @throws NullPointerException if {@code jsonFieldSelector} is {@code null}.
+     * @since 3.6.0
+     */
+    public static JsonFieldSelectorProjection getFeaturesWildcardProjection(final JsonFieldSelector jsonFieldSelector) {
+        return JsonFactory.getFieldSelectorProjection(jsonFieldSelector,
+                Collections.singletonList(JsonPointer.empty()));
+    }
+
     /**
      * Returns a stream of {@link JsonPointer} with expanded feature id wildcard.
      *
@@ -104,10 +104,7 @@ public final class CreateThing extends AbstractCommand<CreateThing> implements T
         final JsonObject thingJsonObject = thing.toJson(FieldType.notHidden()
                 .or(jsonField -> Objects.equals(Thing.JsonFields.METADATA.getPointer(), jsonField.getKey().asPointer())));
 
-        ThingCommandSizeValidator.getInstance().ensureValidSize(
-                thingJsonObject::getUpperBoundForStringSize,
-                () -> thingJsonObject.toString().length(),
-                () -> dittoHeaders);
+        ThingCommandSizeValidator.getInstance().ensureValidSize(thingJsonObject, () -> dittoHeaders);
     }
 
     private CreateThing(final Thing thing, final String policyIdOrPlaceholder, final DittoHeaders dittoHeaders) {
@@ -122,10 +119,7 @@ public final class CreateThing extends AbstractCommand<CreateThing> implements T
         final JsonObject thingJsonObject = thing.toJson(FieldType.notHidden()
                 .or(jsonField -> Objects.equals(Thing.JsonFields.METADATA.getPointer(), jsonField.getKey().asPointer())));
 
-        ThingCommandSizeValidator.getInstance().ensureValidSize(
-                thingJsonObject::getUpperBoundForStringSize,
-                () -> thingJsonObject.toString().length(),
-                () -> dittoHeaders);
+        ThingCommandSizeValidator.getInstance().ensureValidSize(thingJsonObject, () -> dittoHeaders);
     }
 
     /**
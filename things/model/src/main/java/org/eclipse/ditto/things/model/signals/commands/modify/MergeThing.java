@@ -451,10 +451,7 @@ public final class MergeThing extends AbstractCommand<MergeThing> implements Thi
     }
 
     private JsonValue checkJsonSize(final JsonValue value, final DittoHeaders dittoHeaders) {
-        ThingCommandSizeValidator.getInstance().ensureValidSize(
-                value::getUpperBoundForStringSize,
-                () -> value.toString().length(),
-                () -> dittoHeaders);
+        ThingCommandSizeValidator.getInstance().ensureValidSize(value, () -> dittoHeaders);
         return value;
     }
 
@@ -78,10 +78,7 @@ public final class ModifyAttribute extends AbstractCommand<ModifyAttribute>
         this.attributePointer = checkAttributePointer(checkNotNull(attributePointer, "attributePointer"), dittoHeaders);
         this.attributeValue = checkAttributeValue(checkNotNull(attributeValue, "attributeValue"));
 
-        ThingCommandSizeValidator.getInstance().ensureValidSize(
-                attributeValue::getUpperBoundForStringSize,
-                () -> attributeValue.toString().length(),
-                () -> dittoHeaders);
+        ThingCommandSizeValidator.getInstance().ensureValidSize(attributeValue, () -> dittoHeaders);
     }
 
     private static JsonPointer checkAttributePointer(final JsonPointer pointer, final DittoHeaders dittoHeaders) {
@@ -72,10 +72,7 @@ public final class ModifyAttributes extends AbstractCommand<ModifyAttributes>
 
         final JsonObject attributesJsonObject = attributes.toJson();
 
-        ThingCommandSizeValidator.getInstance().ensureValidSize(
-                attributesJsonObject::getUpperBoundForStringSize,
-                () -> attributesJsonObject.toString().length(),
-                () -> dittoHeaders);
+        ThingCommandSizeValidator.getInstance().ensureValidSize(attributesJsonObject, () -> dittoHeaders);
     }
 
     /**
@@ -77,10 +77,7 @@ public final class ModifyFeature extends AbstractCommand<ModifyFeature> implemen
 
         final JsonObject featureJsonObject = feature.toJson();
 
-        ThingCommandSizeValidator.getInstance().ensureValidSize(
-                featureJsonObject::getUpperBoundForStringSize,
-                () -> featureJsonObject.toString().length(),
-                () -> dittoHeaders);
+        ThingCommandSizeValidator.getInstance().ensureValidSize(featureJsonObject, () -> dittoHeaders);
     }
 
     /**
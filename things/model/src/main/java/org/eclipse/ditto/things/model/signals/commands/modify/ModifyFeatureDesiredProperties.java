@@ -84,10 +84,7 @@ public final class ModifyFeatureDesiredProperties extends AbstractCommand<Modify
 
         final JsonObject propertiesJsonObject = desiredProperties.toJson();
 
-        ThingCommandSizeValidator.getInstance().ensureValidSize(
-                propertiesJsonObject::getUpperBoundForStringSize,
-                () -> propertiesJsonObject.toString().length(),
-                () -> dittoHeaders);
+        ThingCommandSizeValidator.getInstance().ensureValidSize(propertiesJsonObject, () -> dittoHeaders);
     }
 
     /**
@@ -89,10 +89,7 @@ public final class ModifyFeatureDesiredProperty extends AbstractCommand<ModifyFe
         this.desiredPropertyValue =
                 checkDesiredPropertyValue(checkNotNull(desiredPropertyValue, "desiredPropertyValue"));
 
-        ThingCommandSizeValidator.getInstance().ensureValidSize(
-                desiredPropertyValue::getUpperBoundForStringSize,
-                () -> desiredPropertyValue.toString().length(),
-                () -> dittoHeaders);
+        ThingCommandSizeValidator.getInstance().ensureValidSize(desiredPropertyValue, () -> dittoHeaders);
     }
 
     private static JsonPointer checkDesiredPropertyPointer(final JsonPointer propertyPointer) {
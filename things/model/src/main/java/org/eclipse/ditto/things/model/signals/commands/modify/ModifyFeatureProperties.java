@@ -83,10 +83,7 @@ public final class ModifyFeatureProperties extends AbstractCommand<ModifyFeature
 
         final JsonObject propertiesJsonObject = properties.toJson();
 
-        ThingCommandSizeValidator.getInstance().ensureValidSize(
-                propertiesJsonObject::getUpperBoundForStringSize,
-                () -> propertiesJsonObject.toString().length(),
-                () -> dittoHeaders);
+        ThingCommandSizeValidator.getInstance().ensureValidSize(propertiesJsonObject, () -> dittoHeaders);
     }
 
     /**
@@ -84,10 +84,7 @@ public final class ModifyFeatureProperty extends AbstractCommand<ModifyFeaturePr
         this.propertyPointer = checkPropertyPointer(checkNotNull(propertyPointer, "propertyPointer"));
         this.propertyValue = checkPropertyValue(checkNotNull(propertyValue, "propertyValue"));
 
-        ThingCommandSizeValidator.getInstance().ensureValidSize(
-                propertyValue::getUpperBoundForStringSize,
-                () -> propertyValue.toString().length(),
-                () -> dittoHeaders);
+        ThingCommandSizeValidator.getInstance().ensureValidSize(propertyValue, () -> dittoHeaders);
     }
 
     private static JsonPointer checkPropertyPointer(final JsonPointer propertyPointer) {
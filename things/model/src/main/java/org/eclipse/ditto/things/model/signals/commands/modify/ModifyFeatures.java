@@ -70,10 +70,7 @@ public final class ModifyFeatures extends AbstractCommand<ModifyFeatures>
 
         final JsonObject featuresJsonObject = features.toJson();
 
-        ThingCommandSizeValidator.getInstance().ensureValidSize(
-                featuresJsonObject::getUpperBoundForStringSize,
-                () -> featuresJsonObject.toString().length(),
-                () -> dittoHeaders);
+        ThingCommandSizeValidator.getInstance().ensureValidSize(featuresJsonObject, () -> dittoHeaders);
     }
 
     /**
@@ -113,10 +113,7 @@ public final class ModifyThing extends AbstractCommand<ModifyThing> implements T
 
         final JsonObject thingJsonObject = thing.toJson();
 
-        ThingCommandSizeValidator.getInstance().ensureValidSize(
-                thingJsonObject::getUpperBoundForStringSize,
-                () -> thingJsonObject.toString().length(),
-                () -> dittoHeaders);
+        ThingCommandSizeValidator.getInstance().ensureValidSize(thingJsonObject, () -> dittoHeaders);
     }
 
     /**
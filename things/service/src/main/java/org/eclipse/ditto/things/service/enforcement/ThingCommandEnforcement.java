@@ -98,6 +98,7 @@ final class ThingCommandEnforcement
     private final ActorSystem actorSystem;
     private final ActorRef policiesShardRegion;
     private final AskWithRetryConfig askWithRetryConfig;
+    private final ThingJsonViewCache jsonViewCache;
 
     /**
      * Creates a new instance of the thing command enforcer.
@@ -115,6 +116,7 @@ final class ThingCommandEnforcement
         this.actorSystem = actorSystem;
         this.policiesShardRegion = policiesShardRegion;
         this.askWithRetryConfig = enforcementConfig.getAskWithRetryConfig();
+        jsonViewCache = ThingJsonViewCache.get(actorSystem);
         enforcementConfig.getSpecialLoggingInspectedNamespaces()
                 .forEach(loggedNamespace -> NAMESPACE_INSPECTION_LOGGERS.put(
                         loggedNamespace,
@@ -213,8 +215,7 @@ final class ThingCommandEnforcement
         if (commandResponse instanceof ThingQueryCommandResponse<?> thingQueryCommandResponse) {
             try {
                 final ThingQueryCommandResponse<?> filteredResponse =
-                        buildJsonViewForThingQueryCommandResponse(thingQueryCommandResponse,
-                                policyEnforcer.getEnforcer());
+                        buildJsonViewForThingQueryCommandResponse(thingQueryCommandResponse, policyEnforcer);
                 return CompletableFuture.completedFuture(filteredResponse);
             } catch (final RuntimeException e) {
                 throw reportError("Error after building JsonView", e, commandResponse.getDittoHeaders());
@@ -236,19 +237,23 @@ final class ThingCommandEnforcement
     }
 
     /**
-     * Limit view on entity of {@code ThingQueryCommandResponse} by enforcer.
+     * Limit view on entity of {@code ThingQueryCommandResponse} by enforcer. Views of the same thing revision for the
+     * same policy enforcer and authorization subjects are served from the {@link ThingJsonViewCache}.
      *
      * @param response the response.
-     * @param enforcer the enforcer.
+     * @param policyEnforcer the policy enforcer.
      * @return response with view on entity restricted by enforcer.
      */
     @SuppressWarnings("unchecked")
     <T extends ThingQueryCommandResponse<T>> T buildJsonViewForThingQueryCommandResponse(
-            final ThingQueryCommandResponse<T> response, final Enforcer enforcer) {
+            final ThingQueryCommandResponse<T> response, final PolicyEnforcer policyEnforcer) {
 
         final JsonValue entity = response.getEntity();
         if (entity.isObject()) {
-            final var filteredView = getJsonViewForCommandResponse(entity.asObject(), response, enforcer);
+            final JsonObject entityObject = entity.asObject();
+            final Enforcer enforcer = policyEnforcer.getEnforcer();
+            final var filteredView = jsonViewCache.getJsonView(response, entityObject, policyEnforcer,
+                    () -> getJsonViewForCommandResponse(entityObject, response, enforcer));
             return response.setEntity(filteredView);
         } else {
             return (T) response;
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.enforcement;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.actor.AbstractExtensionId;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Extension;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcer;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyRevision;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.ThingQueryCommandResponse;
+
+import com.typesafe.config.Config;
+
+/**
+ * Bounded cache of the policy-filtered views of {@link ThingQueryCommandResponse} entities shared by all things of an
+ * actor system.
+ * <p>
+ * A view is cached per thing, resource path, entity tag, policy revision, generation of the policy enforcer,
+ * authorization subjects and the keys of the entity. The entity tag changes with each modification of the
+ * thing and a new policy enforcer generation is compiled whenever the policy or one of its imported policies changes,
+ * thus views of outdated revisions are never served again and are evicted eventually.
+ * The field selector of the query command is not part of the response; the nested keys of the already projected
+ * response entity, compared by equality, distinguish the views of different field selections of the same revision
+ * instead.
+ * Only responses with a revision entity tag {@code "rev:<revision>"} are cached: responses without entity tag have an
+ * unknown revision and the {@code "hash:<hash>"} entity tags of sub-resources may collide for different values.
+ * </p>
+ */
+final class ThingJsonViewCache implements Extension {
+
+    /**
+     * Config path of the cache configuration.
+     */
+    static final String CONFIG_PATH = "ditto.things.json-view-cache";
+
+    private static final String ENABLED_CONFIG_PATH = CONFIG_PATH + ".enabled";
+
+    private static final String CACHE_NAME = "thing_json_view_cache";
+
+    private static final String REVISION_ENTITY_TAG_PREFIX = "\"rev:";
+
+    @Nullable private final Cache<Key, JsonObject> cache;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param cacheConfig the configuration of the cache or {@code null} if views should not be cached.
+     * @param executor the executor of the cache.
+     */
+    ThingJsonViewCache(@Nullable final CacheConfig cacheConfig, final Executor executor) {
+        if (null != cacheConfig) {
+            cache = CacheFactory.createCache(cacheConfig, CACHE_NAME, executor);
+        } else {
+            cache = null;
+        }
+    }
+
+    /**
+     * Load the {@code ThingJsonViewCache}.
+     *
+     * @param actorSystem the actor system in which to load the cache.
+     * @return the cache.
+     */
+    static ThingJsonViewCache get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * Returns the cached view of the entity of a response or builds and caches it.
+     *
+     * @param response the response whose entity to restrict the view on.
+     * @param responseEntity the entity of the response.
+     * @param policyEnforcer the policy enforcer restricting the view.
+     * @param viewBuilder builds the view if it is not cached.
+     * @return the view restricted by the enforcer.
+     */
+    JsonObject getJsonView(final ThingQueryCommandResponse<?> response,
+            final JsonObject responseEntity,
+            final PolicyEnforcer policyEnforcer,
+            final Supplier<JsonObject> viewBuilder) {
+
+        final Optional<String> entityTag = response.getDittoHeaders()
+                .getETag()
+                .filter(tag -> !tag.isWeak() && tag.getOpaqueTag().startsWith(REVISION_ENTITY_TAG_PREFIX))
+                .map(EntityTag::getOpaqueTag);
+        if (null == cache || entityTag.isEmpty()) {
+            return viewBuilder.get();
+        }
+        final Key key = new Key(response.getEntityId(),
+                response.getResourcePath(),
+                entityTag.get(),
+                policyEnforcer.getPolicy().flatMap(Policy::getRevision).map(PolicyRevision::toLong).orElse(-1L),
+                policyEnforcer.getGeneration(),
+                response.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds(),
+                keysOf(responseEntity));
+        final Optional<JsonObject> cachedView = cache.getIfPresent(key).join();
+        if (cachedView.isPresent()) {
+            return cachedView.get();
+        }
+        final JsonObject view = viewBuilder.get();
+        cache.put(key, view);
+        return view;
+    }
+
+    /**
+     * Copies the keys of all nested objects of a JSON object and replaces all other values by {@code null}, as they
+     * are determined by the thing ID, resource path and entity tag of the key.
+     */
+    private static JsonObject keysOf(final JsonObject jsonObject) {
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        for (final JsonField field : jsonObject) {
+            final JsonValue value = field.getValue();
+            builder.set(field.getKey(), value.isObject() ? keysOf(value.asObject()) : JsonValue.nullLiteral());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Key of a cached view. It retains neither the values of the entity nor the enforcer.
+     */
+    private record Key(ThingId thingId,
+                       JsonPointer resourcePath,
+                       String entityTag,
+                       long policyRevision,
+                       long policyEnforcerGeneration,
+                       List<String> authorizationSubjectIds,
+                       JsonObject entityKeys) {}
+
+    /**
+     * ID of the actor system extension for a {@code ThingJsonViewCache}.
+     */
+    private static final class ExtensionId extends AbstractExtensionId<ThingJsonViewCache> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public ThingJsonViewCache createExtension(final ExtendedActorSystem system) {
+            final Config config = system.settings().config();
+            final boolean enabled = !config.hasPath(ENABLED_CONFIG_PATH) || config.getBoolean(ENABLED_CONFIG_PATH);
+            return new ThingJsonViewCache(enabled ? DefaultCacheConfig.of(config, CONFIG_PATH) : null,
+                    system.dispatcher());
+        }
+    }
+
+}
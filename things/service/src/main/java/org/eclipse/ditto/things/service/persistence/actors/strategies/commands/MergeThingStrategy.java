@@ -113,10 +113,7 @@ final class MergeThingStrategy extends AbstractThingCommandStrategy<MergeThing>
                 command.getEntity().orElseGet(command::getValue));
         final JsonObject mergedJson = jsonMergePatch.applyOn(existingThingJson).asObject();
 
-        ThingCommandSizeValidator.getInstance().ensureValidSize(
-                mergedJson::getUpperBoundForStringSize,
-                () -> mergedJson.toString().length(),
-                command::getDittoHeaders);
+        ThingCommandSizeValidator.getInstance().ensureValidSize(mergedJson, command::getDittoHeaders);
 
         context.getLog().debug("Result of JSON merge: {}", mergedJson);
         final Thing mergedThing = ThingsModelFactory.newThingBuilder(mergedJson)
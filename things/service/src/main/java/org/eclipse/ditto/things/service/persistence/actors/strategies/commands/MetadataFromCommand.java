@@ -149,10 +149,7 @@ final class MetadataFromCommand implements Supplier<Metadata> {
                         .build()
                         .toJson(FIELDS_NOT_HIDDEN_OR_METADATA);
 
-                ThingCommandSizeValidator.getInstance().ensureValidSize(
-                        thingJsonObject::getUpperBoundForStringSize,
-                        () -> thingJsonObject.toString().length(),
-                        command::getDittoHeaders);
+                ThingCommandSizeValidator.getInstance().ensureValidSize(thingJsonObject, command::getDittoHeaders);
 
                 return metadata;
             }
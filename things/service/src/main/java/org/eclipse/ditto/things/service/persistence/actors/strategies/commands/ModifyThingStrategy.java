@@ -61,10 +61,7 @@ final class ModifyThingStrategy extends AbstractThingCommandStrategy<ModifyThing
         final Thing nonNullThing = getEntityOrThrow(thing);
 
         final JsonObject thingJsonObject = nonNullThing.toJson();
-        ThingCommandSizeValidator.getInstance().ensureValidSize(
-                thingJsonObject::getUpperBoundForStringSize,
-                () -> thingJsonObject.toString().length(),
-                command::getDittoHeaders);
+        ThingCommandSizeValidator.getInstance().ensureValidSize(thingJsonObject, command::getDittoHeaders);
 
         final Instant eventTs = getEventTimestamp();
 
@@ -12,7 +12,6 @@
  */
 package org.eclipse.ditto.things.service.persistence.actors.strategies.commands;
 
-import java.util.List;
 import java.util.Optional;
 
 import javax.annotation.Nullable;
@@ -21,12 +20,10 @@ import javax.annotation.concurrent.Immutable;
 import org.eclipse.ditto.base.model.entity.metadata.Metadata;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
+import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.internal.utils.persistentactors.results.Result;
 import org.eclipse.ditto.internal.utils.persistentactors.results.ResultFactory;
-import org.eclipse.ditto.json.JsonFactory;
-import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.things.model.Features;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
@@ -73,31 +70,11 @@ final class RetrieveFeaturesStrategy extends AbstractThingCommandStrategy<Retrie
 
     private static JsonObject getFeaturesJson(final Features features, final RetrieveFeatures command) {
         return command.getSelectedFields()
-                .map(selectedFields -> {
-                    final JsonFieldSelector expandedFieldSelector = expandFeatureIdWildcard(selectedFields, features);
-                    return features.toJson(command.getImplementedSchemaVersion(), expandedFieldSelector);
-                })
+                .map(selectedFields -> ThingsModelFactory.getFeaturesWildcardProjection(selectedFields)
+                        .apply(features.toJson(command.getImplementedSchemaVersion(), FieldType.regularOrSpecial())))
                 .orElseGet(() -> features.toJson(command.getImplementedSchemaVersion()));
     }
 
-    private static JsonFieldSelector expandFeatureIdWildcard(final JsonFieldSelector selectedFields,
-            final Features features) {
-        // add /features level for expansion
-        final List<JsonPointer> normalized = selectedFields.getPointers()
-                .stream()
-                .map(selector -> Thing.JsonFields.FEATURES.getPointer().append(selector))
-                .toList();
-        final JsonFieldSelector expandedPointers =
-                ThingsModelFactory.expandFeatureIdWildcards(features, JsonFactory.newFieldSelector(normalized));
-        // and remove it again because field selectors are relative to /features
-        final List<JsonPointer> denormalized =
-                expandedPointers.getPointers()
-                        .stream()
-                        .map(p -> p.getSubPointer(1).orElse(JsonPointer.empty()))
-                        .toList();
-        return JsonFactory.newFieldSelector(denormalized);
-    }
-
     @Override
     public Optional<EntityTag> previousEntityTag(final RetrieveFeatures command, @Nullable final Thing previousEntity) {
         return nextEntityTag(command, previousEntity);
@@ -27,12 +27,11 @@ import org.eclipse.ditto.base.model.headers.DittoHeadersSettable;
 import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
 import org.eclipse.ditto.base.model.headers.contenttype.ContentType;
 import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
+import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.base.model.signals.FeatureToggle;
 import org.eclipse.ditto.internal.utils.persistentactors.results.Result;
 import org.eclipse.ditto.internal.utils.persistentactors.results.ResultFactory;
-import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.things.model.Features;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.ThingsModelFactory;
@@ -114,12 +113,8 @@ final class RetrieveThingStrategy extends AbstractThingCommandStrategy<RetrieveT
 
     private static JsonObject getThingJson(final Thing thing, final ThingQueryCommand<RetrieveThing> command) {
         return command.getSelectedFields()
-                .map(selectedFields -> {
-                    final Features features = thing.getFeatures().orElse(ThingsModelFactory.emptyFeatures());
-                    final JsonFieldSelector expandedFieldSelector =
-                            ThingsModelFactory.expandFeatureIdWildcards(features, selectedFields);
-                    return thing.toJson(command.getImplementedSchemaVersion(), expandedFieldSelector);
-                })
+                .map(selectedFields -> ThingsModelFactory.getFeatureIdWildcardProjection(selectedFields)
+                        .apply(thing.toJson(command.getImplementedSchemaVersion(), FieldType.regularOrSpecial())))
                 .orElseGet(() -> thing.toJson(command.getImplementedSchemaVersion()));
     }
 
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcer;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link ThingJsonViewCache}.
+ */
+public final class ThingJsonViewCacheTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "thing");
+    private static final JsonObject THING = JsonObject.newBuilder()
+            .set("thingId", THING_ID.toString())
+            .set("attributes", JsonObject.newBuilder().set("location", "kitchen").build())
+            .build();
+    private static final JsonObject VIEW = JsonObject.newBuilder().set("thingId", THING_ID.toString()).build();
+    private static final Policy POLICY = PoliciesModelFactory.newPolicyBuilder(PolicyId.of(THING_ID))
+            .forLabel("DEFAULT")
+            .setSubject("test:user", SubjectType.GENERATED)
+            .setGrantedPermissions("thing", "/", "READ")
+            .setRevision(1L)
+            .build();
+
+    private final AtomicInteger builtViews = new AtomicInteger();
+    private final Supplier<JsonObject> viewBuilder = () -> {
+        builtViews.incrementAndGet();
+        return VIEW;
+    };
+
+    private ThingJsonViewCache underTest;
+
+    @Before
+    public void setUp() {
+        underTest = new ThingJsonViewCache(
+                DefaultCacheConfig.of(ConfigFactory.parseMap(Map.of("cache.maximum-size", 100)), "cache"),
+                Runnable::run);
+    }
+
+    @Test
+    public void buildsViewOnceForSameRevisionEnforcerAndSubjects() {
+        final PolicyEnforcer enforcer = PolicyEnforcer.of(POLICY);
+
+        assertThat(underTest.getJsonView(response("rev:1", "user"), THING, enforcer, viewBuilder)).isEqualTo(VIEW);
+        assertThat(underTest.getJsonView(response("rev:1", "user"), THING, enforcer, viewBuilder)).isEqualTo(VIEW);
+
+        assertThat(builtViews).hasValue(1);
+    }
+
+    @Test
+    public void buildsViewAgainForChangedThingRevision() {
+        final PolicyEnforcer enforcer = PolicyEnforcer.of(POLICY);
+
+        underTest.getJsonView(response("rev:1", "user"), THING, enforcer, viewBuilder);
+        underTest.getJsonView(response("rev:2", "user"), THING, enforcer, viewBuilder);
+
+        assertThat(builtViews).hasValue(2);
+    }
+
+    @Test
+    public void buildsViewAgainForRecompiledEnforcerOfSamePolicyRevision() {
+        underTest.getJsonView(response("rev:1", "user"), THING, PolicyEnforcer.of(POLICY), viewBuilder);
+        underTest.getJsonView(response("rev:1", "user"), THING, PolicyEnforcer.of(POLICY), viewBuilder);
+
+        assertThat(builtViews).hasValue(2);
+    }
+
+    @Test
+    public void buildsViewAgainForOtherAuthorizationSubjects() {
+        final PolicyEnforcer enforcer = PolicyEnforcer.of(POLICY);
+
+        underTest.getJsonView(response("rev:1", "user"), THING, enforcer, viewBuilder);
+        underTest.getJsonView(response("rev:1", "admin"), THING, enforcer, viewBuilder);
+
+        assertThat(builtViews).hasValue(2);
+    }
+
+    @Test
+    public void buildsViewAgainForOtherSelectedFields() {
+        final PolicyEnforcer enforcer = PolicyEnforcer.of(POLICY);
+        final JsonObject selectedFields = JsonObject.newBuilder().set("thingId", THING_ID.toString()).build();
+
+        underTest.getJsonView(response("rev:1", "user"), THING, enforcer, viewBuilder);
+        underTest.getJsonView(response("rev:1", "user"), selectedFields, enforcer, viewBuilder);
+
+        assertThat(builtViews).hasValue(2);
+    }
+
+    @Test
+    public void buildsViewAgainForOtherFieldsOfSameSize() {
+        final PolicyEnforcer enforcer = PolicyEnforcer.of(POLICY);
+        final JsonObject thingId = JsonObject.newBuilder().set("thingId", THING_ID.toString()).build();
+        final JsonObject policyId = JsonObject.newBuilder().set("policyId", THING_ID.toString()).build();
+
+        underTest.getJsonView(response("rev:1", "user"), thingId, enforcer, viewBuilder);
+        underTest.getJsonView(response("rev:1", "user"), policyId, enforcer, viewBuilder);
+
+        assertThat(builtViews).hasValue(2);
+    }
+
+    @Test
+    public void buildsViewAgainForOtherFieldsWithSameHashCode() {
+        final PolicyEnforcer enforcer = PolicyEnforcer.of(POLICY);
+        final JsonObject aa = JsonObject.newBuilder()
+                .set("attributes", JsonObject.newBuilder().set("Aa", 1).build())
+                .build();
+        final JsonObject bb = JsonObject.newBuilder()
+                .set("attributes", JsonObject.newBuilder().set("BB", 1).build())
+                .build();
+
+        underTest.getJsonView(response("rev:1", "user"), aa, enforcer, viewBuilder);
+        underTest.getJsonView(response("rev:1", "user"), bb, enforcer, viewBuilder);
+
+        assertThat(builtViews).hasValue(2);
+    }
+
+    @Test
+    public void alwaysBuildsViewForHashEntityTag() {
+        final PolicyEnforcer enforcer = PolicyEnforcer.of(POLICY);
+
+        underTest.getJsonView(response("hash:1f", "user"), THING, enforcer, viewBuilder);
+        underTest.getJsonView(response("hash:1f", "user"), THING, enforcer, viewBuilder);
+
+        assertThat(builtViews).hasValue(2);
+    }
+
+    @Test
+    public void alwaysBuildsViewWithoutEntityTag() {
+        final PolicyEnforcer enforcer = PolicyEnforcer.of(POLICY);
+        final RetrieveThingResponse response = RetrieveThingResponse.of(THING_ID, THING, DittoHeaders.empty());
+
+        underTest.getJsonView(response, THING, enforcer, viewBuilder);
+        underTest.getJsonView(response, THING, enforcer, viewBuilder);
+
+        assertThat(builtViews).hasValue(2);
+    }
+
+    @Test
+    public void alwaysBuildsViewIfCachingIsDisabled() {
+        final ThingJsonViewCache disabledCache = new ThingJsonViewCache(null, Runnable::run);
+        final PolicyEnforcer enforcer = PolicyEnforcer.of(POLICY);
+
+        disabledCache.getJsonView(response("rev:1", "user"), THING, enforcer, viewBuilder);
+        disabledCache.getJsonView(response("rev:1", "user"), THING, enforcer, viewBuilder);
+
+        assertThat(builtViews).hasValue(2);
+    }
+
+    private static RetrieveThingResponse response(final String entityTag, final String subject) {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .eTag(EntityTag.fromString("\"" + entityTag + "\""))
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("test:" + subject)))
+                .build();
+        return RetrieveThingResponse.of(THING_ID, THING, dittoHeaders);
+    }
+
+}
@@ -55,6 +55,24 @@ public final class ThingsSearchConstants {
      */
     public static final String SEARCH_ACTOR_PATH = ROOT_ACTOR_PATH + PATH_DELIMITER + SEARCH_ACTOR_NAME;
 
+    /**
+     * Header with which a query requests to be answered from the things stored in the search index instead of
+     * retrieving the things from the things service. Only honored if index-served queries are enabled.
+     */
+    public static final String INDEX_SERVED_HEADER = "search-index-served";
+
+    /**
+     * Header of responses answered from the search index containing the JSON array of the revisions of the returned
+     * things in the search index, in the order of the result items.
+     */
+    public static final String INDEX_REVISIONS_HEADER = "search-index-revisions";
+
+    /**
+     * Header with which a count query without filter requests an estimated count, which is cheaper to compute than the
+     * exact count in large namespaces.
+     */
+    public static final String ESTIMATED_COUNT_HEADER = "search-count-estimated";
+
     /*
      * Inhibit instantiation of this utility class.
      */
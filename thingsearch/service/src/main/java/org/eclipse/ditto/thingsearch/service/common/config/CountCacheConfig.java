@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings for the cache of search count results.
+ */
+@Immutable
+public interface CountCacheConfig {
+
+    /**
+     * Returns whether count results are cached.
+     *
+     * @return true or false.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how long a count result is cached at most.
+     *
+     * @return the time to live of cached count results.
+     */
+    Duration getExpireAfterWrite();
+
+    /**
+     * Returns how many count results are cached at most.
+     *
+     * @return the maximum number of cached count results.
+     */
+    int getMaximumSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * CountCacheConfig.
+     */
+    enum CountCacheConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether count results are cached.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * How long a count result is cached at most.
+         */
+        EXPIRE_AFTER_WRITE("expire-after-write", Duration.ofSeconds(5)),
+
+        /**
+         * How many count results are cached at most.
+         */
+        MAXIMUM_SIZE("maximum-size", 10_000);
+
+        private final String path;
+        private final Object defaultValue;
+
+        CountCacheConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link CountCacheConfig}.
+ */
+@Immutable
+public final class DefaultCountCacheConfig implements CountCacheConfig {
+
+    private static final String CONFIG_PATH = "count-cache";
+
+    private final boolean enabled;
+    private final Duration expireAfterWrite;
+    private final int maximumSize;
+
+    private DefaultCountCacheConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(CountCacheConfigValue.ENABLED.getConfigPath());
+        expireAfterWrite = config.getNonNegativeAndNonZeroDurationOrThrow(CountCacheConfigValue.EXPIRE_AFTER_WRITE);
+        maximumSize = config.getPositiveIntOrThrow(CountCacheConfigValue.MAXIMUM_SIZE);
+    }
+
+    /**
+     * Returns an instance of DefaultCountCacheConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the count cache config at {@value CONFIG_PATH}.
+     * @return the instance.
+     * @throws DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultCountCacheConfig of(final Config config) {
+        return new DefaultCountCacheConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, CountCacheConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    @Override
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultCountCacheConfig that = (DefaultCountCacheConfig) o;
+        return enabled == that.enabled &&
+                maximumSize == that.maximumSize &&
+                Objects.equals(expireAfterWrite, that.expireAfterWrite);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, expireAfterWrite, maximumSize);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", expireAfterWrite=" + expireAfterWrite +
+                ", maximumSize=" + maximumSize +
+                "]";
+    }
+
+}
@@ -37,6 +37,8 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
 
     private final Duration ackDelay;
     private final WriteConcern withAcknowledgementsWriteConcern;
+    private final int maxParallelism;
+    private final Duration targetWriteLatency;
     private final DefaultStreamStageConfig defaultStreamStageConfig;
 
     private DefaultPersistenceStreamConfig(final ConfigWithFallback persistenceStreamScopedConfig,
@@ -52,6 +54,10 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
                                     writeConcernString);
                     return new DittoConfigError(msg);
                 });
+        maxParallelism =
+                persistenceStreamScopedConfig.getPositiveIntOrThrow(PersistenceStreamConfigValue.MAX_PARALLELISM);
+        targetWriteLatency = persistenceStreamScopedConfig.getNonNegativeAndNonZeroDurationOrThrow(
+                PersistenceStreamConfigValue.TARGET_WRITE_LATENCY);
         this.defaultStreamStageConfig = defaultStreamStageConfig;
     }
 
@@ -78,6 +84,16 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return withAcknowledgementsWriteConcern;
     }
 
+    @Override
+    public int getMaxParallelism() {
+        return maxParallelism;
+    }
+
+    @Override
+    public Duration getTargetWriteLatency() {
+        return targetWriteLatency;
+    }
+
     @Override
     public int getParallelism() {
         return defaultStreamStageConfig.getParallelism();
@@ -99,12 +115,15 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         final DefaultPersistenceStreamConfig that = (DefaultPersistenceStreamConfig) o;
         return Objects.equals(ackDelay, that.ackDelay) &&
                 Objects.equals(withAcknowledgementsWriteConcern, that.withAcknowledgementsWriteConcern) &&
+                maxParallelism == that.maxParallelism &&
+                Objects.equals(targetWriteLatency, that.targetWriteLatency) &&
                 Objects.equals(defaultStreamStageConfig, that.defaultStreamStageConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(ackDelay, withAcknowledgementsWriteConcern, defaultStreamStageConfig);
+        return Objects.hash(ackDelay, withAcknowledgementsWriteConcern, maxParallelism, targetWriteLatency,
+                defaultStreamStageConfig);
     }
 
     @Override
@@ -112,6 +131,8 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return getClass().getSimpleName() + " [" +
                 "ackDelay=" + ackDelay +
                 ", withAcknowledgementsWriteConcern=" + withAcknowledgementsWriteConcern +
+                ", maxParallelism=" + maxParallelism +
+                ", targetWriteLatency=" + targetWriteLatency +
                 ", defaultStreamStageConfig=" + defaultStreamStageConfig +
                 "]";
     }
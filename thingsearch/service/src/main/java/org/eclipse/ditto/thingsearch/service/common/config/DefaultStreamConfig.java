@@ -39,6 +39,7 @@ public final class DefaultStreamConfig implements StreamConfig {
 
     private final int maxArraySize;
     private final Duration writeInterval;
+    private final Duration minWriteInterval;
     private final Duration thingDeletionTimeout;
     private final AskWithRetryConfig askWithRetryConfig;
     private final StreamStageConfig retrievalConfig;
@@ -49,6 +50,7 @@ public final class DefaultStreamConfig implements StreamConfig {
     private DefaultStreamConfig(final ConfigWithFallback streamScopedConfig) {
         maxArraySize = streamScopedConfig.getInt(StreamConfigValue.MAX_ARRAY_SIZE.getConfigPath());
         writeInterval = streamScopedConfig.getNonNegativeDurationOrThrow(StreamConfigValue.WRITE_INTERVAL);
+        minWriteInterval = streamScopedConfig.getNonNegativeDurationOrThrow(StreamConfigValue.MIN_WRITE_INTERVAL);
         thingDeletionTimeout =
                 streamScopedConfig.getNonNegativeDurationOrThrow(StreamConfigValue.THING_DELETION_TIMEOUT);
         askWithRetryConfig = DefaultAskWithRetryConfig.of(streamScopedConfig, ASK_WITH_RETRY_CONFIG_PATH);
@@ -79,6 +81,11 @@ public final class DefaultStreamConfig implements StreamConfig {
         return writeInterval;
     }
 
+    @Override
+    public Duration getMinWriteInterval() {
+        return minWriteInterval;
+    }
+
     @Override
     public Duration getThingDeletionTimeout() {
         return thingDeletionTimeout;
@@ -120,6 +127,7 @@ public final class DefaultStreamConfig implements StreamConfig {
         final DefaultStreamConfig that = (DefaultStreamConfig) o;
         return maxArraySize == that.maxArraySize &&
                 writeInterval.equals(that.writeInterval) &&
+                minWriteInterval.equals(that.minWriteInterval) &&
                 thingDeletionTimeout.equals(that.thingDeletionTimeout) &&
                 askWithRetryConfig.equals(that.askWithRetryConfig) &&
                 retrievalConfig.equals(that.retrievalConfig) &&
@@ -130,7 +138,7 @@ public final class DefaultStreamConfig implements StreamConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxArraySize, writeInterval, askWithRetryConfig, retrievalConfig,
+        return Objects.hash(maxArraySize, writeInterval, minWriteInterval, askWithRetryConfig, retrievalConfig,
                 persistenceStreamConfig, policyCacheConfig, thingCacheConfig, thingDeletionTimeout);
     }
 
@@ -139,6 +147,7 @@ public final class DefaultStreamConfig implements StreamConfig {
         return getClass().getSimpleName() + " [" +
                 "maxArraySize=" + maxArraySize +
                 ", writeInterval=" + writeInterval +
+                ", minWriteInterval=" + minWriteInterval +
                 ", thingDeletionTimeout=" + thingDeletionTimeout +
                 ", askWithRetryConfig=" + askWithRetryConfig +
                 ", retrievalConfig=" + retrievalConfig +
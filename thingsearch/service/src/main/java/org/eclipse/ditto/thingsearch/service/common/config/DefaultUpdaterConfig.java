@@ -39,6 +39,8 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     private final boolean forceUpdateAfterStartEnabled;
     private final Duration forceUpdateAfterStartTimeout;
     private final double forceUpdateAfterStartRandomFactor;
+    private final boolean policyReadGrantsDiffEnabled;
+    private final int policyReadGrantsDiffMaxPolicies;
     private final BackgroundSyncConfig backgroundSyncConfig;
     private final StreamConfig streamConfig;
     private final SearchPersistenceConfig updaterPersistenceConfig;
@@ -57,6 +59,10 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 UpdaterConfigValue.FORCE_UPDATE_AFTER_START_TIMEOUT);
         forceUpdateAfterStartRandomFactor = updaterScopedConfig.getDouble(
                 UpdaterConfigValue.FORCE_UPDATE_AFTER_START_RANDOM_FACTOR.getConfigPath());
+        policyReadGrantsDiffEnabled =
+                updaterScopedConfig.getBoolean(UpdaterConfigValue.POLICY_READ_GRANTS_DIFF_ENABLED.getConfigPath());
+        policyReadGrantsDiffMaxPolicies =
+                updaterScopedConfig.getPositiveIntOrThrow(UpdaterConfigValue.POLICY_READ_GRANTS_DIFF_MAX_POLICIES);
         backgroundSyncConfig = DefaultBackgroundSyncConfig.fromUpdaterConfig(updaterScopedConfig);
         streamConfig = DefaultStreamConfig.of(updaterScopedConfig);
         updaterPersistenceConfig = DefaultSearchPersistenceConfig.of(updaterScopedConfig);
@@ -109,6 +115,16 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         return forceUpdateAfterStartRandomFactor;
     }
 
+    @Override
+    public boolean isPolicyReadGrantsDiffEnabled() {
+        return policyReadGrantsDiffEnabled;
+    }
+
+    @Override
+    public int getPolicyReadGrantsDiffMaxPolicies() {
+        return policyReadGrantsDiffMaxPolicies;
+    }
+
     @Override
     public BackgroundSyncConfig getBackgroundSyncConfig() {
         return backgroundSyncConfig;
@@ -140,6 +156,8 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 forceUpdateAfterStartEnabled == that.forceUpdateAfterStartEnabled &&
                 Objects.equals(forceUpdateAfterStartTimeout, that.forceUpdateAfterStartTimeout) &&
                 Double.compare(forceUpdateAfterStartRandomFactor, that.forceUpdateAfterStartRandomFactor) == 0 &&
+                policyReadGrantsDiffEnabled == that.policyReadGrantsDiffEnabled &&
+                policyReadGrantsDiffMaxPolicies == that.policyReadGrantsDiffMaxPolicies &&
                 Objects.equals(backgroundSyncConfig, that.backgroundSyncConfig) &&
                 Objects.equals(streamConfig, that.streamConfig) &&
                 Objects.equals(updaterPersistenceConfig, that.updaterPersistenceConfig);
@@ -149,7 +167,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     public int hashCode() {
         return Objects.hash(maxIdleTime, shardingStatePollInterval, eventProcessingActive, forceUpdateProbability,
                 forceUpdateAfterStartEnabled, forceUpdateAfterStartTimeout, forceUpdateAfterStartRandomFactor,
-                backgroundSyncConfig, streamConfig, updaterPersistenceConfig);
+                policyReadGrantsDiffEnabled, policyReadGrantsDiffMaxPolicies, backgroundSyncConfig, streamConfig, updaterPersistenceConfig);
     }
 
     @Override
@@ -162,6 +180,8 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 ", forceUpdateAfterStartEnabled=" + forceUpdateAfterStartEnabled +
                 ", forceUpdateAfterStartTimeout=" + forceUpdateAfterStartTimeout +
                 ", forceUpdateAfterStartRandomFactor=" + forceUpdateAfterStartRandomFactor +
+                ", policyReadGrantsDiffEnabled=" + policyReadGrantsDiffEnabled +
+                ", policyReadGrantsDiffMaxPolicies=" + policyReadGrantsDiffMaxPolicies +
                 ", backgroundSyncConfig=" + backgroundSyncConfig +
                 ", streamConfig=" + streamConfig +
                 ", updaterPersistenceConfig=" + updaterPersistenceConfig +
@@ -72,9 +72,11 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
     private final PersistenceOperationsConfig persistenceOperationsConfig;
     private final MongoDbConfig mongoDbConfig;
     private final SearchPersistenceConfig queryPersistenceConfig;
+    private final CountCacheConfig countCacheConfig;
     private final Map<String, String> simpleFieldMappings;
     private final List<NamespaceSearchIndexConfig> namespaceIndexedFields;
     private final DefaultOperatorMetricsConfig operatorMetricsConfig;
+    private final boolean indexServedQueriesEnabled;
 
     private DittoSearchConfig(final ScopedConfig dittoScopedConfig) {
         dittoServiceConfig = DittoServiceConfig.of(dittoScopedConfig, CONFIG_PATH);
@@ -92,10 +94,13 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 ? configWithFallback.getConfig(QUERY_PATH)
                 : ConfigFactory.empty();
         queryPersistenceConfig = DefaultSearchPersistenceConfig.of(queryConfig);
+        countCacheConfig = DefaultCountCacheConfig.of(queryConfig);
         simpleFieldMappings =
                 convertToMap(configWithFallback.getConfig(SearchConfigValue.SIMPLE_FIELD_MAPPINGS.getConfigPath()));
         namespaceIndexedFields = loadNamespaceSearchIndexList(configWithFallback);
         operatorMetricsConfig = DefaultOperatorMetricsConfig.of(configWithFallback);
+        indexServedQueriesEnabled =
+                configWithFallback.getBoolean(SearchConfigValue.INDEX_SERVED_QUERIES_ENABLED.getConfigPath());
     }
 
     /**
@@ -130,6 +135,11 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return queryPersistenceConfig;
     }
 
+    @Override
+    public CountCacheConfig getCountCacheConfig() {
+        return countCacheConfig;
+    }
+
     public Map<String, String> getSimpleFieldMappings() {
         return simpleFieldMappings;
     }
@@ -139,6 +149,11 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return operatorMetricsConfig;
     }
 
+    @Override
+    public boolean isIndexServedQueriesEnabled() {
+        return indexServedQueriesEnabled;
+    }
+
     @Override
     public ClusterConfig getClusterConfig() {
         return dittoServiceConfig.getClusterConfig();
@@ -202,16 +217,19 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 Objects.equals(persistenceOperationsConfig, that.persistenceOperationsConfig) &&
                 Objects.equals(mongoDbConfig, that.mongoDbConfig) &&
                 Objects.equals(queryPersistenceConfig, that.queryPersistenceConfig) &&
+                Objects.equals(countCacheConfig, that.countCacheConfig) &&
                 Objects.equals(simpleFieldMappings, that.simpleFieldMappings) &&
                 Objects.equals(operatorMetricsConfig, that.operatorMetricsConfig) &&
-                Objects.equals(namespaceIndexedFields, that.namespaceIndexedFields);
+                Objects.equals(namespaceIndexedFields, that.namespaceIndexedFields) &&
+                indexServedQueriesEnabled == that.indexServedQueriesEnabled;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(mongoHintsByNamespace, updaterConfig, dittoServiceConfig, healthCheckConfig,
                 indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, queryPersistenceConfig,
-                simpleFieldMappings, operatorMetricsConfig, namespaceIndexedFields);
+                countCacheConfig, simpleFieldMappings, operatorMetricsConfig, namespaceIndexedFields,
+                indexServedQueriesEnabled);
     }
 
     @Override
@@ -225,9 +243,11 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 ", persistenceOperationsConfig=" + persistenceOperationsConfig +
                 ", mongoDbConfig=" + mongoDbConfig +
                 ", queryPersistenceConfig=" + queryPersistenceConfig +
+                ", countCacheConfig=" + countCacheConfig +
                 ", simpleFieldMappings=" + simpleFieldMappings +
                 ", namespaceIndexedFields=" + namespaceIndexedFields +
                 ", operatorMetricsConfig=" + operatorMetricsConfig +
+                ", indexServedQueriesEnabled=" + indexServedQueriesEnabled +
                 "]";
     }
 
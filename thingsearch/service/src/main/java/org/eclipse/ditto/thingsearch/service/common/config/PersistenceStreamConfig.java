@@ -41,6 +41,21 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
      */
     WriteConcern getWithAcknowledgementsWriteConcern();
 
+    /**
+     * Returns the upper bound of bulk writes in flight to which the adaptive write limit may grow.
+     * The limit starts at {@link #getParallelism()} and is adjusted according to the observed write latency.
+     *
+     * @return the maximum number of bulk writes in flight.
+     */
+    int getMaxParallelism();
+
+    /**
+     * Returns the bulk write latency above which the number of bulk writes in flight is decreased.
+     *
+     * @return the target write latency.
+     */
+    Duration getTargetWriteLatency();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
@@ -57,7 +72,17 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
          * The write concern used for search index updates requiring acknowledgements.
          * See {@link com.mongodb.WriteConcern} for available options.
          */
-        WITH_ACKS_WRITE_CONCERN("with-acks-writeConcern", "journaled");
+        WITH_ACKS_WRITE_CONCERN("with-acks-writeConcern", "journaled"),
+
+        /**
+         * Upper bound of bulk writes in flight.
+         */
+        MAX_PARALLELISM("max-parallelism", 128),
+
+        /**
+         * Bulk write latency above which the number of bulk writes in flight is decreased.
+         */
+        TARGET_WRITE_LATENCY("target-write-latency", Duration.ofMillis(500L));
 
         private final String configPath;
         private final Object defaultValue;
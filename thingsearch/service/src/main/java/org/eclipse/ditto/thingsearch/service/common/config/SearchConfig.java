@@ -51,6 +51,13 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     SearchPersistenceConfig getQueryPersistenceConfig();
 
+    /**
+     * Returns the config of the cache of count results.
+     *
+     * @return the config.
+     */
+    CountCacheConfig getCountCacheConfig();
+
     /**
      * Returns how simple fields are mapped during query parsing.
      *
@@ -66,6 +73,14 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     OperatorMetricsConfig getOperatorMetricsConfig();
 
+    /**
+     * Returns whether queries may request to be answered from the things stored in the search index instead of
+     * retrieving the things from the things service.
+     *
+     * @return whether index-served queries are enabled.
+     */
+    boolean isIndexServedQueriesEnabled();
+
     /*
      * Returns a map of fields scoped by namespaces that will be explicitly included in the search index.
      *
@@ -107,7 +122,12 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
          *
          * @since 3.5.0
          */
-        NAMESPACE_INDEXED_FIELDS("namespace-indexed-fields", Collections.emptyList());
+        NAMESPACE_INDEXED_FIELDS("namespace-indexed-fields", Collections.emptyList()),
+
+        /**
+         * Whether queries may request to be answered from the things stored in the search index.
+         */
+        INDEX_SERVED_QUERIES_ENABLED("query.index-served.enabled", false);
 
         private final String path;
         private final Object defaultValue;
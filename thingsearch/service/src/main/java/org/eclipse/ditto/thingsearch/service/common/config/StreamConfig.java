@@ -39,6 +39,14 @@ public interface StreamConfig {
      */
     Duration getWriteInterval();
 
+    /**
+     * Returns the minimal interval between two search index writes of the same thing. Events arriving within the
+     * interval after a write are coalesced into the next write.
+     *
+     * @return the interval, zero if writes are not delayed after previous writes.
+     */
+    Duration getMinWriteInterval();
+
     /**
      * @return the duration before the update actor is stopped after receiving a ThingDeleted event
      */
@@ -95,6 +103,11 @@ public interface StreamConfig {
          */
         WRITE_INTERVAL("write-interval", Duration.ofSeconds(1L)),
 
+        /**
+         * The minimal interval between two search index writes of the same thing.
+         */
+        MIN_WRITE_INTERVAL("min-write-interval", Duration.ZERO),
+
         /**
          * The delay before the updater actor is stopped after receiving a ThingDeleted event.
          */
@@ -81,6 +81,21 @@ public interface UpdaterConfig {
      */
     double getForceUpdateAfterStartRandomFactor();
 
+    /**
+     * Get whether policy modifications are only forwarded to the updaters of the things referencing the policy if
+     * the modification changed the READ grants of the policy.
+     *
+     * @return whether the READ grants of consecutive policy revisions are compared before re-indexing things.
+     */
+    boolean isPolicyReadGrantsDiffEnabled();
+
+    /**
+     * Get the maximum number of policies whose READ grants are remembered to compare them with the next revision.
+     *
+     * @return the maximum number of remembered policies.
+     */
+    int getPolicyReadGrantsDiffMaxPolicies();
+
     /**
      * Returns configuration for the background sync actor.
      *
@@ -142,7 +157,17 @@ public interface UpdaterConfig {
         /**
          * Random factor added to "force-update-after-start-timeout" to avoid database load spikes.
          */
-        FORCE_UPDATE_AFTER_START_RANDOM_FACTOR("force-update-after-start-random-factor", 1.0);
+        FORCE_UPDATE_AFTER_START_RANDOM_FACTOR("force-update-after-start-random-factor", 1.0),
+
+        /**
+         * Whether to compare the READ grants of consecutive policy revisions before re-indexing things.
+         */
+        POLICY_READ_GRANTS_DIFF_ENABLED("policy-read-grants-diff.enabled", true),
+
+        /**
+         * Maximum number of policies whose READ grants are remembered.
+         */
+        POLICY_READ_GRANTS_DIFF_MAX_POLICIES("policy-read-grants-diff.max-policies", 100_000);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.model;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.model.ThingId;
+
+/**
+ * Thing as stored in the search index, restricted to the fields readable by the searching subjects.
+ *
+ * @param thingId the ID of the thing.
+ * @param revision the revision of the thing in the search index.
+ * @param thing the readable part of the indexed thing.
+ */
+public record IndexedThing(ThingId thingId, long revision, JsonObject thing) {}
@@ -41,4 +41,33 @@ public final class KeyEscapeUtil {
                 .replace(".", FAKE_DOT);
     }
 
+    /**
+     * Reverts the escaping of a MongoDB key by {@link #escape(String)}.
+     *
+     * @param str the escaped String
+     * @return the unescaped String
+     */
+    public static String unescape(final String str) {
+        requireNonNull(str);
+        if (str.indexOf('~') < 0) {
+            return str;
+        }
+        final StringBuilder builder = new StringBuilder(str.length());
+        for (int i = 0; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            if (c == '~' && i + 1 < str.length()) {
+                final char escaped = str.charAt(++i);
+                switch (escaped) {
+                    case '0' -> builder.append('~');
+                    case '1' -> builder.append('$');
+                    case '2' -> builder.append('.');
+                    default -> builder.append(c).append(escaped);
+                }
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
 }
@@ -61,6 +61,11 @@ public final class PersistenceConstants {
      */
     public static final String FIELD_REFERENCED_POLICY_ID = "id";
 
+    /**
+     * Field name for policy revision in referenced policy tag.
+     */
+    public static final String FIELD_REFERENCED_POLICY_REVISION = "revision";
+
     /**
      * Field name for policy revision.
      */
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.actor.AbstractExtensionId;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Extension;
+import org.apache.pekko.stream.javadsl.Source;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.thingsearch.service.common.config.CountCacheConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultCountCacheConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.read.criteria.visitors.CreateBsonVisitor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Node-local cache of the results of count queries, keyed by the rendered MongoDB filter of the query criteria, the
+ * namespaces and the authorization subjects of the count. The rendered filter is equal for equal queries which were
+ * parsed separately.
+ * <p>
+ * Every search index update of a thing on this node advances a generation of the namespace of the thing. Cached
+ * results are discarded if the generations of their namespaces advanced since the count was started. Updates by other
+ * nodes are only reflected after the cached results expire.
+ * </p>
+ */
+@ThreadSafe
+public final class CountCache implements Extension {
+
+    private static final Counter HITS = DittoMetrics.counter("wildcard_search_count_cache_hits");
+    private static final Counter MISSES = DittoMetrics.counter("wildcard_search_count_cache_misses");
+
+    @Nullable private final Cache<Key, CachedCount> cache;
+    private final AtomicLong allNamespacesGeneration;
+    private final Map<String, AtomicLong> namespaceGenerations;
+
+    CountCache(final CountCacheConfig config) {
+        cache = config.isEnabled()
+                ? Caffeine.newBuilder()
+                .expireAfterWrite(config.getExpireAfterWrite())
+                .maximumSize(config.getMaximumSize())
+                .build()
+                : null;
+        allNamespacesGeneration = new AtomicLong();
+        namespaceGenerations = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get the count cache of an actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the count cache.
+     */
+    public static CountCache get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * Get the cached result of a count query or count and cache the result.
+     *
+     * @param query the parsed count query.
+     * @param namespaces the namespaces of the count query, or {@code null} for all namespaces.
+     * @param subjectIds the authorization subjects of the count query.
+     * @param estimated whether the count is estimated.
+     * @param count supplier of the count if no result is cached.
+     * @return source of the count.
+     */
+    public Source<Long, NotUsed> count(final Query query, @Nullable final Set<String> namespaces,
+            final Collection<String> subjectIds, final boolean estimated, final Supplier<Source<Long, NotUsed>> count) {
+
+        if (cache == null) {
+            return count.get();
+        }
+        final Key key = new Key(CreateBsonVisitor.sudoApply(query.getCriteria()).toBsonDocument().toJson(),
+                query.getSkip(), query.getLimit(),
+                namespaces == null ? null : Set.copyOf(namespaces), Set.copyOf(subjectIds), estimated);
+        final long generation = getGeneration(key.namespaces());
+        final CachedCount cachedCount = cache.getIfPresent(key);
+        if (cachedCount != null && cachedCount.generation() == generation) {
+            HITS.increment();
+            return Source.single(cachedCount.count());
+        }
+        MISSES.increment();
+        return count.get().map(result -> {
+            cache.put(key, new CachedCount(result, generation));
+            return result;
+        });
+    }
+
+    /**
+     * Discard cached results of count queries in a namespace after things in the namespace were updated.
+     *
+     * @param namespace the namespace.
+     */
+    public void invalidate(final String namespace) {
+        if (cache != null) {
+            namespaceGenerations.computeIfAbsent(namespace, ns -> new AtomicLong()).incrementAndGet();
+            allNamespacesGeneration.incrementAndGet();
+        }
+    }
+
+    private long getGeneration(@Nullable final Set<String> namespaces) {
+        if (namespaces == null) {
+            return allNamespacesGeneration.get();
+        }
+        // generations only increase, so that their sum changes whenever one of them does
+        long sum = 0L;
+        for (final String namespace : namespaces) {
+            final AtomicLong namespaceGeneration = namespaceGenerations.get(namespace);
+            sum += namespaceGeneration == null ? 0L : namespaceGeneration.get();
+        }
+        return sum;
+    }
+
+    private record Key(String filter, int skip, int limit, @Nullable Set<String> namespaces,
+                       Set<String> subjectIds, boolean estimated) {}
+
+    private record CachedCount(long count, long generation) {}
+
+    private static final class ExtensionId extends AbstractExtensionId<CountCache> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+        private static final String QUERY_CONFIG_PATH = "ditto.search.query";
+
+        @Override
+        public CountCache createExtension(final ExtendedActorSystem system) {
+            final Config config = system.settings().config();
+            final Config queryConfig = config.hasPath(QUERY_CONFIG_PATH)
+                    ? config.getConfig(QUERY_CONFIG_PATH)
+                    : ConfigFactory.empty();
+            return new CountCache(DefaultCountCacheConfig.of(queryConfig));
+        }
+    }
+
+}
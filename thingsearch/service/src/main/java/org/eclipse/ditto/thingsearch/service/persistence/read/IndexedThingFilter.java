@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import java.util.Collection;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.thingsearch.service.common.util.KeyEscapeUtil;
+import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+
+/**
+ * Restricts the thing stored in a search index document to the fields readable by a set of authorization subjects.
+ * The evaluated policy of the index document has the same structure as the thing; a field is readable if READ on it
+ * is not revoked for any of the subjects and is either granted to one of the subjects or readable at its parent.
+ * The same rule is applied by the search filters on the index.
+ * The keys of the index document are escaped by {@link KeyEscapeUtil}; they are unescaped in the returned JSON.
+ */
+final class IndexedThingFilter {
+
+    private IndexedThingFilter() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Filter the indexed thing.
+     *
+     * @param thing the thing as stored in the index document.
+     * @param policy the evaluated policy as stored in the index document, or {@code null} if it is missing.
+     * @param subjectIds the authorization subject IDs to filter for.
+     * @return the JSON of the readable part of the thing.
+     */
+    static JsonObject filter(final BsonDocument thing, @Nullable final BsonDocument policy,
+            final Collection<String> subjectIds) {
+
+        final boolean rootVisible = isVisible(policy, false, subjectIds);
+        return filterDocument(thing, policy, rootVisible, subjectIds);
+    }
+
+    private static JsonObject filterDocument(final BsonDocument document, @Nullable final BsonDocument policy,
+            final boolean visible, final Collection<String> subjectIds) {
+
+        final JsonObjectBuilder result = JsonObject.newBuilder();
+        for (final Map.Entry<String, BsonValue> field : document.entrySet()) {
+            final BsonDocument childPolicy = getChildPolicy(policy, field.getKey());
+            final boolean childVisible = isVisible(childPolicy, visible, subjectIds);
+            final BsonValue value = field.getValue();
+            if (value.isDocument()) {
+                final JsonObject filtered =
+                        filterDocument(value.asDocument(), childPolicy, childVisible, subjectIds);
+                if (childVisible || !filtered.isEmpty()) {
+                    result.set(toJsonField(field.getKey(), filtered));
+                }
+            } else if (childVisible) {
+                result.set(toJsonField(field.getKey(), toJson(value)));
+            }
+        }
+        return result.build();
+    }
+
+    private static JsonField toJsonField(final String escapedKey, final JsonValue value) {
+        return JsonFactory.newField(JsonKey.of(KeyEscapeUtil.unescape(escapedKey)), value);
+    }
+
+    /**
+     * Converts the values written by {@code JsonToBson} back to JSON.
+     */
+    private static JsonValue toJson(final BsonValue value) {
+        return switch (value.getBsonType()) {
+            case DOCUMENT -> {
+                final JsonObjectBuilder builder = JsonObject.newBuilder();
+                value.asDocument().forEach((key, fieldValue) -> builder.set(toJsonField(key, toJson(fieldValue))));
+                yield builder.build();
+            }
+            case ARRAY -> {
+                final JsonArrayBuilder builder = JsonArray.newBuilder();
+                value.asArray().forEach(element -> builder.add(toJson(element)));
+                yield builder.build();
+            }
+            case STRING -> JsonValue.of(value.asString().getValue());
+            case BOOLEAN -> JsonValue.of(value.asBoolean().getValue());
+            case INT32 -> JsonValue.of(value.asInt32().getValue());
+            case INT64 -> JsonValue.of(value.asInt64().getValue());
+            case DOUBLE -> JsonValue.of(value.asDouble().getValue());
+            default -> JsonValue.nullLiteral();
+        };
+    }
+
+    @Nullable
+    private static BsonDocument getChildPolicy(@Nullable final BsonDocument policy, final String key) {
+        if (policy != null) {
+            final BsonValue child = policy.get(key);
+            if (child != null && child.isDocument()) {
+                return child.asDocument();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isVisible(@Nullable final BsonDocument policy, final boolean parentVisible,
+            final Collection<String> subjectIds) {
+
+        if (policy == null) {
+            return parentVisible;
+        } else if (containsAny(policy.get(PersistenceConstants.FIELD_REVOKED), subjectIds)) {
+            return false;
+        } else if (containsAny(policy.get(PersistenceConstants.FIELD_GRANTED), subjectIds)) {
+            return true;
+        } else {
+            return parentVisible;
+        }
+    }
+
+    private static boolean containsAny(@Nullable final BsonValue subjects, final Collection<String> subjectIds) {
+        if (subjects != null && subjects.isArray()) {
+            final BsonArray array = subjects.asArray();
+            for (final BsonValue subject : array) {
+                if (subject.isString() && subjectIds.contains(subject.asString().getValue())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
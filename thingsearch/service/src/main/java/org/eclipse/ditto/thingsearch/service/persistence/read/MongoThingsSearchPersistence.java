@@ -23,6 +23,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -35,6 +36,7 @@ import org.apache.pekko.japi.pf.PFBuilder;
 import org.apache.pekko.stream.SystemMaterializer;
 import org.apache.pekko.stream.javadsl.Source;
 import org.bson.BsonDocument;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
@@ -44,6 +46,7 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexInitializer;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.policies.api.PolicyTag;
 import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.rql.query.Query;
@@ -53,6 +56,7 @@ import org.eclipse.ditto.thingsearch.api.QueryTimeExceededException;
 import org.eclipse.ditto.thingsearch.api.SearchNamespaceReportResult;
 import org.eclipse.ditto.thingsearch.api.SearchNamespaceResultEntry;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchPersistenceConfig;
+import org.eclipse.ditto.thingsearch.service.common.model.IndexedThing;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
@@ -69,6 +73,7 @@ import org.mongodb.scala.MongoClient;
 import org.reactivestreams.Publisher;
 
 import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.CountOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Projections;
@@ -85,6 +90,9 @@ import scala.PartialFunction;
  */
 public final class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
+    private static final int ESTIMATED_COUNT_SAMPLE_SIZE = 1000;
+    private static final int ESTIMATED_COUNT_MIN_MATCHES = 100;
+
     private final MongoCollection<Document> collection;
     private final LoggingAdapter log;
 
@@ -199,6 +207,43 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
                 .log("count");
     }
 
+    /**
+     * Estimates the count by the share of matching documents in a random sample of the collection, scaled by the
+     * number of documents in the collection from its metadata. If the sample covers the whole collection or too few
+     * sampled documents match for a meaningful estimate, the exact count is computed instead.
+     */
+    @Override
+    public Source<Long, NotUsed> estimateCount(final Query query, final List<String> authorizationSubjectIds) {
+        checkNotNull(query, "query");
+
+        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        log.debug("estimateCount with query filter <{}>.", queryFilter);
+
+        final List<Bson> pipeline = List.of(
+                Aggregates.sample(ESTIMATED_COUNT_SAMPLE_SIZE),
+                Aggregates.match(queryFilter),
+                Aggregates.count(PersistenceConstants.FIELD_COUNT)
+        );
+        final Source<Long, NotUsed> matchesInSample = Source.fromPublisher(
+                        collection.aggregate(pipeline).maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS))
+                .map(document -> document.get(PersistenceConstants.FIELD_COUNT, Number.class).longValue())
+                .orElse(Source.single(0L));
+
+        return Source.fromPublisher(collection.estimatedDocumentCount())
+                .zip(matchesInSample)
+                .flatMapConcat(documentsAndMatches -> {
+                    final long documents = documentsAndMatches.first();
+                    final long matches = documentsAndMatches.second();
+                    if (documents <= ESTIMATED_COUNT_SAMPLE_SIZE || matches < ESTIMATED_COUNT_MIN_MATCHES) {
+                        return count(query, authorizationSubjectIds);
+                    } else {
+                        return Source.single(Math.round((double) matches * documents / ESTIMATED_COUNT_SAMPLE_SIZE));
+                    }
+                })
+                .mapError(handleMongoExecutionTimeExceededException())
+                .log("estimateCount");
+    }
+
     @Override
     public Source<Long, NotUsed> sudoCount(final Query query) {
         return count(query, null);
@@ -213,20 +258,44 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         final int limit = query.getLimit();
         final int limitPlusOne = limit + 1;
 
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime)
+        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime, projection)
                 .grouped(limitPlusOne)
                 .orElse(Source.single(Collections.emptyList()))
-                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions()))
+                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions(),
+                        MongoThingsSearchPersistence::toTimestampedThingId))
                 .mapError(handleMongoExecutionTimeExceededException())
                 .log("findAll");
     }
 
+    @Override
+    public Source<ResultList<IndexedThing>, NotUsed> findAllIndexed(final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces) {
+
+        checkNotNull(authorizationSubjectIds, "authorizationSubjectIds");
+        final int skip = query.getSkip();
+        final int limit = query.getLimit();
+        final int limitPlusOne = limit + 1;
+        final Set<String> subjectIds = Set.copyOf(authorizationSubjectIds);
+
+        final Bson projection = getIndexedThingProjection(query.getSortOptions());
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime, projection)
+                .grouped(limitPlusOne)
+                .orElse(Source.single(Collections.emptyList()))
+                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions(),
+                        doc -> toIndexedThing(doc, subjectIds)))
+                .mapError(handleMongoExecutionTimeExceededException())
+                .log("findAllIndexed");
+    }
+
     @Override
     public Source<ThingId, NotUsed> findAllUnlimited(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces) {
 
         final Integer limit = query.getLimit() == Integer.MAX_VALUE ? null : query.getLimit();
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null)
+        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null, projection)
                 .map(MongoThingsSearchPersistence::toThingId)
                 .idleTimeout(maxQueryTime);
     }
@@ -252,7 +321,8 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
     private Source<Document, NotUsed> findAllInternal(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces,
             @Nullable final Integer limit,
-            @Nullable final Duration maxQueryTime) {
+            @Nullable final Duration maxQueryTime,
+            final Bson projection) {
 
         checkNotNull(query, "query");
 
@@ -264,7 +334,6 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         final Bson sortOptions = getMongoSort(query);
 
         final int skip = query.getSkip();
-        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
         final FindPublisher<Document> findPublisher =
                 collection.find(queryFilter, Document.class)
                         .hint(hints.getHint(namespaces).orElse(null))
@@ -304,32 +373,33 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         return Source.fromPublisher(publisher).map(MongoThingsSearchPersistence::readAsMetadata);
     }
 
-    private ResultList<TimestampedThingId> toResultList(final List<Document> resultsPlus0ne, final int skip,
+    private <T> ResultList<T> toResultList(final List<Document> resultsPlus0ne, final int skip,
             final int limit,
-            final List<SortOption> sortOptions) {
+            final List<SortOption> sortOptions,
+            final Function<Document, T> toItem) {
 
         log.debug("Creating paged ResultList from parameters: resultsPlusOne=<{}>,skip={},limit={}",
                 resultsPlus0ne, skip, limit);
 
-        final ResultList<TimestampedThingId> pagedResultList;
+        final ResultList<T> pagedResultList;
         if (resultsPlus0ne.size() <= limit || limit <= 0) {
-            pagedResultList = new ResultListImpl<>(toTimestampedThingIds(resultsPlus0ne), ResultList.NO_NEXT_PAGE);
+            pagedResultList = new ResultListImpl<>(toItems(resultsPlus0ne, toItem), ResultList.NO_NEXT_PAGE);
         } else {
             // MongoDB returned limit + 1 items. However only <limit> items are of interest per page.
             final List<Document> results = resultsPlus0ne.subList(0, limit);
             final Document lastResult = results.get(limit - 1);
             final long nextPageOffset = (long) skip + limit;
             final JsonArray sortValues = GetSortBsonVisitor.sortValuesAsArray(lastResult, sortOptions);
-            pagedResultList = new ResultListImpl<>(toTimestampedThingIds(results), nextPageOffset, sortValues);
+            pagedResultList = new ResultListImpl<>(toItems(results, toItem), nextPageOffset, sortValues);
         }
 
         log.debug("Returning paged ResultList: {}", pagedResultList);
         return pagedResultList;
     }
 
-    private static List<TimestampedThingId> toTimestampedThingIds(final List<Document> docs) {
+    private static <T> List<T> toItems(final List<Document> docs, final Function<Document, T> toItem) {
         return docs.stream()
-                .map(MongoThingsSearchPersistence::toTimestampedThingId)
+                .map(toItem)
                 .toList();
     }
 
@@ -337,6 +407,35 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         return new TimestampedThingId(toThingId(doc), getModifiedTimestampOptional(doc));
     }
 
+    private static IndexedThing toIndexedThing(final Document doc, final Set<String> subjectIds) {
+        final var bsonDocument = doc.toBsonDocument(Document.class, MongoClient.DEFAULT_CODEC_REGISTRY());
+        final BsonValue thing = bsonDocument.get(PersistenceConstants.FIELD_THING);
+        final BsonValue policy = bsonDocument.get(PersistenceConstants.FIELD_POLICY);
+        final JsonObject readableThing = IndexedThingFilter.filter(
+                thing != null && thing.isDocument() ? thing.asDocument() : new BsonDocument(),
+                policy != null && policy.isDocument() ? policy.asDocument() : null,
+                subjectIds);
+        final long revision = Optional.ofNullable(doc.getLong(PersistenceConstants.FIELD_REVISION)).orElse(0L);
+        return new IndexedThing(toThingId(doc), revision, readableThing);
+    }
+
+    /**
+     * The whole indexed thing and evaluated policy are projected; sort keys inside the thing must not be projected
+     * additionally as MongoDB rejects projections of a path and of its sub-paths.
+     */
+    private static Bson getIndexedThingProjection(final List<SortOption> sortOptions) {
+        final Document projection = new Document();
+        final String thingPrefix = PersistenceConstants.FIELD_THING + PersistenceConstants.DOT;
+        GetSortBsonVisitor.projections(sortOptions).forEach((path, value) -> {
+            if (!path.equals(PersistenceConstants.FIELD_THING) && !path.startsWith(thingPrefix)) {
+                projection.append(path, value);
+            }
+        });
+        return projection.append(PersistenceConstants.FIELD_REVISION, true)
+                .append(PersistenceConstants.FIELD_THING, true)
+                .append(PersistenceConstants.FIELD_POLICY, true);
+    }
+
     private static ThingId toThingId(final Document doc) {
         return ThingId.of(doc.getString(PersistenceConstants.FIELD_ID));
     }
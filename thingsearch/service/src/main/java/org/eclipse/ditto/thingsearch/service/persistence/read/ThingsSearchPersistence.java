@@ -22,6 +22,7 @@ import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.rql.query.Query;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.thingsearch.api.SearchNamespaceReportResult;
+import org.eclipse.ditto.thingsearch.service.common.model.IndexedThing;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
@@ -61,6 +62,19 @@ public interface ThingsSearchPersistence {
      */
     Source<Long, NotUsed> count(Query query, List<String> authorizationSubjectIds);
 
+    /**
+     * Returns an estimate of the count of documents found by the given {@code query}, which may be cheaper to compute
+     * than the exact count. Falls back to the exact count by default.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @return an {@link Source} which emits the estimated count.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     */
+    default Source<Long, NotUsed> estimateCount(final Query query, final List<String> authorizationSubjectIds) {
+        return count(query, authorizationSubjectIds);
+    }
+
     /**
      * Returns the count of documents found by the given {@code query} regardless of visibility.
      *
@@ -82,6 +96,19 @@ public interface ThingsSearchPersistence {
     Source<ResultList<TimestampedThingId>, NotUsed> findAll(Query query, List<String> authorizationSubjectIds,
             @Nullable Set<String> namespaces);
 
+    /**
+     * Returns the things of all found documents as stored in the search index, restricted to the fields readable
+     * by the authorization subjects.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @return an {@link Source} which emits the indexed things.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     */
+    Source<ResultList<IndexedThing>, NotUsed> findAllIndexed(Query query, List<String> authorizationSubjectIds,
+            @Nullable Set<String> namespaces);
+
     /**
      * Stream the IDs for all found documents without result size limit.
      *
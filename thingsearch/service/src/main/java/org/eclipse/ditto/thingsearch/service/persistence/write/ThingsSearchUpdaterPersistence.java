@@ -34,4 +34,16 @@ public interface ThingsSearchUpdaterPersistence extends NamespacePersistenceOper
      */
     Source<PolicyReferenceTag, NotUsed> getPolicyReferenceTags(Map<PolicyId, Long> policyRevisions);
 
+    /**
+     * Sets the revision of a policy referenced by search index entries without re-indexing them.
+     * Only entries which were indexed with exactly the previous revision of the policy are updated.
+     * This is only correct if the previous and the new revision of the policy have the same READ grants.
+     *
+     * @param policyId the ID of the policy.
+     * @param previousRevision the revision of the policy the entries to update were indexed with.
+     * @param revision the new revision of the policy.
+     * @return a {@link Source} of the number of updated entries.
+     */
+    Source<Long, NotUsed> updatePolicyRevision(PolicyId policyId, long previousRevision, long revision);
+
 }
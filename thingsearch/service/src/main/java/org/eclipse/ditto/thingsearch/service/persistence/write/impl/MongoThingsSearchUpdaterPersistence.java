@@ -12,6 +12,9 @@
  */
 package org.eclipse.ditto.thingsearch.service.persistence.write.impl;
 
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.elemMatch;
+import static com.mongodb.client.model.Filters.eq;
 import static com.mongodb.client.model.Filters.in;
 import static com.mongodb.client.model.Filters.or;
 
@@ -28,6 +31,7 @@ import java.util.stream.Collectors;
 import org.bson.BsonDateTime;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
+import org.bson.BsonInt64;
 import org.bson.BsonString;
 import org.bson.Document;
 import org.bson.conversions.Bson;
@@ -41,6 +45,7 @@ import org.eclipse.ditto.thingsearch.service.persistence.write.ThingsSearchUpdat
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
 import org.reactivestreams.Publisher;
 
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.UpdateManyModel;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.WriteModel;
@@ -120,6 +125,33 @@ public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUp
                 });
     }
 
+    @Override
+    public Source<Long, NotUsed> updatePolicyRevision(final PolicyId policyId, final long previousRevision,
+            final long revision) {
+
+        final Bson thingPolicyFilter = and(
+                eq(PersistenceConstants.FIELD_POLICY_ID, policyId.toString()),
+                eq(PersistenceConstants.FIELD_POLICY_REVISION, previousRevision)
+        );
+        final Bson thingPolicyUpdate = new BsonDocument().append(AbstractWriteModel.SET,
+                new BsonDocument().append(PersistenceConstants.FIELD_POLICY_REVISION, new BsonInt64(revision)));
+        final Bson referencedPolicyFilter = elemMatch(PersistenceConstants.FIELD_REFERENCED_POLICIES, and(
+                eq(PersistenceConstants.FIELD_REFERENCED_POLICY_ID, policyId.toString()),
+                eq(PersistenceConstants.FIELD_REFERENCED_POLICY_REVISION, previousRevision)
+        ));
+        // the positional operator updates the first referenced policy matched by the elemMatch filter
+        final Bson referencedPolicyUpdate = new BsonDocument().append(AbstractWriteModel.SET,
+                new BsonDocument().append(PersistenceConstants.FIELD_REFERENCED_POLICIES + ".$." +
+                        PersistenceConstants.FIELD_REFERENCED_POLICY_REVISION, new BsonInt64(revision)));
+        final List<WriteModel<Document>> writeModels = List.of(
+                new UpdateManyModel<>(thingPolicyFilter, thingPolicyUpdate),
+                new UpdateManyModel<>(referencedPolicyFilter, referencedPolicyUpdate)
+        );
+
+        return Source.fromPublisher(collection.bulkWrite(writeModels, new BulkWriteOptions().ordered(false)))
+                .map(bulkWriteResult -> (long) bulkWriteResult.getModifiedCount());
+    }
+
     private Collection<PolicyId> referencedPolicyIds(final Document doc) {
         final Set<PolicyId> referencedPolicyIds = new HashSet<>();
 
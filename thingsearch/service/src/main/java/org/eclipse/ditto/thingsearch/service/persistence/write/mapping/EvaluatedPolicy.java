@@ -154,14 +154,14 @@ final class EvaluatedPolicy {
         return array;
     }
 
-    private static Set<String> getSubjects(final PolicyEntry entry) {
+    static Set<String> getSubjects(final PolicyEntry entry) {
         return entry.getSubjects()
                 .stream()
                 .map(subject -> subject.getId().toString())
                 .collect(Collectors.toSet());
     }
 
-    private static Map<JsonPointer, Boolean> getPaths(final Resources resources) {
+    static Map<JsonPointer, Boolean> getPaths(final Resources resources) {
         final Map<JsonPointer, Boolean> map = new HashMap<>();
         resources.stream()
                 .filter(resource -> PoliciesResourceType.THING.equals(resource.getResourceKey().getResourceType()))
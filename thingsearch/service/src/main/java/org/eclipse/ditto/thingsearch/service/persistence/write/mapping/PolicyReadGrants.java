@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.policies.model.ImportableType;
+import org.eclipse.ditto.policies.model.Label;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.PolicyRevision;
+
+/**
+ * The part of a policy which is relevant for the search index: the subjects of each entry together with the
+ * {@code thing} resources on which the entry grants or revokes {@code READ}.
+ * If the READ grants of two revisions of a policy are equal, the evaluated policies written into the search index
+ * ({@link EvaluatedPolicy}) are equal for every thing, so that the things do not need to be re-indexed.
+ */
+@Immutable
+public final class PolicyReadGrants {
+
+    private final long revision;
+    private final List<EntryReadGrants> entries;
+    private final JsonObject policyImports;
+
+    private PolicyReadGrants(final long revision, final List<EntryReadGrants> entries,
+            final JsonObject policyImports) {
+        this.revision = revision;
+        this.entries = entries;
+        this.policyImports = policyImports;
+    }
+
+    /**
+     * Extract the READ grants of a policy.
+     *
+     * @param policy the policy.
+     * @return the READ grants of the policy.
+     */
+    public static PolicyReadGrants of(final Policy policy) {
+        final List<EntryReadGrants> entries = new ArrayList<>();
+        for (final PolicyEntry entry : policy) {
+            final Map<JsonPointer, Boolean> paths = EvaluatedPolicy.getPaths(entry.getResources());
+            // entries without READ on thing resources do not contribute to the search index, e.g. WRITE-only entries
+            if (!paths.isEmpty()) {
+                entries.add(new EntryReadGrants(entry.getLabel(), EvaluatedPolicy.getSubjects(entry),
+                        entry.getImportableType(), paths));
+            }
+        }
+        final long revision = policy.getRevision().map(PolicyRevision::toLong).orElse(0L);
+        return new PolicyReadGrants(revision, List.copyOf(entries), policy.getPolicyImports().toJson());
+    }
+
+    /**
+     * @return the revision of the policy the READ grants were extracted from.
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Check whether another policy has the same READ grants as this one, regardless of their revisions.
+     * Changed policy imports are always regarded as a change of READ grants, since the imported entries are not
+     * known here.
+     *
+     * @param other the READ grants of the other policy.
+     * @return whether both policies grant and revoke READ on the same thing resources to the same subjects.
+     */
+    public boolean hasSameReadGrantsAs(final PolicyReadGrants other) {
+        return entries.equals(other.entries) && policyImports.equals(other.policyImports);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PolicyReadGrants that = (PolicyReadGrants) o;
+        return revision == that.revision && hasSameReadGrantsAs(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(revision, entries, policyImports);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "revision=" + revision +
+                ", entries=" + entries +
+                ", policyImports=" + policyImports +
+                "]";
+    }
+
+    private record EntryReadGrants(Label label, Set<String> subjects, ImportableType importableType,
+                                   Map<JsonPointer, Boolean> paths) {}
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.thingsearch.service.common.config.PersistenceStreamConfig;
+
+/**
+ * Limits the number of bulk writes in flight against the search index of one updater node.
+ * <p>
+ * The limit follows an AIMD scheme: it grows by one after as many successful writes as the current limit, as long as
+ * the writes complete within the target latency, and it is halved when a write fails or exceeds the target latency.
+ * The limit is decreased at most once per target latency interval, so that the writes which were in flight during
+ * one period of congestion do not collapse the limit repeatedly.
+ * </p>
+ */
+@ThreadSafe
+final class AdaptiveBulkWriteLimiter {
+
+    private static final String LIMIT_GAUGE = "wildcard_search_bulk_write_limit";
+    private static final String IN_FLIGHT_GAUGE = "wildcard_search_bulk_writes_in_flight";
+    private static final String LATENCY_GAUGE = "wildcard_search_bulk_write_latency_ms";
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final LongSupplier nanoClock;
+    private final Deque<CompletableFuture<Permit>> waiting;
+    private final Gauge limitGauge;
+    private final Gauge inFlightGauge;
+    private final Gauge latencyGauge;
+
+    private int limit;
+    private int inFlight;
+    private int successesSinceIncrease;
+    private long lastDecreaseNanos;
+    private double smoothedLatencyNanos;
+
+    AdaptiveBulkWriteLimiter(final int initialLimit, final int maxLimit, final Duration targetLatency,
+            final LongSupplier nanoClock) {
+
+        this.maxLimit = maxLimit;
+        targetLatencyNanos = targetLatency.toNanos();
+        this.nanoClock = nanoClock;
+        waiting = new ArrayDeque<>();
+        limitGauge = DittoMetrics.gauge(LIMIT_GAUGE);
+        inFlightGauge = DittoMetrics.gauge(IN_FLIGHT_GAUGE);
+        latencyGauge = DittoMetrics.gauge(LATENCY_GAUGE);
+        limit = Math.max(1, Math.min(initialLimit, maxLimit));
+        inFlight = 0;
+        successesSinceIncrease = 0;
+        lastDecreaseNanos = nanoClock.getAsLong() - targetLatencyNanos;
+        smoothedLatencyNanos = 0.0;
+        limitGauge.set((long) limit);
+        inFlightGauge.set(0L);
+    }
+
+    /**
+     * Create a limiter from the persistence stream config.
+     *
+     * @param config the persistence stream config.
+     * @return the limiter.
+     */
+    static AdaptiveBulkWriteLimiter of(final PersistenceStreamConfig config) {
+        return new AdaptiveBulkWriteLimiter(config.getParallelism(), config.getMaxParallelism(),
+                config.getTargetWriteLatency(), System::nanoTime);
+    }
+
+    /**
+     * Request a permit to execute one bulk write. The returned future completes as soon as the number of bulk writes
+     * in flight is below the current limit. Cancelling the future withdraws the request.
+     *
+     * @return future of the permit, which must be completed or cancelled after the bulk write.
+     */
+    CompletableFuture<Permit> acquire() {
+        final var future = new CompletableFuture<Permit>();
+        synchronized (this) {
+            waiting.add(future);
+        }
+        dispatch();
+        return future;
+    }
+
+    /**
+     * @return the current limit of bulk writes in flight.
+     */
+    synchronized int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return the number of bulk writes in flight.
+     */
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void dispatch() {
+        final List<CompletableFuture<Permit>> granted = new ArrayList<>();
+        synchronized (this) {
+            while (inFlight < limit && !waiting.isEmpty()) {
+                final var next = waiting.poll();
+                if (!next.isDone()) {
+                    ++inFlight;
+                    granted.add(next);
+                }
+            }
+            inFlightGauge.set((long) inFlight);
+        }
+        // complete futures outside the lock because completion runs the callbacks of the bulk writes
+        for (final var future : granted) {
+            final var permit = new Permit(nanoClock.getAsLong());
+            if (!future.complete(permit)) {
+                // the request was cancelled in the meantime
+                permit.cancel();
+            }
+        }
+    }
+
+    private void onCompleted(final long latencyNanos, final boolean failed) {
+        synchronized (this) {
+            --inFlight;
+            smoothedLatencyNanos = smoothedLatencyNanos == 0.0
+                    ? latencyNanos
+                    : (1 - LATENCY_SMOOTHING) * smoothedLatencyNanos + LATENCY_SMOOTHING * latencyNanos;
+            if (failed || latencyNanos > targetLatencyNanos) {
+                successesSinceIncrease = 0;
+                final long now = nanoClock.getAsLong();
+                if (now - lastDecreaseNanos >= targetLatencyNanos) {
+                    lastDecreaseNanos = now;
+                    limit = Math.max(1, (int) (limit * DECREASE_FACTOR));
+                }
+            } else if (++successesSinceIncrease >= limit) {
+                successesSinceIncrease = 0;
+                limit = Math.min(maxLimit, limit + 1);
+            }
+            limitGauge.set((long) limit);
+            latencyGauge.set((long) (smoothedLatencyNanos / 1_000_000));
+        }
+        dispatch();
+    }
+
+    private void onCancelled() {
+        synchronized (this) {
+            --inFlight;
+        }
+        dispatch();
+    }
+
+    /**
+     * Permit to execute one bulk write. Only the first call of {@link #complete(boolean)} or {@link #cancel()} has an
+     * effect.
+     */
+    final class Permit {
+
+        private final long startNanos;
+        private final AtomicBoolean released;
+
+        private Permit(final long startNanos) {
+            this.startNanos = startNanos;
+            released = new AtomicBoolean(false);
+        }
+
+        /**
+         * Release the permit after the bulk write finished and adjust the limit according to its outcome.
+         *
+         * @param failed whether the bulk write failed.
+         */
+        void complete(final boolean failed) {
+            if (released.compareAndSet(false, true)) {
+                onCompleted(nanoClock.getAsLong() - startNanos, failed);
+            }
+        }
+
+        /**
+         * Release the permit without adjusting the limit, e.g. because the bulk write was not executed.
+         */
+        void cancel() {
+            if (released.compareAndSet(false, true)) {
+                onCancelled();
+            }
+        }
+
+    }
+
+}
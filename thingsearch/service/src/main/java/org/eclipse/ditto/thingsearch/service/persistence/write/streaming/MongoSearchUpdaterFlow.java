@@ -15,6 +15,7 @@ package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.bson.BsonDocument;
@@ -57,6 +58,7 @@ final class MongoSearchUpdaterFlow {
             DittoLoggerFactory.getThreadSafeLogger(MongoSearchUpdaterFlow.class);
 
     private final MongoCollection<BsonDocument> collection;
+    private final AdaptiveBulkWriteLimiter limiter;
 
     private MongoSearchUpdaterFlow(final MongoCollection<BsonDocument> collection,
             final PersistenceStreamConfig persistenceConfig) {
@@ -64,6 +66,7 @@ final class MongoSearchUpdaterFlow {
         final var writeConcern = persistenceConfig.getWithAcknowledgementsWriteConcern();
         LOGGER.info("Update writeConcern=<{}>", writeConcern);
         this.collection = collection.withWriteConcern(writeConcern);
+        limiter = AdaptiveBulkWriteLimiter.of(persistenceConfig);
     }
 
     /**
@@ -84,6 +87,7 @@ final class MongoSearchUpdaterFlow {
 
     /**
      * Create a flow that performs the database operation described by a MongoWriteModel.
+     * The bulk writes of all flows created by this object share one adaptive limit of bulk writes in flight.
      *
      * @return The flow.
      */
@@ -117,6 +121,27 @@ final class MongoSearchUpdaterFlow {
             LOGGER.withCorrelationId(bulkWriteCorrelationId)
                     .trace("Executing BulkWrite <{}>", writeModels);
         }
+        final CompletableFuture<AdaptiveBulkWriteLimiter.Permit> permitFuture = limiter.acquire();
+        return Source.completionStage(permitFuture)
+                .flatMapConcat(permit -> executeBulkWrite(writeModels, bulkWriteCorrelationId)
+                        .map(resultAndErrors -> {
+                            permit.complete(resultAndErrors.getUnexpectedError().isPresent());
+                            return resultAndErrors;
+                        }))
+                .watchTermination((notUsed, done) -> {
+                    // release the permit if the stream is cancelled before the bulk write finished
+                    done.whenComplete((result, error) -> {
+                        if (!permitFuture.cancel(false)) {
+                            permitFuture.thenAccept(AdaptiveBulkWriteLimiter.Permit::cancel);
+                        }
+                    });
+                    return notUsed;
+                });
+    }
+
+    private Source<WriteResultAndErrors, NotUsed> executeBulkWrite(final Collection<MongoWriteModel> writeModels,
+            final String bulkWriteCorrelationId) {
+
         final var bulkWriteTimer = startBulkWriteTimer(writeModels);
         final var bsons = writeModels.stream().map(MongoWriteModel::getBson).toList();
         return Source.fromPublisher(collection.bulkWrite(bsons, new BulkWriteOptions().ordered(false)))
@@ -19,6 +19,7 @@ import java.util.function.Function;
 import org.eclipse.ditto.base.model.namespaces.NamespaceBlockedException;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.thingsearch.service.common.config.UpdaterConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.read.CountCache;
 import org.eclipse.ditto.thingsearch.service.updater.actors.ThingUpdater;
 
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -38,16 +39,19 @@ public final class SearchUpdaterStream {
     private final MongoSearchUpdaterFlow mongoSearchUpdaterFlow;
     private final BlockedNamespaces blockedNamespaces;
     private final SearchUpdateMapper searchUpdateMapper;
+    private final CountCache countCache;
 
     private SearchUpdaterStream(final EnforcementFlow enforcementFlow,
             final MongoSearchUpdaterFlow mongoSearchUpdaterFlow,
             final BlockedNamespaces blockedNamespaces,
-            final SearchUpdateMapper searchUpdateMapper) {
+            final SearchUpdateMapper searchUpdateMapper,
+            final CountCache countCache) {
 
         this.enforcementFlow = enforcementFlow;
         this.mongoSearchUpdaterFlow = mongoSearchUpdaterFlow;
         this.blockedNamespaces = blockedNamespaces;
         this.searchUpdateMapper = searchUpdateMapper;
+        this.countCache = countCache;
     }
 
     /**
@@ -77,7 +81,8 @@ public final class SearchUpdaterStream {
         final var mongoSearchUpdaterFlow =
                 MongoSearchUpdaterFlow.of(database, streamConfig.getPersistenceConfig());
 
-        return new SearchUpdaterStream(enforcementFlow, mongoSearchUpdaterFlow, blockedNamespaces, searchUpdateMapper);
+        return new SearchUpdaterStream(enforcementFlow, mongoSearchUpdaterFlow, blockedNamespaces, searchUpdateMapper,
+                CountCache.get(actorSystem));
     }
 
     /**
@@ -97,7 +102,8 @@ public final class SearchUpdaterStream {
                     if (optional.isPresent()) {
                         return Source.single(optional.get())
                                 .via(enforcementFlow.create(searchUpdateMapper))
-                                .via(mongoSearchUpdaterFlow.create());
+                                .via(mongoSearchUpdaterFlow.create())
+                                .wireTap(result -> countCache.invalidate(data.metadata().getThingId().getNamespace()));
                     } else {
                         return Source.single(asNamespaceBlockedException(data));
                     }
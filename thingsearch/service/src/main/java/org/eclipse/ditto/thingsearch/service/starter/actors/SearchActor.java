@@ -64,6 +64,7 @@ import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdap
 import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFieldSelectorProjection;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.policies.enforcement.config.DefaultEnforcementConfig;
@@ -72,6 +73,7 @@ import org.eclipse.ditto.policies.enforcement.pre.PreEnforcerProvider;
 import org.eclipse.ditto.rql.query.Query;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
 import org.eclipse.ditto.thingsearch.api.ThingsSearchConstants;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.StreamThings;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoCountThings;
@@ -84,9 +86,11 @@ import org.eclipse.ditto.thingsearch.model.signals.commands.query.CountThingsRes
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThingsResponse;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.ThingSearchQueryCommand;
+import org.eclipse.ditto.thingsearch.service.common.model.IndexedThing;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
 import org.eclipse.ditto.thingsearch.service.persistence.query.QueryParser;
+import org.eclipse.ditto.thingsearch.service.persistence.read.CountCache;
 import org.eclipse.ditto.thingsearch.service.persistence.read.ThingsSearchPersistence;
 
 import com.typesafe.config.Config;
@@ -104,6 +108,11 @@ import com.typesafe.config.Config;
  * <p>
  * The ThingsSearchPersistence returns only Thing IDs. Thus, to provide complete Thing information to the requester,
  * things have to be retrieved from Things Service via distributed pub/sub.
+ * <p>
+ * If index-served queries are enabled, queries with the header {@value ThingsSearchConstants#INDEX_SERVED_HEADER}
+ * are answered with the things stored in the search index instead, restricted to the fields readable by the
+ * requester. Such responses carry the revisions of the indexed things in the header
+ * {@value ThingsSearchConstants#INDEX_REVISIONS_HEADER}.
  */
 public final class SearchActor extends AbstractActorWithShutdownBehaviorAndRequestCounting {
 
@@ -118,6 +127,8 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
     private static final String QUERY_PARSING_SEGMENT_NAME = "query_parsing";
     private static final String DATABASE_ACCESS_SEGMENT_NAME = "database_access";
     private static final String QUERY_TYPE_TAG = "query_type";
+    private static final String INDEX_SERVED_QUERY_TYPE = "index_served_query";
+    private static final String PAGING_TAG = "paging";
     private static final String API_VERSION_TAG = "api_version";
 
     private static final Map<String, ThreadSafeDittoLogger> NAMESPACE_INSPECTION_LOGGERS = new HashMap<>();
@@ -131,15 +142,19 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
     private final PreEnforcerProvider preEnforcer;
     private final SignalTransformer signalTransformer;
     private final ActorRef pubSubMediator;
+    private final boolean indexServedQueriesEnabled;
+    private final CountCache countCache;
 
     @SuppressWarnings("unused")
     private SearchActor(final QueryParser queryParser, final ThingsSearchPersistence searchPersistence,
-            final ActorRef pubSubMediator) {
+            final ActorRef pubSubMediator, final boolean indexServedQueriesEnabled) {
 
         this.queryParser = queryParser;
         this.searchPersistence = searchPersistence;
         this.pubSubMediator = pubSubMediator;
+        this.indexServedQueriesEnabled = indexServedQueriesEnabled;
         final var system = getSystem();
+        countCache = CountCache.get(system);
         final Config config = system.settings().config();
         final var dittoExtensionsConfig = ScopedConfig.dittoExtension(config);
         preEnforcer = PreEnforcerProvider.get(system, dittoExtensionsConfig);
@@ -166,7 +181,24 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
     static Props props(final QueryParser queryFactory, final ThingsSearchPersistence searchPersistence,
             final ActorRef pubSubMediator) {
 
-        return Props.create(SearchActor.class, queryFactory, searchPersistence, pubSubMediator)
+        return props(queryFactory, searchPersistence, pubSubMediator, false);
+    }
+
+    /**
+     * Creates Pekko configuration object Props for this SearchActor.
+     *
+     * @param queryFactory factory of query objects.
+     * @param searchPersistence the {@link org.eclipse.ditto.thingsearch.service.persistence.read.ThingsSearchPersistence}
+     * to use in order to execute queries.
+     * @param pubSubMediator the Pekko pub-sub mediator.
+     * @param indexServedQueriesEnabled whether queries may request to be answered from the search index.
+     * @return the Pekko configuration Props object.
+     */
+    static Props props(final QueryParser queryFactory, final ThingsSearchPersistence searchPersistence,
+            final ActorRef pubSubMediator, final boolean indexServedQueriesEnabled) {
+
+        return Props.create(SearchActor.class, queryFactory, searchPersistence, pubSubMediator,
+                        indexServedQueriesEnabled)
                 .withDispatcher(SEARCH_DISPATCHER_ID);
     }
 
@@ -313,9 +345,7 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                                     DittoJsonException.wrapJsonRuntimeException(query, countCommand.getDittoHeaders(),
                                             (theQuery, headers) -> isSudo
                                                     ? searchPersistence.sudoCount(theQuery)
-                                                    : searchPersistence.count(theQuery,
-                                                    headers.getAuthorizationContext()
-                                                            .getAuthorizationSubjectIds())
+                                                    : countThings((CountThings) countCommand, theQuery)
                                     );
 
                             return processSearchPersistenceResult(countResultSource, dittoHeaders)
@@ -335,6 +365,18 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         return Patterns.pipe(replyFuture, getContext().dispatcher()).to(sender).future();
     }
 
+    private Source<Long, NotUsed> countThings(final CountThings countThings, final Query query) {
+        final var dittoHeaders = countThings.getDittoHeaders();
+        final List<String> subjectIds = dittoHeaders.getAuthorizationContext().getAuthorizationSubjectIds();
+        // estimates are only requested for whole namespaces, where exact counts are the most expensive
+        final boolean estimated = countThings.getFilter().isEmpty() &&
+                Boolean.parseBoolean(dittoHeaders.get(ThingsSearchConstants.ESTIMATED_COUNT_HEADER));
+        return countCache.count(query, countThings.getNamespaces().orElse(null), subjectIds, estimated,
+                () -> estimated
+                        ? searchPersistence.estimateCount(query, subjectIds)
+                        : searchPersistence.count(query, subjectIds));
+    }
+
     private CompletionStage<Object> performStream(final StreamThings streamThings, final ActorRef sender,
             final ThreadSafeDittoLoggingAdapter l) {
 
@@ -452,7 +494,8 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         final ThreadSafeDittoLoggingAdapter l = log.withCorrelationId(queryThings);
         l.debug("Starting to process QueryThings command: {}", queryThings);
 
-        final var queryType = "query";
+        final boolean indexServed = isIndexServed(queryThings);
+        final var queryType = indexServed ? INDEX_SERVED_QUERY_TYPE : "query";
         final var searchTimer =
                 startNewTimer(queryThings.getImplementedSchemaVersion(), queryType, queryThings);
         final var queryParsingTimer = searchTimer.startNewSegment(QUERY_PARSING_SEGMENT_NAME);
@@ -474,6 +517,7 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                                                 queryParser.getCriteriaFactory());
 
                                 stopTimer(queryParsingTimer);
+                                searchTimer.tag(PAGING_TAG, getPaging(cursor.isPresent(), query));
                                 final StartedTimer databaseAccessTimer =
                                         searchTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
 
@@ -481,6 +525,20 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                                         command.getDittoHeaders()
                                                 .getAuthorizationContext()
                                                 .getAuthorizationSubjectIds();
+                                if (indexServed) {
+                                    final Source<ResultList<IndexedThing>, NotUsed> findAllIndexedResult =
+                                            DittoJsonException.wrapJsonRuntimeException(query, dittoHeaders,
+                                                    (theQuery, headers) -> searchPersistence.findAllIndexed(theQuery,
+                                                            subjectIds, namespaces));
+
+                                    return processSearchPersistenceResult(findAllIndexedResult, dittoHeaders)
+                                            .via(Flow.fromFunction(result -> {
+                                                stopTimer(databaseAccessTimer);
+                                                return result;
+                                            }))
+                                            .map(things -> toIndexServedQueryThingsResponse(command,
+                                                    cursor.orElse(null), things));
+                                }
                                 final Source<ResultList<TimestampedThingId>, NotUsed> findAllResult =
                                         DittoJsonException.wrapJsonRuntimeException(query, dittoHeaders, (theQuery, headers) ->
                                             searchPersistence.findAll(theQuery, subjectIds, namespaces)
@@ -508,7 +566,11 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
             @Nullable ThingsSearchCursor cursor,
             final ResultList<TimestampedThingId> thingIds) {
 
-        final var dittoHeaders = queryThings.getDittoHeaders();
+        // the gateway must look up these things: never pass back revisions a client may have put into the query
+        final var dittoHeaders = queryThings.getDittoHeaders()
+                .toBuilder()
+                .removeHeader(ThingsSearchConstants.INDEX_REVISIONS_HEADER)
+                .build();
         if (thingIds.isEmpty()) {
             return QueryThingsResponse.of(SearchModelFactory.emptySearchResult(), dittoHeaders);
         } else {
@@ -523,6 +585,62 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         }
     }
 
+    /**
+     * Distinguish the latency of first pages, of pages continuing a cursor and of pages skipping results.
+     */
+    private static String getPaging(final boolean hasCursor, final Query query) {
+        if (hasCursor) {
+            return "cursor";
+        } else if (query.getSkip() > 0) {
+            return "offset";
+        } else {
+            return "first";
+        }
+    }
+
+    private boolean isIndexServed(final QueryThings queryThings) {
+        return indexServedQueriesEnabled && Boolean.parseBoolean(
+                queryThings.getDittoHeaders().get(ThingsSearchConstants.INDEX_SERVED_HEADER));
+    }
+
+    private static QueryThingsResponse toIndexServedQueryThingsResponse(final QueryThings queryThings,
+            @Nullable final ThingsSearchCursor cursor,
+            final ResultList<IndexedThing> things) {
+
+        final JsonArray revisions = things.stream()
+                .map(thing -> JsonValue.of(thing.revision()))
+                .collect(JsonCollectors.valuesToArray());
+        final var dittoHeaders = queryThings.getDittoHeaders()
+                .toBuilder()
+                .putHeader(ThingsSearchConstants.INDEX_REVISIONS_HEADER, revisions.toString())
+                .build();
+        if (things.isEmpty()) {
+            return QueryThingsResponse.of(SearchModelFactory.emptySearchResult(), dittoHeaders);
+        } else {
+            // the things are complete: the gateway does not look them up in the things service
+            final JsonFieldSelectorProjection projection = queryThings.getFields()
+                    .map(ThingsModelFactory::getFeatureIdWildcardProjection)
+                    .orElse(null);
+            final JsonArray items = things.stream()
+                    .map(IndexedThing::thing)
+                    .map(thing -> projection != null ? projection.apply(thing) : withoutSpecialFields(thing))
+                    .collect(JsonCollectors.valuesToArray());
+            final var searchResults =
+                    SearchModelFactory.newSearchResult(items, things.nextPageOffset());
+            final var processedResults =
+                    ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, things);
+
+            return QueryThingsResponse.of(processedResults, dittoHeaders);
+        }
+    }
+
+    private static JsonObject withoutSpecialFields(final JsonObject thing) {
+        // like retrieved things, index-served things contain special fields such as "_revision" only on request
+        return thing.stream()
+                .filter(field -> !field.getKeyName().startsWith("_"))
+                .collect(JsonCollectors.fieldsToObject());
+    }
+
     private static JsonArray getItems(final ResultList<TimestampedThingId> thingIds) {
         return thingIds.stream()
                 .map(TimestampedThingId::thingId)
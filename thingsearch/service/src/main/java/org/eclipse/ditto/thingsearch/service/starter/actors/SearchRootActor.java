@@ -135,7 +135,8 @@ public final class SearchRootActor extends DittoRootActor {
     private ActorRef initializeSearchActor(final SearchConfig searchConfig,
             final ThingsSearchPersistence thingsSearchPersistence, final ActorRef pubSubMediator) {
         final var queryParser = getQueryParser(searchConfig, getContext().getSystem());
-        final var props = SearchActor.props(queryParser, thingsSearchPersistence, pubSubMediator);
+        final var props = SearchActor.props(queryParser, thingsSearchPersistence, pubSubMediator,
+                searchConfig.isIndexServedQueriesEnabled());
         return startChildActor(SearchActor.ACTOR_NAME, props);
     }
 
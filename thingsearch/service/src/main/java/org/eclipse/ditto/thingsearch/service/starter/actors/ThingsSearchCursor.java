@@ -670,6 +670,10 @@ final class ThingsSearchCursor {
 
     /**
      * Filter out results before a cursor's position.
+     * The filter is a disjunction over the sort dimensions: the i-th disjunct requires equality with the cursor's
+     * position on all preceding dimensions and a following value on the i-th dimension. Each disjunct is a range on
+     * an index with the sort dimensions as prefix, and a redundant lower bound on the first dimension limits the
+     * range as a whole, so that a page is found without skipping the documents of previous pages.
      *
      * @param sortOptions sort options of the parsed query.
      * @param previousValues values of the fields in the sort options of a cursor marking its position.
@@ -680,36 +684,32 @@ final class ThingsSearchCursor {
             final JsonArray previousValues,
             final CriteriaFactory cf) {
 
-        if (sortOptions.size() != previousValues.getSize()) {
+        if (sortOptions.size() != previousValues.getSize() || sortOptions.isEmpty()) {
             // this should not happen.
             throw invalidCursorBuilder().build();
         }
-        return getNextPageFilterImpl(sortOptions, previousValues, cf, 0);
-    }
-
-    /**
-     * Recursive implementation of {@code getNextPageFilter}.
-     *
-     * @param sortOptionEntries sort options of the parsed query.
-     * @param previousValues values of the fields in the sort options of a cursor marking its position.
-     * @param cf a criteria factory.
-     * @param i dimension to start generating criteria for.
-     * @return criteria starting from the ith dimension.
-     */
-    private static Criteria getNextPageFilterImpl(
-            final List<org.eclipse.ditto.rql.query.SortOption> sortOptionEntries,
-            final JsonArray previousValues,
-            final CriteriaFactory cf, final int i) {
-
-        final org.eclipse.ditto.rql.query.SortOption sortOption = sortOptionEntries.get(i);
-        final JsonValue previousValue = previousValues.get(i).orElse(JsonFactory.nullLiteral());
-        final Criteria ithDimensionCriteria = getDimensionLtCriteria(sortOption, previousValue, cf);
-        if (i + 1 >= sortOptionEntries.size()) {
-            return ithDimensionCriteria;
-        } else {
-            final Criteria nextDimension = getNextPageFilterImpl(sortOptionEntries, previousValues, cf, i + 1);
-            return getNextDimensionCriteria(ithDimensionCriteria, nextDimension, sortOption, previousValue, cf);
+        final List<Criteria> disjuncts = new ArrayList<>(sortOptions.size());
+        final List<Criteria> precedingDimensionsEq = new ArrayList<>(sortOptions.size());
+        for (int i = 0; i < sortOptions.size(); ++i) {
+            final org.eclipse.ditto.rql.query.SortOption sortOption = sortOptions.get(i);
+            final JsonValue previousValue = previousValues.get(i).orElse(JsonFactory.nullLiteral());
+            final Criteria ithDimensionLt = getDimensionLtCriteria(sortOption, previousValue, cf);
+            if (precedingDimensionsEq.isEmpty()) {
+                disjuncts.add(ithDimensionLt);
+            } else {
+                final List<Criteria> conjuncts = new ArrayList<>(precedingDimensionsEq);
+                conjuncts.add(ithDimensionLt);
+                disjuncts.add(cf.and(conjuncts));
+            }
+            precedingDimensionsEq.add(getDimensionEqCriteria(sortOption, previousValue, cf));
+        }
+        if (disjuncts.size() == 1) {
+            return disjuncts.get(0);
         }
+        final Criteria nextPageFilter = cf.or(disjuncts);
+        return getFirstDimensionBound(sortOptions.get(0), previousValues.get(0).orElse(JsonFactory.nullLiteral()), cf)
+                .map(bound -> cf.and(Arrays.asList(bound, nextPageFilter)))
+                .orElse(nextPageFilter);
     }
 
     /**
@@ -748,32 +748,45 @@ final class ThingsSearchCursor {
     }
 
     /**
-     * Generate a criteria to filter for things that precede the cursor's position due to this dimension or subsequent
-     * dimensions taking null values into account.
+     * Generate a criteria to filter for things whose value on a field equals the cursor's position taking null values
+     * into account.
      *
-     * @param thisDimensionLt criteria to filter for things prior to the cursor's position on this dimension.
-     * @param nextDimension criteria to filter for things prior to the cursor's position on subsequent dimensions.
      * @param sortOption parsed sort option for this dimension.
      * @param previousValue value on this dimension marking the position of the cursor.
      * @param cf a criteria factory.
-     * @return criteria to filter for things that precede the cursor's position due to this dimension or subsequent
-     * dimensions.
+     * @return criteria to filter for things at the cursor's position on this dimension.
      */
-    private static Criteria getNextDimensionCriteria(final Criteria thisDimensionLt, final Criteria nextDimension,
-            final org.eclipse.ditto.rql.query.SortOption sortOption, final JsonValue previousValue,
-            final CriteriaFactory cf) {
+    private static Criteria getDimensionEqCriteria(final org.eclipse.ditto.rql.query.SortOption sortOption,
+            final JsonValue previousValue, final CriteriaFactory cf) {
 
-        final Criteria thisDimensionEq;
         if (previousValue.isNull()) {
-            thisDimensionEq = cf.or(Arrays.asList(
+            return cf.or(Arrays.asList(
                     cf.nor(cf.existsCriteria(sortOption.getSortExpression())),
                     cf.fieldCriteria(sortOption.getSortExpression(), cf.eq(null))
             ));
         } else {
-            thisDimensionEq =
-                    cf.fieldCriteria(sortOption.getSortExpression(), cf.eq(JsonToBson.convert(previousValue)));
+            return cf.fieldCriteria(sortOption.getSortExpression(), cf.eq(JsonToBson.convert(previousValue)));
+        }
+    }
+
+    /**
+     * Generate a range criteria on the first dimension implied by the next-page filter, if the range can be
+     * expressed without a disjunction.
+     *
+     * @param sortOption parsed sort option for the first dimension.
+     * @param previousValue value on the first dimension marking the position of the cursor.
+     * @param cf a criteria factory.
+     * @return the bound on the first dimension, if any.
+     */
+    private static Optional<Criteria> getFirstDimensionBound(final org.eclipse.ditto.rql.query.SortOption sortOption,
+            final JsonValue previousValue, final CriteriaFactory cf) {
+
+        if (sortOption.getSortDirection() == SortDirection.ASC && !previousValue.isNull()) {
+            return Optional.of(
+                    cf.fieldCriteria(sortOption.getSortExpression(), cf.ge(JsonToBson.convert(previousValue))));
+        } else {
+            return Optional.empty();
         }
-        return cf.or(Arrays.asList(thisDimensionLt, cf.and(Arrays.asList(thisDimensionEq, nextDimension))));
     }
 
     /**
@@ -17,6 +17,8 @@ import static org.apache.pekko.cluster.pubsub.DistributedPubSubMediator.Subscrib
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -24,22 +26,28 @@ import javax.annotation.Nullable;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.internal.utils.namespaces.BlockNamespaceBehavior;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.policies.api.PolicyTag;
+import org.eclipse.ditto.policies.enforcement.PolicyCacheLoader;
 import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.thingsearch.api.PolicyReferenceTag;
 import org.eclipse.ditto.thingsearch.service.common.config.DittoSearchConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.UpdaterConfig;
 import org.eclipse.ditto.thingsearch.service.persistence.write.ThingsSearchUpdaterPersistence;
 
 import org.apache.pekko.Done;
 import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.AbstractActor;
 import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.actor.CoordinatedShutdown;
 import org.apache.pekko.actor.Props;
 import org.apache.pekko.actor.Status;
 import org.apache.pekko.event.DiagnosticLoggingAdapter;
+import org.apache.pekko.japi.Pair;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.apache.pekko.pattern.Patterns;
 import org.apache.pekko.stream.KillSwitch;
@@ -51,10 +59,17 @@ import org.apache.pekko.stream.javadsl.Source;
 /**
  * Actor that forwards policy tags (emitted by PolicyPersistence after each policy modification) to updater
  * shard region with buffering.
+ * If enabled, modifications which do not change the READ grants of a policy are not forwarded; instead only the
+ * policy revision of the affected search index entries is updated.
  */
 final class PolicyModificationForwarder extends AbstractActor {
 
     private static final Duration ASK_SELF_TIMEOUT = Duration.ofSeconds(10L);
+    private static final int READ_GRANTS_DIFF_PARALLELISM = 16;
+
+    private static final Counter READ_GRANTS_UNCHANGED_COUNT =
+            DittoMetrics.counter("wildcard_search_policy_read_grants_unchanged");
+    private static final Counter REINDEX_AVOIDED_COUNT = DittoMetrics.counter("wildcard_search_policy_reindex_avoided");
 
     static final String ACTOR_NAME = "policyModificationForwarder";
 
@@ -65,13 +80,16 @@ final class PolicyModificationForwarder extends AbstractActor {
     private final ThingsSearchUpdaterPersistence persistence;
     private final BlockNamespaceBehavior blockNamespaceBehavior;
     private final Duration interval;
+    private final ActorSystem actorSystem;
+    @Nullable private final PolicyReadGrantsDiff readGrantsDiff;
 
-    private Map<PolicyId, Long> policyRevisions = new HashMap<>();
+    private Map<PolicyId, PolicyReadGrantsDiff.PolicyRevisions> policyRevisions = new HashMap<>();
     @Nullable private KillSwitch killSwitch;
 
     @SuppressWarnings("unused")
     private PolicyModificationForwarder(final ActorRef pubSubMediator,
             final ActorRef thingsUpdater,
+            final ActorRef policiesShardRegion,
             final BlockedNamespaces blockedNamespaces,
             final ThingsSearchUpdaterPersistence persistence) {
 
@@ -79,8 +97,20 @@ final class PolicyModificationForwarder extends AbstractActor {
         this.thingsUpdater = thingsUpdater;
         this.persistence = persistence;
         blockNamespaceBehavior = BlockNamespaceBehavior.of(blockedNamespaces);
-        interval = DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
-                .getUpdaterConfig().getStreamConfig().getWriteInterval();
+        actorSystem = getContext().getSystem();
+        final UpdaterConfig updaterConfig =
+                DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(actorSystem.settings().config()))
+                        .getUpdaterConfig();
+        interval = updaterConfig.getStreamConfig().getWriteInterval();
+        if (updaterConfig.isPolicyReadGrantsDiffEnabled()) {
+            final PolicyCacheLoader policyLoader =
+                    PolicyCacheLoader.getNewInstance(updaterConfig.getStreamConfig().getAskWithRetryConfig(),
+                            actorSystem.getScheduler(), policiesShardRegion);
+            readGrantsDiff = PolicyReadGrantsDiff.of(policyLoader, getContext().getDispatcher(),
+                    updaterConfig.getPolicyReadGrantsDiffMaxPolicies());
+        } else {
+            readGrantsDiff = null;
+        }
 
         pubSubMediator.tell(DistPubSubAccess.subscribeViaGroup(PolicyTag.PUB_SUB_TOPIC_MODIFIED, ACTOR_NAME, getSelf()),
                 getSelf());
@@ -93,16 +123,18 @@ final class PolicyModificationForwarder extends AbstractActor {
      *
      * @param pubSubMediator Pekko pub-sub-mediator
      * @param thingsUpdater thingsUpdater
+     * @param policiesShardRegion the policies shard region to load modified policies from.
      * @param blockedNamespaces blocked namespaces.
      * @return the Props object.
      */
     public static Props props(final ActorRef pubSubMediator,
             final ActorRef thingsUpdater,
+            final ActorRef policiesShardRegion,
             final BlockedNamespaces blockedNamespaces,
             final ThingsSearchUpdaterPersistence persistence) {
 
-        return Props.create(PolicyModificationForwarder.class, pubSubMediator, thingsUpdater, blockedNamespaces,
-                persistence);
+        return Props.create(PolicyModificationForwarder.class, pubSubMediator, thingsUpdater, policiesShardRegion,
+                blockedNamespaces, persistence);
     }
 
     @Override
@@ -154,7 +186,8 @@ final class PolicyModificationForwarder extends AbstractActor {
         final PolicyTag policyTag = wrappedPolicyTag.delegate();
         final PolicyId policyId = policyTag.getEntityId();
         final long revision = policyTag.getRevision();
-        policyRevisions.merge(policyId, revision, Long::max);
+        policyRevisions.merge(policyId, PolicyReadGrantsDiff.PolicyRevisions.of(revision),
+                PolicyReadGrantsDiff.PolicyRevisions::merge);
     }
 
     /**
@@ -172,7 +205,7 @@ final class PolicyModificationForwarder extends AbstractActor {
 
     @SuppressWarnings("unused")
     private void dumpPolicyRevisions(final Control trigger) {
-        final Map<PolicyId, Long> dump = policyRevisions;
+        final Map<PolicyId, PolicyReadGrantsDiff.PolicyRevisions> dump = policyRevisions;
         policyRevisions = new HashMap<>();
         getSender().tell(dump, getSelf());
     }
@@ -221,11 +254,23 @@ final class PolicyModificationForwarder extends AbstractActor {
     @SuppressWarnings("unchecked")
     private Source<PolicyReferenceTag, NotUsed> mapDumpResult(final Object dumpResult) {
         if (dumpResult instanceof Map) {
-            final Map<PolicyId, Long> map = (Map<PolicyId, Long>) dumpResult;
+            final Map<PolicyId, PolicyReadGrantsDiff.PolicyRevisions> map =
+                    (Map<PolicyId, PolicyReadGrantsDiff.PolicyRevisions>) dumpResult;
             if (map.isEmpty()) {
                 return Source.empty();
+            } else if (readGrantsDiff == null) {
+                return persistence.getPolicyReferenceTags(toLastRevisions(map));
             } else {
-                return persistence.getPolicyReferenceTags(map);
+                return Source.from(map.entrySet())
+                        .mapAsync(READ_GRANTS_DIFF_PARALLELISM, entry -> diffReadGrants(entry.getKey(),
+                                entry.getValue()))
+                        .fold(new HashMap<PolicyId, Long>(), (changedPolicies, diff) -> {
+                            if (diff.second()) {
+                                changedPolicies.put(diff.first().getEntityId(), diff.first().getRevision());
+                            }
+                            return changedPolicies;
+                        })
+                        .flatMapConcat(this::getPolicyReferenceTags);
             }
         } else {
             if (dumpResult instanceof Throwable throwable) {
@@ -237,6 +282,54 @@ final class PolicyModificationForwarder extends AbstractActor {
         }
     }
 
+    private Source<PolicyReferenceTag, NotUsed> getPolicyReferenceTags(final Map<PolicyId, Long> changedPolicies) {
+        if (changedPolicies.isEmpty()) {
+            return Source.empty();
+        } else {
+            return persistence.getPolicyReferenceTags(changedPolicies);
+        }
+    }
+
+    private static Map<PolicyId, Long> toLastRevisions(
+            final Map<PolicyId, PolicyReadGrantsDiff.PolicyRevisions> policyRevisions) {
+
+        final Map<PolicyId, Long> lastRevisions = new HashMap<>();
+        policyRevisions.forEach((policyId, revisions) -> lastRevisions.put(policyId, revisions.last()));
+        return lastRevisions;
+    }
+
+    /**
+     * Compare the READ grants of a modified policy with the ones of its previous revision. If they are unchanged,
+     * the policy revision of the search index entries is updated directly.
+     *
+     * @return the policy tag together with whether the things referencing it have to be re-indexed.
+     */
+    private CompletionStage<Pair<PolicyTag, Boolean>> diffReadGrants(final PolicyId policyId,
+            final PolicyReadGrantsDiff.PolicyRevisions revisions) {
+
+        final PolicyTag policyTag = PolicyTag.of(policyId, revisions.last());
+        return readGrantsDiff.getUnchangedPreviousRevision(policyId, revisions)
+                .thenCompose(previousRevision -> {
+                    if (previousRevision == null) {
+                        return CompletableFuture.completedFuture(Pair.create(policyTag, true));
+                    }
+                    READ_GRANTS_UNCHANGED_COUNT.increment();
+                    return persistence.updatePolicyRevision(policyId, previousRevision, policyTag.getRevision())
+                            .runWith(Sink.fold(0L, Long::sum), actorSystem)
+                            .handle((updatedEntries, error) -> {
+                                if (error != null) {
+                                    log.warning("Failed to update revision of <{}> in search index, re-indexing " +
+                                            "referencing things instead: {}", policyTag, error);
+                                    return Pair.create(policyTag, true);
+                                }
+                                log.debug("READ grants of <{}> unchanged, updated policy revision of <{}> entries",
+                                        policyTag, updatedEntries);
+                                REINDEX_AVOIDED_COUNT.increment(updatedEntries);
+                                return Pair.create(policyTag, false);
+                            });
+                });
+    }
+
     private enum Control {
         DUMP_POLICY_REVISIONS,
         STREAM_COMPLETED
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.PolicyReadGrants;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Remembers the READ grants of the last seen revision of policies in order to decide whether a policy modification
+ * requires the things referencing the policy to be re-indexed.
+ * <p>
+ * Policy tags are distributed among all search updater nodes and several revisions of one policy may be merged into
+ * one forwarding interval. Therefore a modification is only regarded as unchanged if it is exactly one revision
+ * ahead of the remembered one, so that no other modification could have slipped in between.
+ * </p>
+ */
+final class PolicyReadGrantsDiff {
+
+    private final AsyncCacheLoader<PolicyId, Entry<Policy>> policyLoader;
+    private final Executor executor;
+    private final Cache<PolicyId, PolicyReadGrants> lastReadGrants;
+
+    private PolicyReadGrantsDiff(final AsyncCacheLoader<PolicyId, Entry<Policy>> policyLoader,
+            final Executor executor,
+            final int maxPolicies) {
+
+        this.policyLoader = policyLoader;
+        this.executor = executor;
+        lastReadGrants = Caffeine.newBuilder().maximumSize(maxPolicies).build();
+    }
+
+    /**
+     * Create a policy READ grants diff.
+     *
+     * @param policyLoader loader of the current revision of policies.
+     * @param executor the executor to load policies with.
+     * @param maxPolicies how many policies to remember the READ grants of.
+     * @return the diff.
+     */
+    static PolicyReadGrantsDiff of(final AsyncCacheLoader<PolicyId, Entry<Policy>> policyLoader,
+            final Executor executor,
+            final int maxPolicies) {
+
+        return new PolicyReadGrantsDiff(policyLoader, executor, maxPolicies);
+    }
+
+    /**
+     * Load the current revision of a modified policy and compare its READ grants with the ones of the previous
+     * revision.
+     *
+     * @param policyId the ID of the modified policy.
+     * @param revisions the revisions of the policy modifications which were received since the last check.
+     * @return a future with the previous revision if the READ grants did not change, or with {@code null} if the
+     * things referencing the policy have to be re-indexed.
+     */
+    CompletionStage<Long> getUnchangedPreviousRevision(final PolicyId policyId, final PolicyRevisions revisions) {
+        try {
+            return policyLoader.asyncLoad(policyId, executor)
+                    .thenApply(entry -> compareWithLastReadGrants(policyId, entry, revisions))
+                    .exceptionally(error -> {
+                        lastReadGrants.invalidate(policyId);
+                        return null;
+                    });
+        } catch (final Exception e) {
+            lastReadGrants.invalidate(policyId);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    @Nullable
+    private Long compareWithLastReadGrants(final PolicyId policyId, final Entry<Policy> entry,
+            final PolicyRevisions revisions) {
+
+        if (!entry.exists()) {
+            lastReadGrants.invalidate(policyId);
+            return null;
+        }
+        final PolicyReadGrants readGrants = PolicyReadGrants.of(entry.getValueOrThrow());
+        final PolicyReadGrants previousReadGrants = lastReadGrants.asMap().put(policyId, readGrants);
+        if (previousReadGrants != null &&
+                revisions.isSingleRevision() &&
+                readGrants.getRevision() == revisions.last() &&
+                previousReadGrants.getRevision() == revisions.last() - 1 &&
+                previousReadGrants.hasSameReadGrantsAs(readGrants)) {
+            return previousReadGrants.getRevision();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * The revisions of one policy received in one forwarding interval.
+     *
+     * @param first the smallest received revision.
+     * @param last the largest received revision.
+     * @param count how many modifications were received.
+     */
+    record PolicyRevisions(long first, long last, int count) {
+
+        static PolicyRevisions of(final long revision) {
+            return new PolicyRevisions(revision, revision, 1);
+        }
+
+        PolicyRevisions merge(final PolicyRevisions other) {
+            return new PolicyRevisions(Math.min(first, other.first), Math.max(last, other.last),
+                    count + other.count);
+        }
+
+        boolean isSingleRevision() {
+            return count == 1;
+        }
+
+    }
+
+}
@@ -113,7 +113,7 @@ public final class SearchUpdaterRootActor extends AbstractActor {
 
         // start policy modification forwarder
         startChildActor(PolicyModificationForwarder.ACTOR_NAME, PolicyModificationForwarder.props(
-                pubSubMediator, thingsUpdaterActor, blockedNamespaces, searchUpdaterPersistence));
+                pubSubMediator, thingsUpdaterActor, policiesShard, blockedNamespaces, searchUpdaterPersistence));
 
         // start background sync actor as cluster singleton
         final var backgroundSyncActorProps = BackgroundSyncActor.props(
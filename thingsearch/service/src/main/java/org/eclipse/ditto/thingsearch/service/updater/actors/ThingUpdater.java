@@ -85,6 +85,9 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
     private static final Counter INCORRECT_PATCH_UPDATE_COUNT =
             DittoMetrics.counter("wildcard_search_incorrect_patch_updates");
     private static final Counter UPDATE_FAILURE_COUNT = DittoMetrics.counter("wildcard_search_update_failures");
+    private static final Counter WRITES_ISSUED_COUNT = DittoMetrics.counter("wildcard_search_updater_writes_issued");
+    private static final Counter EVENTS_COALESCED_COUNT =
+            DittoMetrics.counter("wildcard_search_updater_events_coalesced");
 
     private static final Duration BLOCK_NAMESPACE_SHUTDOWN_DELAY = Duration.ofMinutes(2);
 
@@ -105,10 +108,12 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
     private final Flow<Data, Result, NotUsed> flow;
     private final Materializer materializer;
     private final Duration writeInterval;
+    private final Duration minWriteInterval;
     private final Duration thingDeletionTimeout;
     private final Duration maxIdleTime;
     private ExponentialBackOff backOff;
     private boolean shuttingDown = false;
+    private long lastWriteNanos;
     @Nullable private UniqueKillSwitch killSwitch;
 
     /**
@@ -163,6 +168,8 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
         this.flow = flow;
         materializer = Materializer.createMaterializer(getContext());
         writeInterval = config.getUpdaterConfig().getStreamConfig().getWriteInterval();
+        minWriteInterval = config.getUpdaterConfig().getStreamConfig().getMinWriteInterval();
+        lastWriteNanos = System.nanoTime() - minWriteInterval.toNanos();
         backOff = ExponentialBackOff.initial(
                 config.getUpdaterConfig().getStreamConfig().getPersistenceConfig().getExponentialBackOffConfig());
         thingDeletionTimeout = config.getUpdaterConfig().getStreamConfig().getThingDeletionTimeout();
@@ -357,10 +364,18 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
 
     private FSM.State<State, Data> tick(final Control tick, final Data data) {
         if (shouldPersist(data.metadata(), data.lastWriteModel().getMetadata())) {
+            final var remainingMinWriteInterval = getRemainingMinWriteInterval();
+            if (!shuttingDown && !remainingMinWriteInterval.isZero()) {
+                // coalesce the events arriving until the minimum write interval elapsed into the next write
+                startSingleTimer(Control.TICK.name(), Control.TICK, remainingMinWriteInterval);
+                return stay();
+            }
             if (log.isDebugEnabled()) {
                 log.debug("Persisting <{}>", data.metadata().export());
             }
             ConsistencyLag.startS2WaitForDemand(data.metadata());
+            countWrite(data.metadata());
+            lastWriteNanos = System.nanoTime();
 
             final var pair = Source.single(data)
                     .viaMat(KillSwitches.single(), Keep.right())
@@ -400,6 +415,19 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
         }
     }
 
+    private Duration getRemainingMinWriteInterval() {
+        final long remainingNanos = minWriteInterval.toNanos() - (System.nanoTime() - lastWriteNanos);
+        return remainingNanos > 0 ? Duration.ofNanos(remainingNanos) : Duration.ZERO;
+    }
+
+    private static void countWrite(final Metadata metadata) {
+        WRITES_ISSUED_COUNT.increment();
+        final int events = metadata.getEvents().size();
+        if (events > 1) {
+            EVENTS_COALESCED_COUNT.increment(events - 1L);
+        }
+    }
+
     private boolean shouldPersist(final Metadata metadata, final Metadata lastMetadata) {
         return !metadata.equals(lastMetadata.export()) || lastMetadata.getThingRevision() <= 0;
     }
@@ -80,6 +80,14 @@ public final class DefaultPersistenceStreamConfigTest {
                 .as(PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getConfigPath())
                 .isEqualTo(WriteConcern.valueOf(
                         (String) PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getDefaultValue()));
+
+        softly.assertThat(underTest.getMaxParallelism())
+                .as(PersistenceStreamConfigValue.MAX_PARALLELISM.getConfigPath())
+                .isEqualTo(PersistenceStreamConfigValue.MAX_PARALLELISM.getDefaultValue());
+
+        softly.assertThat(underTest.getTargetWriteLatency())
+                .as(PersistenceStreamConfigValue.TARGET_WRITE_LATENCY.getConfigPath())
+                .isEqualTo(PersistenceStreamConfigValue.TARGET_WRITE_LATENCY.getDefaultValue());
     }
 
     @Test
@@ -102,6 +110,14 @@ public final class DefaultPersistenceStreamConfigTest {
         softly.assertThat(underTest.getWithAcknowledgementsWriteConcern())
                 .as(PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getConfigPath())
                 .isEqualTo(WriteConcern.MAJORITY);
+
+        softly.assertThat(underTest.getMaxParallelism())
+                .as(PersistenceStreamConfigValue.MAX_PARALLELISM.getConfigPath())
+                .isEqualTo(70);
+
+        softly.assertThat(underTest.getTargetWriteLatency())
+                .as(PersistenceStreamConfigValue.TARGET_WRITE_LATENCY.getConfigPath())
+                .isEqualTo(Duration.ofMillis(71L));
     }
 
 }
@@ -71,6 +71,10 @@ public final class DefaultStreamConfigTest {
                 .as(StreamConfigValue.WRITE_INTERVAL.getConfigPath())
                 .isEqualTo(StreamConfigValue.WRITE_INTERVAL.getDefaultValue());
 
+        softly.assertThat(underTest.getMinWriteInterval())
+                .as(StreamConfigValue.MIN_WRITE_INTERVAL.getConfigPath())
+                .isEqualTo(StreamConfigValue.MIN_WRITE_INTERVAL.getDefaultValue());
+
         softly.assertThat(underTest.getThingDeletionTimeout())
                 .as(StreamConfigValue.THING_DELETION_TIMEOUT.getConfigPath())
                 .isEqualTo(StreamConfigValue.THING_DELETION_TIMEOUT.getDefaultValue());
@@ -88,6 +92,10 @@ public final class DefaultStreamConfigTest {
                 .as(StreamConfigValue.WRITE_INTERVAL.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(2));
 
+        softly.assertThat(underTest.getMinWriteInterval())
+                .as(StreamConfigValue.MIN_WRITE_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(4));
+
         softly.assertThat(underTest.getThingDeletionTimeout())
                 .as(StreamConfigValue.THING_DELETION_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(3));
@@ -75,6 +75,14 @@ public final class DefaultUpdaterConfigTest {
         softly.assertThat(underTest.isForceUpdateAfterStartEnabled())
                 .as(UpdaterConfigValue.FORCE_UPDATE_AFTER_START_ENABLED.getConfigPath())
                 .isEqualTo(UpdaterConfigValue.FORCE_UPDATE_AFTER_START_ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.isPolicyReadGrantsDiffEnabled())
+                .as(UpdaterConfigValue.POLICY_READ_GRANTS_DIFF_ENABLED.getConfigPath())
+                .isEqualTo(UpdaterConfigValue.POLICY_READ_GRANTS_DIFF_ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getPolicyReadGrantsDiffMaxPolicies())
+                .as(UpdaterConfigValue.POLICY_READ_GRANTS_DIFF_MAX_POLICIES.getConfigPath())
+                .isEqualTo(UpdaterConfigValue.POLICY_READ_GRANTS_DIFF_MAX_POLICIES.getDefaultValue());
     }
 
     @Test
@@ -102,6 +110,14 @@ public final class DefaultUpdaterConfigTest {
         softly.assertThat(underTest.isForceUpdateAfterStartEnabled())
                 .as(UpdaterConfigValue.FORCE_UPDATE_AFTER_START_ENABLED.getConfigPath())
                 .isEqualTo(false);
+
+        softly.assertThat(underTest.isPolicyReadGrantsDiffEnabled())
+                .as(UpdaterConfigValue.POLICY_READ_GRANTS_DIFF_ENABLED.getConfigPath())
+                .isFalse();
+
+        softly.assertThat(underTest.getPolicyReadGrantsDiffMaxPolicies())
+                .as(UpdaterConfigValue.POLICY_READ_GRANTS_DIFF_MAX_POLICIES.getConfigPath())
+                .isEqualTo(42);
     }
 
 }
@@ -28,4 +28,11 @@ public class KeyEscapeUtilTest {
         assertSame("escapingNotNecessary", KeyEscapeUtil.escape("escapingNotNecessary"));
         assertEquals("~1org~2eclipse~2~0ditto", KeyEscapeUtil.escape("$org.eclipse.~ditto"));
     }
+
+    @Test
+    public void unescape() {
+        assertSame("escapingNotNecessary", KeyEscapeUtil.unescape("escapingNotNecessary"));
+        assertEquals("$org.eclipse.~ditto", KeyEscapeUtil.unescape("~1org~2eclipse~2~0ditto"));
+        assertEquals("~1~2", KeyEscapeUtil.unescape(KeyEscapeUtil.escape("~1~2")));
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.rql.query.expression.FieldExpressionUtil;
+import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultCountCacheConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link CountCache}.
+ */
+public final class CountCacheTest {
+
+    private static final List<String> SUBJECTS = List.of("nginx:user");
+    private static final Set<String> NAMESPACES = Set.of("ns1");
+    private static final String FILTER = "and(eq(attributes/manufacturer,\"ACME\"),gt(attributes/serial,100))";
+    private static final QueryFilterCriteriaFactory CRITERIA_FACTORY = QueryFilterCriteriaFactory.of(
+            ThingsFieldExpressionFactory.of(Map.of(FieldExpressionUtil.FIELD_NAME_THING_ID,
+                    FieldExpressionUtil.FIELD_ID)),
+            RqlPredicateParser.getInstance());
+
+    private ActorSystem actorSystem;
+    private Query query;
+    private AtomicLong counts;
+
+    @Before
+    public void init() {
+        actorSystem = ActorSystem.create();
+        query = parseQuery(FILTER);
+        counts = new AtomicLong();
+    }
+
+    @After
+    public void stop() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+            actorSystem = null;
+        }
+    }
+
+    @Test
+    public void cachedCountIsReused() {
+        final CountCache underTest = newCountCache(true);
+
+        assertThat(count(underTest, NAMESPACES, SUBJECTS)).isEqualTo(1L);
+        assertThat(count(underTest, NAMESPACES, SUBJECTS)).isEqualTo(1L);
+        assertThat(counts).hasValue(1L);
+    }
+
+    @Test
+    public void cachedCountIsReusedForSeparatelyParsedEqualQuery() {
+        final CountCache underTest = newCountCache(true);
+
+        assertThat(count(underTest, NAMESPACES, SUBJECTS)).isEqualTo(1L);
+        query = parseQuery(FILTER);
+        assertThat(count(underTest, NAMESPACES, SUBJECTS)).isEqualTo(1L);
+        assertThat(counts).hasValue(1L);
+    }
+
+    @Test
+    public void countsOfOtherQueriesAreNotReused() {
+        final CountCache underTest = newCountCache(true);
+
+        assertThat(count(underTest, NAMESPACES, SUBJECTS)).isEqualTo(1L);
+        query = parseQuery("and(eq(attributes/manufacturer,\"ACME\"),gt(attributes/serial,200))");
+        assertThat(count(underTest, NAMESPACES, SUBJECTS)).isEqualTo(2L);
+    }
+
+    @Test
+    public void countsOfOtherSubjectsAreNotReused() {
+        final CountCache underTest = newCountCache(true);
+
+        assertThat(count(underTest, NAMESPACES, SUBJECTS)).isEqualTo(1L);
+        assertThat(count(underTest, NAMESPACES, List.of("nginx:other"))).isEqualTo(2L);
+    }
+
+    @Test
+    public void updateInCountedNamespaceDiscardsCachedCount() {
+        final CountCache underTest = newCountCache(true);
+
+        assertThat(count(underTest, NAMESPACES, SUBJECTS)).isEqualTo(1L);
+        underTest.invalidate("ns1");
+        assertThat(count(underTest, NAMESPACES, SUBJECTS)).isEqualTo(2L);
+    }
+
+    @Test
+    public void updateInOtherNamespaceKeepsCachedCount() {
+        final CountCache underTest = newCountCache(true);
+
+        assertThat(count(underTest, NAMESPACES, SUBJECTS)).isEqualTo(1L);
+        underTest.invalidate("ns2");
+        assertThat(count(underTest, NAMESPACES, SUBJECTS)).isEqualTo(1L);
+    }
+
+    @Test
+    public void updateInAnyNamespaceDiscardsCachedCountOfAllNamespaces() {
+        final CountCache underTest = newCountCache(true);
+
+        assertThat(count(underTest, null, SUBJECTS)).isEqualTo(1L);
+        underTest.invalidate("ns2");
+        assertThat(count(underTest, null, SUBJECTS)).isEqualTo(2L);
+    }
+
+    @Test
+    public void disabledCacheAlwaysCounts() {
+        final CountCache underTest = newCountCache(false);
+
+        assertThat(count(underTest, NAMESPACES, SUBJECTS)).isEqualTo(1L);
+        assertThat(count(underTest, NAMESPACES, SUBJECTS)).isEqualTo(2L);
+    }
+
+    private long count(final CountCache underTest, final Set<String> namespaces, final List<String> subjects) {
+        return underTest.count(query, namespaces, subjects, false, () -> Source.single(counts.incrementAndGet()))
+                .runWith(Sink.head(), actorSystem)
+                .toCompletableFuture()
+                .join();
+    }
+
+    private static Query parseQuery(final String filter) {
+        final Query parsedQuery = Mockito.mock(Query.class);
+        Mockito.when(parsedQuery.getCriteria())
+                .thenReturn(CRITERIA_FACTORY.filterCriteria(filter, DittoHeaders.empty()));
+        return parsedQuery;
+    }
+
+    private static CountCache newCountCache(final boolean enabled) {
+        return new CountCache(DefaultCountCacheConfig.of(
+                ConfigFactory.parseString("count-cache.enabled = " + enabled)));
+    }
+
+}
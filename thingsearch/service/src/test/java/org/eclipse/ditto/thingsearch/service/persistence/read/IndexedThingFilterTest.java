@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.JsonToBson;
+import org.junit.Test;
+
+/**
+ * Tests {@link IndexedThingFilter}.
+ */
+public final class IndexedThingFilterTest {
+
+    private static final BsonDocument THING = DittoBsonJson.getInstance().parse(JsonObject.of("""
+            {
+              "thingId": "ditto:thing",
+              "policyId": "ditto:policy",
+              "attributes": { "location": "kitchen", "serial": 42 },
+              "features": {
+                "lamp": { "properties": { "on": true, "secret": "xyz" } },
+                "fan": { "properties": { "speed": 3 } }
+              }
+            }
+            """));
+
+    private static final BsonDocument POLICY = permissions(Set.of("nginx:admin"), Set.of())
+            .append("attributes", permissions(Set.of(), Set.of()))
+            .append("features", new BsonDocument()
+                    .append("lamp", permissions(Set.of("nginx:reader"), Set.of())
+                            .append("properties", new BsonDocument()
+                                    .append("secret", permissions(Set.of(), Set.of("nginx:reader", "nginx:admin"))))));
+
+    @Test
+    public void rootGrantExposesAllButRevokedFields() {
+        final JsonObject result = IndexedThingFilter.filter(THING, POLICY, Set.of("nginx:admin"));
+
+        assertThat(result).isEqualTo(JsonObject.of("""
+                {
+                  "thingId": "ditto:thing",
+                  "policyId": "ditto:policy",
+                  "attributes": { "location": "kitchen", "serial": 42 },
+                  "features": {
+                    "lamp": { "properties": { "on": true } },
+                    "fan": { "properties": { "speed": 3 } }
+                  }
+                }
+                """));
+    }
+
+    @Test
+    public void partialGrantExposesOnlyGrantedSubtree() {
+        final JsonObject result = IndexedThingFilter.filter(THING, POLICY, Set.of("nginx:reader"));
+
+        assertThat(result).isEqualTo(JsonObject.of("""
+                { "features": { "lamp": { "properties": { "on": true } } } }
+                """));
+    }
+
+    @Test
+    public void escapedKeysAreUnescaped() {
+        final JsonObject thing = JsonObject.of("""
+                {
+                  "thingId": "ditto:thing",
+                  "attributes": { "$price": 1.5, "a.b": [ { "~c.d": null } ] },
+                  "features": { "lamp.1": { "properties": { "on": true } } }
+                }
+                """);
+        final BsonDocument indexedThing = JsonToBson.convert(thing).asDocument();
+
+        final JsonObject result = IndexedThingFilter.filter(indexedThing, POLICY, Set.of("nginx:admin"));
+
+        assertThat(indexedThing.getDocument("attributes").containsKey("~1price")).isTrue();
+        assertThat(result).isEqualTo(thing);
+    }
+
+    @Test
+    public void unknownSubjectSeesNothing() {
+        assertThat(IndexedThingFilter.filter(THING, POLICY, Set.of("nginx:other"))).isEmpty();
+    }
+
+    @Test
+    public void missingPolicyExposesNothing() {
+        assertThat(IndexedThingFilter.filter(THING, null, Set.of("nginx:admin"))).isEmpty();
+    }
+
+    private static BsonDocument permissions(final Set<String> granted, final Set<String> revoked) {
+        return new BsonDocument()
+                .append(PersistenceConstants.FIELD_GRANTED, toBsonArray(granted))
+                .append(PersistenceConstants.FIELD_REVOKED, toBsonArray(revoked));
+    }
+
+    private static BsonArray toBsonArray(final Set<String> subjects) {
+        final BsonArray array = new BsonArray();
+        subjects.forEach(subject -> array.add(new BsonString(subject)));
+        return array;
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.ditto.policies.model.EffectedPermissions;
+import org.eclipse.ditto.policies.model.ImportableType;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.PolicyImport;
+import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.policies.model.SubjectIssuer;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.junit.Test;
+
+/**
+ * Tests {@link PolicyReadGrants}.
+ */
+public final class PolicyReadGrantsTest {
+
+    private static final Policy POLICY = PoliciesModelFactory.newPolicy("""
+            {
+              "policyId": "ditto:policy",
+              "_revision": 3,
+              "entries": {
+                "OWNER": {
+                  "subjects": { "nginx:admin": { "type": "admin" } },
+                  "resources": {
+                    "thing:/": { "grant": ["READ", "WRITE"], "revoke": [] },
+                    "policy:/": { "grant": ["READ", "WRITE"], "revoke": [] }
+                  }
+                },
+                "WRITER": {
+                  "subjects": { "nginx:writer": { "type": "user" } },
+                  "resources": { "thing:/attributes": { "grant": ["WRITE"], "revoke": [] } }
+                },
+                "READER": {
+                  "subjects": { "nginx:reader": { "type": "user" } },
+                  "resources": {
+                    "thing:/features": { "grant": ["READ"], "revoke": [] },
+                    "thing:/features/secret": { "grant": [], "revoke": ["READ"] }
+                  }
+                }
+              }
+            }
+            """);
+
+    private static final Subject SUBJECT = Subject.newInstance(SubjectIssuer.newInstance("nginx"), "other",
+            SubjectType.newInstance("user"));
+
+    @Test
+    public void revisionIsExtracted() {
+        assertThat(PolicyReadGrants.of(POLICY).getRevision()).isEqualTo(3L);
+    }
+
+    @Test
+    public void writeOnlySubjectDoesNotChangeReadGrants() {
+        final Policy modified = POLICY.setSubjectFor("WRITER", SUBJECT);
+
+        assertThat(PolicyReadGrants.of(POLICY).hasSameReadGrantsAs(PolicyReadGrants.of(modified))).isTrue();
+    }
+
+    @Test
+    public void writeOnlyEntryDoesNotChangeReadGrants() {
+        final Policy modified = POLICY.setEntry(PoliciesModelFactory.newPolicyEntry("NEW_WRITER", List.of(SUBJECT),
+                List.of(PoliciesModelFactory.newResource(PoliciesResourceType.THING, "/features",
+                        EffectedPermissions.newInstance(List.of("WRITE"), List.of())))));
+
+        assertThat(PolicyReadGrants.of(POLICY).hasSameReadGrantsAs(PolicyReadGrants.of(modified))).isTrue();
+    }
+
+    @Test
+    public void policyResourceDoesNotChangeReadGrants() {
+        final Policy modified = POLICY.setResourceFor("READER",
+                PoliciesModelFactory.newResource(PoliciesResourceType.POLICY, "/",
+                        EffectedPermissions.newInstance(List.of("READ"), List.of())));
+
+        assertThat(PolicyReadGrants.of(POLICY).hasSameReadGrantsAs(PolicyReadGrants.of(modified))).isTrue();
+    }
+
+    @Test
+    public void readSubjectChangesReadGrants() {
+        final Policy modified = POLICY.setSubjectFor("READER", SUBJECT);
+
+        assertThat(PolicyReadGrants.of(POLICY).hasSameReadGrantsAs(PolicyReadGrants.of(modified))).isFalse();
+    }
+
+    @Test
+    public void revokedReadChangesReadGrants() {
+        final Policy modified = POLICY.setResourceFor("READER",
+                PoliciesModelFactory.newResource(PoliciesResourceType.THING, "/features/public",
+                        EffectedPermissions.newInstance(List.of(), List.of("READ"))));
+
+        assertThat(PolicyReadGrants.of(POLICY).hasSameReadGrantsAs(PolicyReadGrants.of(modified))).isFalse();
+    }
+
+    @Test
+    public void importableTypeChangesReadGrants() {
+        final Policy modified = POLICY.setImportableFor("READER", ImportableType.NEVER);
+
+        assertThat(PolicyReadGrants.of(POLICY).hasSameReadGrantsAs(PolicyReadGrants.of(modified))).isFalse();
+    }
+
+    @Test
+    public void policyImportChangesReadGrants() {
+        final Policy modified = POLICY.toBuilder()
+                .setPolicyImport(PolicyImport.newInstance(PolicyId.of("ditto:imported"), null))
+                .build();
+
+        assertThat(PolicyReadGrants.of(POLICY).hasSameReadGrantsAs(PolicyReadGrants.of(modified))).isFalse();
+    }
+
+}
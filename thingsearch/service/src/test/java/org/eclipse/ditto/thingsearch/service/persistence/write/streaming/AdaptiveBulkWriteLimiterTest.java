@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link AdaptiveBulkWriteLimiter}.
+ */
+public final class AdaptiveBulkWriteLimiterTest {
+
+    private static final Duration TARGET_LATENCY = Duration.ofMillis(100L);
+
+    private AtomicLong clock;
+    private AdaptiveBulkWriteLimiter underTest;
+
+    @Before
+    public void setUp() {
+        clock = new AtomicLong();
+        underTest = new AdaptiveBulkWriteLimiter(2, 4, TARGET_LATENCY, clock::get);
+    }
+
+    @Test
+    public void permitsAreGrantedUpToTheLimit() {
+        final var first = underTest.acquire();
+        final var second = underTest.acquire();
+        final var third = underTest.acquire();
+
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        assertThat(third).isNotDone();
+        assertThat(underTest.getInFlight()).isEqualTo(2);
+
+        first.join().complete(false);
+
+        assertThat(third).isCompleted();
+        assertThat(underTest.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    public void limitIncreasesAdditivelyForFastWrites() {
+        completeWrite(10L, false);
+        assertThat(underTest.getLimit()).isEqualTo(2);
+        completeWrite(10L, false);
+        assertThat(underTest.getLimit()).isEqualTo(3);
+
+        for (int i = 0; i < 100; ++i) {
+            completeWrite(10L, false);
+        }
+        assertThat(underTest.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    public void limitDecreasesMultiplicativelyForSlowOrFailedWrites() {
+        underTest = new AdaptiveBulkWriteLimiter(4, 4, TARGET_LATENCY, clock::get);
+
+        completeWrite(TARGET_LATENCY.toMillis() + 1, false);
+        assertThat(underTest.getLimit()).isEqualTo(2);
+
+        completeWrite(TARGET_LATENCY.toMillis(), true);
+        assertThat(underTest.getLimit()).isEqualTo(1);
+
+        completeWrite(TARGET_LATENCY.toMillis() + 1, true);
+        assertThat(underTest.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    public void limitDecreasesOncePerTargetLatency() {
+        underTest = new AdaptiveBulkWriteLimiter(4, 4, TARGET_LATENCY, clock::get);
+        final var first = underTest.acquire().join();
+        final var second = underTest.acquire().join();
+
+        clock.addAndGet(TARGET_LATENCY.toNanos() * 2);
+        first.complete(false);
+        second.complete(false);
+
+        assertThat(underTest.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void cancelledRequestsDoNotHoldPermits() {
+        underTest = new AdaptiveBulkWriteLimiter(1, 1, TARGET_LATENCY, clock::get);
+        final var first = underTest.acquire().join();
+        final CompletableFuture<AdaptiveBulkWriteLimiter.Permit> second = underTest.acquire();
+        final CompletableFuture<AdaptiveBulkWriteLimiter.Permit> third = underTest.acquire();
+
+        second.cancel(false);
+        first.cancel();
+        first.complete(true);
+
+        assertThat(third).isCompleted();
+        assertThat(underTest.getInFlight()).isEqualTo(1);
+        assertThat(underTest.getLimit()).isEqualTo(1);
+    }
+
+    private void completeWrite(final long latencyMillis, final boolean failed) {
+        final var permit = underTest.acquire().join();
+        clock.addAndGet(Duration.ofMillis(latencyMillis).toNanos());
+        permit.complete(failed);
+    }
+
+}
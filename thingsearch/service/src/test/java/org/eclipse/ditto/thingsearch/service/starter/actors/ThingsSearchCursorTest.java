@@ -146,6 +146,36 @@ public final class ThingsSearchCursorTest {
         }
     }
 
+    @Test
+    public void cursorForSeveralSortDimensionsBoundsFirstDimension() {
+        final var config = ConfigFactory.load("actors-test");
+        final ActorSystem actorSystem = ActorSystem.create("cursorForSeveralSortDimensions", config);
+        try {
+            final var json = JsonObject.of("{\n" +
+                    "  \"S\": \"sort(+attributes/a,+attributes/b,+thingId)\",\n" +
+                    "  \"V\": [1,2,\"x:1\"]\n" +
+                    "}");
+
+            final var underTest = ThingsSearchCursor.fromJson(json);
+
+            final var command =
+                    ThingsSearchCursor.adjust(Optional.of(underTest), QueryThings.of(DittoHeaders.empty()));
+            final var searchConfig = DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(config));
+            final var parser = SearchRootActor.getQueryParser(searchConfig, actorSystem);
+            final Query query = parser.parse(command).toCompletableFuture().join();
+            final Query result = ThingsSearchCursor.adjust(Optional.of(underTest), query, parser.getCriteriaFactory());
+            final var bson = CreateBsonVisitor.sudoApply(result.getCriteria())
+                    .toBsonDocument(Document.class, MongoClient.DEFAULT_CODEC_REGISTRY());
+            final String bsonJson = bson.toJson().replaceAll("\\s", "");
+            assertThat(bsonJson)
+                    .contains("{\"t.attributes.a\":{\"$gte\":1}}")
+                    .contains("{\"t.attributes.a\":{\"$gt\":1}}")
+                    .contains("{\"t.attributes.b\":{\"$gt\":2}}");
+        } finally {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
     private static ThingsSearchCursor randomCursor() {
         return new ThingsSearchCursor(
                 new HashSet<>(Arrays.asList(UUID.randomUUID().toString(), UUID.randomUUID().toString())),
@@ -72,6 +72,7 @@ import org.eclipse.ditto.thingsearch.api.UpdateReason;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoUpdateThing;
 import org.eclipse.ditto.thingsearch.service.common.config.BackgroundSyncConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.DefaultBackgroundSyncConfig;
+import org.eclipse.ditto.thingsearch.service.common.model.IndexedThing;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
 import org.eclipse.ditto.thingsearch.service.persistence.read.ThingsSearchPersistence;
@@ -483,6 +484,13 @@ public final class BackgroundSyncActorTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public Source<ResultList<IndexedThing>, NotUsed> findAllIndexed(final Query query,
+                final List<String> authorizationSubjectIds,
+                @Nullable final Set<String> namespaces) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public Source<ThingId, NotUsed> findAllUnlimited(final Query query, final List<String> authorizationSubjectIds,
                 @Nullable final Set<String> namespaces) {
@@ -100,6 +100,17 @@ public final class ThingUpdaterTest {
                       }
                     """)));
 
+    private static final SearchConfig SEARCH_CONFIG_WITH_MIN_WRITE_INTERVAL =
+            DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(ConfigFactory.parseString("""
+                      ditto {
+                        search {
+                            updater.stream.write-interval = 1ms
+                            updater.stream.min-write-interval = 3s
+                        }
+                        mongodb.uri = "mongodb://localhost:27017/test"
+                      }
+                    """)));
+
     private static final ThingId THING_ID = ThingId.of("thing:id");
     private static final long REVISION = 1234L;
 
@@ -443,6 +454,40 @@ public final class ThingUpdaterTest {
         }};
     }
 
+    @Test
+    public void coalesceEventsWithinMinWriteInterval() {
+        new TestKit(system) {{
+            // GIVEN: the first event after recovery is persisted without delay
+            final Props props = ThingUpdater.props(flow, id -> Source.single(getThingWriteModel()),
+                    SEARCH_CONFIG_WITH_MIN_WRITE_INTERVAL, getTestActor());
+            final var event1 = AttributeModified.of(THING_ID, JsonPointer.of("x"), JsonValue.of(6), REVISION + 1, null,
+                    DittoHeaders.empty(), null);
+            final var event2 = AttributeModified.of(THING_ID, JsonPointer.of("x"), JsonValue.of(7), REVISION + 2, null,
+                    DittoHeaders.empty(), null);
+            final var event3 = AttributeModified.of(THING_ID, JsonPointer.of("x"), JsonValue.of(8), REVISION + 3, null,
+                    DittoHeaders.empty(), null);
+            final ActorRef underTest = watch(childActorOf(props, ACTOR_NAME));
+            underTest.tell(event1, ActorRef.noSender());
+            inletProbe.ensureSubscription();
+            inletProbe.request(16);
+            final var data1 = inletProbe.expectNext();
+            assertThat(data1.metadata().export()).isEqualTo(Metadata.of(THING_ID, REVISION + 1, null, null, Set.of(), null));
+            outletProbe.ensureSubscription();
+            outletProbe.expectRequest();
+            outletProbe.sendNext(getOKResult(REVISION + 1));
+
+            // WHEN: 2 more events arrive within the minimum write interval
+            underTest.tell(event2, ActorRef.noSender());
+            underTest.tell(event3, ActorRef.noSender());
+
+            // THEN: they are persisted in 1 update after the minimum write interval
+            inletProbe.expectNoMessage(FiniteDuration.apply(1, "s"));
+            final var data2 = inletProbe.expectNext(TEN_SECONDS);
+            assertThat(data2.metadata().export()).isEqualTo(Metadata.of(THING_ID, REVISION + 3, null, null, Set.of(), null));
+            assertThat(data2.metadata().getEvents()).hasSize(2);
+        }};
+    }
+
     @Test
     public void policyIdChangeTriggersSync() {
         new TestKit(system) {{
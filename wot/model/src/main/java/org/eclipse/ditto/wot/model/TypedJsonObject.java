@@ -13,6 +13,7 @@
 package org.eclipse.ditto.wot.model;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -248,6 +249,16 @@ interface TypedJsonObject<T extends JsonObject> extends JsonObject {
         return getWrappedObject().getUpperBoundForStringSize();
     }
 
+    @Override
+    default long getUtf8Length() {
+        return getWrappedObject().getUtf8Length();
+    }
+
+    @Override
+    default ByteBuffer toUtf8ByteBuffer() {
+        return getWrappedObject().toUtf8ByteBuffer();
+    }
+
     @Override
     default boolean isEmpty() {
         return getWrappedObject().isEmpty();